@@ -0,0 +1,55 @@
+package pluto.upik.domain.guide.data.DTO;
+
+import pluto.upik.shared.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 카테고리별 가이드 목록 커서
+ * (정렬 기준, 정렬 값, id)를 불투명한 Base64 문자열로 인코딩합니다.
+ *
+ * @param sort 커서를 발급한 정렬 기준
+ * @param value 정렬 값 (생성 일자 또는 좋아요/재투표 수의 문자열 표현)
+ * @param id 가이드 ID
+ */
+public record GuideCursor(GuideSort sort, String value, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = sort + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 해석합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @param expectedSort 현재 요청의 정렬 기준
+     * @return 커서
+     * @throws BusinessException 커서 형식이 잘못되었거나 다른 정렬 기준으로 발급된 경우
+     */
+    public static GuideCursor decode(String cursor, GuideSort expectedSort) {
+        GuideCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            decoded = new GuideCursor(GuideSort.valueOf(parts[0]), parts[1], UUID.fromString(parts[2]));
+            // 정렬 값 형식 검증 (조회 시점이 아니라 요청 시점에 실패하도록)
+            if (decoded.sort() == GuideSort.CREATED_AT) {
+                LocalDate.parse(decoded.value());
+            } else {
+                Long.parseLong(decoded.value());
+            }
+        } catch (RuntimeException e) {
+            throw new BusinessException("유효하지 않은 커서입니다: " + cursor, e);
+        }
+        if (decoded.sort() != expectedSort) {
+            throw new BusinessException("다른 정렬 기준으로 발급된 커서입니다: " + decoded.sort());
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,15 @@
+package pluto.upik.domain.guide.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuideEdge {
+    private String cursor;
+    private GuideResponse node;
+}
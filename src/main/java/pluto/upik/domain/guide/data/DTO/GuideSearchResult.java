@@ -0,0 +1,37 @@
+package pluto.upik.domain.guide.data.DTO;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 가이드 검색 결과 페이지
+ *
+ * @param hits 점수 순으로 정렬된 현재 페이지의 검색 결과
+ * @param totalHits 전체 일치 건수
+ */
+public record GuideSearchResult(List<Hit> hits, long totalHits) {
+
+    public GuideSearchResult {
+        hits = List.copyOf(hits);
+    }
+
+    public static GuideSearchResult empty() {
+        return new GuideSearchResult(List.of(), 0);
+    }
+
+    /**
+     * 현재 페이지의 가이드 ID 목록 (점수 순)
+     */
+    public List<UUID> guideIds() {
+        return hits.stream().map(Hit::guideId).toList();
+    }
+
+    /**
+     * 검색 결과 한 건
+     *
+     * @param guideId 가이드 ID
+     * @param score 관련도 점수
+     */
+    public record Hit(UUID guideId, float score) {
+    }
+}
@@ -0,0 +1,12 @@
+package pluto.upik.domain.guide.data.DTO;
+
+import java.util.UUID;
+
+/**
+ * 제목 유사도 검색 결과 한 건
+ *
+ * @param guideId 가이드 ID
+ * @param score 추정 유사도 (제목 3-gram 집합의 Jaccard 유사도, 0~1)
+ */
+public record GuideSimilarityHit(UUID guideId, double score) {
+}
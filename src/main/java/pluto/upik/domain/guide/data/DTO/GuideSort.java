@@ -0,0 +1,23 @@
+package pluto.upik.domain.guide.data.DTO;
+
+/**
+ * 카테고리별 가이드 목록 정렬 기준 (모두 내림차순, 같은 값은 ID 내림차순)
+ */
+public enum GuideSort {
+    CREATED_AT("createdAt"),
+    LIKE("like"),
+    REVOTE_COUNT("revoteCount");
+
+    private final String attribute;
+
+    GuideSort(String attribute) {
+        this.attribute = attribute;
+    }
+
+    /**
+     * 정렬에 사용하는 가이드 엔티티 속성 (Guide 타입 필드 이름과 같음)
+     */
+    public String attribute() {
+        return attribute;
+    }
+}
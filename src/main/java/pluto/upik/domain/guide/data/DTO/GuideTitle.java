@@ -0,0 +1,13 @@
+package pluto.upik.domain.guide.data.DTO;
+
+import java.util.UUID;
+
+/**
+ * 가이드 ID와 제목만 담은 조회 결과
+ * 제목 유사도 색인을 만들 때 본문을 읽지 않기 위해 사용합니다.
+ *
+ * @param id 가이드 ID
+ * @param title 가이드 제목
+ */
+public record GuideTitle(UUID id, String title) {
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import pluto.upik.domain.guide.service.GuideSearchIndexListener;
 import pluto.upik.domain.vote.data.model.Vote;
 
 import java.time.LocalDate;
@@ -14,9 +15,15 @@ import java.util.UUID;
 /**
  * 가이드 엔티티
  * AI가 생성한 가이드 정보를 저장하는 엔티티입니다.
+ * 카테고리별 목록 페이지네이션 인덱스는 기존 DB에도 적용되도록 migration.sql에서 만듭니다.
  */
 @Entity
-@Table(name = "guide")
+@Table(name = "guide", indexes = {
+        @Index(name = "idx_guide_category_created_at_id", columnList = "category, created_at, id"),
+        @Index(name = "idx_guide_category_like_id", columnList = "category, `like`, id"),
+        @Index(name = "idx_guide_category_revote_count_id", columnList = "category, revote_count, id")
+})
+@EntityListeners(GuideSearchIndexListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,12 @@
+package pluto.upik.domain.guide.event;
+
+import java.util.UUID;
+
+/**
+ * 가이드가 삭제되었음을 알리는 도메인 이벤트 (커밋 이후 처리)
+ *
+ * @param guideId 가이드 ID
+ * @param category 가이드 카테고리
+ */
+public record GuideDeleted(UUID guideId, String category) {
+}
@@ -0,0 +1,13 @@
+package pluto.upik.domain.guide.event;
+
+import java.util.UUID;
+
+/**
+ * 가이드 좋아요가 추가되거나 취소되었음을 알리는 도메인 이벤트 (커밋 이후 처리)
+ *
+ * @param guideId 가이드 ID
+ * @param userId 사용자 ID
+ * @param liked 추가되었으면 true, 취소되었으면 false
+ */
+public record GuideLiked(UUID guideId, UUID userId, boolean liked) {
+}
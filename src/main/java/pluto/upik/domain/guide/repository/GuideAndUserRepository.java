@@ -1,12 +1,16 @@
 package pluto.upik.domain.guide.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pluto.upik.domain.guide.data.model.GuideAndUser;
 import pluto.upik.domain.guide.data.model.GuideAndUserId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -43,4 +47,35 @@ public interface GuideAndUserRepository extends JpaRepository<GuideAndUser, Guid
      */
     @Query("SELECT COUNT(g) FROM GuideAndUser g WHERE g.id.guideId = :guideId")
     long countByGuideId(@Param("guideId") UUID guideId);
-}
\ No newline at end of file
+
+    /**
+     * 좋아요 관계 키를 페이지 단위로 조회합니다. (좋아요 필터 생성용)
+     *
+     * @param pageable 페이지 정보
+     * @return 좋아요 관계 키 슬라이스
+     */
+    @Query("SELECT g.id FROM GuideAndUser g")
+    Slice<GuideAndUserId> findAllIds(Pageable pageable);
+
+    /**
+     * 주어진 가이드 중 사용자가 좋아요한 가이드 ID를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param guideIds 확인할 가이드 ID 목록
+     * @return 좋아요한 가이드 ID 목록
+     */
+    @Query("SELECT g.id.guideId FROM GuideAndUser g WHERE g.id.userId = :userId AND g.id.guideId IN :guideIds")
+    List<UUID> findLikedGuideIds(@Param("userId") UUID userId, @Param("guideIds") Collection<UUID> guideIds);
+
+    /**
+     * 좋아요 관계를 추가합니다. 이미 있으면 아무것도 하지 않습니다.
+     * 참조하는 사용자나 가이드가 없어 외래 키를 위반해도 오류 없이 0을 반환하므로, 0이면 관계가 실제로 있는지 확인해야 합니다.
+     *
+     * @param userId 사용자 ID
+     * @param guideId 가이드 ID
+     * @return 추가된 행 수 (이미 있거나 참조하는 행이 없으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO guide_and_user (user_id, guide_id) VALUES (:userId, :guideId)", nativeQuery = true)
+    int insertIgnore(@Param("userId") UUID userId, @Param("guideId") UUID guideId);
+}
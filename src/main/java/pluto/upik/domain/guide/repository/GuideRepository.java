@@ -1,13 +1,17 @@
 package pluto.upik.domain.guide.repository;
 
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import pluto.upik.domain.guide.data.DTO.GuideTitle;
 import pluto.upik.domain.guide.data.model.Guide;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -43,15 +47,6 @@ public interface GuideRepository extends JpaRepository<Guide, UUID> {
      */
     List<Guide> findAllByCategory(String category);
 
-    /**
-     * 제목에 특정 키워드가 포함된 가이드를 검색합니다.
-     *
-     * @param keyword 검색할 키워드
-     * @return 키워드가 포함된 가이드 목록
-     */
-    @Query("SELECT g FROM Guide g WHERE g.title LIKE %:keyword%")
-    List<Guide> findGuidesByTitleContaining(@Param("keyword") String keyword);
-
     /**
      * 특정 사용자가 생성한 가이드를 조회합니다.
      * 투표 테이블을 통해 사용자가 생성한 가이드를 조회합니다.
@@ -62,6 +57,24 @@ public interface GuideRepository extends JpaRepository<Guide, UUID> {
     @Query("SELECT g FROM Guide g JOIN g.vote v WHERE v.user.id = :userId")
     List<Guide> findGuidesByUserId(@Param("userId") UUID userId);
 
+    /**
+     * 가이드 ID와 제목만 페이지 단위로 조회합니다.
+     *
+     * @param pageable 페이지 정보
+     * @return 가이드 ID와 제목 목록
+     */
+    @Query("SELECT new pluto.upik.domain.guide.data.DTO.GuideTitle(g.id, g.title) FROM Guide g")
+    Slice<GuideTitle> findAllTitles(Pageable pageable);
+
+    /**
+     * 여러 가이드를 작성자 정보(투표, 사용자)와 함께 조회합니다.
+     *
+     * @param ids 가이드 ID 목록
+     * @return 가이드 목록 (순서 보장 없음)
+     */
+    @Query("SELECT g FROM Guide g LEFT JOIN FETCH g.vote v LEFT JOIN FETCH v.user WHERE g.id IN :ids")
+    List<Guide> findAllWithAuthorByIdIn(@Param("ids") Collection<UUID> ids);
+
     /**
      * 가이드의 좋아요 수를 1 증가시킵니다.
      *
@@ -105,4 +118,20 @@ public interface GuideRepository extends JpaRepository<Guide, UUID> {
     @Transactional
     @Query("update Guide g set g.revoteCount = g.revoteCount - 1 where g.id = :id and g.revoteCount > 0")
     int decrementRevoteCount(@Param("id") UUID id);
-}
\ No newline at end of file
+
+    /**
+     * 가이드의 좋아요 수와 재투표 수에 증감을 한 번에 더합니다. (0 미만으로 내려가지 않도록 함)
+     *
+     * @param id 가이드 ID
+     * @param likeDelta 좋아요 수 증감
+     * @param revoteDelta 재투표 수 증감
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Guide g SET " +
+            "g.like = CASE WHEN g.like + :likeDelta < 0 THEN 0 ELSE g.like + :likeDelta END, " +
+            "g.revoteCount = CASE WHEN g.revoteCount + :revoteDelta < 0 THEN 0 ELSE g.revoteCount + :revoteDelta END " +
+            "WHERE g.id = :id")
+    int addCounts(@Param("id") UUID id, @Param("likeDelta") long likeDelta, @Param("revoteDelta") long revoteDelta);
+}
@@ -0,0 +1,42 @@
+package pluto.upik.domain.guide.resolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.guide.service.GuideInteractionServiceInterface;
+import pluto.upik.shared.graphql.DataLoaderRegistrar;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 가이드 필드용 DataLoader 등록기
+ * 가이드 ID를 키로 좋아요 여부를 요청 단위로 모아 한 번에 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GuideDataLoaderRegistrar implements DataLoaderRegistrar {
+
+    public static final String GUIDE_LIKED_BY_ME = "guideLikedByMe";
+
+    // 더미 사용자 ID
+    private static final UUID DUMMY_USER_ID = UUID.fromString("e49207e8-471a-11f0-937c-42010a800003");
+
+    private final GuideInteractionServiceInterface guideInteractionService;
+
+    @Override
+    public void registerLoaders(BatchLoaderRegistry registry) {
+        registry.forTypePair(UUID.class, Boolean.class)
+                .withName(GUIDE_LIKED_BY_ME)
+                .registerMappedBatchLoader((guideIds, env) -> Mono.fromCallable(() -> {
+                    // 목 데이터로 더미 사용자 ID 사용
+                    Set<UUID> liked = guideInteractionService.getLikedGuideIds(DUMMY_USER_ID, guideIds);
+                    Map<UUID, Boolean> result = new HashMap<>();
+                    guideIds.forEach(guideId -> result.put(guideId, liked.contains(guideId)));
+                    return result;
+                }));
+    }
+}
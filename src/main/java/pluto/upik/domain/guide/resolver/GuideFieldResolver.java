@@ -0,0 +1,40 @@
+package pluto.upik.domain.guide.resolver;
+
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+import pluto.upik.domain.guide.data.DTO.GuideDetailResponse;
+import pluto.upik.domain.guide.data.DTO.GuideResponse;
+import pluto.upik.domain.guide.data.model.Guide;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 가이드 타입의 하위 필드 리졸버
+ * 좋아요 여부는 DataLoader로 모아 조회하므로 목록 조회 시에도 최대 한 번의 배치 조회만 일어납니다.
+ */
+@Controller
+public class GuideFieldResolver {
+
+    /**
+     * 현재 사용자가 가이드에 좋아요했는지 조회합니다.
+     * 가이드 타입은 GuideResponse와 Guide 엔티티(내가 만든 가이드 목록) 두 가지로 반환됩니다.
+     */
+    @SchemaMapping(typeName = "Guide", field = "likedByMe")
+    public CompletableFuture<Boolean> likedByMe(Object guide, DataFetchingEnvironment env) {
+        UUID guideId = guide instanceof GuideResponse response ? response.getId() : ((Guide) guide).getId();
+        return loadLikedByMe(guideId, env);
+    }
+
+    @SchemaMapping(typeName = "GuideDetail", field = "likedByMe")
+    public CompletableFuture<Boolean> detailLikedByMe(GuideDetailResponse guide, DataFetchingEnvironment env) {
+        return loadLikedByMe(guide.getId(), env);
+    }
+
+    private CompletableFuture<Boolean> loadLikedByMe(UUID guideId, DataFetchingEnvironment env) {
+        DataLoader<UUID, Boolean> loader = env.getDataLoader(GuideDataLoaderRegistrar.GUIDE_LIKED_BY_ME);
+        return loader.load(guideId).thenApply(Boolean.TRUE::equals);
+    }
+}
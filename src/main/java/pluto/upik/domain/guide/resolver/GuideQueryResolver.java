@@ -1,14 +1,18 @@
 package pluto.upik.domain.guide.resolver;
 
+import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
+import pluto.upik.domain.guide.data.DTO.GuideConnection;
 import pluto.upik.domain.guide.data.DTO.GuideDetailResponse;
 import pluto.upik.domain.guide.data.DTO.GuideResponse;
+import pluto.upik.domain.guide.data.DTO.GuideSort;
 import pluto.upik.domain.guide.service.GuideQueryServiceInterface;
+import pluto.upik.shared.graphql.FieldSelection;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,30 +32,50 @@ public class GuideQueryResolver {
      * 특정 카테고리에 속한 가이드 목록을 조회합니다.
      *
      * @param category 조회할 카테고리
+     * @param selectionSet 클라이언트가 선택한 필드 (선택된 컬럼만 조회)
      * @return 가이드 응답 목록
      */
     @SchemaMapping(typeName = "Query", field = "guidesByCategory")
-    public List<GuideResponse> getGuidesByCategory(@Argument String category) {
+    public List<GuideResponse> getGuidesByCategory(@Argument String category, DataFetchingFieldSelectionSet selectionSet) {
         log.info("GraphQL query guidesByCategory called with category: {}", category);
-        List<GuideResponse> guides = guideQueryService.findByCategory(category);
+        List<GuideResponse> guides = guideQueryService.findByCategory(category, FieldSelection.of(selectionSet));
         log.info("Number of guides found: {}", guides.size());
         return guides;
     }
+
+    /**
+     * 특정 카테고리에 속한 가이드를 커서 기반으로 페이지 조회합니다.
+     *
+     * @param category 조회할 카테고리
+     * @param first 페이지 크기
+     * @param after 이전 페이지의 endCursor
+     * @param sort 정렬 기준
+     * @param selectionSet 클라이언트가 선택한 필드 (edges/node 아래 선택된 컬럼만 조회)
+     * @return 가이드 커넥션
+     */
+    @SchemaMapping(typeName = "Query", field = "guidesByCategoryConnection")
+    public GuideConnection getGuidesByCategoryConnection(@Argument String category, @Argument Integer first,
+                                                         @Argument String after, @Argument GuideSort sort,
+                                                         DataFetchingFieldSelectionSet selectionSet) {
+        return guideQueryService.findByCategoryConnection(category, first, after, sort,
+                FieldSelection.of(selectionSet).under("edges/node"));
+    }
     
     /**
      * 특정 ID의 가이드를 상세 조회합니다.
      *
      * @param parent GraphQL 부모 객체
      * @param id 조회할 가이드 ID 문자열
+     * @param selectionSet 클라이언트가 선택한 필드 (선택된 컬럼만 조회)
      * @return 가이드 상세 응답
      */
     @SchemaMapping(typeName = "GuideQuery", field = "guideById")
-    public GuideDetailResponse guideById(Object parent, @Argument String id) {
+    public GuideDetailResponse guideById(Object parent, @Argument String id, DataFetchingFieldSelectionSet selectionSet) {
         log.info("GraphQL 쿼리 - 가이드 상세 조회 요청: id={}", id);
         
         try {
             UUID guideId = UUID.fromString(id);
-            GuideDetailResponse guide = guideQueryService.findGuideById(guideId);
+            GuideDetailResponse guide = guideQueryService.findGuideById(guideId, FieldSelection.of(selectionSet));
             log.info("GraphQL 쿼리 - 가이드 상세 조회 완료: id={}, title={}", id, guide.getTitle());
             return guide;
         } catch (IllegalArgumentException e) {
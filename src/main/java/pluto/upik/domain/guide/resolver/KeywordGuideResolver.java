@@ -1,5 +1,6 @@
 package pluto.upik.domain.guide.resolver;
 
+import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.graphql.data.method.annotation.Argument;
@@ -7,6 +8,7 @@ import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
 import pluto.upik.domain.guide.data.DTO.KeywordGuideResponse;
 import pluto.upik.domain.guide.service.KeywordGuideServiceInterface;
+import pluto.upik.shared.graphql.FieldSelection;
 
 import java.util.List;
 
@@ -19,6 +21,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class KeywordGuideResolver {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final KeywordGuideServiceInterface keywordGuideService;
 
     /**
@@ -26,14 +30,20 @@ public class KeywordGuideResolver {
      *
      * @param parent GraphQL 부모 객체
      * @param keyword 검색할 키워드
+     * @param page 페이지 번호 (기본값 0)
+     * @param size 페이지 크기 (기본값 20)
+     * @param selectionSet 클라이언트가 선택한 필드 (선택된 컬럼만 조회)
      * @return 키워드 가이드 응답 목록
      */
     @SchemaMapping(typeName = "KeywordGuideQuery", field = "searchByKeyword")
-    public List<KeywordGuideResponse> searchByKeyword(Object parent, @Argument String keyword) {
-        log.info("GraphQL 쿼리 - 키워드 기반 가이드 검색 요청: keyword={}", keyword);
+    public List<KeywordGuideResponse> searchByKeyword(Object parent, @Argument String keyword,
+                                                      @Argument Integer page, @Argument Integer size,
+                                                      DataFetchingFieldSelectionSet selectionSet) {
+        log.info("GraphQL 쿼리 - 키워드 기반 가이드 검색 요청: keyword={}, page={}, size={}", keyword, page, size);
         
         try {
-            List<KeywordGuideResponse> guides = keywordGuideService.searchGuidesByKeyword(keyword);
+            List<KeywordGuideResponse> guides = keywordGuideService.searchGuidesByKeyword(keyword,
+                    page != null ? page : 0, size != null ? size : DEFAULT_PAGE_SIZE, FieldSelection.of(selectionSet));
             log.info("GraphQL 쿼리 - 키워드 기반 가이드 검색 완료: keyword={}, 결과 개수={}", keyword, guides.size());
             return guides;
         } catch (Exception e) {
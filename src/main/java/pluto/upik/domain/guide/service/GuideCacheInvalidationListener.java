@@ -0,0 +1,64 @@
+package pluto.upik.domain.guide.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.guide.event.GuideDeleted;
+import pluto.upik.domain.guide.event.GuideLiked;
+import pluto.upik.domain.guide.event.GuideRevoteReported;
+import pluto.upik.domain.guide.event.GuideSaved;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+
+import java.util.UUID;
+
+/**
+ * 가이드 도메인 이벤트로 가이드 캐시를 무효화하는 리스너
+ * 커밋 이후에 실행되며(트랜잭션 밖에서 발행되면 즉시), 이벤트에 해당하는 페이지만 제거합니다.
+ * 좋아요/재투표 수 변경은 그 가이드가 담긴 페이지만 제거하고, 가이드 생성/삭제는 해당 카테고리의 페이지를 제거합니다.
+ * 무효화는 {@link CacheInvalidationBus}를 거쳐 다른 인스턴스의 페이지 캐시에도 전달됩니다.
+ * 좋아요 추가도 같은 버스로 전달하여 모든 인스턴스의 {@link GuideLikeFilter}에 넣습니다 (필터의 "없음" 판단이 다른 인스턴스의 좋아요를 놓치지 않도록).
+ */
+@Component
+@Slf4j
+public class GuideCacheInvalidationListener {
+
+    static final String GUIDE_PAGES_BY_GUIDE = GuidePageCache.CACHE_NAME + ".guide";
+    static final String GUIDE_PAGES_BY_CATEGORY = GuidePageCache.CACHE_NAME + ".category";
+    static final String GUIDE_LIKE_FILTER = "guideLikeFilter";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public GuideCacheInvalidationListener(GuidePageCache guidePageCache, GuideLikeFilter guideLikeFilter,
+                                          CacheInvalidationBus cacheInvalidationBus) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(GUIDE_PAGES_BY_GUIDE, key -> guidePageCache.invalidateGuide(UUID.fromString(key)));
+        cacheInvalidationBus.register(GUIDE_PAGES_BY_CATEGORY, guidePageCache::invalidateCategory);
+        cacheInvalidationBus.register(GUIDE_LIKE_FILTER, key -> {
+            String[] ids = key.split(":", 2);
+            guideLikeFilter.put(UUID.fromString(ids[0]), UUID.fromString(ids[1]));
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(GuideLiked event) {
+        cacheInvalidationBus.invalidate(GUIDE_PAGES_BY_GUIDE, event.guideId().toString());
+        if (event.liked()) {
+            cacheInvalidationBus.invalidate(GUIDE_LIKE_FILTER, event.userId() + ":" + event.guideId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(GuideRevoteReported event) {
+        cacheInvalidationBus.invalidate(GUIDE_PAGES_BY_GUIDE, event.guideId().toString());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(GuideSaved event) {
+        cacheInvalidationBus.invalidate(GUIDE_PAGES_BY_CATEGORY, event.category());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(GuideDeleted event) {
+        cacheInvalidationBus.invalidate(GUIDE_PAGES_BY_CATEGORY, event.category());
+    }
+}
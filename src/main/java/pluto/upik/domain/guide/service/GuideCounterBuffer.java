@@ -0,0 +1,185 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가이드 좋아요/재투표 수 쓰기 지연 버퍼
+ * 좋아요와 재투표 신고의 증감을 가이드별 카운터에 모았다가, 주기적으로 가이드마다 한 번의 UPDATE로 합쳐서 반영합니다.
+ * 인기 가이드 행에 요청마다 UPDATE가 몰려 생기던 행 잠금 경합을 줄이기 위한 것입니다.
+ * 카운터는 ConcurrentHashMap의 버킷 잠금 안에서만 바꾸므로 가이드별로 잠금이 나뉩니다.
+ * 반영할 때는 카운터를 떼어 내 반영 중 목록으로 옮긴 뒤 UPDATE하므로, 반영 중에 들어온 증감은 새 카운터에 쌓이고
+ * 반영에 실패한 증감은 다시 카운터에 더해집니다.
+ * 증감은 트랜잭션 커밋 이후에만 쌓이므로 롤백된 좋아요는 반영되지 않으며, 조회 시에는 {@link #pendingLike}와
+ * {@link #pendingRevote}로 아직 반영되지 않은(반영 중인 것 포함) 값을 더합니다.
+ * 다른 인스턴스에 쌓인 증감은 반영된 이후에 보이므로, 반영한 가이드의 목록 페이지는 모든 인스턴스에서 무효화합니다.
+ */
+@Component
+@Slf4j
+public class GuideCounterBuffer {
+
+    private final GuideRepository guideRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ConcurrentHashMap<UUID, Counts> pending = new ConcurrentHashMap<>();
+    // 떼어 내어 DB에 반영 중인 증감 (반영이 끝나면 제거)
+    private final ConcurrentHashMap<UUID, Counts> flushing = new ConcurrentHashMap<>();
+
+    public GuideCounterBuffer(GuideRepository guideRepository, CacheInvalidationBus cacheInvalidationBus,
+                              MeterRegistry meterRegistry) {
+        this.guideRepository = guideRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        Gauge.builder("guide.counter.pending", pending, ConcurrentHashMap::size)
+                .description("DB에 반영되지 않은 좋아요/재투표 증감이 있는 가이드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좋아요 수 증감을 기록합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에만 기록되고, 롤백되면 기록되지 않습니다.
+     *
+     * @param guideId 가이드 ID
+     * @param delta 증감 (추가 1, 취소 -1)
+     */
+    public void addLike(UUID guideId, long delta) {
+        afterCommit(() -> add(guideId, delta, 0));
+    }
+
+    /**
+     * 재투표 수 증감을 기록합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에만 기록되고, 롤백되면 기록되지 않습니다.
+     *
+     * @param guideId 가이드 ID
+     * @param delta 증감 (신고 1, 신고 취소 -1)
+     */
+    public void addRevote(UUID guideId, long delta) {
+        afterCommit(() -> add(guideId, 0, delta));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 수 증감을 반환합니다.
+     *
+     * @param guideId 가이드 ID
+     */
+    public long pendingLike(UUID guideId) {
+        Counts inFlight = flushing.get(guideId);
+        Counts counts = pending.get(guideId);
+        return (inFlight == null ? 0 : inFlight.like) + (counts == null ? 0 : counts.like);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 재투표 수 증감을 반환합니다.
+     *
+     * @param guideId 가이드 ID
+     */
+    public long pendingRevote(UUID guideId) {
+        Counts inFlight = flushing.get(guideId);
+        Counts counts = pending.get(guideId);
+        return (inFlight == null ? 0 : inFlight.revote) + (counts == null ? 0 : counts.revote);
+    }
+
+    /**
+     * 쌓인 증감을 가이드별로 합쳐서 DB에 반영합니다.
+     * 카운터를 떼어 낸 뒤 반영하므로 반영 중에 들어온 증감은 다음 반영으로 넘어가고,
+     * 반영에 실패한 증감은 카운터에 다시 더해져 다음 반영에서 시도됩니다.
+     * 반영한 가이드가 담긴 목록 페이지는 반영 후 무효화합니다.
+     *
+     * @return 반영된 가이드 수
+     */
+    @Scheduled(fixedDelayString = "${guide.counter.flush-interval-ms:1000}")
+    public synchronized int flush() {
+        List<UUID> flushed = new ArrayList<>();
+        for (UUID guideId : new ArrayList<>(pending.keySet())) {
+            Counts counts = detach(guideId);
+            if (counts == null) {
+                continue;
+            }
+            try {
+                guideRepository.addCounts(guideId, counts.like, counts.revote);
+                flushed.add(guideId);
+            } catch (Exception e) {
+                log.error("가이드 카운터 반영 실패 - guideId: {}, like: {}, revote: {}",
+                        guideId, counts.like, counts.revote, e);
+                add(guideId, counts.like, counts.revote);
+            } finally {
+                flushing.remove(guideId);
+            }
+        }
+        for (UUID guideId : flushed) {
+            cacheInvalidationBus.invalidate(GuideCacheInvalidationListener.GUIDE_PAGES_BY_GUIDE, guideId.toString());
+        }
+        if (!flushed.isEmpty()) {
+            log.debug("가이드 카운터 반영 완료 - {}건", flushed.size());
+        }
+        return flushed.size();
+    }
+
+    /**
+     * 종료 전에 남은 증감을 반영합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 가이드의 카운터를 떼어 내 반영 중 목록으로 옮깁니다. 이후 들어오는 증감은 새 카운터에 쌓입니다.
+     *
+     * @return 떼어 낸 카운터 (없으면 null)
+     */
+    private Counts detach(UUID guideId) {
+        Counts[] detached = new Counts[1];
+        pending.computeIfPresent(guideId, (id, counts) -> {
+            flushing.put(id, counts);
+            detached[0] = counts;
+            return null;
+        });
+        return detached[0];
+    }
+
+    /**
+     * 카운터에 증감을 더하고, 0이 된 카운터는 제거합니다.
+     */
+    private void add(UUID guideId, long like, long revote) {
+        pending.compute(guideId, (id, counts) -> {
+            Counts updated = counts != null ? counts : new Counts();
+            updated.like += like;
+            updated.revote += revote;
+            return updated.like == 0 && updated.revote == 0 ? null : updated;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 가이드별 증감 (버킷 잠금 안에서만 변경하고, 조회는 잠금 없이 읽음)
+     */
+    private static final class Counts {
+
+        private volatile long like;
+        private volatile long revote;
+    }
+}
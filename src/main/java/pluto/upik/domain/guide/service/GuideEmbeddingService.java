@@ -0,0 +1,225 @@
+package pluto.upik.domain.guide.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import pluto.upik.domain.guide.data.DTO.GuideSimilarityHit;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 가이드 임베딩 서비스
+ * 가이드 제목과 본문을 임베딩 모델(Ollama)로 벡터화하여 {@link GuideVectorIndex}에 보관하고, 의미가 비슷한 가이드를 찾습니다.
+ * 임베딩 계산은 모델 호출이 느리므로 전용 스레드 하나에서 순서대로 처리하며, 기동 시 색인에 없는 가이드를 채워 넣습니다.
+ * 입력 중 검색에 쓰이는 질의 임베딩은 별도 스레드에서 계산하여 캐시하고, 제한 시간 안에 끝나지 않으면 의미 검색을 건너뜁니다.
+ * 시간을 넘긴 계산은 계속 진행되어 캐시에 남으므로 같은 질의를 다시 입력하면 바로 사용됩니다.
+ * 벡터 색인은 인스턴스마다 로컬 파일이므로, 가이드 변경은 캐시 무효화 버스로 발행하여 모든 인스턴스가 가이드를 DB에서 다시 읽어
+ * 각자 임베딩을 계산(삭제된 가이드는 제거)합니다.
+ */
+@Service
+@Slf4j
+public class GuideEmbeddingService {
+
+    public static final String CACHE_NAME = "guideEmbeddingIndex";
+
+    // 임베딩 모델 입력 길이 제한을 넘지 않도록 본문 앞부분만 사용
+    private static final int MAX_EMBEDDING_TEXT_LENGTH = 2000;
+    private static final int BACKFILL_PAGE_SIZE = 100;
+    private static final int QUERY_THREADS = 2;
+    private static final int QUERY_QUEUE_CAPACITY = 64;
+
+    private final EmbeddingModel embeddingModel;
+    private final GuideVectorIndex guideVectorIndex;
+    private final GuideRepository guideRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final double minScore;
+    private final long queryTimeoutMs;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "guide-embedding");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 질의 임베딩 전용 스레드 (대기열이 가득 차면 의미 검색을 건너뜀)
+    private final ThreadPoolExecutor queryExecutor = new ThreadPoolExecutor(
+            QUERY_THREADS, QUERY_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUERY_QUEUE_CAPACITY), runnable -> {
+                Thread thread = new Thread(runnable, "guide-embedding-query");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private final AsyncLoadingCache<String, float[]> queryEmbeddings;
+
+    public GuideEmbeddingService(EmbeddingModel embeddingModel,
+                                 GuideVectorIndex guideVectorIndex,
+                                 GuideRepository guideRepository,
+                                 CacheInvalidationBus cacheInvalidationBus,
+                                 @Value("${guide.embedding.min-score:0.6}") double minScore,
+                                 @Value("${guide.embedding.query-timeout-ms:500}") long queryTimeoutMs,
+                                 @Value("${guide.embedding.query-cache-size:1000}") long queryCacheSize) {
+        this.embeddingModel = embeddingModel;
+        this.guideVectorIndex = guideVectorIndex;
+        this.guideRepository = guideRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.minScore = minScore;
+        this.queryTimeoutMs = queryTimeoutMs;
+        this.queryEmbeddings = Caffeine.newBuilder()
+                .maximumSize(queryCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .buildAsync((text, cacheExecutor) ->
+                        CompletableFuture.supplyAsync(() -> embeddingModel.embed(text), queryExecutor));
+        cacheInvalidationBus.register(CACHE_NAME, key -> refreshAsync(UUID.fromString(key)));
+    }
+
+    /**
+     * 가이드 임베딩을 계산하여 색인에 반영합니다.
+     *
+     * @param guideId 가이드 ID
+     * @param title 제목
+     * @param content 본문
+     */
+    public void index(UUID guideId, String title, String content) {
+        guideVectorIndex.put(guideId, embeddingModel.embed(textOf(title, content)));
+        guideVectorIndex.trainIfGrown();
+        log.debug("가이드 임베딩 색인 - guideId: {}", guideId);
+    }
+
+    /**
+     * 가이드 변경을 이 인스턴스의 벡터 색인에 반영하고 다른 인스턴스에 발행합니다.
+     *
+     * @param guideId 저장되거나 삭제된 가이드 ID
+     */
+    public void publishChange(UUID guideId) {
+        cacheInvalidationBus.invalidate(CACHE_NAME, guideId.toString());
+    }
+
+    /**
+     * 가이드를 DB에서 다시 읽어 임베딩을 계산하고, 가이드가 없으면 벡터 색인에서 제거합니다.
+     * 진행 중인 임베딩 계산 이후에 적용되도록 임베딩 스레드에서 처리하며, 실패는 로그만 남깁니다.
+     *
+     * @param guideId 가이드 ID
+     */
+    public void refreshAsync(UUID guideId) {
+        executor.execute(() -> {
+            try {
+                guideRepository.findById(guideId).ifPresentOrElse(
+                        guide -> index(guide.getId(), guide.getTitle(), guide.getContent()),
+                        () -> guideVectorIndex.delete(guideId));
+            } catch (Exception e) {
+                log.error("가이드 임베딩 색인 실패 - guideId: {}", guideId, e);
+            }
+        });
+    }
+
+    /**
+     * 텍스트와 의미가 비슷한 가이드를 찾습니다.
+     * 질의 임베딩이 캐시에 없으면 제한 시간까지만 기다리고, 넘기면 빈 목록을 반환합니다.
+     *
+     * @param text 비교할 텍스트 (입력 중인 투표 제목 등)
+     * @param limit 최대 결과 수
+     * @return 최소 유사도 이상인 가이드 목록 (코사인 유사도 내림차순, 시간 초과 시 빈 목록)
+     * @throws IllegalStateException 임베딩 모델 호출이 실패했을 경우
+     */
+    public List<GuideSimilarityHit> findSimilar(String text, int limit) {
+        if (text == null || text.isBlank() || guideVectorIndex.size() == 0) {
+            return List.of();
+        }
+        float[] query;
+        try {
+            query = queryEmbeddings.get(text.strip()).get(queryTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | RejectedExecutionException e) {
+            log.debug("질의 임베딩이 제한 시간({}ms) 안에 준비되지 않아 의미 검색 생략 - text: '{}'", queryTimeoutMs, text);
+            return List.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("질의 임베딩 계산 실패", e.getCause());
+        }
+        return guideVectorIndex.search(query, limit).stream()
+                .filter(hit -> hit.score() >= minScore)
+                .toList();
+    }
+
+    /**
+     * 색인에 없는 가이드의 임베딩을 계산하여 채워 넣습니다. 여러 가이드를 한 번의 모델 호출로 처리합니다.
+     *
+     * @return 새로 색인된 가이드 수
+     */
+    public int backfill() {
+        int indexed = 0;
+        Page<Guide> page;
+        int pageNumber = 0;
+        do {
+            page = guideRepository.findAll(PageRequest.of(pageNumber++, BACKFILL_PAGE_SIZE, Sort.by("id")));
+            List<Guide> missing = page.getContent().stream()
+                    .filter(guide -> !guideVectorIndex.contains(guide.getId()))
+                    .toList();
+            if (missing.isEmpty()) {
+                continue;
+            }
+            List<float[]> vectors = embeddingModel.embed(missing.stream()
+                    .map(guide -> textOf(guide.getTitle(), guide.getContent()))
+                    .toList());
+            for (int i = 0; i < missing.size(); i++) {
+                guideVectorIndex.put(missing.get(i).getId(), vectors.get(i));
+            }
+            indexed += missing.size();
+        } while (page.hasNext());
+        guideVectorIndex.trainIfGrown();
+        log.info("가이드 임베딩 채우기 완료 - 새로 색인: {}건, 전체: {}건", indexed, guideVectorIndex.size());
+        return indexed;
+    }
+
+    /**
+     * 기동 직후 임베딩 스레드에서 저장된 벡터로 중심점을 학습한 뒤 누락된 가이드를 채워 넣습니다.
+     * 학습은 기동을 늦추지 않도록 색인 생성 시점이 아닌 여기서 수행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        executor.execute(() -> {
+            try {
+                guideVectorIndex.train();
+                backfill();
+            } catch (Exception e) {
+                log.error("가이드 임베딩 채우기 실패", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        queryExecutor.shutdownNow();
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String textOf(String title, String content) {
+        String text = (title != null ? title : "") + "\n" + (content != null ? content : "");
+        return text.length() > MAX_EMBEDDING_TEXT_LENGTH ? text.substring(0, MAX_EMBEDDING_TEXT_LENGTH) : text;
+    }
+}
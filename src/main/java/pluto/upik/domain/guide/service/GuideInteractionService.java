@@ -3,11 +3,14 @@ package pluto.upik.domain.guide.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import pluto.upik.domain.guide.data.model.Guide;
 import pluto.upik.domain.guide.data.model.GuideAndUser;
 import pluto.upik.domain.guide.data.model.GuideAndUserId;
+import pluto.upik.domain.guide.event.GuideLiked;
+import pluto.upik.domain.guide.event.GuideRevoteReported;
 import pluto.upik.domain.guide.repository.GuideAndUserRepository;
 import pluto.upik.domain.guide.repository.GuideRepository;
 import pluto.upik.domain.report.data.model.Report;
@@ -17,11 +20,17 @@ import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * 가이드 상호작용(좋아요, 신고 등) 관련 비즈니스 로직을 처리하는 서비스 구현체
+ * 좋아요/신고 기록은 바로 저장하고, 가이드의 좋아요/재투표 수는 {@link GuideCounterBuffer}에 모아서 반영합니다.
+ * 변경은 {@link GuideLiked}, {@link GuideRevoteReported} 이벤트로 발행되어 커밋 이후 캐시 무효화와
+ * 모든 노드의 좋아요 필터({@link GuideLikeFilter}) 갱신에 쓰입니다.
  */
 @Slf4j
 @Service
@@ -33,6 +42,9 @@ public class GuideInteractionService implements GuideInteractionServiceInterface
     private final ReportRepository reportRepository;
     private final GuideAndUserRepository guideAndUserRepository;
     private final UserRepository userRepository;
+    private final GuideCounterBuffer guideCounterBuffer;
+    private final GuideLikeFilter guideLikeFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
@@ -55,23 +67,33 @@ public class GuideInteractionService implements GuideInteractionServiceInterface
 
         GuideAndUserId id = new GuideAndUserId(userId, guideId);
         try {
-            // 이미 좋아요 했는지 확인
-            if (guideAndUserRepository.existsById(id)) {
-                // 좋아요 취소
-                guideAndUserRepository.deleteById(id);
-                guideRepository.decrementLikeCount(guideId);
-                log.info("가이드 좋아요 취소 완료 - userId: {}, guideId: {}", userId, guideId);
-                return false;
-            } else {
+            if (guideLikeFilter.mightContain(userId, guideId)) {
+                // 이미 좋아요 했는지 확인 (필터가 있을 수도 있다고 답한 경우만 조회)
+                if (guideAndUserRepository.existsById(id)) {
+                    return cancelLike(id);
+                }
+                guideLikeFilter.recordFalsePositive();
                 // 좋아요 추가 - Builder 패턴 사용
                 GuideAndUser entity = GuideAndUser.builder()
                     .id(id)
                         .build();
                 guideAndUserRepository.save(entity);
-                guideRepository.incrementLikeCount(guideId);
-                log.info("가이드 좋아요 추가 완료 - userId: {}, guideId: {}", userId, guideId);
-                return true;
+            } else if (guideAndUserRepository.insertIgnore(userId, guideId) == 0) {
+                // 필터에 없으면 조회 없이 추가. 추가되지 않았다면 이미 있는 좋아요(취소)인지,
+                // 확인 이후 가이드가 삭제되어 외래 키에 걸렸는지 구분
+                if (!guideAndUserRepository.existsById(id)) {
+                    log.warn("가이드 좋아요 토글 실패 - 가이드 삭제됨 (guideId: {})", guideId);
+                    throw new ResourceNotFoundException("Guide not found: " + guideId);
+                }
+                return cancelLike(id);
             }
+            // 좋아요 필터는 커밋 이후 GuideLiked 이벤트로 모든 노드에 추가됨
+            guideCounterBuffer.addLike(guideId, 1);
+            eventPublisher.publishEvent(new GuideLiked(guideId, userId, true));
+            log.info("가이드 좋아요 추가 완료 - userId: {}, guideId: {}", userId, guideId);
+            return true;
+        } catch (ResourceNotFoundException e) {
+            throw e;
         } catch (DataIntegrityViolationException e) {
             log.error("가이드 좋아요 토글 중 데이터 무결성 위반 - userId: {}, guideId: {}, error: {}", userId, guideId, e.getMessage(), e);
             throw new BusinessException("Data integrity violation: " + e.getMessage());
@@ -81,6 +103,35 @@ public class GuideInteractionService implements GuideInteractionServiceInterface
         }
     }
 
+    private boolean cancelLike(GuideAndUserId id) {
+        guideAndUserRepository.deleteById(id);
+        guideCounterBuffer.addLike(id.getGuideId(), -1);
+        eventPublisher.publishEvent(new GuideLiked(id.getGuideId(), id.getUserId(), false));
+        log.info("가이드 좋아요 취소 완료 - userId: {}, guideId: {}", id.getUserId(), id.getGuideId());
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 좋아요 필터에 없는 가이드는 DB를 조회하지 않고, 있을 수도 있는 가이드만 한 번의 IN 쿼리로 확인합니다.
+     * 다른 노드에서 추가된 좋아요는 무효화 전파 주기 안에 이 노드의 필터에 추가됩니다.
+     */
+    @Override
+    public Set<UUID> getLikedGuideIds(UUID userId, Collection<UUID> guideIds) {
+        List<UUID> candidates = guideIds.stream()
+                .distinct()
+                .filter(guideId -> guideLikeFilter.mightContain(userId, guideId))
+                .toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> liked = new HashSet<>(guideAndUserRepository.findLikedGuideIds(userId, candidates));
+        for (int i = liked.size(); i < candidates.size(); i++) {
+            guideLikeFilter.recordFalsePositive();
+        }
+        return liked;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -106,7 +157,8 @@ public class GuideInteractionService implements GuideInteractionServiceInterface
             if (exists) {
                 // 신고 취소
                 reportRepository.deleteByUserIdAndTargetId(userId, guideId);
-                guideRepository.decrementRevoteCount(guideId);
+                guideCounterBuffer.addRevote(guideId, -1);
+                eventPublisher.publishEvent(new GuideRevoteReported(guideId, userId, false));
                 log.info("가이드 재투표 신고 취소 완료 - userId: {}, guideId: {}", userId, guideId);
                 return false;
             } else {
@@ -118,7 +170,8 @@ public class GuideInteractionService implements GuideInteractionServiceInterface
                         .createdAt(LocalDate.now())
                         .build();
                 reportRepository.save(report);
-                guideRepository.incrementRevoteCount(guideId);
+                guideCounterBuffer.addRevote(guideId, 1);
+                eventPublisher.publishEvent(new GuideRevoteReported(guideId, userId, true));
                 log.info("가이드 재투표 신고 추가 완료 - userId: {}, guideId: {}, reason: {}", userId, guideId, reason);
                 return true;
             }
@@ -2,7 +2,9 @@ package pluto.upik.domain.guide.service;
 
 import pluto.upik.domain.guide.data.model.Guide;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -23,6 +25,15 @@ public interface GuideInteractionServiceInterface {
      */
     boolean toggleLikeGuide(UUID userId, UUID guideId);
 
+    /**
+     * 주어진 가이드 중 사용자가 좋아요한 가이드 ID를 한 번에 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param guideIds 확인할 가이드 ID 목록
+     * @return 좋아요한 가이드 ID 집합
+     */
+    Set<UUID> getLikedGuideIds(UUID userId, Collection<UUID> guideIds);
+
     /**
      * 특정 사용자가 특정 가이드에 대해 재투표 신고를 토글합니다.
      * 이미 신고 되어있으면 신고 취소(삭제) 후 revote count 감소
@@ -0,0 +1,329 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.guide.data.model.GuideAndUserId;
+import pluto.upik.domain.guide.repository.GuideAndUserRepository;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 가이드 좋아요 여부 블룸 필터 (노드별)
+ * guide_and_user의 (사용자, 가이드) 쌍을 long 배열 비트셋에 보관하여, 필터에 없는 쌍은 DB 조회 없이 "좋아요 안 함"으로 판단하고
+ * 있을 수도 있는 쌍만 DB에서 확인합니다.
+ * 용량을 넘으면 두 배 크기에 오탐률을 절반으로 낮춘 필터를 이어 붙이는 확장형 블룸 필터이므로, 전체 오탐률은
+ * 설정값 안에서 유지됩니다. 블룸 필터는 항목을 지울 수 없어 좋아요 취소는 오탐으로 남고, DB 확인에서 걸러집니다.
+ * 기동 시 테이블 전체로 다시 만들며, 만들기 전에는 모든 쌍을 "있을 수도 있음"으로 답합니다.
+ * 좋아요 추가는 커밋 이후 {@link GuideCacheInvalidationListener}가 캐시 무효화 버스로 모든 노드의 필터에 전달하므로,
+ * 다른 노드에서 추가된 좋아요는 전파 주기 안에 이 노드의 필터에도 들어옵니다.
+ * 그 사이에도 좋아요 토글은 필터가 없다고 답하면 INSERT IGNORE 결과로 실제 여부를 확인합니다.
+ */
+@Component
+@Slf4j
+public class GuideLikeFilter {
+
+    private static final VarHandle BITS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int REBUILD_PAGE_SIZE = 5000;
+    // 다음 필터의 용량 배수와 오탐률 감소 비율
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final GuideAndUserRepository guideAndUserRepository;
+    private final long initialCapacity;
+    private final double falsePositiveRate;
+
+    private volatile Filter filter;
+    // 다시 만드는 중인 필터 (그 사이 추가된 쌍도 함께 기록)
+    private volatile Filter building;
+    private volatile boolean ready;
+
+    private final Counter definiteNegatives;
+    private final Counter possiblePositives;
+    private final Counter falsePositives;
+
+    public GuideLikeFilter(GuideAndUserRepository guideAndUserRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${guide.like-filter.initial-capacity:100000}") long initialCapacity,
+                           @Value("${guide.like-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (initialCapacity < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("용량은 1 이상, 오탐률은 0과 1 사이여야 합니다.");
+        }
+        this.guideAndUserRepository = guideAndUserRepository;
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new Filter(initialCapacity, falsePositiveRate);
+
+        this.definiteNegatives = Counter.builder("guide.like.filter.checks")
+                .tag("result", "negative")
+                .description("필터에서 좋아요 안 함으로 판단되어 DB 조회를 생략한 횟수")
+                .register(meterRegistry);
+        this.possiblePositives = Counter.builder("guide.like.filter.checks")
+                .tag("result", "positive")
+                .description("필터에서 있을 수도 있음으로 판단되어 DB를 조회한 횟수")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("guide.like.filter.false-positives")
+                .description("필터는 있을 수도 있다고 답했지만 DB에 없던 횟수")
+                .register(meterRegistry);
+        Gauge.builder("guide.like.filter.false-positive-rate", this, GuideLikeFilter::observedFalsePositiveRate)
+                .description("관측된 오탐률 (오탐 / 실제로 좋아요하지 않은 쌍 확인 수)")
+                .register(meterRegistry);
+        Gauge.builder("guide.like.filter.expected-false-positive-rate", this, f -> f.filter.expectedFalsePositiveRate())
+                .description("현재 채움 정도로 계산한 예상 오탐률")
+                .register(meterRegistry);
+        Gauge.builder("guide.like.filter.memory", this, f -> f.filter.bytes())
+                .description("필터 비트 배열 크기 (bytes)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("guide.like.filter.size", this, f -> f.filter.count())
+                .description("필터에 추가된 좋아요 쌍 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자가 가이드에 좋아요했을 수 있는지 확인합니다.
+     *
+     * @param userId 사용자 ID
+     * @param guideId 가이드 ID
+     * @return false면 좋아요하지 않은 것이 확실 (이 노드 기준), true면 DB 확인 필요
+     */
+    public boolean mightContain(UUID userId, UUID guideId) {
+        if (!ready) {
+            return true;
+        }
+        boolean result = filter.mightContain(hash1(userId, guideId), hash2(userId, guideId));
+        (result ? possiblePositives : definiteNegatives).increment();
+        return result;
+    }
+
+    /**
+     * 좋아요 쌍을 필터에 추가합니다.
+     *
+     * @param userId 사용자 ID
+     * @param guideId 가이드 ID
+     */
+    public void put(UUID userId, UUID guideId) {
+        long h1 = hash1(userId, guideId);
+        long h2 = hash2(userId, guideId);
+        filter.put(h1, h2);
+        Filter rebuilding = building;
+        if (rebuilding != null) {
+            rebuilding.put(h1, h2);
+        }
+    }
+
+    /**
+     * 필터가 있을 수도 있다고 답한 쌍이 DB에 없었음을 기록합니다. (오탐률 메트릭용)
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * 관측된 오탐률을 반환합니다.
+     */
+    public double observedFalsePositiveRate() {
+        double falsePositiveCount = falsePositives.count();
+        double actualNegatives = definiteNegatives.count() + falsePositiveCount;
+        return actualNegatives == 0 ? 0 : falsePositiveCount / actualNegatives;
+    }
+
+    /**
+     * 필터에 추가된 쌍 수를 반환합니다.
+     */
+    public long size() {
+        return filter.count();
+    }
+
+    /**
+     * 필터 비트 배열 크기(bytes)를 반환합니다.
+     */
+    public long bytes() {
+        return filter.bytes();
+    }
+
+    /**
+     * guide_and_user 테이블 전체로 필터를 다시 만듭니다. 취소된 좋아요로 쌓인 오탐도 함께 사라집니다.
+     *
+     * @return 추가된 좋아요 쌍 수
+     */
+    public synchronized long rebuild() {
+        long expected = Math.max(initialCapacity, guideAndUserRepository.count() * 5 / 4);
+        Filter rebuilt = new Filter(expected, falsePositiveRate);
+        building = rebuilt;
+        try {
+            Slice<GuideAndUserId> slice;
+            int pageNumber = 0;
+            do {
+                slice = guideAndUserRepository.findAllIds(
+                        PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id.userId", "id.guideId")));
+                for (GuideAndUserId id : slice.getContent()) {
+                    rebuilt.put(hash1(id.getUserId(), id.getGuideId()), hash2(id.getUserId(), id.getGuideId()));
+                }
+            } while (slice.hasNext());
+            filter = rebuilt;
+            ready = true;
+        } finally {
+            building = null;
+        }
+        log.info("가이드 좋아요 필터 재생성 완료 - {}건, {} bytes", rebuilt.count(), rebuilt.bytes());
+        return rebuilt.count();
+    }
+
+    /**
+     * 기동 직후 필터를 만듭니다. 실패하면 모든 확인을 DB로 보냅니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("가이드 좋아요 필터 생성 실패 - DB 조회로 대신합니다.", e);
+        }
+    }
+
+    private static long hash1(UUID userId, UUID guideId) {
+        return mix(userId.getMostSignificantBits() ^ Long.rotateLeft(userId.getLeastSignificantBits(), 17))
+                ^ mix(guideId.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ guideId.getLeastSignificantBits());
+    }
+
+    private static long hash2(UUID userId, UUID guideId) {
+        // 모든 해시 위치가 같은 비트를 가리키지 않도록 홀수로 만듦
+        return mix(hash1(userId, guideId) ^ 0xC2B2AE3D27D4EB4FL) | 1L;
+    }
+
+    /**
+     * MurmurHash3 fmix64
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 확장형 블룸 필터: 용량이 찬 조각 뒤에 더 크고 오탐률이 낮은 조각을 이어 붙임
+     */
+    private static final class Filter {
+
+        private volatile Segment[] segments;
+        private final double firstSegmentRate;
+
+        private Filter(long capacity, double falsePositiveRate) {
+            // 조각 오탐률의 합(등비급수)이 전체 오탐률을 넘지 않도록 첫 조각은 절반으로 시작
+            this.firstSegmentRate = falsePositiveRate * (1 - TIGHTENING_RATIO);
+            this.segments = new Segment[]{new Segment(capacity, firstSegmentRate)};
+        }
+
+        private boolean mightContain(long h1, long h2) {
+            for (Segment segment : segments) {
+                if (segment.mightContain(h1, h2)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private synchronized void put(long h1, long h2) {
+            Segment[] current = segments;
+            Segment last = current[current.length - 1];
+            if (last.count >= last.capacity) {
+                last = new Segment(last.capacity * GROWTH_FACTOR,
+                        firstSegmentRate * Math.pow(TIGHTENING_RATIO, current.length));
+                Segment[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = last;
+                segments = grown;
+            }
+            last.put(h1, h2);
+        }
+
+        private long count() {
+            long count = 0;
+            for (Segment segment : segments) {
+                count += segment.count;
+            }
+            return count;
+        }
+
+        private long bytes() {
+            long bytes = 0;
+            for (Segment segment : segments) {
+                bytes += segment.bits.length * (long) Long.BYTES;
+            }
+            return bytes;
+        }
+
+        private double expectedFalsePositiveRate() {
+            double allMiss = 1;
+            for (Segment segment : segments) {
+                allMiss *= 1 - segment.expectedFalsePositiveRate();
+            }
+            return 1 - allMiss;
+        }
+    }
+
+    /**
+     * 고정 크기 블룸 필터 조각 (Kirsch-Mitzenmacher 이중 해싱)
+     */
+    private static final class Segment {
+
+        private final long[] bits;
+        private final long bitCount;
+        private final int hashCount;
+        private final long capacity;
+        private volatile long count;
+
+        private Segment(long capacity, double falsePositiveRate) {
+            // m = -n ln p / (ln 2)^2, k = m / n ln 2
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) / 64));
+            this.bits = new long[words];
+            this.bitCount = (long) words * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.capacity = capacity;
+        }
+
+        private boolean mightContain(long h1, long h2) {
+            long combined = h1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(combined, bitCount);
+                long word = (long) BITS.getAcquire(bits, (int) (index >>> 6));
+                if ((word & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += h2;
+            }
+            return true;
+        }
+
+        // Filter.put 안에서만 호출 (count 갱신은 잠금으로 보호)
+        private void put(long h1, long h2) {
+            long combined = h1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(combined, bitCount);
+                BITS.getAndBitwiseOrRelease(bits, (int) (index >>> 6), 1L << index);
+                combined += h2;
+            }
+            count++;
+        }
+
+        private double expectedFalsePositiveRate() {
+            // (1 - e^(-kn/m))^k
+            return Math.pow(1 - Math.exp(-(double) hashCount * count / bitCount), hashCount);
+        }
+    }
+}
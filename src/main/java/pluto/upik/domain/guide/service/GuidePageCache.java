@@ -0,0 +1,271 @@
+package pluto.upik.domain.guide.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.guide.data.DTO.GuideConnection;
+import pluto.upik.domain.guide.data.DTO.GuideEdge;
+import pluto.upik.domain.guide.data.DTO.GuideResponse;
+import pluto.upik.domain.guide.data.DTO.GuideSort;
+import pluto.upik.shared.cache.service.SingleFlight;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 카테고리별 가이드 목록 페이지 캐시
+ * 페이지(카테고리, 정렬, 커서, 크기, 선택 필드)마다 따로 보관하고, 항목 수가 아니라 페이지의 추정 크기(바이트)로 용량을 제한합니다.
+ * 본문이 긴 페이지는 그만큼 먼저 밀려나며, 자주 조회되는 페이지는 빈도 기반 정책(W-TinyLFU)으로 유지됩니다.
+ * 가이드가 저장/삭제되면 해당 카테고리의 페이지를, 좋아요/재투표 수가 바뀌면 그 가이드가 담긴 페이지만 제거합니다.
+ * 가이드가 담긴 페이지는 가이드 ID → 페이지 키 역색인으로 찾으므로, 가이드 무효화는 보관된 페이지 수와 무관하게 처리됩니다.
+ * 좋아요/재투표 수 정렬 순서와 다른 인스턴스의 변경은 만료 시간 안에서 반영이 늦어질 수 있습니다.
+ * 캐시에 없는 페이지는 {@link SingleFlight}로 키마다 한 번만 조회하고, 동시에 들어온 요청은 그 결과를 함께 받습니다.
+ * 만료가 가까워지면 확률적으로 한 요청이 미리 다시 조회하여(XFetch: 조회 시간이 길수록 더 일찍), 만료 순간 요청이 몰리지 않도록 합니다.
+ * 적중/미스 지표는 cache.* 메트릭(cache=guidePages)으로, 실행/합류한 조회 수는 cache.loads 메트릭으로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class GuidePageCache {
+
+    public static final String CACHE_NAME = "guidePages";
+
+    // 객체 헤더와 참조 등 문자열 외 고정 비용 추정치
+    private static final int PAGE_OVERHEAD_BYTES = 256;
+    private static final int EDGE_OVERHEAD_BYTES = 160;
+
+    private final Cache<Key, Loaded> cache;
+    private final SingleFlight<Key, GuideConnection> singleFlight;
+    private final long expireNanos;
+    private final double earlyRefreshBeta;
+    private final DoubleSupplier random;
+    private final Counter earlyRefreshes;
+    // 무효화될 때마다 증가하여, 무효화 이전에 시작된 조회 결과가 다시 보관되지 않도록 함
+    private final AtomicLong generation = new AtomicLong();
+    // 가이드 ID → 그 가이드가 담긴 페이지 키 (집합은 compute 안에서만 변경)
+    private final ConcurrentHashMap<UUID, Set<Key>> keysByGuide = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GuidePageCache(MeterRegistry meterRegistry,
+                          @Value("${guide.page-cache.max-weight-bytes:33554432}") long maxWeightBytes,
+                          @Value("${guide.page-cache.expire-after-write-seconds:300}") long expireSeconds,
+                          @Value("${guide.page-cache.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        this(meterRegistry, maxWeightBytes, expireSeconds, earlyRefreshBeta, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    GuidePageCache(MeterRegistry meterRegistry, long maxWeightBytes, long expireSeconds,
+                   double earlyRefreshBeta, DoubleSupplier random) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Key key, Loaded loaded) -> weigh(loaded.page()))
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .removalListener((Key key, Loaded loaded, RemovalCause cause) -> {
+                    if (key != null && loaded != null) {
+                        unindex(key, loaded.page());
+                    }
+                })
+                .recordStats()
+                .build();
+        this.singleFlight = new SingleFlight<>(CACHE_NAME, meterRegistry);
+        this.expireNanos = Duration.ofSeconds(expireSeconds).toNanos();
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.random = random;
+        this.earlyRefreshes = Counter.builder("cache.early.refreshes")
+                .tag("cache", CACHE_NAME)
+                .description("만료 전에 미리 다시 조회한 수")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 페이지를 조회합니다. 캐시에 없으면 조회하여 보관합니다.
+     * 같은 페이지를 동시에 조회하면 한 요청만 조회하고 나머지는 그 결과를 받으며,
+     * 만료가 가까운 페이지는 확률적으로 미리 다시 조회합니다 (이미 다른 요청이 조회 중이면 보관된 페이지를 반환).
+     *
+     * @param key 페이지 키
+     * @param loader 페이지 조회 함수
+     * @return 페이지
+     */
+    public GuideConnection get(Key key, Supplier<GuideConnection> loader) {
+        Loaded loaded = cache.getIfPresent(key);
+        if (loaded != null) {
+            if (!shouldRefreshEarly(loaded) || singleFlight.isLoading(key)) {
+                return loaded.page();
+            }
+            earlyRefreshes.increment();
+        }
+        return singleFlight.load(key, () -> load(key, loader));
+    }
+
+    /**
+     * 카테고리의 모든 페이지를 캐시에서 제거합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 제거하여, 커밋 전에 다시 적재된 이전 페이지가 남지 않도록 합니다.
+     *
+     * @param category 카테고리
+     */
+    public void invalidateCategory(String category) {
+        evictCategory(category);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCategory(category);
+                }
+            });
+        }
+        log.debug("가이드 페이지 캐시 무효화 - category: {}", category);
+    }
+
+    /**
+     * 가이드가 담긴 페이지를 캐시에서 제거합니다. 좋아요/재투표 수처럼 가이드 하나의 값만 바뀌었을 때 사용합니다.
+     *
+     * @param guideId 가이드 ID
+     */
+    public void invalidateGuide(UUID guideId) {
+        generation.incrementAndGet();
+        Set<Key> keys = keysByGuide.remove(guideId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+        log.debug("가이드 페이지 캐시 무효화 - guideId: {}, 제거한 페이지: {}", guideId, keys != null ? keys.size() : 0);
+    }
+
+    /**
+     * 보관 중인 페이지 수를 반환합니다.
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private void evictCategory(String category) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> Objects.equals(key.category(), category));
+    }
+
+    private GuideConnection load(Key key, Supplier<GuideConnection> loader) {
+        long startGeneration = generation.get();
+        long start = System.nanoTime();
+        GuideConnection page = loader.get();
+        long end = System.nanoTime();
+        if (generation.get() == startGeneration) {
+            Loaded loaded = new Loaded(page, end, end - start);
+            cache.put(key, loaded);
+            index(key, page);
+            // 보관과 색인 사이에 무효화되었다면 색인으로 찾지 못했을 수 있으므로 직접 제거
+            if (generation.get() != startGeneration) {
+                cache.asMap().remove(key, loaded);
+            }
+        }
+        return page;
+    }
+
+    private void index(Key key, GuideConnection page) {
+        for (GuideEdge edge : page.getEdges()) {
+            UUID guideId = edge.getNode().getId();
+            if (guideId == null) {
+                continue;
+            }
+            keysByGuide.compute(guideId, (id, keys) -> {
+                Set<Key> updated = keys != null ? keys : new HashSet<>();
+                updated.add(key);
+                return updated;
+            });
+        }
+    }
+
+    /**
+     * 제거된 페이지의 가이드 색인에서 키를 뺍니다.
+     * 같은 키로 다시 보관된 페이지에 그 가이드가 담겨 있으면 유지합니다 (제거 알림이 새 페이지 보관보다 늦게 올 수 있음).
+     */
+    private void unindex(Key key, GuideConnection page) {
+        for (GuideEdge edge : page.getEdges()) {
+            UUID guideId = edge.getNode().getId();
+            if (guideId == null) {
+                continue;
+            }
+            keysByGuide.computeIfPresent(guideId, (id, keys) -> {
+                Loaded current = cache.asMap().get(key);
+                if (current == null || !contains(current.page(), id)) {
+                    keys.remove(key);
+                }
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static boolean contains(GuideConnection page, UUID guideId) {
+        for (GuideEdge edge : page.getEdges()) {
+            if (guideId.equals(edge.getNode().getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 만료까지 남은 시간이 조회 시간 x beta x (-ln(난수))보다 짧으면 미리 다시 조회합니다 (XFetch).
+     */
+    private boolean shouldRefreshEarly(Loaded loaded) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+        long remaining = loaded.loadedAt() + expireNanos - System.nanoTime();
+        return loaded.loadNanos() * earlyRefreshBeta * -Math.log(random.getAsDouble()) >= remaining;
+    }
+
+    /**
+     * 페이지의 추정 크기 (문자열은 글자당 2바이트로 계산)
+     */
+    static int weigh(GuideConnection page) {
+        long bytes = PAGE_OVERHEAD_BYTES;
+        for (GuideEdge edge : page.getEdges()) {
+            GuideResponse node = edge.getNode();
+            bytes += EDGE_OVERHEAD_BYTES + 2L * (length(edge.getCursor()) + length(node.getTitle()) + length(node.getContent()));
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * 보관된 페이지와 조회 시각, 조회에 걸린 시간
+     */
+    private record Loaded(GuideConnection page, long loadedAt, long loadNanos) {
+    }
+
+    /**
+     * 페이지 키
+     *
+     * @param category 카테고리
+     * @param sort 정렬 기준
+     * @param after 이전 페이지의 endCursor (첫 페이지는 null)
+     * @param first 페이지 크기
+     * @param fields 조회한 필드 목록 (본문 선택 여부에 따라 다른 페이지로 보관)
+     */
+    public record Key(String category, GuideSort sort, String after, int first, List<String> fields) {
+
+        public Key {
+            fields = List.copyOf(fields);
+        }
+    }
+}
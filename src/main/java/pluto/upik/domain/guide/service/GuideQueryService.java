@@ -3,15 +3,34 @@ package pluto.upik.domain.guide.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import pluto.upik.domain.guide.data.DTO.GuideConnection;
+import pluto.upik.domain.guide.data.DTO.GuideCursor;
 import pluto.upik.domain.guide.data.DTO.GuideDetailResponse;
+import pluto.upik.domain.guide.data.DTO.GuideEdge;
 import pluto.upik.domain.guide.data.DTO.GuideResponse;
+import pluto.upik.domain.guide.data.DTO.GuideSort;
 import pluto.upik.domain.guide.data.model.Guide;
 import pluto.upik.domain.guide.repository.GuideRepository;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.graphql.FieldSelection;
+import pluto.upik.shared.graphql.ProjectedRow;
+import pluto.upik.shared.graphql.ProjectionMapping;
+import pluto.upik.shared.graphql.SelectionProjector;
+import pluto.upik.shared.pagination.PageInfo;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -24,6 +43,40 @@ import java.util.stream.Collectors;
 public class GuideQueryService implements GuideQueryServiceInterface {
 
     private final GuideRepository guideRepository;
+    private final SelectionProjector selectionProjector;
+    private final GuidePageCache guidePageCache;
+    private final GuideCounterBuffer guideCounterBuffer;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Guide 타입 필드 → 엔티티 속성 매핑
+    private static final ProjectionMapping<Guide> GUIDE_MAPPING = ProjectionMapping.builder(Guide.class)
+            .field("id")
+            .field("title")
+            .field("content")
+            .field("createdAt")
+            .field("like")
+            .field("voteId", "vote.id")
+            .required("id")
+            .build();
+
+    // 정렬 기준별 페이지 조회 매핑 (커서를 만들기 위해 정렬 속성은 항상 조회)
+    private static final Map<GuideSort, ProjectionMapping<Guide>> GUIDE_PAGE_MAPPINGS = pageMappings();
+
+    // GuideDetail 타입 필드 → 엔티티 속성 매핑
+    private static final ProjectionMapping<Guide> GUIDE_DETAIL_MAPPING = ProjectionMapping.builder(Guide.class)
+            .field("id")
+            .field("title")
+            .field("content")
+            .field("createdAt")
+            .field("category")
+            .field("guideType")
+            .field("likeCount", "like")
+            .field("revoteCount")
+            .field("voteId", "vote.id")
+            .required("id")
+            .build();
 
     /**
      * {@inheritDoc}
@@ -47,7 +100,7 @@ public class GuideQueryService implements GuideQueryServiceInterface {
                             .title(guide.getTitle())
                             .content(guide.getContent())
                             .createdAt(guide.getCreatedAt())
-                            .like(guide.getLike() != null ? guide.getLike().intValue() : 0) // likeCount → like로 변경 및 null 체크 추가
+                            .like(withPending(guide.getLike(), guideCounterBuffer.pendingLike(guide.getId())))
                             .voteId(guide.getVote() != null ? guide.getVote().getId() : null) // 투표 ID 추가
                             .build())
                     .collect(Collectors.toList());
@@ -83,8 +136,8 @@ public class GuideQueryService implements GuideQueryServiceInterface {
                     .createdAt(guide.getCreatedAt())
                     .category(guide.getCategory())
                     .guideType(guide.getGuideType())
-                    .likeCount(guide.getLike() != null ? guide.getLike().intValue() : 0) // null 체크 추가
-                    .revoteCount(guide.getRevoteCount() != null ? guide.getRevoteCount().intValue() : 0) // null 체크 추가
+                    .likeCount(withPending(guide.getLike(), guideCounterBuffer.pendingLike(guideId)))
+                    .revoteCount(withPending(guide.getRevoteCount(), guideCounterBuffer.pendingRevote(guideId)))
                     .voteId(guide.getVote() != null ? guide.getVote().getId() : null)
                     .build();
             
@@ -97,4 +150,178 @@ public class GuideQueryService implements GuideQueryServiceInterface {
             throw new BusinessException("가이드 상세 조회 중 오류가 발생했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<GuideResponse> findByCategory(String category, FieldSelection selection) {
+        log.info("findByCategory called with category: {}, selection: {}", category, selection);
+
+        try {
+            Specification<Guide> byCategory = (root, query, cb) -> cb.equal(root.get("category"), category);
+            List<ProjectedRow> rows = selectionProjector.select(GUIDE_MAPPING, selection, byCategory);
+            log.info("카테고리별 가이드 조회 결과 - category: {}, 조회된 가이드 수: {}", category, rows.size());
+
+            if (rows.isEmpty()) {
+                log.warn("카테고리별 가이드 조회 실패 - 가이드 없음 (category: {})", category);
+                throw new ResourceNotFoundException("카테고리에 해당하는 가이드가 없습니다: " + category);
+            }
+
+            return rows.stream()
+                    .map(this::toGuideResponse)
+                    .collect(Collectors.toList());
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("가이드 조회 중 예외 발생 - category: {}, error: {}", category, e.getMessage(), e);
+            throw new BusinessException("가이드 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * OFFSET 대신 (정렬 값, id) 키셋 조건을 사용하므로 카테고리별 정렬 인덱스를 그대로 따라 읽으며,
+     * 페이지는 {@link GuidePageCache}에 따로 보관합니다.
+     */
+    @Override
+    public GuideConnection findByCategoryConnection(String category, Integer first, String after, GuideSort sort,
+                                                    FieldSelection nodeSelection) {
+        int size = first == null ? DEFAULT_PAGE_SIZE : first;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("first는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+        GuideSort sortKey = sort == null ? GuideSort.CREATED_AT : sort;
+        String afterCursor = after == null || after.isBlank() ? null : after;
+        GuideCursor cursor = afterCursor == null ? null : GuideCursor.decode(afterCursor, sortKey);
+        ProjectionMapping<Guide> mapping = GUIDE_PAGE_MAPPINGS.get(sortKey);
+
+        GuidePageCache.Key key = new GuidePageCache.Key(
+                category, sortKey, afterCursor, size, mapping.resolve(nodeSelection));
+        return guidePageCache.get(key, () -> loadPage(category, size, sortKey, cursor, mapping, nodeSelection));
+    }
+
+    private GuideConnection loadPage(String category, int size, GuideSort sort, GuideCursor cursor,
+                                     ProjectionMapping<Guide> mapping, FieldSelection nodeSelection) {
+        log.info("카테고리별 가이드 페이지 조회 - category: {}, sort: {}, size: {}, after: {}",
+                category, sort, size, cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Sort order = Sort.by(Sort.Order.desc(sort.attribute()), Sort.Order.desc("id"));
+        List<ProjectedRow> rows = selectionProjector.select(mapping, nodeSelection,
+                pageFilter(category, sort, cursor), order, size + 1);
+
+        boolean hasNextPage = rows.size() > size;
+        List<ProjectedRow> page = hasNextPage ? rows.subList(0, size) : rows;
+        List<GuideEdge> edges = new ArrayList<>(page.size());
+        for (ProjectedRow row : page) {
+            UUID id = row.get("id", UUID.class);
+            String value = String.valueOf(row.get(sort.attribute(), Object.class));
+            edges.add(new GuideEdge(new GuideCursor(sort, value, id).encode(), toGuideResponse(row)));
+        }
+
+        return GuideConnection.builder()
+                .edges(edges)
+                .pageInfo(PageInfo.builder()
+                        .hasNextPage(hasNextPage)
+                        .endCursor(edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor())
+                        .build())
+                .build();
+    }
+
+    /**
+     * 카테고리 조건과 커서 이후 키셋 조건을 만듭니다.
+     * 조건은 (category, 정렬 속성, id) 인덱스를 그대로 사용합니다.
+     */
+    private Specification<Guide> pageFilter(String category, GuideSort sort, GuideCursor cursor) {
+        return (root, query, cb) -> {
+            Predicate byCategory = cb.equal(root.get("category"), category);
+            if (cursor == null) {
+                return byCategory;
+            }
+            Predicate afterCursor = switch (sort) {
+                case CREATED_AT -> after(root, cb, sort.attribute(), LocalDate.parse(cursor.value()), cursor.id());
+                case LIKE, REVOTE_COUNT -> after(root, cb, sort.attribute(), Long.valueOf(cursor.value()), cursor.id());
+            };
+            return cb.and(byCategory, afterCursor);
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Predicate after(Root<Guide> root, CriteriaBuilder cb,
+                                                                    String attribute, T value, UUID id) {
+        Path<T> path = root.get(attribute);
+        return cb.or(
+                cb.lessThan(path, value),
+                cb.and(cb.equal(path, value), cb.lessThan(root.<UUID>get("id"), id)));
+    }
+
+    private GuideResponse toGuideResponse(ProjectedRow row) {
+        return GuideResponse.builder()
+                .id(row.get("id", UUID.class))
+                .title(row.get("title", String.class))
+                .content(row.get("content", String.class))
+                .createdAt(row.get("createdAt", LocalDate.class))
+                .like(withPending(row.get("like", Long.class), guideCounterBuffer.pendingLike(row.get("id", UUID.class))))
+                .voteId(row.get("voteId", UUID.class))
+                .build();
+    }
+
+    private static Map<GuideSort, ProjectionMapping<Guide>> pageMappings() {
+        ProjectionMapping<Guide> base = ProjectionMapping.builder(Guide.class)
+                .field("id")
+                .field("title")
+                .field("content")
+                .field("createdAt")
+                .field("like")
+                .field("revoteCount")
+                .field("voteId", "vote.id")
+                .required("id")
+                .build();
+        Map<GuideSort, ProjectionMapping<Guide>> mappings = new EnumMap<>(GuideSort.class);
+        for (GuideSort sort : GuideSort.values()) {
+            mappings.put(sort, base.withRequired(sort.attribute()));
+        }
+        return mappings;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GuideDetailResponse findGuideById(UUID guideId, FieldSelection selection) {
+        log.info("가이드 상세 조회 요청 시작 - guideId: {}, selection: {}", guideId, selection);
+
+        try {
+            Specification<Guide> byId = (root, query, cb) -> cb.equal(root.get("id"), guideId);
+            ProjectedRow row = selectionProjector.selectOne(GUIDE_DETAIL_MAPPING, selection, byId)
+                    .orElseThrow(() -> {
+                        log.warn("가이드 상세 조회 실패 - 가이드 없음 (guideId: {})", guideId);
+                        return new ResourceNotFoundException("해당 ID의 가이드를 찾을 수 없습니다: " + guideId);
+                    });
+
+            return GuideDetailResponse.builder()
+                    .id(row.get("id", UUID.class))
+                    .title(row.get("title", String.class))
+                    .content(row.get("content", String.class))
+                    .createdAt(row.get("createdAt", LocalDate.class))
+                    .category(row.get("category", String.class))
+                    .guideType(row.get("guideType", String.class))
+                    .likeCount(withPending(row.get("likeCount", Long.class), guideCounterBuffer.pendingLike(guideId)))
+                    .revoteCount(withPending(row.get("revoteCount", Long.class), guideCounterBuffer.pendingRevote(guideId)))
+                    .voteId(row.get("voteId", UUID.class))
+                    .build();
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("가이드 상세 조회 중 예외 발생 - guideId: {}, error: {}", guideId, e.getMessage(), e);
+            throw new BusinessException("가이드 상세 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 저장된 값에 아직 반영되지 않은 증감을 더합니다. 조회하지 않은 필드(null)는 0으로 둡니다.
+     */
+    private int withPending(Long stored, long pending) {
+        return stored != null ? (int) Math.max(0, stored + pending) : 0;
+    }
+}
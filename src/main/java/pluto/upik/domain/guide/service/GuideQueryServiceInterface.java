@@ -1,7 +1,10 @@
 package pluto.upik.domain.guide.service;
 
+import pluto.upik.domain.guide.data.DTO.GuideConnection;
 import pluto.upik.domain.guide.data.DTO.GuideDetailResponse;
 import pluto.upik.domain.guide.data.DTO.GuideResponse;
+import pluto.upik.domain.guide.data.DTO.GuideSort;
+import pluto.upik.shared.graphql.FieldSelection;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,6 +23,32 @@ public interface GuideQueryServiceInterface {
      * @throws pluto.upik.shared.exception.BusinessException 조회 중 오류 발생 시
      */
     List<GuideResponse> findByCategory(String category);
+
+    /**
+     * 특정 카테고리에 속한 가이드 목록을 선택된 필드만 조회합니다.
+     * 본문(content)은 선택된 경우에만 조회합니다.
+     *
+     * @param category 조회할 카테고리
+     * @param selection GraphQL에서 선택된 필드 목록
+     * @return 가이드 응답 목록 (선택되지 않은 필드는 비어 있음)
+     * @throws pluto.upik.shared.exception.ResourceNotFoundException 카테고리에 해당하는 가이드가 없을 경우 발생
+     * @throws pluto.upik.shared.exception.BusinessException 조회 중 오류 발생 시
+     */
+    List<GuideResponse> findByCategory(String category, FieldSelection selection);
+
+    /**
+     * 특정 카테고리에 속한 가이드를 정렬 기준에 따라 커서 기반으로 페이지 조회합니다.
+     *
+     * @param category 조회할 카테고리
+     * @param first 페이지 크기 (null이면 기본값 20, 최대 100)
+     * @param after 이전 페이지의 endCursor (첫 페이지는 null)
+     * @param sort 정렬 기준 (null이면 최신순, 모두 내림차순)
+     * @param nodeSelection edges/node 아래에서 선택된 필드 목록
+     * @return 가이드 커넥션 (가이드가 없으면 빈 edges)
+     * @throws pluto.upik.shared.exception.BusinessException 페이지 크기나 커서가 올바르지 않을 경우 발생
+     */
+    GuideConnection findByCategoryConnection(String category, Integer first, String after, GuideSort sort,
+                                             FieldSelection nodeSelection);
     
     /**
      * 특정 ID의 가이드를 상세 조회합니다.
@@ -30,4 +59,15 @@ public interface GuideQueryServiceInterface {
      * @throws pluto.upik.shared.exception.BusinessException 조회 중 오류 발생 시
      */
     GuideDetailResponse findGuideById(UUID guideId);
+
+    /**
+     * 특정 ID의 가이드를 선택된 필드만 상세 조회합니다.
+     *
+     * @param guideId 조회할 가이드 ID
+     * @param selection GraphQL에서 선택된 필드 목록
+     * @return 가이드 상세 응답 (선택되지 않은 필드는 비어 있음)
+     * @throws pluto.upik.shared.exception.ResourceNotFoundException 가이드가 존재하지 않을 경우 발생
+     * @throws pluto.upik.shared.exception.BusinessException 조회 중 오류 발생 시
+     */
+    GuideDetailResponse findGuideById(UUID guideId, FieldSelection selection);
 }
\ No newline at end of file
@@ -0,0 +1,394 @@
+package pluto.upik.domain.guide.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.guide.data.DTO.GuideSearchResult;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가이드 전문 검색 색인
+ * 가이드 제목과 본문을 Lucene 역색인(로컬 디렉터리)에 보관하여 LIKE '%keyword%' 전체 스캔 없이 검색합니다.
+ * 한국어는 형태소 분석 대신 어절을 2~3글자 n-gram으로 쪼개 색인하므로, 검색어의 모든 2-gram을 포함한
+ * 가이드만 일치하며(부분 문자열 검색과 같은 의미) 제목 일치에 가중치를 두어 BM25 점수 순으로 반환합니다.
+ * 변경은 {@link GuideSearchIndexListener}가 커밋 이후 캐시 무효화 버스로 발행하며, 이 인스턴스와 다른 인스턴스 모두
+ * 가이드를 DB에서 다시 읽어 색인을 갱신(없으면 삭제)합니다.
+ * 디스크 커밋은 주기적으로 수행하므로 비정상 종료 시 마지막 변경이 빠질 수 있고, 다른 인스턴스가 꺼져 있는 동안의 변경도
+ * 받지 못하므로 기동할 때마다 가이드 테이블과 맞춰 봅니다 (모든 가이드를 다시 색인하고 테이블에 없는 문서는 삭제).
+ */
+@Component
+@Slf4j
+public class GuideSearchIndex {
+
+    public static final String CACHE_NAME = "guideSearchIndex";
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final GuideRepository guideRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Analyzer queryAnalyzer = new NGramAnalyzer(0, 0);
+
+    // 다시 맞추는 중에 바뀐 가이드 (맞춘 뒤 DB에서 다시 읽어 반영)
+    private volatile Set<UUID> changedDuringRebuild;
+
+    @Autowired
+    public GuideSearchIndex(GuideRepository guideRepository,
+                            CacheInvalidationBus cacheInvalidationBus,
+                            @Value("${guide.search.index-path:./data/guide-index}") String indexPath) throws IOException {
+        this(guideRepository, cacheInvalidationBus, FSDirectory.open(Path.of(indexPath)));
+        log.info("가이드 검색 색인 열기 - path: {}, 문서 수: {}", indexPath, size());
+    }
+
+    public GuideSearchIndex(GuideRepository guideRepository, CacheInvalidationBus cacheInvalidationBus,
+                            Directory directory) throws IOException {
+        this.guideRepository = guideRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.directory = directory;
+        IndexWriterConfig config = new IndexWriterConfig(new NGramAnalyzer(2, 3))
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+        cacheInvalidationBus.register(CACHE_NAME, key -> refresh(UUID.fromString(key)));
+    }
+
+    /**
+     * 가이드 변경을 이 인스턴스의 색인에 반영하고 다른 인스턴스에 발행합니다.
+     *
+     * @param guideId 저장되거나 삭제된 가이드 ID
+     */
+    public void publishChange(UUID guideId) {
+        cacheInvalidationBus.invalidate(CACHE_NAME, guideId.toString());
+    }
+
+    /**
+     * 가이드를 DB에서 다시 읽어 색인을 갱신하고, 없으면 색인에서 제거합니다.
+     *
+     * @param guideId 가이드 ID
+     */
+    public void refresh(UUID guideId) {
+        guideRepository.findById(guideId).ifPresentOrElse(
+                guide -> index(guide.getId(), guide.getTitle(), guide.getContent()),
+                () -> delete(guideId));
+    }
+
+    /**
+     * 가이드를 색인에 추가하거나 갱신합니다.
+     *
+     * @param guideId 가이드 ID
+     * @param title 제목
+     * @param content 본문
+     */
+    public void index(UUID guideId, String title, String content) {
+        markChanged(guideId);
+        try {
+            writer.updateDocument(new Term(FIELD_ID, guideId.toString()), toDocument(guideId, title, content));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new IllegalStateException("가이드 검색 색인 갱신 실패: " + guideId, e);
+        }
+    }
+
+    /**
+     * 가이드를 색인에서 제거합니다.
+     *
+     * @param guideId 가이드 ID
+     */
+    public void delete(UUID guideId) {
+        markChanged(guideId);
+        try {
+            writer.deleteDocuments(new Term(FIELD_ID, guideId.toString()));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new IllegalStateException("가이드 검색 색인 삭제 실패: " + guideId, e);
+        }
+    }
+
+    /**
+     * 키워드를 포함하는 가이드를 관련도 순으로 검색합니다.
+     *
+     * @param keyword 검색어 (공백으로 구분된 여러 단어는 모두 포함해야 일치)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 현재 페이지의 검색 결과와 전체 일치 건수
+     * @throws IllegalArgumentException 페이지 범위가 잘못되었거나 (page + 1) * size가 int 범위를 넘을 경우
+     */
+    public GuideSearchResult search(String keyword, int page, int size) {
+        if (page < 0 || size < 1 || ((long) page + 1) * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상, 크기는 1 이상이어야 하며 조회 범위가 너무 큽니다.");
+        }
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return GuideSearchResult.empty();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, (page + 1) * size);
+                List<GuideSearchResult.Hit> hits = new ArrayList<>(size);
+                StoredFields storedFields = searcher.storedFields();
+                for (int i = page * size; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    String id = storedFields.document(scoreDoc.doc).get(FIELD_ID);
+                    hits.add(new GuideSearchResult.Hit(UUID.fromString(id), scoreDoc.score));
+                }
+                log.debug("가이드 검색 - keyword: {}, page: {}, 결과: {}건 / 전체: {}건",
+                        keyword, page, hits.size(), topDocs.totalHits.value);
+                return new GuideSearchResult(hits, topDocs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("가이드 검색 실패: " + keyword, e);
+        }
+    }
+
+    /**
+     * 색인된 가이드 수를 반환합니다.
+     */
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * 가이드 테이블 전체와 색인을 맞춥니다.
+     * 모든 가이드를 다시 색인한 뒤 테이블에 없는 문서를 삭제하며, 기존 문서를 지우지 않고 덮어쓰므로 맞추는 중에도 검색할 수 있습니다.
+     * 그 사이 바뀐 가이드는 마지막에 DB에서 다시 읽어 반영합니다.
+     *
+     * @return 색인된 가이드 수
+     */
+    public synchronized int rebuild() {
+        Set<UUID> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            Set<UUID> guideIds = new HashSet<>();
+            Page<Guide> page;
+            int pageNumber = 0;
+            do {
+                page = guideRepository.findAll(PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id")));
+                for (Guide guide : page.getContent()) {
+                    writer.updateDocument(new Term(FIELD_ID, guide.getId().toString()),
+                            toDocument(guide.getId(), guide.getTitle(), guide.getContent()));
+                    guideIds.add(guide.getId());
+                }
+            } while (page.hasNext());
+            int removed = deleteMissing(guideIds, changed);
+            changedDuringRebuild = null;
+            for (UUID guideId : changed) {
+                refresh(guideId);
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("가이드 검색 색인 재생성 완료 - {}건, 테이블에 없어 삭제: {}건", guideIds.size(), removed);
+            return guideIds.size();
+        } catch (IOException e) {
+            throw new IllegalStateException("가이드 검색 색인 재생성 실패", e);
+        } finally {
+            changedDuringRebuild = null;
+        }
+    }
+
+    /**
+     * 기동 직후 가이드 테이블과 색인을 맞춥니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 반영되지 않은 변경을 디스크에 커밋합니다.
+     */
+    @Scheduled(fixedDelayString = "${guide.search.commit-interval-ms:5000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.error("가이드 검색 색인 커밋 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void markChanged(UUID guideId) {
+        Set<UUID> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(guideId);
+        }
+    }
+
+    /**
+     * 테이블에 없는 가이드의 문서를 삭제합니다. 맞추는 중에 바뀐 가이드는 나중에 다시 읽으므로 건너뜁니다.
+     */
+    private int deleteMissing(Set<UUID> guideIds, Set<UUID> changed) throws IOException {
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher searcher = searcherManager.acquire();
+        Set<String> idField = Set.of(FIELD_ID);
+        int removed = 0;
+        try {
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                LeafReader reader = leaf.reader();
+                Bits liveDocs = reader.getLiveDocs();
+                StoredFields storedFields = reader.storedFields();
+                for (int doc = 0; doc < reader.maxDoc(); doc++) {
+                    if (liveDocs != null && !liveDocs.get(doc)) {
+                        continue;
+                    }
+                    UUID guideId = UUID.fromString(storedFields.document(doc, idField).get(FIELD_ID));
+                    if (!guideIds.contains(guideId) && !changed.contains(guideId)) {
+                        writer.deleteDocuments(new Term(FIELD_ID, guideId.toString()));
+                        removed++;
+                    }
+                }
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+        return removed;
+    }
+
+    private Document toDocument(UUID guideId, String title, String content) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, guideId.toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, title != null ? title : "", Field.Store.NO));
+        document.add(new TextField(FIELD_CONTENT, content != null ? content : "", Field.Store.NO));
+        return document;
+    }
+
+    /**
+     * 검색어의 모든 2-gram(한 글자 어절은 그대로)을 제목 또는 본문에 포함해야 일치하는 쿼리를 만듭니다.
+     */
+    private Query buildQuery(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokenize(keyword)) {
+            if (token.length() < 2) {
+                grams.add(token);
+                continue;
+            }
+            for (int i = 0; i + 2 <= token.length(); i++) {
+                grams.add(token.substring(i, i + 2));
+            }
+        }
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String gram : grams) {
+            Query inTitle = new BoostQuery(new TermQuery(new Term(FIELD_TITLE, gram)), TITLE_BOOST);
+            Query inContent = new TermQuery(new Term(FIELD_CONTENT, gram));
+            query.add(new BooleanQuery.Builder()
+                    .add(inTitle, BooleanClause.Occur.SHOULD)
+                    .add(inContent, BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        try (TokenStream stream = queryAnalyzer.tokenStream(FIELD_TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new IllegalStateException("검색어 분석 실패: " + text, e);
+        }
+        return tokens;
+    }
+
+    /**
+     * 어절 분리 후 소문자로 바꾸고 n-gram으로 나누는 분석기
+     * minGram이 0이면 n-gram 없이 어절 단위로만 나눕니다. 범위를 벗어나는 어절은 원형도 함께 색인합니다.
+     */
+    private static final class NGramAnalyzer extends Analyzer {
+
+        private final int minGram;
+        private final int maxGram;
+
+        private NGramAnalyzer(int minGram, int maxGram) {
+            this.minGram = minGram;
+            this.maxGram = maxGram;
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            TokenStream stream = new LowerCaseFilter(source);
+            if (minGram > 0) {
+                stream = new NGramTokenFilter(stream, minGram, maxGram, true);
+            }
+            return new TokenStreamComponents(source, stream);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package pluto.upik.domain.guide.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.event.GuideDeleted;
+import pluto.upik.domain.guide.event.GuideSaved;
+
+import java.util.UUID;
+
+/**
+ * 가이드 엔티티 변경을 검색 색인, 제목 유사도 색인, 임베딩 색인에 반영하는 JPA 엔티티 리스너
+ * AI 가이드 저장과 제목/본문 수정 등 엔티티를 통한 모든 변경을 커밋 이후 색인에 반영합니다.
+ * 각 색인은 변경된 가이드 ID를 캐시 무효화 버스로 발행하며, 모든 인스턴스가 가이드를 DB에서 다시 읽어 자신의 색인에 반영합니다.
+ * 색인 반영 실패는 가이드 저장을 되돌리지 않고 로그만 남깁니다.
+ * 캐시 무효화를 위해 {@link GuideSaved}, {@link GuideDeleted} 이벤트를 발행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GuideSearchIndexListener {
+
+    // 엔티티 매니저 팩토리 생성 시점의 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<GuideSearchIndex> guideSearchIndex;
+    private final ObjectProvider<GuideTitleSimilarityIndex> guideTitleSimilarityIndex;
+    private final ObjectProvider<GuideEmbeddingService> guideEmbeddingService;
+    private final ObjectProvider<ApplicationEventPublisher> eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Guide guide) {
+        UUID guideId = guide.getId();
+        afterCommit(() -> guideSearchIndex.getObject().publishChange(guideId));
+        afterCommit(() -> guideTitleSimilarityIndex.getObject().publishChange(guideId));
+        afterCommit(() -> guideEmbeddingService.getObject().publishChange(guideId));
+        eventPublisher.getObject().publishEvent(new GuideSaved(guideId, guide.getCategory()));
+    }
+
+    @PostRemove
+    public void onRemoved(Guide guide) {
+        UUID guideId = guide.getId();
+        afterCommit(() -> guideSearchIndex.getObject().publishChange(guideId));
+        afterCommit(() -> guideTitleSimilarityIndex.getObject().publishChange(guideId));
+        afterCommit(() -> guideEmbeddingService.getObject().publishChange(guideId));
+        eventPublisher.getObject().publishEvent(new GuideDeleted(guideId, guide.getCategory()));
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("가이드 검색 색인 반영 실패", e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,454 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.guide.data.DTO.GuideSimilarityHit;
+import pluto.upik.domain.guide.data.DTO.GuideTitle;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가이드 제목 유사도 색인
+ * 제목을 글자 3-gram 집합으로 보고 MinHash 서명(64개)을 만들어 메모리에 보관하며,
+ * 서명을 2개씩 묶은 32개 밴드의 LSH 버킷으로 후보를 좁힌 뒤 서명 일치 비율(Jaccard 추정치)로 순위를 매깁니다.
+ * 서명과 버킷은 원시 배열로 저장하고, 최대 항목 수를 넘으면 가장 오래 갱신되지 않은 가이드부터 제외합니다.
+ * 가이드 변경은 {@link GuideSearchIndexListener}가 커밋 이후 캐시 무효화 버스로 발행하며, 이 인스턴스와 다른 인스턴스 모두
+ * 가이드 제목을 DB에서 다시 읽어 반영합니다. 기동 시 가이드 제목 전체로 다시 만듭니다.
+ */
+@Component
+@Slf4j
+public class GuideTitleSimilarityIndex {
+
+    public static final String CACHE_NAME = "guideTitleSimilarityIndex";
+
+    static final int NUM_HASHES = 64;
+    private static final int ROWS_PER_BAND = 2;
+    private static final int BANDS = NUM_HASHES / ROWS_PER_BAND;
+    private static final int SHINGLE_SIZE = 3;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    // MinHash 해시 함수 계수 (h(x) = (a * x + b) >>> 32, a는 홀수), 재기동 후에도 같은 서명이 나오도록 고정 시드 사용
+    private static final long[] HASH_A = new long[NUM_HASHES];
+    private static final long[] HASH_B = new long[NUM_HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_6A1DEL);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            HASH_A[i] = random.nextLong() | 1L;
+            HASH_B[i] = random.nextLong();
+        }
+    }
+
+    private final GuideRepository guideRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final int maxEntries;
+    private final double minScore;
+    private final Timer rebuildTimer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Table table;
+
+    public GuideTitleSimilarityIndex(GuideRepository guideRepository,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${guide.similarity.max-entries:100000}") int maxEntries,
+                                     @Value("${guide.similarity.min-score:0.2}") double minScore) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("유사도 색인 최대 항목 수는 1 이상이어야 합니다.");
+        }
+        this.guideRepository = guideRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.maxEntries = maxEntries;
+        this.minScore = minScore;
+        this.table = new Table(maxEntries);
+
+        Gauge.builder("guide.similarity.index.size", this, GuideTitleSimilarityIndex::size)
+                .description("유사도 색인에 보관된 가이드 수")
+                .register(meterRegistry);
+        Gauge.builder("guide.similarity.index.memory", this, GuideTitleSimilarityIndex::estimatedBytes)
+                .description("유사도 색인의 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("guide.similarity.index.rebuild")
+                .description("유사도 색인 전체 재생성 시간")
+                .register(meterRegistry);
+        cacheInvalidationBus.register(CACHE_NAME, key -> refresh(UUID.fromString(key)));
+    }
+
+    /**
+     * 가이드 변경을 이 인스턴스의 색인에 반영하고 다른 인스턴스에 발행합니다.
+     *
+     * @param guideId 저장되거나 삭제된 가이드 ID
+     */
+    public void publishChange(UUID guideId) {
+        cacheInvalidationBus.invalidate(CACHE_NAME, guideId.toString());
+    }
+
+    /**
+     * 가이드 제목을 DB에서 다시 읽어 색인을 갱신하고, 가이드가 없으면 색인에서 제거합니다.
+     *
+     * @param guideId 가이드 ID
+     */
+    public void refresh(UUID guideId) {
+        guideRepository.findById(guideId).map(Guide::getTitle).ifPresentOrElse(
+                title -> put(guideId, title),
+                () -> remove(guideId));
+    }
+
+    /**
+     * 가이드 제목을 색인에 추가하거나 갱신합니다. 3-gram을 만들 글자가 없는 제목은 색인에서 제거합니다.
+     *
+     * @param guideId 가이드 ID
+     * @param title 가이드 제목
+     */
+    public void put(UUID guideId, String title) {
+        int[] signature = signatureOf(title);
+        lock.writeLock().lock();
+        try {
+            if (signature == null) {
+                table.remove(guideId);
+            } else {
+                table.put(guideId, signature);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가이드를 색인에서 제거합니다.
+     *
+     * @param guideId 가이드 ID
+     */
+    public void remove(UUID guideId) {
+        lock.writeLock().lock();
+        try {
+            table.remove(guideId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목과 유사한 가이드를 유사도 순으로 찾습니다.
+     *
+     * @param title 비교할 제목 (입력 중인 투표 제목)
+     * @param limit 최대 결과 수
+     * @return 최소 유사도 이상인 가이드 목록 (유사도 내림차순)
+     */
+    public List<GuideSimilarityHit> findSimilar(String title, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("결과 수는 1 이상이어야 합니다.");
+        }
+        int[] signature = signatureOf(title);
+        if (signature == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return table.query(signature, limit, minScore);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 가이드 수를 반환합니다.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return table.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인의 추정 메모리 사용량(바이트)을 반환합니다.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return table.estimatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가이드 제목 전체로 색인을 다시 만듭니다.
+     * 새 색인을 따로 만든 뒤 교체하므로 재생성 중에도 기존 색인으로 검색할 수 있습니다.
+     *
+     * @return 색인된 가이드 수
+     */
+    public int rebuild() {
+        long startedAt = System.nanoTime();
+        Table rebuilt = new Table(maxEntries);
+        Slice<GuideTitle> slice;
+        int pageNumber = 0;
+        do {
+            slice = guideRepository.findAllTitles(PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id")));
+            for (GuideTitle guide : slice.getContent()) {
+                int[] signature = signatureOf(guide.title());
+                if (signature != null) {
+                    rebuilt.put(guide.id(), signature);
+                }
+            }
+        } while (slice.hasNext());
+        int indexed = rebuilt.size();
+        long bytes = rebuilt.estimatedBytes();
+
+        lock.writeLock().lock();
+        try {
+            table = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("가이드 유사도 색인 재생성 완료 - {}건, 추정 메모리: {} bytes, 소요시간: {}ms",
+                indexed, bytes, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return indexed;
+    }
+
+    /**
+     * 기동 직후 색인을 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 제목의 MinHash 서명을 만듭니다.
+     * 대소문자와 공백/문장부호 차이는 무시하며, 3글자보다 짧은 제목은 제목 전체를 하나의 n-gram으로 봅니다.
+     *
+     * @return 서명 (n-gram을 만들 글자가 없으면 null)
+     */
+    static int[] signatureOf(String title) {
+        if (title == null) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(title.length());
+        title.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .map(Character::toLowerCase)
+                .forEach(normalized::appendCodePoint);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, normalized.length() - SHINGLE_SIZE + 1);
+        for (int start = 0; start < shingles; start++) {
+            int end = Math.min(normalized.length(), start + SHINGLE_SIZE);
+            long shingle = normalized.substring(start, end).hashCode();
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int hash = (int) ((HASH_A[i] * shingle + HASH_B[i]) >>> 32);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 서명 저장소와 LSH 버킷
+     * 슬롯 번호로 서명과 가이드 ID를 원시 배열에 보관하며, 제거된 슬롯은 재사용합니다. 동기화는 호출자가 담당합니다.
+     */
+    private static final class Table {
+
+        private final int capacity;
+        private final LinkedHashMap<UUID, Integer> slotById = new LinkedHashMap<>(16, 0.75f, false);
+        private final List<Map<Long, Bucket>> bands = new ArrayList<>(BANDS);
+        private long[] idMost = new long[16];
+        private long[] idLeast = new long[16];
+        private int[] signatures = new int[16 * NUM_HASHES];
+        private int[] freeSlots = new int[16];
+        private int freeCount;
+        private int nextSlot;
+        private long bucketEntries;
+        private long bucketCount;
+
+        private Table(int capacity) {
+            this.capacity = capacity;
+            for (int band = 0; band < BANDS; band++) {
+                bands.add(new HashMap<>());
+            }
+        }
+
+        private int size() {
+            return slotById.size();
+        }
+
+        private void put(UUID guideId, int[] signature) {
+            remove(guideId);
+            if (slotById.size() >= capacity) {
+                // 가장 오래 갱신되지 않은 가이드 제외
+                Iterator<UUID> eldest = slotById.keySet().iterator();
+                remove(eldest.next());
+            }
+
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot++;
+            ensureCapacity(slot + 1);
+            System.arraycopy(signature, 0, signatures, slot * NUM_HASHES, NUM_HASHES);
+            idMost[slot] = guideId.getMostSignificantBits();
+            idLeast[slot] = guideId.getLeastSignificantBits();
+            slotById.put(guideId, slot);
+            for (int band = 0; band < BANDS; band++) {
+                Bucket bucket = bands.get(band).computeIfAbsent(bandKey(slot, band), key -> {
+                    bucketCount++;
+                    return new Bucket();
+                });
+                bucket.add(slot);
+                bucketEntries++;
+            }
+        }
+
+        private void remove(UUID guideId) {
+            Integer slot = slotById.remove(guideId);
+            if (slot == null) {
+                return;
+            }
+            for (int band = 0; band < BANDS; band++) {
+                long key = bandKey(slot, band);
+                Bucket bucket = bands.get(band).get(key);
+                if (bucket != null && bucket.remove(slot)) {
+                    bucketEntries--;
+                    if (bucket.size == 0) {
+                        bands.get(band).remove(key);
+                        bucketCount--;
+                    }
+                }
+            }
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+
+        private List<GuideSimilarityHit> query(int[] signature, int limit, double minScore) {
+            BitSet seen = new BitSet(nextSlot);
+            PriorityQueue<GuideSimilarityHit> top =
+                    new PriorityQueue<>(limit + 1, Comparator.comparingDouble(GuideSimilarityHit::score));
+            for (int band = 0; band < BANDS; band++) {
+                Bucket bucket = bands.get(band).get(bandKey(signature, 0, band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.size; i++) {
+                    int slot = bucket.slots[i];
+                    if (seen.get(slot)) {
+                        continue;
+                    }
+                    seen.set(slot);
+                    double score = agreement(signature, slot);
+                    if (score < minScore) {
+                        continue;
+                    }
+                    top.offer(new GuideSimilarityHit(new UUID(idMost[slot], idLeast[slot]), score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+            List<GuideSimilarityHit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(GuideSimilarityHit::score).reversed());
+            return hits;
+        }
+
+        private double agreement(int[] signature, int slot) {
+            int offset = slot * NUM_HASHES;
+            int matches = 0;
+            for (int i = 0; i < NUM_HASHES; i++) {
+                if (signatures[offset + i] == signature[i]) {
+                    matches++;
+                }
+            }
+            return (double) matches / NUM_HASHES;
+        }
+
+        private long bandKey(int slot, int band) {
+            return bandKey(signatures, slot * NUM_HASHES, band);
+        }
+
+        private static long bandKey(int[] signatures, int offset, int band) {
+            int row = offset + band * ROWS_PER_BAND;
+            return ((long) signatures[row] << 32) | (signatures[row + 1] & 0xFFFFFFFFL);
+        }
+
+        private void ensureCapacity(int slots) {
+            if (slots <= idMost.length) {
+                return;
+            }
+            int grown = Math.min(capacity, Math.max(slots, idMost.length * 2));
+            idMost = Arrays.copyOf(idMost, grown);
+            idLeast = Arrays.copyOf(idLeast, grown);
+            signatures = Arrays.copyOf(signatures, grown * NUM_HASHES);
+        }
+
+        /**
+         * 배열 크기와 항목 수로 계산한 대략적인 사용량 (맵 엔트리와 객체 헤더는 평균 크기로 가정)
+         */
+        private long estimatedBytes() {
+            long arrays = idMost.length * 16L + signatures.length * 4L + freeSlots.length * 4L;
+            long buckets = bucketEntries * 4L + bucketCount * 80L;
+            long slotMap = slotById.size() * 80L;
+            return arrays + buckets + slotMap;
+        }
+    }
+
+    /**
+     * LSH 버킷에 속한 슬롯 목록
+     */
+    private static final class Bucket {
+
+        private int[] slots = new int[2];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        private boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package pluto.upik.domain.guide.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.guide.data.DTO.GuideSimilarityHit;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가이드 임베딩 벡터 색인 (IVF)
+ * 정규화한 벡터를 메모리 매핑 파일에 슬롯 단위로 저장하고, k-means로 학습한 중심점별 목록(inverted list)에 슬롯을 나눠 담습니다.
+ * 검색 시 질의 벡터와 가까운 중심점 몇 개의 목록만 비교하므로 전체 벡터를 훑지 않으며, 학습 전에는 전체를 비교합니다.
+ * 중심점은 파일에 저장하지 않으며, 기동 후 {@link #train()} 호출 시와 벡터 수가 학습 시점의 두 배가 될 때마다 다시 학습합니다.
+ * 추가와 삭제는 바뀐 슬롯과 헤더를 바로 디스크에 기록하므로 비정상 종료 시에도 유지됩니다.
+ *
+ * <p>파일 구조: 헤더(매직 넘버, 차원, 슬롯 수) 뒤에 슬롯마다 가이드 ID(16바이트)와 벡터(차원 × 4바이트)가 이어집니다.
+ * 삭제된 슬롯은 ID를 0으로 비워 두었다가 재사용합니다.
+ */
+@Component
+@Slf4j
+public class GuideVectorIndex {
+
+    private static final int MAGIC = 0x47564958; // "GVIX"
+    private static final int HEADER_BYTES = 16;
+    private static final int ID_BYTES = 16;
+    private static final long INITIAL_SLOTS = 1024;
+    private static final int MIN_VECTORS_PER_LIST = 8;
+    private static final int MAX_TRAINING_SAMPLES = 8192;
+    private static final int TRAINING_ITERATIONS = 10;
+
+    private final FileChannel channel;
+    private final int lists;
+    private final int probes;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean training = new AtomicBoolean(false);
+
+    private MappedByteBuffer buffer;
+    private int dimensions;
+    private int slotCount;
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private final List<Integer> freeSlots = new ArrayList<>();
+
+    // IVF 상태 (학습 전에는 centroids가 null)
+    private float[] centroids;
+    private int[] listOfSlot = new int[0];
+    private List<IntList> invertedLists = List.of();
+    private int trainedSize;
+    private BitSet touchedWhileTraining;
+
+    public GuideVectorIndex(@Value("${guide.embedding.index-path:./data/guide-vectors.bin}") String indexPath,
+                            @Value("${guide.embedding.lists:64}") int lists,
+                            @Value("${guide.embedding.probes:8}") int probes) throws IOException {
+        if (lists < 1 || probes < 1) {
+            throw new IllegalArgumentException("목록 수와 탐색 목록 수는 1 이상이어야 합니다.");
+        }
+        this.lists = lists;
+        this.probes = Math.min(probes, lists);
+        Path path = Path.of(indexPath);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        load();
+        log.info("가이드 벡터 색인 열기 - path: {}, 차원: {}, 벡터 수: {}", indexPath, dimensions, size());
+    }
+
+    /**
+     * 가이드 벡터를 추가하거나 갱신합니다. 첫 벡터의 차원이 색인의 차원이 됩니다.
+     *
+     * @param guideId 가이드 ID
+     * @param vector 임베딩 벡터 (저장 시 정규화)
+     * @throws IllegalArgumentException 벡터 차원이 색인 차원과 다를 경우
+     */
+    public void put(UUID guideId, float[] vector) {
+        float[] normalized = normalize(vector);
+        lock.writeLock().lock();
+        try {
+            if (dimensions == 0) {
+                initialize(normalized.length);
+            }
+            if (normalized.length != dimensions) {
+                throw new IllegalArgumentException(
+                        "벡터 차원이 색인과 다릅니다. 임베딩 모델을 바꿨다면 색인 파일을 지우고 다시 만들어야 합니다: "
+                                + normalized.length + " != " + dimensions);
+            }
+            Integer existing = slotById.get(guideId);
+            int slot = existing != null ? existing : allocateSlot();
+            long offset = offsetOf(slot);
+            buffer.putLong((int) offset, guideId.getMostSignificantBits());
+            buffer.putLong((int) offset + 8, guideId.getLeastSignificantBits());
+            for (int i = 0; i < dimensions; i++) {
+                buffer.putFloat((int) offset + ID_BYTES + i * 4, normalized[i]);
+            }
+            slotById.put(guideId, slot);
+            if (centroids != null) {
+                if (existing != null) {
+                    invertedLists.get(listOfSlot[slot]).remove(slot);
+                }
+                assign(slot, nearestList(normalized));
+            }
+            markTouched(slot);
+            force(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가이드 벡터를 삭제합니다.
+     *
+     * @param guideId 가이드 ID
+     */
+    public void delete(UUID guideId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(guideId);
+            if (slot == null) {
+                return;
+            }
+            long offset = offsetOf(slot);
+            buffer.putLong((int) offset, 0L);
+            buffer.putLong((int) offset + 8, 0L);
+            if (centroids != null) {
+                invertedLists.get(listOfSlot[slot]).remove(slot);
+            }
+            freeSlots.add(slot);
+            markTouched(slot);
+            force(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 벡터와 코사인 유사도가 높은 가이드를 찾습니다.
+     *
+     * @param vector 질의 벡터
+     * @param limit 최대 결과 수
+     * @return 유사도 내림차순 결과 (색인이 비어 있거나 차원이 다르면 빈 목록)
+     */
+    public List<GuideSimilarityHit> search(float[] vector, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("결과 수는 1 이상이어야 합니다.");
+        }
+        float[] query = normalize(vector);
+        lock.readLock().lock();
+        try {
+            if (dimensions == 0 || query.length != dimensions) {
+                return List.of();
+            }
+            PriorityQueue<GuideSimilarityHit> top =
+                    new PriorityQueue<>(limit + 1, Comparator.comparingDouble(GuideSimilarityHit::score));
+            if (centroids == null) {
+                for (int slot : slotById.values()) {
+                    collect(top, slot, query, limit);
+                }
+            } else {
+                for (int list : nearestLists(query, probes)) {
+                    IntList slots = invertedLists.get(list);
+                    for (int i = 0; i < slots.size; i++) {
+                        collect(top, slots.values[i], query, limit);
+                    }
+                }
+            }
+            List<GuideSimilarityHit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(GuideSimilarityHit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가이드 벡터가 색인에 있는지 확인합니다.
+     */
+    public boolean contains(UUID guideId) {
+        lock.readLock().lock();
+        try {
+            return slotById.containsKey(guideId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 벡터 수를 반환합니다.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 중심점이 학습되어 목록 단위 검색을 하는지 확인합니다.
+     */
+    public boolean isTrained() {
+        lock.readLock().lock();
+        try {
+            return centroids != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터 수가 마지막 학습 시점의 두 배 이상이 되었으면 중심점을 다시 학습합니다.
+     */
+    public void trainIfGrown() {
+        boolean grown;
+        lock.readLock().lock();
+        try {
+            grown = slotById.size() >= Math.max(trainedSize * 2, lists * MIN_VECTORS_PER_LIST);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (grown) {
+            train();
+        }
+    }
+
+    /**
+     * 중심점을 학습하고 모든 벡터를 가장 가까운 목록에 다시 배정합니다.
+     * 표본 추출과 배정만 읽기 잠금으로 수행하여 검색을 막지 않으며, 학습 중에 바뀐 슬롯은 교체 직전에 다시 배정합니다.
+     * 목록당 벡터가 충분하지 않으면 학습하지 않고 전체 비교를 유지합니다.
+     */
+    public void train() {
+        if (!training.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<float[]> samples;
+            int trainedOn;
+            lock.readLock().lock();
+            try {
+                trainedOn = slotById.size();
+                if (trainedOn < lists * MIN_VECTORS_PER_LIST) {
+                    return;
+                }
+                synchronized (this) {
+                    touchedWhileTraining = new BitSet(slotCount);
+                }
+                samples = sampleVectors();
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            float[] newCentroids = kMeans(samples);
+
+            int[] newListOfSlot;
+            lock.readLock().lock();
+            try {
+                newListOfSlot = new int[slotCount];
+                for (int slot : slotById.values()) {
+                    newListOfSlot[slot] = nearestList(newCentroids, vectorAt(slot));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (newListOfSlot.length < slotCount) {
+                    newListOfSlot = Arrays.copyOf(newListOfSlot, slotCount);
+                }
+                // 학습 중에 추가/갱신된 슬롯은 새 중심점으로 다시 배정
+                BitSet touched = touchedWhileTraining;
+                for (int slot = touched.nextSetBit(0); slot >= 0; slot = touched.nextSetBit(slot + 1)) {
+                    if (isLive(slot)) {
+                        newListOfSlot[slot] = nearestList(newCentroids, vectorAt(slot));
+                    }
+                }
+                List<IntList> newLists = new ArrayList<>(lists);
+                for (int i = 0; i < lists; i++) {
+                    newLists.add(new IntList());
+                }
+                for (int slot : slotById.values()) {
+                    newLists.get(newListOfSlot[slot]).add(slot);
+                }
+                centroids = newCentroids;
+                listOfSlot = newListOfSlot;
+                invertedLists = newLists;
+                trainedSize = slotById.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("가이드 벡터 색인 중심점 학습 완료 - 벡터 수: {}, 목록 수: {}", trainedOn, lists);
+        } finally {
+            synchronized (this) {
+                touchedWhileTraining = null;
+            }
+            training.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (buffer != null) {
+                buffer.force();
+            }
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        if (channel.size() < HEADER_BYTES) {
+            return;
+        }
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        if (header.getInt(0) != MAGIC) {
+            throw new IllegalStateException("가이드 벡터 색인 파일 형식이 올바르지 않습니다.");
+        }
+        dimensions = header.getInt(4);
+        slotCount = (int) header.getLong(8);
+        if (dimensions == 0) {
+            return;
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        for (int slot = 0; slot < slotCount; slot++) {
+            long offset = offsetOf(slot);
+            long most = buffer.getLong((int) offset);
+            long least = buffer.getLong((int) offset + 8);
+            if (most == 0L && least == 0L) {
+                freeSlots.add(slot);
+            } else {
+                slotById.put(new UUID(most, least), slot);
+            }
+        }
+    }
+
+    private void initialize(int dimensions) {
+        this.dimensions = dimensions;
+        remap(HEADER_BYTES + INITIAL_SLOTS * recordBytes());
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, dimensions);
+        buffer.putLong(8, 0L);
+    }
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.remove(freeSlots.size() - 1);
+        }
+        int slot = slotCount;
+        long required = offsetOf(slot + 1);
+        if (required > buffer.capacity()) {
+            long grown = Math.max(required, HEADER_BYTES + (long) slotCount * 2 * recordBytes());
+            if (grown > Integer.MAX_VALUE) {
+                throw new IllegalStateException("가이드 벡터 색인 파일이 최대 크기(2GB)를 넘었습니다.");
+            }
+            remap(grown);
+        }
+        slotCount++;
+        buffer.putLong(8, slotCount);
+        if (listOfSlot.length < slotCount) {
+            listOfSlot = Arrays.copyOf(listOfSlot, Math.max(slotCount, listOfSlot.length * 2));
+        }
+        return slot;
+    }
+
+    private void remap(long size) {
+        try {
+            if (buffer != null) {
+                buffer.force();
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new IllegalStateException("가이드 벡터 색인 파일 확장 실패", e);
+        }
+    }
+
+    /**
+     * 헤더와 슬롯 영역을 디스크에 기록합니다.
+     */
+    private void force(int slot) {
+        buffer.force(0, HEADER_BYTES);
+        buffer.force((int) offsetOf(slot), (int) recordBytes());
+    }
+
+    private void assign(int slot, int list) {
+        if (listOfSlot.length <= slot) {
+            listOfSlot = Arrays.copyOf(listOfSlot, Math.max(slot + 1, listOfSlot.length * 2));
+        }
+        listOfSlot[slot] = list;
+        invertedLists.get(list).add(slot);
+    }
+
+    private synchronized void markTouched(int slot) {
+        if (touchedWhileTraining != null) {
+            touchedWhileTraining.set(slot);
+        }
+    }
+
+    private void collect(PriorityQueue<GuideSimilarityHit> top, int slot, float[] query, int limit) {
+        long offset = offsetOf(slot);
+        double score = 0;
+        for (int i = 0; i < dimensions; i++) {
+            score += query[i] * buffer.getFloat((int) offset + ID_BYTES + i * 4);
+        }
+        if (top.size() < limit || score > top.peek().score()) {
+            UUID guideId = new UUID(buffer.getLong((int) offset), buffer.getLong((int) offset + 8));
+            top.offer(new GuideSimilarityHit(guideId, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+    }
+
+    private float[] vectorAt(int slot) {
+        long offset = offsetOf(slot) + ID_BYTES;
+        float[] vector = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] = buffer.getFloat((int) offset + i * 4);
+        }
+        return vector;
+    }
+
+    private boolean isLive(int slot) {
+        long offset = offsetOf(slot);
+        return buffer.getLong((int) offset) != 0L || buffer.getLong((int) offset + 8) != 0L;
+    }
+
+    private List<float[]> sampleVectors() {
+        List<Integer> slots = new ArrayList<>(slotById.values());
+        SplittableRandom random = new SplittableRandom(slots.size());
+        // 부분 Fisher-Yates 셔플로 최대 표본 수만큼 고름
+        int samples = Math.min(slots.size(), MAX_TRAINING_SAMPLES);
+        List<float[]> vectors = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            int j = i + random.nextInt(slots.size() - i);
+            Integer picked = slots.get(j);
+            slots.set(j, slots.get(i));
+            vectors.add(vectorAt(picked));
+        }
+        return vectors;
+    }
+
+    /**
+     * 구면 k-means로 중심점을 학습합니다. 초기 중심점은 표본의 앞쪽 벡터(무작위 순서)입니다.
+     */
+    private float[] kMeans(List<float[]> samples) {
+        float[] result = new float[lists * dimensions];
+        for (int c = 0; c < lists; c++) {
+            System.arraycopy(samples.get(c), 0, result, c * dimensions, dimensions);
+        }
+        int[] assignment = new int[samples.size()];
+        for (int iteration = 0; iteration < TRAINING_ITERATIONS; iteration++) {
+            for (int i = 0; i < samples.size(); i++) {
+                assignment[i] = nearestList(result, samples.get(i));
+            }
+            float[] sums = new float[lists * dimensions];
+            int[] counts = new int[lists];
+            for (int i = 0; i < samples.size(); i++) {
+                float[] sample = samples.get(i);
+                int base = assignment[i] * dimensions;
+                for (int d = 0; d < dimensions; d++) {
+                    sums[base + d] += sample[d];
+                }
+                counts[assignment[i]]++;
+            }
+            for (int c = 0; c < lists; c++) {
+                // 비어 있는 중심점은 이전 위치 유지
+                if (counts[c] == 0) {
+                    continue;
+                }
+                float[] centroid = normalize(Arrays.copyOfRange(sums, c * dimensions, (c + 1) * dimensions));
+                System.arraycopy(centroid, 0, result, c * dimensions, dimensions);
+            }
+        }
+        return result;
+    }
+
+    private int nearestList(float[] vector) {
+        return nearestList(centroids, vector);
+    }
+
+    private int nearestList(float[] centroids, float[] vector) {
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int c = 0; c < lists; c++) {
+            double score = dot(centroids, c * dimensions, vector);
+            if (score > bestScore) {
+                bestScore = score;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private int[] nearestLists(float[] vector, int count) {
+        Integer[] order = new Integer[lists];
+        double[] scores = new double[lists];
+        for (int c = 0; c < lists; c++) {
+            order[c] = c;
+            scores[c] = dot(centroids, c * dimensions, vector);
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+        int[] nearest = new int[count];
+        for (int i = 0; i < count; i++) {
+            nearest[i] = order[i];
+        }
+        return nearest;
+    }
+
+    private double dot(float[] matrix, int offset, float[] vector) {
+        double sum = 0;
+        for (int d = 0; d < dimensions; d++) {
+            sum += matrix[offset + d] * vector[d];
+        }
+        return sum;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        float[] normalized = vector.clone();
+        if (norm == 0) {
+            return normalized;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < normalized.length; i++) {
+            normalized[i] *= scale;
+        }
+        return normalized;
+    }
+
+    private long recordBytes() {
+        return ID_BYTES + (long) dimensions * 4;
+    }
+
+    private long offsetOf(int slot) {
+        return HEADER_BYTES + slot * recordBytes();
+    }
+
+    /**
+     * 목록에 속한 슬롯 번호
+     */
+    private static final class IntList {
+
+        private int[] values = new int[8];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void remove(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -2,19 +2,32 @@ package pluto.upik.domain.guide.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import pluto.upik.domain.guide.data.DTO.GuideSearchResult;
 import pluto.upik.domain.guide.data.DTO.KeywordGuideResponse;
 import pluto.upik.domain.guide.data.model.Guide;
 import pluto.upik.domain.guide.repository.GuideRepository;
 import pluto.upik.domain.user.data.model.User;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.graphql.FieldSelection;
+import pluto.upik.shared.graphql.ProjectedRow;
+import pluto.upik.shared.graphql.ProjectionMapping;
+import pluto.upik.shared.graphql.SelectionProjector;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 키워드 기반 가이드 검색 관련 비즈니스 로직을 처리하는 서비스 구현체
+ * 일치 여부와 순위는 {@link GuideSearchIndex}에서 구하고, 가이드 정보는 해당 ID만 조회합니다.
  */
 @Slf4j
 @Service
@@ -22,6 +35,29 @@ import java.util.stream.Collectors;
 public class KeywordGuideService implements KeywordGuideServiceInterface {
 
     private final GuideRepository guideRepository;
+    private final SelectionProjector selectionProjector;
+    private final GuideSearchIndex guideSearchIndex;
+
+    // 페이지를 지정하지 않은 검색의 최대 결과 수이자 페이지 크기 상한
+    static final int MAX_PAGE_SIZE = 100;
+    // 페이지 검색으로 조회할 수 있는 최대 순위 (검색 색인이 상위 (page + 1) * size건을 모아 정렬하므로 깊은 페이지를 제한)
+    static final int MAX_RESULT_WINDOW = 1000;
+
+    // KeywordGuide 타입 필드 → 엔티티 속성 매핑 (작성자 정보는 투표 생성자 기준)
+    private static final ProjectionMapping<Guide> KEYWORD_GUIDE_MAPPING = ProjectionMapping.builder(Guide.class)
+            .field("id")
+            .field("title")
+            .field("content")
+            .field("createdAt")
+            .field("guideType")
+            .field("category")
+            .field("likeCount", "like")
+            .field("revoteCount")
+            .field("userId", "vote.user.id")
+            .field("userName", "vote.user.name")
+            .field("userEmail", "vote.user.email")
+            .required("id")
+            .build();
 
     /**
      * {@inheritDoc}
@@ -31,10 +67,12 @@ public class KeywordGuideService implements KeywordGuideServiceInterface {
         log.info("키워드 기반 가이드 검색 요청 시작 - keyword: {}", keyword);
 
         try {
-            List<Guide> guides = guideRepository.findGuidesByTitleContaining(keyword);
+            // 검색 색인에서 관련도 순 ID를 찾고, 해당 가이드만 조회하여 같은 순서로 정렬
+            List<UUID> rankedIds = guideSearchIndex.search(keyword, 0, MAX_PAGE_SIZE).guideIds();
+            List<Guide> guides = inRankOrder(rankedIds, guideRepository.findAllById(rankedIds), Guide::getId);
             log.info("키워드 기반 가이드 검색 결과 - keyword: {}, 검색된 가이드 수: {}", keyword, guides.size());
 
-            if (guides == null || guides.isEmpty()) {
+            if (guides.isEmpty()) {
                 log.warn("키워드 기반 가이드 검색 실패 - 가이드 없음 (keyword: {})", keyword);
                 throw new ResourceNotFoundException("해당 키워드로 검색된 가이드가 없습니다: " + keyword);
             }
@@ -75,4 +113,92 @@ public class KeywordGuideService implements KeywordGuideServiceInterface {
             throw new BusinessException("가이드 키워드 검색 중 오류가 발생했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<KeywordGuideResponse> searchGuidesByKeyword(String keyword, FieldSelection selection) {
+        return searchGuidesByKeyword(keyword, 0, MAX_PAGE_SIZE, selection);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<KeywordGuideResponse> searchGuidesByKeyword(String keyword, int page, int size, FieldSelection selection) {
+        log.info("키워드 기반 가이드 검색 요청 시작 - keyword: {}, page: {}, size: {}, selection: {}",
+                keyword, page, size, selection);
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("페이지 번호는 0 이상, 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (((long) page + 1) * size > MAX_RESULT_WINDOW) {
+            throw new BusinessException("검색 결과는 상위 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+
+        try {
+            GuideSearchResult result = guideSearchIndex.search(keyword, page, size);
+            List<UUID> rankedIds = result.guideIds();
+            List<ProjectedRow> rows = rankedIds.isEmpty()
+                    ? List.of()
+                    : inRankOrder(rankedIds,
+                            selectionProjector.select(KEYWORD_GUIDE_MAPPING, selection, idIn(rankedIds)),
+                            row -> row.get("id", UUID.class));
+            log.info("키워드 기반 가이드 검색 결과 - keyword: {}, 검색된 가이드 수: {}, 전체 일치: {}",
+                    keyword, rows.size(), result.totalHits());
+
+            if (rows.isEmpty()) {
+                log.warn("키워드 기반 가이드 검색 실패 - 가이드 없음 (keyword: {})", keyword);
+                throw new ResourceNotFoundException("해당 키워드로 검색된 가이드가 없습니다: " + keyword);
+            }
+
+            List<KeywordGuideResponse> responses = rows.stream()
+                    .map(row -> KeywordGuideResponse.builder()
+                            .id(row.get("id", UUID.class))
+                            .title(row.get("title", String.class))
+                            .keyword(keyword)
+                            .content(row.get("content", String.class))
+                            .createdAt(row.get("createdAt", LocalDate.class))
+                            .guideType(row.get("guideType", String.class))
+                            .category(row.get("category", String.class))
+                            .likeCount(row.get("likeCount", Long.class))
+                            .revoteCount(row.get("revoteCount", Long.class))
+                            .userId(row.get("userId", UUID.class))
+                            .userName(row.get("userName", String.class))
+                            .userProfileImage(null) // User 클래스에 해당 필드가 없으므로 null로 설정
+                            .userEmail(row.get("userEmail", String.class))
+                            .build())
+                    .collect(Collectors.toList());
+
+            log.info("키워드 기반 가이드 검색 완료 - keyword: {}, 결과 개수: {}", keyword, responses.size());
+            return responses;
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("가이드 키워드 검색 중 예외 발생 - keyword: {}, error: {}", keyword, e.getMessage(), e);
+            throw new BusinessException("가이드 키워드 검색 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static Specification<Guide> idIn(List<UUID> ids) {
+        return (root, query, cb) -> root.<UUID>get("id").in(ids);
+    }
+
+    /**
+     * 조회 결과를 검색 색인의 관련도 순서대로 정렬합니다. 색인에는 있지만 조회되지 않은 항목은 제외됩니다.
+     */
+    private static <T> List<T> inRankOrder(List<UUID> rankedIds, List<T> items, Function<T, UUID> idOf) {
+        Map<UUID, T> byId = new HashMap<>();
+        for (T item : items) {
+            byId.put(idOf.apply(item), item);
+        }
+        List<T> ordered = new ArrayList<>(rankedIds.size());
+        for (UUID id : rankedIds) {
+            T item = byId.get(id);
+            if (item != null) {
+                ordered.add(item);
+            }
+        }
+        return ordered;
+    }
+}
@@ -1,6 +1,7 @@
 package pluto.upik.domain.guide.service;
 
 import pluto.upik.domain.guide.data.DTO.KeywordGuideResponse;
+import pluto.upik.shared.graphql.FieldSelection;
 
 import java.util.List;
 
@@ -18,4 +19,30 @@ public interface KeywordGuideServiceInterface {
      * @throws pluto.upik.shared.exception.BusinessException 검색 중 오류 발생 시
      */
     List<KeywordGuideResponse> searchGuidesByKeyword(String keyword);
-}
\ No newline at end of file
+
+    /**
+     * 특정 키워드가 포함된 가이드 목록을 선택된 필드만 검색합니다.
+     * 본문과 작성자 정보는 선택된 경우에만 조회합니다.
+     *
+     * @param keyword 검색할 키워드
+     * @param selection GraphQL에서 선택된 필드 목록
+     * @return 키워드 가이드 응답 목록 (선택되지 않은 필드는 비어 있음)
+     * @throws pluto.upik.shared.exception.ResourceNotFoundException 키워드에 해당하는 가이드가 없을 경우 발생
+     * @throws pluto.upik.shared.exception.BusinessException 검색 중 오류 발생 시
+     */
+    List<KeywordGuideResponse> searchGuidesByKeyword(String keyword, FieldSelection selection);
+
+    /**
+     * 특정 키워드가 포함된 가이드를 관련도 순으로 한 페이지씩 검색합니다.
+     *
+     * @param keyword 검색할 키워드
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (1 이상 100 이하)
+     * @param selection GraphQL에서 선택된 필드 목록
+     * @return 키워드 가이드 응답 목록 (관련도 순)
+     * @throws IllegalArgumentException 페이지 번호나 크기가 범위를 벗어난 경우 발생
+     * @throws pluto.upik.shared.exception.ResourceNotFoundException 해당 페이지에 가이드가 없을 경우 발생
+     * @throws pluto.upik.shared.exception.BusinessException 검색 중 오류 발생 시
+     */
+    List<KeywordGuideResponse> searchGuidesByKeyword(String keyword, int page, int size, FieldSelection selection);
+}
@@ -72,4 +72,9 @@ public class GuideSimpleInfo {
      * 재투표 수
      */
     private Long revoteCount;
+
+    /**
+     * 입력한 제목과의 유사도 (0~1, 유사 가이드 검색 결과에만 포함)
+     */
+    private Double similarity;
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package pluto.upik.domain.option.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pluto.upik.domain.option.data.model.Option;
 import pluto.upik.domain.vote.data.model.Vote;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,6 +16,16 @@ import java.util.UUID;
 public interface OptionRepository extends JpaRepository<Option, UUID> {
     List<Option> findByVoteId(UUID voteId);
 
+    /**
+     * 여러 투표의 선택지를 한 번에 조회합니다.
+     * 선택지는 ID 순으로 정렬되어, 투표별 첫 선택지가 {@link #findTopByVoteOrderByIdAsc}와 같습니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 선택지 목록 (ID 오름차순)
+     */
+    @Query("SELECT o FROM Option o WHERE o.vote.id IN :voteIds ORDER BY o.id")
+    List<Option> findByVoteIdIn(@Param("voteIds") Collection<UUID> voteIds);
+
     // 추가된 메서드
     Optional<Option> findTopByVoteOrderByIdAsc(Vote vote);
 }
@@ -4,11 +4,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import pluto.upik.domain.guide.data.DTO.KeywordGuideResponse;
-import pluto.upik.domain.guide.service.KeywordGuideServiceInterface;
+import pluto.upik.domain.guide.data.DTO.GuideSimilarityHit;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.domain.guide.service.GuideEmbeddingService;
+import pluto.upik.domain.guide.service.GuideTitleSimilarityIndex;
 import pluto.upik.domain.option.data.DTO.GenerateOptionsResponse;
 import pluto.upik.domain.option.data.DTO.GuideSimpleInfo;
 import pluto.upik.domain.option.data.DTO.SimilarGuidesResponse;
+import pluto.upik.domain.user.data.model.User;
 import pluto.upik.shared.ai.config.ChatAiService;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
@@ -20,10 +24,13 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,10 +44,13 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
 
     private final ChatAiService chatAiService;
     private final TranslationService translationService;
-    private final KeywordGuideServiceInterface keywordGuideService;
+    private final GuideTitleSimilarityIndex guideTitleSimilarityIndex;
+    private final GuideEmbeddingService guideEmbeddingService;
+    private final GuideRepository guideRepository;
 
     private static final int AI_RESPONSE_TIMEOUT_SECONDS = 30;
     private static final int MAX_SUMMARY_LENGTH = 100;
+    private static final int MAX_SIMILAR_GUIDES = 10;
 
     /**
      * 제목에 맞는 선택지를 생성합니다.
@@ -121,14 +131,7 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
             log.debug("추출된 영어 선택지 목록: {}", englishOptions);
             // 영어 선택지를 한국어로 번역
             log.debug("선택지 번역 시작 (영어 → 한국어) - 선택지 개수: {}", englishOptions.size());
-            List<String> koreanOptions = new ArrayList<>();
-            for (int i = 0; i < englishOptions.size(); i++) {
-                String englishOption = englishOptions.get(i);
-                log.trace("선택지 #{} 번역 시작 - 영어: '{}'", i+1, englishOption);
-                String koreanOption = translationService.translateEnglishToKorean(englishOption);
-                log.trace("선택지 #{} 번역 완료 - 영어: '{}', 한국어: '{}'", i+1, englishOption, koreanOption);
-                koreanOptions.add(koreanOption);
-            }
+            List<String> koreanOptions = translationService.translateAll(englishOptions, "en", "ko");
             log.debug("선택지 번역 완료 - 번역된 한국어 선택지 개수: {}", koreanOptions.size());
             log.debug("번역된 한국어 선택지 목록: {}", koreanOptions);
 
@@ -290,6 +293,8 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
 
     /**
      * 제목과 유사한 가이드를 검색합니다.
+     * 입력 중인 제목마다 호출되므로 DB 검색 대신 메모리의 제목 유사도 색인에서 상위 후보를 찾고,
+     * 부족한 결과는 임베딩 벡터 색인의 근사 최근접 검색으로 채웁니다.
      *
      * @param title 검색할 제목
      * @return 유사 가이드 검색 결과
@@ -311,60 +316,59 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
         }
 
         try {
-            long startTime = System.currentTimeMillis();
-            log.debug("키워드 서비스를 통한 가이드 검색 시작 - 키워드: '{}'", title);
-
-            // 키워드 서비스를 통해 유사한 가이드 검색
-            List<KeywordGuideResponse> keywordGuides = keywordGuideService.searchGuidesByKeyword(title);
-
-            long searchDuration = System.currentTimeMillis() - startTime;
-            log.debug("키워드 검색 완료 - 키워드: '{}', 찾은 가이드 수: {}, 소요시간: {}ms",
-                    title, keywordGuides.size(), searchDuration);
-
-            // 각 가이드에 대한 상세 정보 로깅
-            for (int i = 0; i < keywordGuides.size(); i++) {
-                KeywordGuideResponse guide = keywordGuides.get(i);
-                log.debug("검색된 가이드 #{} - ID: {}, 제목: '{}', 타입: '{}', 내용 길이: {} 글자",
-                        i+1, guide.getId(), guide.getTitle(), guide.getGuideType(),
-                        guide.getContent() != null ? guide.getContent().length() : 0);
+            long startTime = System.nanoTime();
+
+            // 제목 유사도 색인에서 유사한 가이드 ID를 찾고, 해당 가이드만 작성자 정보와 함께 조회
+            List<GuideSimilarityHit> hits = new ArrayList<>(
+                    guideTitleSimilarityIndex.findSimilar(title, MAX_SIMILAR_GUIDES));
+            long lookupMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime);
+            log.debug("유사도 색인 검색 완료 - 제목: '{}', 후보 수: {}, 소요시간: {}µs", title, hits.size(), lookupMicros);
+
+            // 제목이 비슷한 가이드가 부족하면 남은 자리를 의미가 비슷한 가이드(임베딩 근사 최근접 검색)로 채움
+            if (hits.size() < MAX_SIMILAR_GUIDES) {
+                addSemanticHits(title, hits);
             }
 
-            // GuideSimpleInfo로 변환
-            List<GuideSimpleInfo> guideInfos = keywordGuides.stream()
-                .map(guide -> {
-                    String summary = createSummary(guide.getContent());
-                    log.trace("가이드 요약 생성 - ID: {}, 원본 길이: {} 글자, 요약 길이: {} 글자",
-                            guide.getId(),
-                            guide.getContent() != null ? guide.getContent().length() : 0,
-                            summary.length());
-
-                    // 가이드 타입 로깅 추가
-                    String guideType = guide.getGuideType();
-                    log.debug("가이드 ID: {}, 제목: '{}', 타입: '{}'", guide.getId(), guide.getTitle(), guideType);
-                    return GuideSimpleInfo.builder()
-                        .id(guide.getId())
-                        .title(guide.getTitle())
-                        .summary(summary)
-                        .guideType(guideType) // 가이드 타입 명시적 설정
-                        .userId(guide.getUserId())
-                        .userName(guide.getUserName())
-                        .userProfileImage(null) // User 클래스에 해당 필드가 없으므로 null로 설정
-                        .createdAt(guide.getCreatedAt())
-                        .category(guide.getCategory())
-                        .likeCount(guide.getLikeCount())
-                        .revoteCount(guide.getRevoteCount())
-                        .build();
-                })
-                .collect(Collectors.toList());
+            if (hits.isEmpty()) {
+                throw new ResourceNotFoundException("유사한 가이드가 없습니다: " + title);
+            }
+
+            Map<UUID, Guide> guidesById = guideRepository.findAllWithAuthorByIdIn(
+                            hits.stream().map(GuideSimilarityHit::guideId).toList()).stream()
+                    .collect(Collectors.toMap(Guide::getId, Function.identity()));
 
-            // 결과 로깅에 가이드 타입 정보 추가
-            if (!guideInfos.isEmpty()) {
-                log.info("유사 가이드 검색 완료 - 제목: '{}', 결과 개수: {}, 첫 번째 가이드 타입: '{}'",
-                         title, guideInfos.size(), guideInfos.get(0).getGuideType());
+            // GuideSimpleInfo로 변환 (유사도 순서 유지, 색인에는 있지만 삭제된 가이드는 제외)
+            List<GuideSimpleInfo> guideInfos = new ArrayList<>(hits.size());
+            for (GuideSimilarityHit hit : hits) {
+                Guide guide = guidesById.get(hit.guideId());
+                if (guide == null) {
+                    continue;
+                }
+                User user = guide.getVote() != null ? guide.getVote().getUser() : null;
+                log.debug("유사 가이드 - ID: {}, 제목: '{}', 유사도: {}", guide.getId(), guide.getTitle(), hit.score());
+                guideInfos.add(GuideSimpleInfo.builder()
+                    .id(guide.getId())
+                    .title(guide.getTitle())
+                    .summary(createSummary(guide.getContent()))
+                    .guideType(guide.getGuideType())
+                    .userId(user != null ? user.getId() : null)
+                    .userName(user != null ? user.getName() : null)
+                    .userProfileImage(null) // User 클래스에 해당 필드가 없으므로 null로 설정
+                    .createdAt(guide.getCreatedAt())
+                    .category(guide.getCategory())
+                    .likeCount(guide.getLike())
+                    .revoteCount(guide.getRevoteCount())
+                    .similarity(hit.score())
+                    .build());
+            }
+
+            if (guideInfos.isEmpty()) {
+                throw new ResourceNotFoundException("유사한 가이드가 없습니다: " + title);
             }
 
             logParams.put("찾은 가이드 수", guideInfos.size());
-            logParams.put("소요시간", System.currentTimeMillis() - startTime + "ms");
+            logParams.put("색인 검색 소요시간", lookupMicros + "µs");
+            logParams.put("소요시간", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + "ms");
             log.info("유사 가이드 검색 완료 - {}", LoggingUtils.formatParams(logParams));
 
             return SimilarGuidesResponse.builder()
@@ -394,6 +398,30 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
         }
     }
 
+    /**
+     * 임베딩 색인에서 의미가 비슷한 가이드를 찾아 이미 찾은 가이드와 겹치지 않게 최대 개수까지 추가합니다.
+     * 임베딩 모델 호출이 실패하면 제목 유사도 결과만 사용합니다.
+     *
+     * @param title 검색할 제목
+     * @param hits 제목 유사도 검색 결과 (여기에 추가)
+     */
+    private void addSemanticHits(String title, List<GuideSimilarityHit> hits) {
+        try {
+            Set<UUID> found = hits.stream().map(GuideSimilarityHit::guideId).collect(Collectors.toSet());
+            for (GuideSimilarityHit hit : guideEmbeddingService.findSimilar(title, MAX_SIMILAR_GUIDES)) {
+                if (hits.size() >= MAX_SIMILAR_GUIDES) {
+                    break;
+                }
+                if (found.add(hit.guideId())) {
+                    hits.add(hit);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("임베딩 기반 유사 가이드 검색 실패 - 제목 유사도 결과만 사용합니다. 제목: '{}', 원인: {}",
+                    title, e.getMessage());
+        }
+    }
+
     /**
      * 가이드 내용에서 요약을 생성합니다.
      *
@@ -0,0 +1,14 @@
+package pluto.upik.domain.report.event;
+
+import java.util.UUID;
+
+/**
+ * 신고가 수락되었음을 알리는 도메인 이벤트 (커밋 이후 처리)
+ * 가이드 신고는 가이드의 투표를 다시 열고, 질문 신고는 투표를 삭제합니다.
+ *
+ * @param targetId 신고 대상 ID (가이드 또는 질문)
+ * @param voteId 상태가 바뀐 투표 ID
+ * @param voteDeleted 투표가 삭제되었으면 true, 다시 열렸으면 false
+ */
+public record ReportAccepted(UUID targetId, UUID voteId, boolean voteDeleted) {
+}
@@ -3,16 +3,19 @@ package pluto.upik.domain.report.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import pluto.upik.domain.guide.data.model.Guide;
 import pluto.upik.domain.guide.repository.GuideRepository;
-import pluto.upik.domain.option.repository.OptionRepository;
 import pluto.upik.domain.report.data.DTO.*;
 import pluto.upik.domain.report.data.model.Report;
+import pluto.upik.domain.report.event.ReportAccepted;
 import pluto.upik.domain.report.repository.ReportRepository;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.VoteMetadataCache;
 import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+import pluto.upik.domain.voteResponse.service.VoteOptionTallyService;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
 
@@ -33,8 +36,10 @@ public class ReportService implements ReportServiceInterface {
     private final ReportRepository reportRepository;
     private final GuideRepository guideRepository;
     private final VoteRepository voteRepository;
-    private final OptionRepository optionRepository;
     private final VoteResponseRepository voteResponseRepository; // 추가: VoteResponse 레포지토리 주입
+    private final VoteOptionTallyService voteOptionTallyService;
+    private final VoteMetadataCache voteMetadataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
@@ -192,6 +197,7 @@ public class ReportService implements ReportServiceInterface {
             LocalDate twoLaterDate = LocalDate.now().plusDays(2);
             vote.setFinishedAt(twoLaterDate);
             voteRepository.save(vote);
+            eventPublisher.publishEvent(new ReportAccepted(guideId, vote.getId(), false));
 
             // 5. 신고 삭제
             reportRepository.deleteByUserIdAndTargetId(userId, guideId);
@@ -339,6 +345,7 @@ public class ReportService implements ReportServiceInterface {
                 log.info("질문 관련 응답 삭제 시작 - questionId: {}", questionId);
                 // option_id를 참조하는 vote_response 먼저 삭제
                 voteResponseRepository.deleteByVoteId(questionId);
+                voteOptionTallyService.deleteByVoteId(questionId);
                 log.info("질문 관련 응답 삭제 완료 - questionId: {}", questionId);
         } catch (Exception e) {
                 throw new BusinessException("질문 관련 옵션 삭제 중 오류가 발생했습니다: " + e.getMessage());
@@ -347,6 +354,7 @@ public class ReportService implements ReportServiceInterface {
             try {
                 // 4. 질문 삭제
                 voteRepository.delete(vote);
+                eventPublisher.publishEvent(new ReportAccepted(questionId, questionId, true));
                 log.info("질문 삭제 완료 - questionId: {}", questionId);
             } catch (Exception e) {
                 log.error("질문 삭제 중 오류 - questionId: {}, error: {}", questionId, e.getMessage(), e);
@@ -445,11 +453,12 @@ public class ReportService implements ReportServiceInterface {
                     // authorProfileImage = vote.getUser().getProfileImage();
                 }
 
-                // 투표 옵션들도 가져오기
-                List<String> options = optionRepository.findByVoteId(report.getTargetId())
-                    .stream()
-                    .map(option -> option.getContent())
-                    .collect(Collectors.toList());
+                // 투표 옵션들도 가져오기 (메타데이터 캐시)
+                List<String> options = voteMetadataCache.get(report.getTargetId())
+                    .map(metadata -> metadata.options().stream()
+                            .map(option -> option.content())
+                            .collect(Collectors.toList()))
+                    .orElse(List.of());
 
                 content = String.join(", ", options);
             }
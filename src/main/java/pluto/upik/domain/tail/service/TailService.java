@@ -14,6 +14,7 @@ import pluto.upik.domain.user.data.model.User;
 import pluto.upik.domain.user.repository.UserRepository;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.VoteMetadataCache;
 import pluto.upik.shared.exception.ResourceNotFoundException;
 
 import java.util.List;
@@ -30,6 +31,7 @@ public class TailService {
     private final TailResponseRepository tailResponseRepository;
     private final VoteRepository voteRepository;
     private final UserRepository userRepository;
+    private final VoteMetadataCache voteMetadataCache;
 
     /**
      * 테일 생성
@@ -130,8 +132,8 @@ public class TailService {
      */
     @Transactional(readOnly = true)
     public List<TailPayload> getTailsByVoteId(UUID voteId) {
-        // 투표 존재 확인
-        voteRepository.findById(voteId)
+        // 투표 존재 확인 (메타데이터 캐시)
+        voteMetadataCache.get(voteId)
                 .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다: " + voteId));
 
         // 테일 목록 조회
@@ -0,0 +1,18 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pluto.upik.shared.pagination.PageInfo;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteConnection {
+    private List<VoteEdge> edges;
+    private PageInfo pageInfo;
+}
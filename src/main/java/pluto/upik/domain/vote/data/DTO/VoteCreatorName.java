@@ -0,0 +1,19 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import java.util.UUID;
+
+/**
+ * 투표 ID와 생성자 이름 프로젝션
+ */
+public interface VoteCreatorName {
+
+    /**
+     * 투표 ID
+     */
+    UUID getVoteId();
+
+    /**
+     * 생성자 사용자명
+     */
+    String getUsername();
+}
@@ -0,0 +1,43 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.shared.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 투표 목록 커서
+ * (createdAt, id) 쌍을 불투명한 Base64 문자열로 인코딩합니다.
+ *
+ * @param createdAt 투표 생성 일시
+ * @param id 투표 ID
+ */
+public record VoteCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    public static VoteCursor of(Vote vote) {
+        return new VoteCursor(vote.getCreatedAt(), vote.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static VoteCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new VoteCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    UUID.fromString(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException("유효하지 않은 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import pluto.upik.domain.option.data.model.Option;
+import pluto.upik.domain.vote.data.model.Vote;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 투표와 선택지의 불변 스냅샷
+ * 생성 이후 거의 바뀌지 않는 투표 정보를 캐시에 보관할 때 사용합니다.
+ *
+ * @param id 투표 ID
+ * @param question 투표 질문
+ * @param category 카테고리
+ * @param status 투표 상태
+ * @param finishedAt 종료 일자
+ * @param options 선택지 목록 (조회 순서 유지)
+ */
+public record VoteMetadata(UUID id, String question, String category, Vote.Status status,
+                           LocalDate finishedAt, List<OptionMetadata> options) {
+
+    public VoteMetadata {
+        options = List.copyOf(options);
+    }
+
+    public static VoteMetadata of(Vote vote, List<Option> options) {
+        return new VoteMetadata(
+                vote.getId(),
+                vote.getQuestion(),
+                vote.getCategory(),
+                vote.getStatus(),
+                vote.getFinishedAt(),
+                options.stream()
+                        .map(option -> new OptionMetadata(option.getId(), option.getContent()))
+                        .toList()
+        );
+    }
+
+    /**
+     * 응답을 받을 수 있는 상태인지 확인합니다.
+     */
+    public boolean isOpen() {
+        return status == Vote.Status.OPEN;
+    }
+
+    /**
+     * 선택지가 이 투표에 속하는지 확인합니다.
+     */
+    public boolean hasOption(UUID optionId) {
+        return findOption(optionId).isPresent();
+    }
+
+    /**
+     * 이 투표에 속한 선택지를 찾습니다.
+     *
+     * @param optionId 선택지 ID
+     * @return 선택지 스냅샷 (이 투표의 선택지가 아니면 empty)
+     */
+    public Optional<OptionMetadata> findOption(UUID optionId) {
+        return options.stream().filter(option -> option.id().equals(optionId)).findFirst();
+    }
+
+    /**
+     * 선택지 스냅샷
+     *
+     * @param id 선택지 ID
+     * @param content 선택지 내용
+     */
+    public record OptionMetadata(UUID id, String content) {
+    }
+}
@@ -22,9 +22,20 @@ public class VotePayload {
     private String category;
     private String finishedAt;
     private String status;
-    private int totalResponses;
-    private List<OptionWithStatsPayload> options;
-    private boolean hasVoted; // 사용자가 투표에 참여했는지 여부
+    private Integer totalResponses; // null이면 필드 리졸버에서 배치 조회
+    private List<OptionWithStatsPayload> options; // null이면 필드 리졸버에서 배치 조회
+    private Boolean hasVoted; // 사용자가 투표에 참여했는지 여부 (null이면 필드 리졸버에서 배치 조회)
+
+    // 정적 팩토리 메서드 (통계 없이 기본 필드만, 통계는 필드 리졸버에서 배치 조회)
+    public static VotePayload summaryOf(Vote vote) {
+        return VotePayload.builder()
+                .id(vote.getId())
+                .title(vote.getQuestion())
+                .category(vote.getCategory())
+                .finishedAt(vote.getFinishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE))
+                .status(vote.getStatus().name())
+                .build();
+    }
 
     // 정적 팩토리 메서드 (옵션 통계 없이)
     public static VotePayload fromEntity(Vote vote, List<Option> options) {
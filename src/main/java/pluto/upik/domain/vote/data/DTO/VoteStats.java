@@ -0,0 +1,20 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 투표 하나의 응답 통계 (전체 응답 수 + 선택지별 통계)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteStats {
+    private int totalResponses;
+    private List<OptionWithStatsPayload> options;
+}
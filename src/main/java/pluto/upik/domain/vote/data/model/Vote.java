@@ -18,7 +18,11 @@ import java.util.UUID;
  * 사용자의 투표 정보를 저장하는 엔티티입니다.
  */
 @Entity
-@Table(name = "vote")
+@Table(name = "vote", indexes = {
+        @Index(name = "idx_vote_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_vote_category_created_at_id", columnList = "category, created_at, id"),
+        @Index(name = "idx_vote_status_created_at_id", columnList = "status, created_at, id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -83,6 +87,13 @@ public class Vote {
         this.finishedAt = finishedAt;
     }
 
+    /**
+     * 투표 생성 일시
+     * 커서 기반 페이지네이션의 정렬 기준으로 사용됩니다. 열과 인덱스는 migration.sql에서 추가합니다.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
     /**
      * 가이드 생성 여부
      * 투표 종료 후 가이드가 생성되었는지 여부를 나타냅니다.
@@ -115,6 +126,17 @@ public class Vote {
         return currentDate.isAfter(finishedAt);
     }
 
+    /**
+     * 엔티티 생성 전 호출되는 메서드
+     * 생성 일시를 현재 시각으로 설정합니다.
+     */
+    @PrePersist
+    public void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+
     @Override
     public String toString() {
         return "Vote{" +
@@ -124,6 +146,7 @@ public class Vote {
                 ", category='" + category + '\'' +
                 ", status=" + status +
                 ", finishedAt=" + finishedAt +
+                ", createdAt=" + createdAt +
                 ", guideGenerated=" + guideGenerated +
                 '}';
     }
@@ -0,0 +1,11 @@
+package pluto.upik.domain.vote.event;
+
+import java.util.UUID;
+
+/**
+ * 투표가 종료되었음을 알리는 도메인 이벤트 (커밋 이후 처리)
+ *
+ * @param voteId 투표 ID
+ */
+public record VoteClosed(UUID voteId) {
+}
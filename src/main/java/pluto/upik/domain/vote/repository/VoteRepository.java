@@ -1,11 +1,18 @@
 package pluto.upik.domain.vote.repository;
 
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import pluto.upik.domain.vote.data.DTO.VoteCreatorName;
 import pluto.upik.domain.vote.data.model.Vote;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -15,6 +22,17 @@ import java.util.UUID;
 @Repository
 public interface VoteRepository extends JpaRepository<Vote, UUID> {
 
+    /**
+     * 투표를 조회하면서 트랜잭션이 끝날 때까지 행을 잠급니다 (SELECT ... FOR UPDATE).
+     * 투표 상태를 확인한 뒤 바꾸는 작업이 동시에 겹치지 않도록 할 때 사용합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 투표 (없으면 빈 Optional)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM Vote v WHERE v.id = :voteId")
+    Optional<Vote> findByIdForUpdate(@Param("voteId") UUID voteId);
+
     /**
      * 종료 날짜가 지났고 상태가 OPEN인 투표 목록을 조회합니다.
      *
@@ -51,4 +69,40 @@ public interface VoteRepository extends JpaRepository<Vote, UUID> {
      * @return 해당 상태의 투표 목록
      */
     List<Vote> findByStatus(Vote.Status status);
+
+    /**
+     * 응답 수가 많은 순으로 OPEN 상태 투표를 조회합니다.
+     * 응답 수는 vote_option_tally 집계를 합산하며, 상위 K개만 반환하도록 pageable로 제한합니다.
+     *
+     * @param category 카테고리 필터 (선택)
+     * @param pageable 조회 개수 제한
+     * @return 응답 수 내림차순 투표 목록
+     */
+    @Query("SELECT v FROM Vote v LEFT JOIN VoteOptionTally t ON t.id.voteId = v.id " +
+            "WHERE v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN " +
+            "AND (:category IS NULL OR v.category = :category) " +
+            "GROUP BY v ORDER BY COALESCE(SUM(t.count), 0) DESC, v.id ASC")
+    List<Vote> findMostPopularOpenVotes(@Param("category") String category, Pageable pageable);
+
+    /**
+     * 응답 수가 적은 순으로 OPEN 상태 투표를 조회합니다.
+     *
+     * @param category 카테고리 필터 (선택)
+     * @param pageable 조회 개수 제한
+     * @return 응답 수 오름차순 투표 목록
+     */
+    @Query("SELECT v FROM Vote v LEFT JOIN VoteOptionTally t ON t.id.voteId = v.id " +
+            "WHERE v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN " +
+            "AND (:category IS NULL OR v.category = :category) " +
+            "GROUP BY v ORDER BY COALESCE(SUM(t.count), 0) ASC, v.id ASC")
+    List<Vote> findLeastPopularOpenVotes(@Param("category") String category, Pageable pageable);
+
+    /**
+     * 여러 투표의 생성자 이름을 한 번에 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 투표 ID와 생성자 이름 목록 (생성자가 없는 투표는 제외)
+     */
+    @Query("SELECT v.id AS voteId, u.username AS username FROM Vote v JOIN v.user u WHERE v.id IN :voteIds")
+    List<VoteCreatorName> findCreatorNames(@Param("voteIds") Collection<UUID> voteIds);
 }
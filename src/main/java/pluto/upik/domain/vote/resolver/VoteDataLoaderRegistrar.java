@@ -0,0 +1,72 @@
+package pluto.upik.domain.vote.resolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.vote.data.DTO.VoteCreatorName;
+import pluto.upik.domain.vote.data.DTO.VoteStats;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.VoteStatsAssembler;
+import pluto.upik.domain.voteResponse.service.VoteResponseService;
+import pluto.upik.shared.graphql.DataLoaderRegistrar;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 투표 필드용 DataLoader 등록기
+ * 투표 ID를 키로 통계, 참여 여부, 생성자 이름을 요청 단위로 모아 한 번에 조회합니다.
+ * 통계 로더는 선택지 내용(TEXT) 포함 여부에 따라 두 가지로 나뉩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteDataLoaderRegistrar implements DataLoaderRegistrar {
+
+    public static final String VOTE_STATS = "voteStats"; // 선택지 내용 제외
+    public static final String VOTE_STATS_WITH_CONTENT = "voteStatsWithContent";
+    public static final String VOTE_HAS_VOTED = "voteHasVoted";
+    public static final String VOTE_CREATED_BY = "voteCreatedBy";
+
+    // 더미 사용자 ID
+    private static final UUID DUMMY_USER_ID = UUID.fromString("e49207e8-471a-11f0-937c-42010a800003");
+
+    private final VoteStatsAssembler voteStatsAssembler;
+    private final VoteResponseService voteResponseService;
+    private final VoteRepository voteRepository;
+
+    @Override
+    public void registerLoaders(BatchLoaderRegistry registry) {
+        registry.forTypePair(UUID.class, VoteStats.class)
+                .withName(VOTE_STATS)
+                .registerMappedBatchLoader((voteIds, env) ->
+                        Mono.fromCallable(() -> voteStatsAssembler.loadStats(voteIds, false)));
+
+        registry.forTypePair(UUID.class, VoteStats.class)
+                .withName(VOTE_STATS_WITH_CONTENT)
+                .registerMappedBatchLoader((voteIds, env) ->
+                        Mono.fromCallable(() -> voteStatsAssembler.loadStats(voteIds, true)));
+
+        registry.forTypePair(UUID.class, Boolean.class)
+                .withName(VOTE_HAS_VOTED)
+                .registerMappedBatchLoader((voteIds, env) -> Mono.fromCallable(() -> {
+                    // 목 데이터로 더미 사용자 ID 사용
+                    Set<UUID> voted = voteResponseService.getVotedVoteIds(DUMMY_USER_ID, voteIds);
+                    Map<UUID, Boolean> result = new HashMap<>();
+                    voteIds.forEach(voteId -> result.put(voteId, voted.contains(voteId)));
+                    return result;
+                }));
+
+        registry.forTypePair(UUID.class, String.class)
+                .withName(VOTE_CREATED_BY)
+                .registerMappedBatchLoader((voteIds, env) -> Mono.fromCallable(() -> {
+                    Map<UUID, String> result = new HashMap<>();
+                    for (VoteCreatorName row : voteRepository.findCreatorNames(voteIds)) {
+                        result.put(row.getVoteId(), row.getUsername());
+                    }
+                    return result;
+                }));
+    }
+}
@@ -0,0 +1,63 @@
+package pluto.upik.domain.vote.resolver;
+
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
+import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteStats;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 투표 페이로드의 하위 필드 리졸버
+ * 서비스에서 채우지 않은 필드만 DataLoader로 모아 조회하므로,
+ * 목록 조회 시 필드별로 최대 한 번의 배치 조회가 일어나고 선택하지 않은 필드는 조회하지 않습니다.
+ * 선택지의 content가 선택되지 않았으면 선택지 내용 없이 통계만 조회합니다.
+ */
+@Controller
+public class VoteFieldResolver {
+
+    @SchemaMapping(typeName = "VotePayload", field = "options")
+    public CompletableFuture<List<OptionWithStatsPayload>> options(VotePayload vote, DataFetchingEnvironment env) {
+        if (vote.getOptions() != null) {
+            return CompletableFuture.completedFuture(vote.getOptions());
+        }
+        String loaderName = env.getSelectionSet().contains("content")
+                ? VoteDataLoaderRegistrar.VOTE_STATS_WITH_CONTENT
+                : VoteDataLoaderRegistrar.VOTE_STATS;
+        DataLoader<UUID, VoteStats> loader = env.getDataLoader(loaderName);
+        return loader.load(vote.getId()).thenApply(VoteStats::getOptions);
+    }
+
+    @SchemaMapping(typeName = "VotePayload", field = "totalResponses")
+    public CompletableFuture<Integer> totalResponses(VotePayload vote, DataFetchingEnvironment env) {
+        if (vote.getTotalResponses() != null) {
+            return CompletableFuture.completedFuture(vote.getTotalResponses());
+        }
+        DataLoader<UUID, VoteStats> loader = env.getDataLoader(VoteDataLoaderRegistrar.VOTE_STATS);
+        return loader.load(vote.getId()).thenApply(VoteStats::getTotalResponses);
+    }
+
+    @SchemaMapping(typeName = "VotePayload", field = "hasVoted")
+    public CompletableFuture<Boolean> hasVoted(VotePayload vote, DataFetchingEnvironment env) {
+        if (vote.getHasVoted() != null) {
+            return CompletableFuture.completedFuture(vote.getHasVoted());
+        }
+        DataLoader<UUID, Boolean> loader = env.getDataLoader(VoteDataLoaderRegistrar.VOTE_HAS_VOTED);
+        return loader.load(vote.getId()).thenApply(Boolean.TRUE::equals);
+    }
+
+    @SchemaMapping(typeName = "VoteDetailPayload", field = "createdBy")
+    public CompletableFuture<String> createdBy(VoteDetailPayload vote, DataFetchingEnvironment env) {
+        if (vote.getCreatedBy() != null) {
+            return CompletableFuture.completedFuture(vote.getCreatedBy());
+        }
+        DataLoader<UUID, String> loader = env.getDataLoader(VoteDataLoaderRegistrar.VOTE_CREATED_BY);
+        return loader.load(vote.getId());
+    }
+}
@@ -1,12 +1,15 @@
 package pluto.upik.domain.vote.resolver;
 
+import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
+import pluto.upik.domain.vote.data.DTO.VoteConnection;
 import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
 import pluto.upik.domain.vote.service.VoteServiceUpdated;
+import pluto.upik.shared.graphql.FieldSelection;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,27 +24,44 @@ public class VoteQueryResolverUpdated {
     private static final UUID DUMMY_USER_ID = UUID.fromString("e49207e8-471a-11f0-937c-42010a800003");
 
     @SchemaMapping(typeName = "VoteQuery", field = "getAllVotes")
-    public List<VotePayload> getAllVotes() {
-        // 목 데이터로 더미 사용자 ID 사용
-        return voteService.getAllVotes(DUMMY_USER_ID);
+    public List<VotePayload> getAllVotes(DataFetchingFieldSelectionSet selectionSet) {
+        return voteService.getAllVotes(FieldSelection.of(selectionSet));
+    }
+
+    /**
+     * 생성 일시 역순으로 투표 목록을 커서 기반으로 조회합니다.
+     *
+     * @param first 조회할 개수
+     * @param after 이전 페이지의 endCursor
+     * @param category 카테고리 필터
+     * @param status 상태 필터 (OPEN / CLOSED)
+     * @param selectionSet 클라이언트가 선택한 필드 (노드에서 선택된 컬럼만 조회)
+     * @return 투표 커넥션
+     */
+    @SchemaMapping(typeName = "VoteQuery", field = "getVotesConnection")
+    public VoteConnection getVotesConnection(@Argument Integer first, @Argument String after,
+                                             @Argument String category, @Argument String status,
+                                             DataFetchingFieldSelectionSet selectionSet) {
+        return voteService.getVotesConnection(first, after, category, status,
+                FieldSelection.of(selectionSet).under("edges/node"));
     }
 
     @SchemaMapping(typeName = "VoteQuery", field = "getVoteById")
-    public VoteDetailPayload getVoteById(@Argument String id) {
+    public VoteDetailPayload getVoteById(@Argument String id, DataFetchingFieldSelectionSet selectionSet) {
         // 목 데이터로 더미 사용자 ID 사용
-        return voteService.getVoteById(UUID.fromString(id), DUMMY_USER_ID);
+        return voteService.getVoteById(UUID.fromString(id), DUMMY_USER_ID, FieldSelection.of(selectionSet));
     }
 
     @SchemaMapping(typeName = "VoteQuery", field = "getMostPopularOpenVote")
-    public List<VotePayload> getMostPopularOpenVote() {
-        // 인기 있는 투표 3개를 반환
-        return voteService.getMostPopularOpenVote();
+    public List<VotePayload> getMostPopularOpenVote(@Argument Integer limit, @Argument String category) {
+        // 인기 있는 투표 limit개를 반환 (기본 3개)
+        return voteService.getMostPopularOpenVote(limit == null ? 3 : limit, category);
     }
 
     @SchemaMapping(typeName = "VoteQuery", field = "getLeastPopularOpenVote")
-    public VotePayload getLeastPopularOpenVote() {
+    public VotePayload getLeastPopularOpenVote(@Argument String category) {
         // 항상 투표하지 않은 것으로 표시 (VoteService에서 처리)
-        return voteService.getLeastPopularOpenVote();
+        return voteService.getLeastPopularOpenVote(category);
     }
     
     /**
@@ -51,8 +71,8 @@ public class VoteQueryResolverUpdated {
      * @return 현재 사용자가 생성한 투표 목록
      */
     @SchemaMapping(typeName = "VoteQuery", field = "getMyVotes")
-    public List<VotePayload> getMyVotes() {
+    public List<VotePayload> getMyVotes(DataFetchingFieldSelectionSet selectionSet) {
         // 더미 사용자 ID를 사용하여 사용자가 생성한 투표 목록 조회
-        return voteService.getMyVotes();
+        return voteService.getMyVotes(FieldSelection.of(selectionSet));
     }
 }
\ No newline at end of file
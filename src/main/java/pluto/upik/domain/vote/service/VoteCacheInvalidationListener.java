@@ -0,0 +1,46 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.report.event.ReportAccepted;
+import pluto.upik.domain.vote.event.VoteClosed;
+import pluto.upik.domain.voteResponse.service.VoteTallyStore;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+
+import java.util.UUID;
+
+/**
+ * 투표 상태 변경 이벤트로 투표 캐시를 무효화하는 리스너
+ * 커밋 이후에 실행되며(트랜잭션 밖에서 발행되면 즉시), 상태가 바뀐 투표의 메타데이터만 제거합니다.
+ * 무효화는 {@link CacheInvalidationBus}를 거쳐 다른 인스턴스의 캐시에도 전달됩니다.
+ */
+@Component
+@Slf4j
+public class VoteCacheInvalidationListener {
+
+    static final String VOTE_TALLY = "voteTally";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public VoteCacheInvalidationListener(VoteMetadataCache voteMetadataCache,
+                                         VoteTallyStore voteTallyStore,
+                                         CacheInvalidationBus cacheInvalidationBus) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(VoteMetadataCache.CACHE_NAME, key -> voteMetadataCache.invalidate(UUID.fromString(key)));
+        cacheInvalidationBus.register(VOTE_TALLY, key -> voteTallyStore.evict(UUID.fromString(key)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(VoteClosed event) {
+        cacheInvalidationBus.invalidate(VoteMetadataCache.CACHE_NAME, event.voteId().toString());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ReportAccepted event) {
+        cacheInvalidationBus.invalidate(VoteMetadataCache.CACHE_NAME, event.voteId().toString());
+        if (event.voteDeleted()) {
+            cacheInvalidationBus.invalidate(VOTE_TALLY, event.voteId().toString());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package pluto.upik.domain.vote.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.option.data.model.Option;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.repository.VoteRepository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 메타데이터 캐시
+ * 투표와 선택지의 불변 스냅샷을 보관하여 응답 제출과 투표 조회 시 매번 투표/선택지를 조회하지 않도록 합니다.
+ * 투표 상태나 종료일을 바꾸는 곳에서 {@link #invalidate(UUID)}를 호출하며, 만료 시간은 누락에 대비한 안전장치입니다.
+ * 존재하지 않는 투표는 캐시하지 않습니다. 적중/미스 지표는 cache.* 메트릭(cache=voteMetadata)으로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class VoteMetadataCache {
+
+    public static final String CACHE_NAME = "voteMetadata";
+
+    private final VoteRepository voteRepository;
+    private final OptionRepository optionRepository;
+    private final Cache<UUID, VoteMetadata> cache;
+
+    public VoteMetadataCache(VoteRepository voteRepository,
+                             OptionRepository optionRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${vote.metadata-cache.max-size:10000}") long maxSize,
+                             @Value("${vote.metadata-cache.expire-after-write-seconds:600}") long expireSeconds) {
+        this.voteRepository = voteRepository;
+        this.optionRepository = optionRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 투표 메타데이터를 조회합니다. 캐시에 없으면 투표와 선택지를 조회하여 적재합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 투표 메타데이터 (투표가 없으면 empty)
+     */
+    public Optional<VoteMetadata> get(UUID voteId) {
+        return Optional.ofNullable(cache.get(voteId, this::load));
+    }
+
+    /**
+     * 여러 투표의 메타데이터를 조회합니다. 캐시에 없는 투표만 한 번에 적재합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 투표 ID별 메타데이터 (존재하지 않는 투표는 제외)
+     */
+    public Map<UUID, VoteMetadata> getAll(Collection<UUID> voteIds) {
+        if (voteIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return cache.getAll(voteIds, this::loadAll);
+    }
+
+    /**
+     * 투표 메타데이터를 캐시에서 제거합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 제거하여, 커밋 전에 다시 적재된 이전 상태가 남지 않도록 합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void invalidate(UUID voteId) {
+        cache.invalidate(voteId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(voteId);
+                }
+            });
+        }
+        log.debug("투표 메타데이터 무효화 - voteId: {}", voteId);
+    }
+
+    private VoteMetadata load(UUID voteId) {
+        log.debug("투표 메타데이터 적재 - voteId: {}", voteId);
+        return voteRepository.findById(voteId)
+                .map(vote -> VoteMetadata.of(vote, optionRepository.findByVoteId(voteId)))
+                .orElse(null);
+    }
+
+    private Map<UUID, VoteMetadata> loadAll(Set<? extends UUID> voteIds) {
+        log.debug("투표 메타데이터 일괄 적재 - {}건", voteIds.size());
+        List<Vote> votes = voteRepository.findAllById(new ArrayList<>(voteIds));
+        if (votes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<UUID, List<Option>> optionsByVote = optionRepository.findByVoteIdIn(
+                        votes.stream().map(Vote::getId).toList()).stream()
+                .collect(Collectors.groupingBy(option -> option.getVote().getId()));
+
+        Map<UUID, VoteMetadata> loaded = new HashMap<>();
+        for (Vote vote : votes) {
+            loaded.put(vote.getId(), VoteMetadata.of(vote, optionsByVote.getOrDefault(vote.getId(), List.of())));
+        }
+        return loaded;
+    }
+}
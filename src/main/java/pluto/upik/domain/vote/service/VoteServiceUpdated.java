@@ -2,6 +2,10 @@ package pluto.upik.domain.vote.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.option.data.model.Option;
@@ -9,19 +13,28 @@ import pluto.upik.domain.option.repository.OptionRepository;
 import pluto.upik.domain.user.data.model.User;
 import pluto.upik.domain.user.repository.UserRepository;
 import pluto.upik.domain.vote.data.DTO.CreateVoteInput;
-import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VoteConnection;
+import pluto.upik.domain.vote.data.DTO.VoteCursor;
 import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
+import pluto.upik.domain.vote.data.DTO.VoteEdge;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteStats;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
 import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
 import pluto.upik.domain.voteResponse.service.VoteResponseService;
+import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.graphql.FieldSelection;
+import pluto.upik.shared.graphql.ProjectedRow;
+import pluto.upik.shared.graphql.ProjectionMapping;
+import pluto.upik.shared.graphql.SelectionProjector;
+import pluto.upik.shared.pagination.PageInfo;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -33,10 +46,36 @@ public class VoteServiceUpdated {
     private final VoteResponseRepository voteResponseRepository;
     private final UserRepository userRepository;
     private final VoteResponseService voteResponseService;
+    private final VoteStatsAssembler voteStatsAssembler;
+    private final SelectionProjector selectionProjector;
+
+    // 커서 페이지네이션 기본/최대 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 인기 투표 기본/최대 조회 개수
+    private static final int DEFAULT_POPULAR_LIMIT = 3;
+    private static final int MAX_POPULAR_LIMIT = 50;
 
     // 더미 사용자 ID
     private static final UUID DUMMY_USER_ID = UUID.fromString("e49207e8-471a-11f0-937c-42010a800003");
 
+    // VotePayload/VoteDetailPayload 스칼라 필드 → 엔티티 속성 매핑 (question은 title이 선택된 경우에만 조회)
+    private static final ProjectionMapping<Vote> VOTE_MAPPING = ProjectionMapping.builder(Vote.class)
+            .field("id")
+            .field("title", "question")
+            .field("category")
+            .field("finishedAt")
+            .field("status")
+            .field("createdAt")
+            .required("id")
+            .build();
+
+    // 커서 생성에 필요한 컬럼을 항상 포함하는 매핑
+    private static final ProjectionMapping<Vote> VOTE_PAGE_MAPPING = VOTE_MAPPING.withRequired("createdAt");
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     public VotePayload createVote(CreateVoteInput input) {
         // 더미 사용자 조회
         User dummyUser = userRepository.findById(DUMMY_USER_ID)
@@ -69,45 +108,131 @@ public class VoteServiceUpdated {
         return VotePayload.fromEntity(savedVote, savedOptions);
     }
 
+    /**
+     * 모든 투표 목록을 통계와 더미 사용자의 참여 여부를 포함하여 조회합니다.
+     *
+     * @return 통계가 포함된 투표 목록
+     */
     @Transactional(readOnly = true)
     public List<VotePayload> getAllVotes() {
         return getAllVotes(DUMMY_USER_ID);
     }
 
+    /**
+     * 모든 투표 목록을 통계와 사용자의 참여 여부를 포함하여 조회합니다.
+     * GraphQL 외의 호출용이며, 통계와 참여 여부는 모든 투표에 대해 한 번에 배치 조회합니다.
+     *
+     * @param userId 참여 여부를 확인할 사용자 ID
+     * @return 통계가 포함된 투표 목록
+     */
     @Transactional(readOnly = true)
     public List<VotePayload> getAllVotes(UUID userId) {
-        List<Vote> votes = voteRepository.findAll();
-        List<VotePayload> votePayloads = new ArrayList<>();
-
-        for (Vote vote : votes) {
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-            Long totalResponses = voteResponseRepository.countByVoteId(vote.getId());
-            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-            for (Option option : options) {
-                Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-                optionStats.add(new OptionWithStatsPayload(
-                    option.getId(),
-                    option.getContent(),
-                    optionCount.intValue(),
-                    percentage
-                ));
-            }
+        return voteStatsAssembler.toPayloads(voteRepository.findAll(), userId);
+    }
 
-            // 사용자가 이 투표에 참여했는지 확인
-            boolean hasVoted = voteResponseService.hasUserVoted(userId, vote.getId());
+    /**
+     * 모든 투표 목록을 선택된 필드만 조회합니다.
+     * 통계와 참여 여부는 채우지 않으며, 선택된 경우 필드 리졸버에서 배치 조회합니다.
+     *
+     * @param selection GraphQL에서 선택된 필드 목록
+     * @return 투표 목록
+     */
+    @Transactional(readOnly = true)
+    public List<VotePayload> getAllVotes(FieldSelection selection) {
+        return selectionProjector.select(VOTE_MAPPING, selection, null).stream()
+                .map(this::toSummary)
+                .toList();
+    }
 
-            votePayloads.add(VotePayload.fromEntityWithStats(
-                vote,
-                options,
-                optionStats,
-                totalResponses.intValue(),
-                hasVoted
-            ));
+    /**
+     * 생성 일시 역순으로 투표 목록을 커서 기반으로 조회합니다.
+     *
+     * @param first 조회할 개수 (null이면 기본값, 최대 100)
+     * @param after 이전 페이지의 endCursor (null이면 첫 페이지)
+     * @param category 카테고리 필터 (선택)
+     * @param status 상태 필터 (선택)
+     * @return 투표 커넥션
+     */
+    @Transactional(readOnly = true)
+    public VoteConnection getVotesConnection(Integer first, String after, String category, String status) {
+        return getVotesConnection(first, after, category, status, FieldSelection.all());
+    }
+
+    /**
+     * 생성 일시 역순으로 투표 목록을 커서 기반으로 조회합니다.
+     * OFFSET 대신 (created_at, id) 키셋 조건을 사용하므로 페이지 위치와 무관하게 조회 비용이 일정합니다.
+     *
+     * @param first 조회할 개수 (null이면 기본값, 최대 100)
+     * @param after 이전 페이지의 endCursor (null이면 첫 페이지)
+     * @param category 카테고리 필터 (선택)
+     * @param status 상태 필터 (선택)
+     * @param nodeSelection 노드(VotePayload)에서 선택된 필드 목록
+     * @return 투표 커넥션
+     */
+    @Transactional(readOnly = true)
+    public VoteConnection getVotesConnection(Integer first, String after, String category, String status,
+                                             FieldSelection nodeSelection) {
+        int size = first == null ? DEFAULT_PAGE_SIZE : first;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("first는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+        Vote.Status statusFilter = parseStatus(status);
+        VoteCursor cursor = after == null || after.isBlank() ? null : VoteCursor.decode(after);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ProjectedRow> rows = selectionProjector.select(VOTE_PAGE_MAPPING, nodeSelection,
+                pageFilter(category, statusFilter, cursor), NEWEST_FIRST, size + 1);
+
+        boolean hasNextPage = rows.size() > size;
+        List<ProjectedRow> page = hasNextPage ? rows.subList(0, size) : rows;
+        List<VoteEdge> edges = new ArrayList<>(page.size());
+        for (ProjectedRow row : page) {
+            VoteCursor rowCursor = new VoteCursor(row.get("createdAt", LocalDateTime.class), row.get("id", UUID.class));
+            edges.add(new VoteEdge(rowCursor.encode(), toSummary(row)));
         }
 
-        return votePayloads;
+        return VoteConnection.builder()
+                .edges(edges)
+                .pageInfo(PageInfo.builder()
+                        .hasNextPage(hasNextPage)
+                        .endCursor(edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor())
+                        .build())
+                .build();
+    }
+
+    /**
+     * 카테고리/상태 필터와 커서 이후 키셋 조건을 만듭니다.
+     * 조건이 null이면 제외되며, 커서 조건은 (created_at, id) 인덱스를 그대로 사용합니다.
+     */
+    private Specification<Vote> pageFilter(String category, Vote.Status status, VoteCursor cursor) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (category != null) {
+                predicates.add(cb.equal(root.get("category"), category));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (cursor != null) {
+                predicates.add(cb.or(
+                        cb.lessThan(root.<LocalDateTime>get("createdAt"), cursor.createdAt()),
+                        cb.and(
+                                cb.equal(root.get("createdAt"), cursor.createdAt()),
+                                cb.lessThan(root.<UUID>get("id"), cursor.id()))));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private Vote.Status parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return Vote.Status.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("유효하지 않은 투표 상태입니다: " + status);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -117,187 +242,168 @@ public class VoteServiceUpdated {
 
     @Transactional(readOnly = true)
     public VoteDetailPayload getVoteById(UUID voteId, UUID userId) {
-        Vote vote = voteRepository.findById(voteId)
-                .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다: " + voteId));
-
-        List<Option> options = optionRepository.findByVoteId(voteId);
-        Long totalResponses = voteResponseRepository.countByVoteId(voteId);
-
-        List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-        for (Option option : options) {
-            Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
+        return getVoteById(voteId, userId, FieldSelection.all());
+    }
 
-            optionStats.add(new OptionWithStatsPayload(
-                option.getId(),
-                option.getContent(),
-                optionCount.intValue(),
-                percentage
-            ));
+    /**
+     * 투표 상세 정보를 선택된 필드만 조회합니다.
+     * 통계는 options/totalResponses, 참여 여부는 hasVoted가 선택된 경우에만 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @param userId 참여 여부를 확인할 사용자 ID
+     * @param selection GraphQL에서 선택된 필드 목록
+     * @return 투표 상세 정보
+     */
+    @Transactional(readOnly = true)
+    public VoteDetailPayload getVoteById(UUID voteId, UUID userId, FieldSelection selection) {
+        Specification<Vote> byId = (root, query, cb) -> cb.equal(root.get("id"), voteId);
+        ProjectedRow row = selectionProjector.selectOne(VOTE_MAPPING, selection, byId)
+                .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다: " + voteId));
+        VotePayload summary = toSummary(row);
+
+        // createdBy는 필드 리졸버에서 배치 조회
+        VoteDetailPayload.VoteDetailPayloadBuilder builder = VoteDetailPayload.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .category(summary.getCategory())
+                .status(summary.getStatus())
+                .finishedAt(summary.getFinishedAt());
+
+        if (selection.contains("options") || selection.contains("totalResponses")) {
+            VoteStats stats = voteStatsAssembler.loadStats(List.of(voteId), selection.contains("options/content"))
+                    .get(voteId);
+            builder.totalResponses(stats.getTotalResponses())
+                    .options(stats.getOptions());
         }
-
-        String creatorName = null;
-        if (vote.getUser() != null) {
-            User creator = userRepository.findById(vote.getUser().getId())
-                    .orElse(null);
-            if (creator != null) {
-                creatorName = creator.getUsername();
-            }
+        if (selection.contains("hasVoted")) {
+            builder.hasVoted(voteResponseService.getVotedVoteIds(userId, List.of(voteId)).contains(voteId));
         }
-
-        // 사용자가 이 투표에 참여했는지 확인
-        boolean hasVoted = voteResponseService.hasUserVoted(userId, voteId);
-
-        return VoteDetailPayload.builder()
-                .id(vote.getId())
-                .title(vote.getQuestion())
-                .category(vote.getCategory())
-                .status(vote.getStatus().name())
-                .createdBy(creatorName)
-                .finishedAt(vote.getFinishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE))
-                .totalResponses(totalResponses.intValue())
-                .options(optionStats)
-                .hasVoted(hasVoted)
-                .build();
+        return builder.build();
     }
 
-    // 새로 추가하는 메서드: 응답 수가 가장 많은 OPEN 상태 투표 3개 조회
+    /**
+     * 응답 수가 가장 많은 OPEN 상태 투표 3개를 조회합니다.
+     */
     @Transactional(readOnly = true)
     public List<VotePayload> getMostPopularOpenVote() {
-        List<Vote> openVotes = voteRepository.findByStatus(Vote.Status.OPEN);
-        if (openVotes.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        Map<Vote, Long> voteResponseCounts = new HashMap<>();
-        for (Vote vote : openVotes) {
-            Long responseCount = voteResponseRepository.countByVoteId(vote.getId());
-            voteResponseCounts.put(vote, responseCount);
-        }
-
-        // 응답 수가 많은 순으로 정렬
-        List<Map.Entry<Vote, Long>> sortedVotes = voteResponseCounts.entrySet().stream()
-            .sorted(Map.Entry.<Vote, Long>comparingByValue().reversed())
-            .limit(3) // 상위 3개만 선택
-            .collect(Collectors.toList());
-
-        List<VotePayload> result = new ArrayList<>();
-        for (Map.Entry<Vote, Long> entry : sortedVotes) {
-            Vote vote = entry.getKey();
-            Long totalResponses = entry.getValue();
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-
-            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-            for (Option option : options) {
-                Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-                optionStats.add(new OptionWithStatsPayload(
-                    option.getId(),
-                    option.getContent(),
-                    optionCount.intValue(),
-                    percentage
-                ));
-            }
+        return getMostPopularOpenVote(DEFAULT_POPULAR_LIMIT, null);
+    }
 
-            // 요청에 따라 투표하지 않은 것으로 표시
-            result.add(VotePayload.fromEntityWithStats(vote, options, optionStats, totalResponses.intValue(), false));
+    /**
+     * 응답 수가 가장 많은 OPEN 상태 투표를 조회합니다.
+     * 집계 테이블 기준으로 DB에서 정렬하고 상위 K개만 가져옵니다.
+     *
+     * @param limit 조회할 개수 (1 이상 50 이하)
+     * @param category 카테고리 필터 (선택)
+     * @return 응답 수 내림차순 투표 목록
+     */
+    @Transactional(readOnly = true)
+    public List<VotePayload> getMostPopularOpenVote(int limit, String category) {
+        if (limit < 1 || limit > MAX_POPULAR_LIMIT) {
+            throw new BusinessException("limit는 1 이상 " + MAX_POPULAR_LIMIT + " 이하여야 합니다: " + limit);
         }
-
-        return result;
+        List<Vote> topVotes = voteRepository.findMostPopularOpenVotes(category, PageRequest.of(0, limit));
+
+        // 요청에 따라 투표하지 않은 것으로 표시, 통계는 필드 리졸버에서 배치 조회
+        return topVotes.stream()
+                .map(vote -> {
+                    VotePayload payload = VotePayload.summaryOf(vote);
+                    payload.setHasVoted(false);
+                    return payload;
+                })
+                .toList();
     }
 
-    // 새로 추가하는 메서드: 응답 수가 가장 적은 OPEN 상태 투표 조회
+    /**
+     * 응답 수가 가장 적은 OPEN 상태 투표를 조회합니다.
+     */
     @Transactional(readOnly = true)
     public VotePayload getLeastPopularOpenVote() {
-        List<Vote> openVotes = voteRepository.findByStatus(Vote.Status.OPEN);
-        if (openVotes.isEmpty()) {
-            return null;
-        }
-
-        Map<Vote, Long> voteResponseCounts = new HashMap<>();
-        for (Vote vote : openVotes) {
-            Long responseCount = voteResponseRepository.countByVoteId(vote.getId());
-            voteResponseCounts.put(vote, responseCount);
-        }
+        return getLeastPopularOpenVote(null);
+    }
 
-        // 응답 수가 가장 적은 투표 찾기
-        Map.Entry<Vote, Long> leastPopular = Collections.min(
-            voteResponseCounts.entrySet(),
-            Map.Entry.comparingByValue()
-        );
-
-        Vote vote = leastPopular.getKey();
-        Long totalResponses = leastPopular.getValue();
-        List<Option> options = optionRepository.findByVoteId(vote.getId());
-
-        List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-        for (Option option : options) {
-            Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-            optionStats.add(new OptionWithStatsPayload(
-                option.getId(),
-                option.getContent(),
-                optionCount.intValue(),
-                percentage
-            ));
+    /**
+     * 응답 수가 가장 적은 OPEN 상태 투표를 조회합니다.
+     *
+     * @param category 카테고리 필터 (선택)
+     * @return 응답 수가 가장 적은 투표 (없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public VotePayload getLeastPopularOpenVote(String category) {
+        List<Vote> votes = voteRepository.findLeastPopularOpenVotes(category, PageRequest.of(0, 1));
+        if (votes.isEmpty()) {
+            return null;
         }
 
-        // 요청에 따라 투표하지 않은 것으로 표시
-        return VotePayload.fromEntityWithStats(vote, options, optionStats, totalResponses.intValue(), false);
+        // 요청에 따라 투표하지 않은 것으로 표시, 통계는 필드 리졸버에서 배치 조회
+        VotePayload payload = VotePayload.summaryOf(votes.get(0));
+        payload.setHasVoted(false);
+        return payload;
     }
     
     /**
-     * 특정 사용자가 생성한 투표 목록을 조회합니다.
+     * 특정 사용자가 생성한 투표 목록을 통계와 그 사용자의 참여 여부를 포함하여 조회합니다.
+     * GraphQL 외의 호출용이며, 통계와 참여 여부는 모든 투표에 대해 한 번에 배치 조회합니다.
      *
      * @param userId 사용자 ID
-     * @return 사용자가 생성한 투표 목록
+     * @return 통계가 포함된 사용자가 생성한 투표 목록
      */
     @Transactional(readOnly = true)
     public List<VotePayload> getVotesByUserId(UUID userId) {
-        List<Vote> votes = voteRepository.findByUserId(userId);
-        List<VotePayload> votePayloads = new ArrayList<>();
-
-        for (Vote vote : votes) {
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-            Long totalResponses = voteResponseRepository.countByVoteId(vote.getId());
-            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-            for (Option option : options) {
-                Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-                optionStats.add(new OptionWithStatsPayload(
-                    option.getId(),
-                    option.getContent(),
-                    optionCount.intValue(),
-                    percentage
-                ));
-            }
-
-            // 사용자가 이 투표에 참여했는지 확인
-            boolean hasVoted = voteResponseService.hasUserVoted(userId, vote.getId());
-
-            votePayloads.add(VotePayload.fromEntityWithStats(
-                vote,
-                options,
-                optionStats,
-                totalResponses.intValue(),
-                hasVoted
-            ));
-        }
+        return voteStatsAssembler.toPayloads(voteRepository.findByUserId(userId), userId);
+    }
 
-        return votePayloads;
+    /**
+     * 특정 사용자가 생성한 투표 목록을 선택된 필드만 조회합니다.
+     * 통계와 참여 여부는 채우지 않으며, 선택된 경우 필드 리졸버에서 배치 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param selection GraphQL에서 선택된 필드 목록
+     * @return 사용자가 생성한 투표 목록
+     */
+    @Transactional(readOnly = true)
+    public List<VotePayload> getVotesByUserId(UUID userId, FieldSelection selection) {
+        Specification<Vote> byUser = (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+        return selectionProjector.select(VOTE_MAPPING, selection, byUser).stream()
+                .map(this::toSummary)
+                .toList();
     }
 
     /**
-     * 현재 사용자가 생성한 투표 목록을 조회합니다.
+     * 현재 사용자가 생성한 투표 목록을 통계와 참여 여부를 포함하여 조회합니다.
      * 더미 사용자 ID를 사용합니다.
      *
-     * @return 현재 사용자가 생성한 투표 목록
+     * @return 통계가 포함된 현재 사용자가 생성한 투표 목록
      */
     @Transactional(readOnly = true)
     public List<VotePayload> getMyVotes() {
         return getVotesByUserId(DUMMY_USER_ID);
     }
+
+    /**
+     * 현재 사용자가 생성한 투표 목록을 선택된 필드만 조회합니다.
+     *
+     * @param selection GraphQL에서 선택된 필드 목록
+     * @return 현재 사용자가 생성한 투표 목록
+     */
+    @Transactional(readOnly = true)
+    public List<VotePayload> getMyVotes(FieldSelection selection) {
+        return getVotesByUserId(DUMMY_USER_ID, selection);
+    }
+
+    /**
+     * 프로젝션 조회 결과를 통계 없는 VotePayload로 변환합니다.
+     * 조회하지 않은 필드는 비워 두고, 통계와 참여 여부는 필드 리졸버에서 배치 조회합니다.
+     */
+    private VotePayload toSummary(ProjectedRow row) {
+        LocalDate finishedAt = row.get("finishedAt", LocalDate.class);
+        Vote.Status status = row.get("status", Vote.Status.class);
+        return VotePayload.builder()
+                .id(row.get("id", UUID.class))
+                .title(row.get("title", String.class))
+                .category(row.get("category", String.class))
+                .finishedAt(finishedAt != null ? finishedAt.format(DateTimeFormatter.ISO_LOCAL_DATE) : null)
+                .status(status != null ? status.name() : null)
+                .build();
+    }
 }
\ No newline at end of file
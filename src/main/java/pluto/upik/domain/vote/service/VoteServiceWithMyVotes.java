@@ -2,6 +2,7 @@ package pluto.upik.domain.vote.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.option.data.model.Option;
@@ -9,19 +10,18 @@ import pluto.upik.domain.option.repository.OptionRepository;
 import pluto.upik.domain.user.data.model.User;
 import pluto.upik.domain.user.repository.UserRepository;
 import pluto.upik.domain.vote.data.DTO.CreateVoteInput;
-import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
 import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
 import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
 import pluto.upik.domain.voteResponse.service.VoteResponseService;
+import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +34,11 @@ public class VoteServiceWithMyVotes {
     private final VoteResponseRepository voteResponseRepository;
     private final UserRepository userRepository;
     private final VoteResponseService voteResponseService;
+    private final VoteStatsAssembler voteStatsAssembler;
+
+    // 인기 투표 기본/최대 조회 개수
+    private static final int DEFAULT_POPULAR_LIMIT = 3;
+    private static final int MAX_POPULAR_LIMIT = 50;
 
     // 더미 사용자 ID
     private static final UUID DUMMY_USER_ID = UUID.fromString("e49207e8-471a-11f0-937c-42010a800003");
@@ -78,37 +83,7 @@ public class VoteServiceWithMyVotes {
     @Transactional(readOnly = true)
     public List<VotePayload> getAllVotes(UUID userId) {
         List<Vote> votes = voteRepository.findAll();
-        List<VotePayload> votePayloads = new ArrayList<>();
-
-        for (Vote vote : votes) {
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-            Long totalResponses = voteResponseRepository.countByVoteId(vote.getId());
-            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-            for (Option option : options) {
-                Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-                optionStats.add(new OptionWithStatsPayload(
-                    option.getId(),
-                    option.getContent(),
-                    optionCount.intValue(),
-                    percentage
-                ));
-            }
-
-            // 사용자가 이 투표에 참여했는지 확인
-            boolean hasVoted = voteResponseService.hasUserVoted(userId, vote.getId());
-
-            votePayloads.add(VotePayload.fromEntityWithStats(
-                vote,
-                options,
-                optionStats,
-                totalResponses.intValue(),
-                hasVoted
-            ));
-        }
-
-        return votePayloads;
+        return voteStatsAssembler.toPayloads(votes, userId);
     }
 
     @Transactional(readOnly = true)
@@ -121,21 +96,7 @@ public class VoteServiceWithMyVotes {
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다: " + voteId));
 
-        List<Option> options = optionRepository.findByVoteId(voteId);
-        Long totalResponses = voteResponseRepository.countByVoteId(voteId);
-
-        List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-        for (Option option : options) {
-            Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-            optionStats.add(new OptionWithStatsPayload(
-                option.getId(),
-                option.getContent(),
-                optionCount.intValue(),
-                percentage
-            ));
-        }
+        VotePayload stats = voteStatsAssembler.toPayload(vote, userId);
 
         String creatorName = null;
         if (vote.getUser() != null) {
@@ -146,9 +107,6 @@ public class VoteServiceWithMyVotes {
             }
         }
 
-        // 사용자가 이 투표에 참여했는지 확인
-        boolean hasVoted = voteResponseService.hasUserVoted(userId, voteId);
-
         return VoteDetailPayload.builder()
                 .id(vote.getId())
                 .title(vote.getQuestion())
@@ -156,97 +114,62 @@ public class VoteServiceWithMyVotes {
                 .status(vote.getStatus().name())
                 .createdBy(creatorName)
                 .finishedAt(vote.getFinishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE))
-                .totalResponses(totalResponses.intValue())
-                .options(optionStats)
-                .hasVoted(hasVoted)
+                .totalResponses(stats.getTotalResponses())
+                .options(stats.getOptions())
+                .hasVoted(stats.getHasVoted())
                 .build();
     }
 
-    // 새로 추가하는 메서드: 응답 수가 가장 많은 OPEN 상태 투표 3개 조회
+    /**
+     * 응답 수가 가장 많은 OPEN 상태 투표 3개를 조회합니다.
+     */
     @Transactional(readOnly = true)
     public List<VotePayload> getMostPopularOpenVote() {
-        List<Vote> openVotes = voteRepository.findByStatus(Vote.Status.OPEN);
-        if (openVotes.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        Map<Vote, Long> voteResponseCounts = new HashMap<>();
-        for (Vote vote : openVotes) {
-            Long responseCount = voteResponseRepository.countByVoteId(vote.getId());
-            voteResponseCounts.put(vote, responseCount);
-        }
-
-        // 응답 수가 많은 순으로 정렬
-        List<Map.Entry<Vote, Long>> sortedVotes = voteResponseCounts.entrySet().stream()
-            .sorted(Map.Entry.<Vote, Long>comparingByValue().reversed())
-            .limit(3) // 상위 3개만 선택
-            .collect(Collectors.toList());
-
-        List<VotePayload> result = new ArrayList<>();
-        for (Map.Entry<Vote, Long> entry : sortedVotes) {
-            Vote vote = entry.getKey();
-            Long totalResponses = entry.getValue();
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-
-            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-            for (Option option : options) {
-                Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-                optionStats.add(new OptionWithStatsPayload(
-                    option.getId(),
-                    option.getContent(),
-                    optionCount.intValue(),
-                    percentage
-                ));
-            }
+        return getMostPopularOpenVote(DEFAULT_POPULAR_LIMIT, null);
+    }
 
-            // 요청에 따라 투표하지 않은 것으로 표시
-            result.add(VotePayload.fromEntityWithStats(vote, options, optionStats, totalResponses.intValue(), false));
+    /**
+     * 응답 수가 가장 많은 OPEN 상태 투표를 조회합니다.
+     * 집계 테이블 기준으로 DB에서 정렬하고 상위 K개만 가져옵니다.
+     *
+     * @param limit 조회할 개수 (1 이상 50 이하)
+     * @param category 카테고리 필터 (선택)
+     * @return 응답 수 내림차순 투표 목록
+     */
+    @Transactional(readOnly = true)
+    public List<VotePayload> getMostPopularOpenVote(int limit, String category) {
+        if (limit < 1 || limit > MAX_POPULAR_LIMIT) {
+            throw new BusinessException("limit는 1 이상 " + MAX_POPULAR_LIMIT + " 이하여야 합니다: " + limit);
         }
+        List<Vote> topVotes = voteRepository.findMostPopularOpenVotes(category, PageRequest.of(0, limit));
 
-        return result;
+        // 요청에 따라 투표하지 않은 것으로 표시
+        return voteStatsAssembler.toPayloads(topVotes, null);
     }
 
-    // 새로 추가하는 메서드: 응답 수가 가장 적은 OPEN 상태 투표 조회
+    /**
+     * 응답 수가 가장 적은 OPEN 상태 투표를 조회합니다.
+     */
     @Transactional(readOnly = true)
     public VotePayload getLeastPopularOpenVote() {
-        List<Vote> openVotes = voteRepository.findByStatus(Vote.Status.OPEN);
-        if (openVotes.isEmpty()) {
-            return null;
-        }
-
-        Map<Vote, Long> voteResponseCounts = new HashMap<>();
-        for (Vote vote : openVotes) {
-            Long responseCount = voteResponseRepository.countByVoteId(vote.getId());
-            voteResponseCounts.put(vote, responseCount);
-        }
-
-        // 응답 수가 가장 적은 투표 찾기
-        Map.Entry<Vote, Long> leastPopular = Collections.min(
-            voteResponseCounts.entrySet(),
-            Map.Entry.comparingByValue()
-        );
-
-        Vote vote = leastPopular.getKey();
-        Long totalResponses = leastPopular.getValue();
-        List<Option> options = optionRepository.findByVoteId(vote.getId());
-
-        List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-        for (Option option : options) {
-            Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
+        return getLeastPopularOpenVote(null);
+    }
 
-            optionStats.add(new OptionWithStatsPayload(
-                option.getId(),
-                option.getContent(),
-                optionCount.intValue(),
-                percentage
-            ));
+    /**
+     * 응답 수가 가장 적은 OPEN 상태 투표를 조회합니다.
+     *
+     * @param category 카테고리 필터 (선택)
+     * @return 응답 수가 가장 적은 투표 (없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public VotePayload getLeastPopularOpenVote(String category) {
+        List<Vote> votes = voteRepository.findLeastPopularOpenVotes(category, PageRequest.of(0, 1));
+        if (votes.isEmpty()) {
+            return null;
         }
 
         // 요청에 따라 투표하지 않은 것으로 표시
-        return VotePayload.fromEntityWithStats(vote, options, optionStats, totalResponses.intValue(), false);
+        return voteStatsAssembler.toPayload(votes.get(0), null);
     }
     
     /**
@@ -259,37 +182,7 @@ public class VoteServiceWithMyVotes {
     public List<VotePayload> getVotesByUserId(UUID userId) {
         // 사용자가 생성한 투표 목록 조회
         List<Vote> votes = voteRepository.findByUserId(userId);
-        List<VotePayload> votePayloads = new ArrayList<>();
-
-        for (Vote vote : votes) {
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-            Long totalResponses = voteResponseRepository.countByVoteId(vote.getId());
-            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-            for (Option option : options) {
-                Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-                optionStats.add(new OptionWithStatsPayload(
-                    option.getId(),
-                    option.getContent(),
-                    optionCount.intValue(),
-                    percentage
-                ));
-            }
-
-            // 사용자가 이 투표에 참여했는지 확인
-            boolean hasVoted = voteResponseService.hasUserVoted(userId, vote.getId());
-
-            votePayloads.add(VotePayload.fromEntityWithStats(
-                vote,
-                options,
-                optionStats,
-                totalResponses.intValue(),
-                hasVoted
-            ));
-        }
-
-        return votePayloads;
+        return voteStatsAssembler.toPayloads(votes, userId);
     }
 
     /**
@@ -0,0 +1,133 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata.OptionMetadata;
+import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteStats;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.voteResponse.service.VoteResponseService;
+import pluto.upik.domain.voteResponse.service.VoteTallyStore;
+import pluto.upik.domain.voteResponse.service.VoteTallyStore.VoteTally;
+
+import java.util.*;
+
+/**
+ * 투표 목록에 통계 정보를 채워 VotePayload로 변환하는 컴포넌트
+ * 선택지는 {@link VoteMetadataCache}에서, 응답 수는 {@link VoteTallyStore}의 인메모리 집계에서 읽고,
+ * 참여 여부 확인은 투표 수와 무관하게 최대 한 번의 쿼리로 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteStatsAssembler {
+
+    private final VoteMetadataCache voteMetadataCache;
+    private final VoteResponseService voteResponseService;
+    private final VoteTallyStore voteTallyStore;
+
+    /**
+     * 투표 목록을 통계가 포함된 VotePayload 목록으로 변환합니다.
+     *
+     * @param votes 변환할 투표 목록 (순서 유지)
+     * @param userId 참여 여부를 확인할 사용자 ID (null이면 모두 미참여로 표시)
+     * @return 통계가 포함된 투표 목록
+     */
+    public List<VotePayload> toPayloads(List<Vote> votes, UUID userId) {
+        if (votes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<UUID> voteIds = votes.stream().map(Vote::getId).toList();
+        Map<UUID, VoteStats> statsByVote = loadStats(voteIds);
+
+        // 사용자가 참여한 투표 ID를 한 번에 조회 (사용자별 캐시 우선)
+        Set<UUID> votedVoteIds = userId == null
+                ? Collections.emptySet()
+                : voteResponseService.getVotedVoteIds(userId, voteIds);
+
+        List<VotePayload> payloads = new ArrayList<>(votes.size());
+        for (Vote vote : votes) {
+            VoteStats stats = statsByVote.get(vote.getId());
+            VotePayload payload = VotePayload.summaryOf(vote);
+            payload.setTotalResponses(stats.getTotalResponses());
+            payload.setOptions(stats.getOptions());
+            payload.setHasVoted(votedVoteIds.contains(vote.getId()));
+            payloads.add(payload);
+        }
+        return payloads;
+    }
+
+    /**
+     * 여러 투표의 응답 통계를 선택지 내용을 포함하여 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 투표 ID별 통계 (요청한 모든 ID 포함)
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, VoteStats> loadStats(Collection<UUID> voteIds) {
+        return loadStats(voteIds, true);
+    }
+
+    /**
+     * 여러 투표의 응답 통계를 조회합니다.
+     * 선택지는 투표 메타데이터 캐시(미적재 투표는 한 번에 적재)에서, 응답 수는 인메모리 집계에서 읽습니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @param withContent 선택지 내용 포함 여부 (false이면 content는 비워 둠)
+     * @return 투표 ID별 통계 (요청한 모든 ID 포함)
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, VoteStats> loadStats(Collection<UUID> voteIds, boolean withContent) {
+        if (voteIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // 1. 모든 투표의 선택지를 메타데이터 캐시에서 조회
+        Map<UUID, VoteMetadata> metadataByVote = voteMetadataCache.getAll(voteIds);
+
+        // 2. 선택지별 응답 수를 인메모리 집계에서 조회 (미적재 투표는 한 번의 쿼리로 적재)
+        Map<UUID, VoteTally> tallies = voteTallyStore.getTallies(voteIds);
+
+        Map<UUID, VoteStats> statsByVote = new HashMap<>();
+        for (UUID voteId : voteIds) {
+            VoteMetadata metadata = metadataByVote.get(voteId);
+            List<OptionMetadata> options = metadata != null ? metadata.options() : Collections.emptyList();
+            VoteTally tally = tallies.get(voteId);
+            long totalResponses = tally.getTotal();
+            statsByVote.put(voteId, new VoteStats((int) totalResponses,
+                    toOptionStats(options, tally, totalResponses, withContent)));
+        }
+        return statsByVote;
+    }
+
+    /**
+     * 단일 투표를 통계가 포함된 VotePayload로 변환합니다.
+     *
+     * @param vote 변환할 투표
+     * @param userId 참여 여부를 확인할 사용자 ID (null이면 미참여로 표시)
+     * @return 통계가 포함된 투표
+     */
+    public VotePayload toPayload(Vote vote, UUID userId) {
+        return toPayloads(List.of(vote), userId).get(0);
+    }
+
+    private List<OptionWithStatsPayload> toOptionStats(List<OptionMetadata> options, VoteTally tally,
+                                                       long totalResponses, boolean withContent) {
+        List<OptionWithStatsPayload> optionStats = new ArrayList<>(options.size());
+        for (OptionMetadata option : options) {
+            long optionCount = tally.getOptionCount(option.id());
+            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
+
+            optionStats.add(new OptionWithStatsPayload(
+                    option.id(),
+                    withContent ? option.content() : null,
+                    (int) optionCount,
+                    percentage
+            ));
+        }
+        return optionStats;
+    }
+}
@@ -0,0 +1,37 @@
+package pluto.upik.domain.voteResponse.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.voteResponse.service.VoteOptionTallyService;
+
+/**
+ * vote_option_tally 집계 테이블 재계산 실행기
+ * 기동 시 집계 테이블이 비어 있으면(처음 도입했거나 새로 만든 DB) 기존 vote_response 데이터로 채웁니다.
+ * vote.tally.backfill=true로 기동하면 비어 있지 않아도 전체를 다시 계산합니다.
+ */
+@Component
+@Slf4j
+public class VoteOptionTallyBackfillRunner implements ApplicationRunner {
+
+    private final VoteOptionTallyService voteOptionTallyService;
+    private final boolean forceBackfill;
+
+    public VoteOptionTallyBackfillRunner(VoteOptionTallyService voteOptionTallyService,
+                                         @Value("${vote.tally.backfill:false}") boolean forceBackfill) {
+        this.voteOptionTallyService = voteOptionTallyService;
+        this.forceBackfill = forceBackfill;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (forceBackfill) {
+            log.info("투표 집계 테이블 재계산 시작");
+            voteOptionTallyService.backfill();
+            return;
+        }
+        voteOptionTallyService.backfillIfEmpty();
+    }
+}
@@ -1,9 +1,13 @@
 package pluto.upik.domain.voteResponse.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
 import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmissionAck;
+import pluto.upik.domain.voteResponse.service.VoteResponseIdempotencyCache;
+import pluto.upik.domain.voteResponse.service.VoteResponseIngestionService;
 import pluto.upik.domain.voteResponse.service.VoteResponseService;
 
 import java.util.UUID;
@@ -13,6 +17,8 @@ import java.util.UUID;
 public class VoteResponseApplication {
 
     private final VoteResponseService voteResponseService;
+    private final ObjectProvider<VoteResponseIngestionService> voteResponseIngestionService;
+    private final VoteResponseIdempotencyCache voteResponseIdempotencyCache;
     // VoteResponseApplication.java에 추가할 메서드
     public Boolean hasUserVoted(UUID userId, UUID voteId) {
         return voteResponseService.hasUserVoted(userId, voteId);
@@ -22,6 +28,31 @@ public class VoteResponseApplication {
         return voteResponseService.createVoteResponse(input, userId);
     }
 
+    /**
+     * 투표 응답을 생성합니다. 멱등성 키가 있으면 같은 키의 재요청에 처음 생성된 응답을 반환합니다.
+     * 같은 키를 다른 투표/선택지로 다시 보내면 거부합니다.
+     */
+    public VoteResponsePayload createVoteResponse(CreateVoteResponseInput input, UUID userId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return voteResponseService.createVoteResponse(input, userId);
+        }
+        return voteResponseIdempotencyCache.getOrCreate(userId, idempotencyKey, input.getVoteId(), input.getOptionId(),
+                () -> voteResponseService.createVoteResponse(input, userId));
+    }
+
+    /**
+     * 투표 응답을 제출하고 접수 결과를 반환합니다.
+     * 비동기 수집 모드(vote.ingestion.mode=async)에서는 큐에 넣고 바로 반환하며,
+     * 그 외에는 동기적으로 저장한 뒤 저장된 응답 ID로 접수 결과를 만듭니다.
+     */
+    public VoteSubmissionAck submitVoteResponse(CreateVoteResponseInput input, UUID userId) {
+        VoteResponseIngestionService ingestionService = voteResponseIngestionService.getIfAvailable();
+        if (ingestionService != null) {
+            return ingestionService.submit(input, userId);
+        }
+        return VoteSubmissionAck.accepted(voteResponseService.createVoteResponse(input, userId).getId());
+    }
+
     public Long getVoteResponseCount(UUID voteId) {
         return voteResponseService.getVoteResponseCount(voteId);
     }
@@ -0,0 +1,146 @@
+package pluto.upik.domain.voteResponse.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.voteResponse.data.model.VoteResponse;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * vote_response (user_id, vote_id) 유니크 인덱스 마이그레이션
+ * 사용자당 투표 1회 응답은 이 인덱스의 중복 키 오류로만 판단하므로(동기 기록의 중복 참여 오류, 비동기 기록의 ON DUPLICATE KEY),
+ * 기존 DB에 인덱스가 없으면 기동 중(웹 요청을 받기 전)에 만듭니다.
+ * 인덱스를 만들기 전에 이미 쌓인 중복 응답은 사용자/투표별로 ID가 가장 작은 응답만 남기고 삭제하며,
+ * 삭제한 응답만큼 vote_option_tally의 응답 수도 줄입니다 (집계 테이블이 비어 있으면 이후 재계산으로 채워짐).
+ * 여러 인스턴스가 동시에 기동해도 한 번만 적용되도록 MariaDB 이름 잠금(GET_LOCK) 안에서 인덱스 유무를 다시 확인합니다.
+ * 인덱스가 이미 있으면 information_schema 조회 한 번으로 끝납니다.
+ */
+@Component
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+@Slf4j
+public class VoteResponseUniqueKeyMigration implements InitializingBean {
+
+    private static final String LOCK_NAME = "vote_response_unique_key_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 300;
+    // 정리와 인덱스 생성 사이에 이전 버전 인스턴스가 중복 응답을 넣으면 다시 정리 (배포 중 인스턴스가 섞여 있는 경우)
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int DUPLICATE_ENTRY_ERROR_CODE = 1062;
+
+    private static final String INDEX_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'vote_response' AND index_name = ?";
+
+    // 같은 (user_id, vote_id)에 ID가 더 작은 응답이 있는 응답이 삭제 대상
+    private static final String SUBTRACT_DUPLICATES_FROM_TALLY =
+            "UPDATE vote_option_tally t JOIN (" +
+            "  SELECT r1.vote_id, r1.option_id, COUNT(*) AS extra FROM vote_response r1" +
+            "  WHERE EXISTS (SELECT 1 FROM vote_response r2" +
+            "                WHERE r2.user_id = r1.user_id AND r2.vote_id = r1.vote_id AND r2.id < r1.id)" +
+            "  GROUP BY r1.vote_id, r1.option_id" +
+            ") d ON d.vote_id = t.vote_id AND d.option_id = t.option_id " +
+            "SET t.`count` = GREATEST(t.`count` - d.extra, 0)";
+
+    private static final String DELETE_DUPLICATES =
+            "DELETE r1 FROM vote_response r1 JOIN vote_response r2 " +
+            "ON r2.user_id = r1.user_id AND r2.vote_id = r1.vote_id AND r2.id < r1.id";
+
+    private static final String CREATE_INDEX =
+            "CREATE UNIQUE INDEX IF NOT EXISTS " + VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT +
+            " ON vote_response (user_id, vote_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (indexExists()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!acquireLock(connection)) {
+                throw new IllegalStateException("vote_response 유니크 인덱스 마이그레이션 잠금을 얻지 못했습니다.");
+            }
+            try {
+                if (!indexExists(connection)) {
+                    migrate(connection);
+                }
+            } finally {
+                releaseLock(connection);
+            }
+            return null;
+        });
+    }
+
+    private void migrate(Connection connection) throws SQLException {
+        for (int attempt = 1; ; attempt++) {
+            removeDuplicates(connection);
+            // DDL은 암묵적으로 커밋되므로 정리 트랜잭션이 끝난 뒤 실행
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_INDEX);
+                log.info("vote_response 유니크 인덱스 생성 완료 - {}", VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT);
+                return;
+            } catch (SQLException e) {
+                if (e.getErrorCode() != DUPLICATE_ENTRY_ERROR_CODE || attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("유니크 인덱스 생성 중 새 중복 응답 발견, 다시 정리합니다 - 시도: {}회", attempt);
+            }
+        }
+    }
+
+    private void removeDuplicates(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            int adjusted = statement.executeUpdate(SUBTRACT_DUPLICATES_FROM_TALLY);
+            int deleted = statement.executeUpdate(DELETE_DUPLICATES);
+            connection.commit();
+            log.info("중복 투표 응답 정리 - 삭제: {}건, 보정한 집계 행: {}건", deleted, adjusted);
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private boolean indexExists() {
+        Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS, Integer.class, VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT);
+        return count != null && count > 0;
+    }
+
+    private boolean indexExists(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INDEX_EXISTS)) {
+            statement.setString(1, VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) > 0;
+            }
+        }
+    }
+
+    private boolean acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.execute();
+        }
+    }
+}
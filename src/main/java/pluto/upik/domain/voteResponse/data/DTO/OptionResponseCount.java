@@ -0,0 +1,25 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+import java.util.UUID;
+
+/**
+ * 투표/선택지별 응답 수 집계 프로젝션
+ * vote_response를 (vote_id, option_id)로 GROUP BY 한 결과 한 행을 표현합니다.
+ */
+public interface OptionResponseCount {
+
+    /**
+     * 투표 ID
+     */
+    UUID getVoteId();
+
+    /**
+     * 선택지 ID
+     */
+    UUID getOptionId();
+
+    /**
+     * 해당 선택지의 응답 수
+     */
+    Long getResponseCount();
+}
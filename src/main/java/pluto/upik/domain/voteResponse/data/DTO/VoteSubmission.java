@@ -0,0 +1,17 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 비동기 수집 큐에 들어가는 투표 응답
+ * 검증을 마친 응답으로, 일괄 기록 시 id가 vote_response의 기본 키가 됩니다.
+ *
+ * @param id 투표 응답 ID
+ * @param userId 응답한 사용자 ID
+ * @param voteId 투표 ID
+ * @param optionId 선택한 옵션 ID
+ * @param createdAt 생성 일자
+ */
+public record VoteSubmission(UUID id, UUID userId, UUID voteId, UUID optionId, LocalDate createdAt) {
+}
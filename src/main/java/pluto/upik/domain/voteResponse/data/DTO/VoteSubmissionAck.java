@@ -0,0 +1,32 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteSubmissionAck {
+    private UUID submissionId; // 접수된 경우 투표 응답 ID
+    private VoteSubmissionStatus status;
+    private Long retryAfterMs; // 거절된 경우 재시도까지 대기 시간
+
+    public static VoteSubmissionAck accepted(UUID submissionId) {
+        return VoteSubmissionAck.builder()
+                .submissionId(submissionId)
+                .status(VoteSubmissionStatus.ACCEPTED)
+                .build();
+    }
+
+    public static VoteSubmissionAck rejected(long retryAfterMs) {
+        return VoteSubmissionAck.builder()
+                .status(VoteSubmissionStatus.REJECTED)
+                .retryAfterMs(retryAfterMs)
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+/**
+ * 투표 응답 제출 결과 상태
+ */
+public enum VoteSubmissionStatus {
+    ACCEPTED, // 접수됨 (비동기 모드에서는 큐에 들어간 상태)
+    REJECTED  // 큐가 가득 차 접수하지 못함, retryAfterMs 이후 재시도
+}
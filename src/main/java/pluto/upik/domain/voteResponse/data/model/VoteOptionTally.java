@@ -0,0 +1,37 @@
+package pluto.upik.domain.voteResponse.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 투표 선택지별 응답 수 집계 엔티티
+ * vote_response 삽입과 같은 트랜잭션에서 증가하여 COUNT 쿼리 없이 통계를 제공합니다.
+ */
+@Entity
+@Table(name = "vote_option_tally")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class VoteOptionTally {
+
+    /**
+     * 복합 키 (투표 ID + 선택지 ID)
+     */
+    @EmbeddedId
+    private VoteOptionTallyId id;
+
+    /**
+     * 응답 수
+     */
+    @Column(name = "`count`", nullable = false)
+    private long count;
+}
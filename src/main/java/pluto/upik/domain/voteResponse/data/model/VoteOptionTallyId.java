@@ -0,0 +1,38 @@
+package pluto.upik.domain.voteResponse.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * 투표 선택지별 응답 수 집계의 복합 키 클래스
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@ToString
+@Embeddable
+public class VoteOptionTallyId implements Serializable {
+
+    /**
+     * 투표 ID
+     */
+    @Column(name = "vote_id", nullable = false, columnDefinition = "uuid")
+    private UUID voteId;
+
+    /**
+     * 선택지 ID
+     */
+    @Column(name = "option_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID optionId;
+}
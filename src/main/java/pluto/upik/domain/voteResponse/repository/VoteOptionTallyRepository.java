@@ -0,0 +1,75 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTallyId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 투표 선택지별 응답 수 집계 레포지토리
+ */
+@Repository
+public interface VoteOptionTallyRepository extends JpaRepository<VoteOptionTally, VoteOptionTallyId> {
+
+    /**
+     * 여러 투표의 선택지별 응답 수를 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 선택지별 응답 수 목록
+     */
+    List<VoteOptionTally> findByIdVoteIdIn(Collection<UUID> voteIds);
+
+    /**
+     * 선택지의 응답 수를 원자적으로 delta만큼 증가시킵니다.
+     * 집계 행이 없으면 delta로 생성합니다.
+     *
+     * @param voteId 투표 ID
+     * @param optionId 선택지 ID
+     * @param delta 증가시킬 응답 수
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO vote_option_tally (vote_id, option_id, `count`) " +
+            "VALUES (:voteId, :optionId, :delta) " +
+            "ON DUPLICATE KEY UPDATE `count` = `count` + VALUES(`count`)", nativeQuery = true)
+    int incrementBy(@Param("voteId") UUID voteId, @Param("optionId") UUID optionId, @Param("delta") long delta);
+
+    /**
+     * 투표의 모든 집계 행을 삭제합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM VoteOptionTally t WHERE t.id.voteId = :voteId")
+    int deleteByVoteId(@Param("voteId") UUID voteId);
+
+    /**
+     * 집계 행이 하나라도 있는지 확인합니다. 테이블 전체를 세지 않고 첫 행만 확인합니다.
+     *
+     * @return 행이 있으면 1, 없으면 0
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM vote_option_tally)", nativeQuery = true)
+    int existsAnyRow();
+
+    /**
+     * vote_response로부터 모든 선택지의 응답 수를 다시 계산하여 저장합니다.
+     * 응답이 없는 선택지도 0으로 생성됩니다.
+     *
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO vote_option_tally (vote_id, option_id, `count`) " +
+            "SELECT o.vote_id, o.id, COUNT(vr.id) FROM `option` o " +
+            "LEFT JOIN vote_response vr ON vr.option_id = o.id " +
+            "GROUP BY o.vote_id, o.id " +
+            "ON DUPLICATE KEY UPDATE `count` = VALUES(`count`)", nativeQuery = true)
+    int backfillFromResponses();
+}
@@ -0,0 +1,68 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmission;
+
+import java.util.*;
+
+/**
+ * vote_response 일괄 기록용 JDBC 저장소
+ * 엔티티를 거치지 않고 여러 응답을 하나의 다중 행 INSERT로 기록합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteResponseJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO vote_response (id, user_id, vote_id, option_id, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    // 중복 응답은 기존 행을 그대로 두고 넘어가며, 참조 무결성 등 다른 제약 위반은 오류로 남김
+    private static final String ON_DUPLICATE_SKIP = " ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 응답을 하나의 다중 행 INSERT로 기록합니다.
+     * (user_id, vote_id) 유니크 제약에 걸리는 중복 응답은 오류 없이 건너뛰지만, 참조 무결성 등 다른 제약을 위반하는 행이 있으면
+     * 문장 전체가 실패합니다 (INSERT IGNORE와 달리 위반을 조용히 버리지 않음).
+     * 드라이버 설정에 따라 건너뛴 중복 행도 영향받은 행으로 셀 수 있으므로, 실제로 기록된 응답은 {@link #findExistingIds}로 확인합니다.
+     *
+     * @param submissions 기록할 응답 목록
+     * @throws org.springframework.dao.DataIntegrityViolationException 중복 외의 제약을 위반하는 행이 있을 경우
+     */
+    public void insertSkippingDuplicates(List<VoteSubmission> submissions) {
+        if (submissions.isEmpty()) {
+            return;
+        }
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(submissions.size(), ROW_PLACEHOLDER))
+                + ON_DUPLICATE_SKIP;
+        Object[] args = new Object[submissions.size() * 5];
+        int i = 0;
+        for (VoteSubmission submission : submissions) {
+            args[i++] = submission.id();
+            args[i++] = submission.userId();
+            args[i++] = submission.voteId();
+            args[i++] = submission.optionId();
+            args[i++] = submission.createdAt();
+        }
+        jdbcTemplate.update(sql, args);
+    }
+
+    /**
+     * 주어진 ID 중 vote_response에 존재하는 ID를 조회합니다.
+     *
+     * @param ids 확인할 투표 응답 ID 목록
+     * @return 존재하는 ID 집합
+     */
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String sql = "SELECT id FROM vote_response WHERE id IN ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+        return new HashSet<>(jdbcTemplate.query(sql,
+                (rs, rowNum) -> UUID.fromString(rs.getString(1)), ids.toArray()));
+    }
+}
@@ -4,8 +4,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import pluto.upik.domain.voteResponse.data.DTO.OptionResponseCount;
 import pluto.upik.domain.voteResponse.data.model.VoteResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +27,16 @@ public interface VoteResponseRepository extends JpaRepository<VoteResponse, Long
     @Query("SELECT vr FROM VoteResponse vr WHERE vr.user.id = :userId AND vr.vote.id = :voteId")
     Optional<VoteResponse> findByUserIdAndVoteId(@Param("userId") UUID userId, @Param("voteId") UUID voteId);
 
+    /**
+     * 특정 사용자가 특정 투표에 응답했는지 엔티티 조회 없이 확인합니다.
+     *
+     * @param userId 사용자 ID
+     * @param voteId 투표 ID
+     * @return 응답 여부
+     */
+    @Query("SELECT COUNT(vr) > 0 FROM VoteResponse vr WHERE vr.user.id = :userId AND vr.vote.id = :voteId")
+    boolean existsByUserIdAndVoteId(@Param("userId") UUID userId, @Param("voteId") UUID voteId);
+
     // 특정 투표의 총 응답 수
     @Query("SELECT COUNT(vr) FROM VoteResponse vr WHERE vr.vote.id = :voteId")
     Long countByVoteId(@Param("voteId") UUID voteId);
@@ -32,4 +44,26 @@ public interface VoteResponseRepository extends JpaRepository<VoteResponse, Long
     // 특정 옵션의 응답 수
     @Query("SELECT COUNT(vr) FROM VoteResponse vr WHERE vr.selectedOption.id = :optionId")
     Long countByOptionId(@Param("optionId") UUID optionId);
+
+    /**
+     * 여러 투표의 선택지별 응답 수를 한 번의 GROUP BY 쿼리로 집계합니다.
+     *
+     * @param voteIds 집계할 투표 ID 목록
+     * @return (투표 ID, 선택지 ID, 응답 수) 목록
+     */
+    @Query("SELECT vr.vote.id AS voteId, vr.selectedOption.id AS optionId, COUNT(vr) AS responseCount " +
+            "FROM VoteResponse vr WHERE vr.vote.id IN :voteIds " +
+            "GROUP BY vr.vote.id, vr.selectedOption.id")
+    List<OptionResponseCount> countGroupedByOption(@Param("voteIds") Collection<UUID> voteIds);
+
+    /**
+     * 주어진 투표들 중 사용자가 참여한 투표 ID만 조회합니다.
+     * 엔티티를 로딩하지 않고 ID만 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param voteIds 확인할 투표 ID 목록
+     * @return 사용자가 참여한 투표 ID 목록
+     */
+    @Query("SELECT vr.vote.id FROM VoteResponse vr WHERE vr.user.id = :userId AND vr.vote.id IN :voteIds")
+    List<UUID> findVotedVoteIds(@Param("userId") UUID userId, @Param("voteIds") Collection<UUID> voteIds);
 }
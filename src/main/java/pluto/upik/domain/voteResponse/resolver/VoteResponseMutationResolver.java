@@ -2,6 +2,7 @@ package pluto.upik.domain.voteResponse.resolver;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.ContextValue;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,6 +10,8 @@ import org.springframework.stereotype.Controller;
 import pluto.upik.domain.voteResponse.application.VoteResponseApplication;
 import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
 import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmissionAck;
+import pluto.upik.shared.graphql.IdempotencyKeyInterceptor;
 
 import java.util.UUID;
 
@@ -19,11 +22,21 @@ public class VoteResponseMutationResolver {
     private final VoteResponseApplication voteResponseApplication;
 
     @SchemaMapping(typeName = "VoteResponseMutation", field = "createVoteResponse")
-    public VoteResponsePayload createVoteResponse(@Argument CreateVoteResponseInput input) {
+    public VoteResponsePayload createVoteResponse(
+            @Argument CreateVoteResponseInput input,
+            @ContextValue(name = IdempotencyKeyInterceptor.IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
         // 목 데이터로 더미 사용자 ID 사용
         UUID dummyUserId = UUID.fromString("e49207e8-471a-11f0-937c-42010a800003");
 
-        return voteResponseApplication.createVoteResponse(input, dummyUserId);
+        return voteResponseApplication.createVoteResponse(input, dummyUserId, idempotencyKey);
+    }
+
+    @SchemaMapping(typeName = "VoteResponseMutation", field = "submitVoteResponse")
+    public VoteSubmissionAck submitVoteResponse(@Argument CreateVoteResponseInput input) {
+        // 목 데이터로 더미 사용자 ID 사용
+        UUID dummyUserId = UUID.fromString("e49207e8-471a-11f0-937c-42010a800003");
+
+        return voteResponseApplication.submitVoteResponse(input, dummyUserId);
     }
 
     private UUID extractUserIdFromAuthentication(Authentication authentication) {
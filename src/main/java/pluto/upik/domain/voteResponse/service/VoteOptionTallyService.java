@@ -0,0 +1,99 @@
+package pluto.upik.domain.voteResponse.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+import pluto.upik.domain.voteResponse.repository.VoteOptionTallyRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * vote_option_tally 집계 테이블을 관리하는 서비스
+ * 집계 변경은 호출한 쪽의 트랜잭션에 참여하여 vote_response 변경과 함께 커밋되거나 롤백됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteOptionTallyService {
+
+    private final VoteOptionTallyRepository voteOptionTallyRepository;
+
+    /**
+     * 선택지의 응답 수를 1 증가시킵니다.
+     * 집계 행이 아직 없으면 1로 생성하며, 한 번의 INSERT ... ON DUPLICATE KEY UPDATE로 처리하므로
+     * 같은 선택지의 첫 응답이 동시에 들어와도 기본 키 중복 오류가 나지 않습니다.
+     *
+     * @param voteId 투표 ID
+     * @param optionId 선택지 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment(UUID voteId, UUID optionId) {
+        voteOptionTallyRepository.incrementBy(voteId, optionId, 1);
+    }
+
+    /**
+     * 선택지의 응답 수를 delta만큼 증가시킵니다.
+     * 일괄 기록된 응답을 (투표, 선택지)별로 모아 한 번에 반영할 때 사용합니다.
+     *
+     * @param voteId 투표 ID
+     * @param optionId 선택지 ID
+     * @param delta 증가시킬 응답 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void incrementBy(UUID voteId, UUID optionId, long delta) {
+        voteOptionTallyRepository.incrementBy(voteId, optionId, delta);
+    }
+
+    /**
+     * 투표의 집계를 모두 제거합니다. 투표 응답이 일괄 삭제될 때 호출합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteByVoteId(UUID voteId) {
+        voteOptionTallyRepository.deleteByVoteId(voteId);
+    }
+
+    /**
+     * 여러 투표의 선택지별 응답 수를 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 선택지별 응답 수 목록
+     */
+    @Transactional(readOnly = true)
+    public List<VoteOptionTally> getTallies(Collection<UUID> voteIds) {
+        return voteOptionTallyRepository.findByIdVoteIdIn(voteIds);
+    }
+
+    /**
+     * 집계 테이블이 비어 있으면 vote_response 전체를 기준으로 채웁니다.
+     * 집계 테이블을 처음 도입한 뒤 기존 투표의 응답 수가 0으로 보이지 않도록 기동 시 호출합니다.
+     *
+     * @return 영향받은 행 수 (이미 채워져 있으면 0)
+     */
+    @Transactional
+    public int backfillIfEmpty() {
+        if (voteOptionTallyRepository.existsAnyRow() != 0) {
+            return 0;
+        }
+        log.info("투표 집계 테이블이 비어 있어 재계산합니다.");
+        return backfill();
+    }
+
+    /**
+     * vote_response 전체를 기준으로 집계 테이블을 다시 계산합니다.
+     *
+     * @return 영향받은 행 수
+     */
+    @Transactional
+    public int backfill() {
+        int affected = voteOptionTallyRepository.backfillFromResponses();
+        log.info("투표 집계 테이블 재계산 완료 - 영향받은 행: {}", affected);
+        return affected;
+    }
+}
@@ -0,0 +1,91 @@
+package pluto.upik.domain.voteResponse.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmission;
+import pluto.upik.domain.voteResponse.repository.VoteResponseJdbcRepository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 큐에 모인 투표 응답을 일괄 기록하는 서비스
+ * 응답은 하나의 다중 행 INSERT로 기록하고, 집계 테이블은 (투표, 선택지)별로 합산하여 한 번씩만 갱신합니다.
+ * 중복 응답은 (user_id, vote_id) 유니크 제약으로 걸러지며, 실제로 기록된 응답만 집계와 캐시에 반영합니다.
+ * 삭제된 투표/선택지/사용자를 참조하는 등 중복 외의 제약을 위반하는 응답이 있으면 그 배치만 한 건씩 다시 기록하여,
+ * 위반한 응답만 원인과 함께 기록하지 않고 나머지는 기록합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteResponseBatchWriter {
+
+    private final VoteResponseJdbcRepository voteResponseJdbcRepository;
+    private final VoteOptionTallyService voteOptionTallyService;
+    private final VoteTallyStore voteTallyStore;
+    private final VotedVoteCache votedVoteCache;
+
+    /**
+     * 투표 응답을 일괄 기록합니다.
+     *
+     * @param submissions 기록할 응답 목록
+     * @return 실제로 기록된 응답 목록 (중복 등으로 건너뛴 응답 제외)
+     */
+    @Transactional
+    public List<VoteSubmission> write(List<VoteSubmission> submissions) {
+        if (submissions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<VoteSubmission> candidates = submissions;
+        try {
+            voteResponseJdbcRepository.insertSkippingDuplicates(submissions);
+        } catch (DataIntegrityViolationException e) {
+            // 실패한 문장은 전체가 취소되므로, 위반한 응답을 찾기 위해 한 건씩 다시 기록
+            candidates = insertOneByOne(submissions);
+        }
+        // 중복으로 건너뛴 응답은 새 ID가 기록되지 않으므로, 기록된 ID로 실제 기록 여부를 확인
+        Set<UUID> existing = voteResponseJdbcRepository.findExistingIds(
+                candidates.stream().map(VoteSubmission::id).toList());
+        List<VoteSubmission> written = candidates.stream()
+                .filter(submission -> existing.contains(submission.id()))
+                .toList();
+
+        // (투표, 선택지)별로 합산하여 집계 테이블 갱신
+        Map<List<UUID>, Long> counts = written.stream()
+                .collect(Collectors.groupingBy(
+                        submission -> List.of(submission.voteId(), submission.optionId()),
+                        Collectors.counting()));
+        counts.forEach((key, count) -> voteOptionTallyService.incrementBy(key.get(0), key.get(1), count));
+
+        // 커밋 이후 인메모리 집계와 참여 여부 캐시에 반영
+        for (VoteSubmission submission : written) {
+            voteTallyStore.recordResponse(submission.voteId(), submission.optionId());
+            votedVoteCache.recordVote(submission.userId(), submission.voteId());
+        }
+
+        if (written.size() < submissions.size()) {
+            log.info("투표 응답 일괄 기록 - 요청: {}건, 기록: {}건, 건너뜀: {}건",
+                    submissions.size(), written.size(), submissions.size() - written.size());
+        }
+        return written;
+    }
+
+    private List<VoteSubmission> insertOneByOne(List<VoteSubmission> submissions) {
+        List<VoteSubmission> inserted = new ArrayList<>(submissions.size());
+        for (VoteSubmission submission : submissions) {
+            try {
+                voteResponseJdbcRepository.insertSkippingDuplicates(List.of(submission));
+                inserted.add(submission);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("제약 조건 위반으로 투표 응답 기록 제외 - voteId: {}, optionId: {}, userId: {}, 원인: {}",
+                        submission.voteId(), submission.optionId(), submission.userId(),
+                        e.getMostSpecificCause().getMessage());
+            }
+        }
+        return inserted;
+    }
+}
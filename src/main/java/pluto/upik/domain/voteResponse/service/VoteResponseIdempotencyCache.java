@@ -0,0 +1,85 @@
+package pluto.upik.domain.voteResponse.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+import pluto.upik.shared.cache.service.SingleFlight;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 투표 응답 멱등성 캐시
+ * 같은 사용자가 같은 멱등성 키로 다시 요청하면 새로 저장하지 않고 처음 저장된 응답을 반환합니다.
+ * 같은 키의 동시 요청은 {@link SingleFlight}로 먼저 들어온 요청의 결과를 기다리며, 저장은 캐시의 버킷 잠금 밖에서 실행합니다.
+ * 키마다 처음 요청의 (투표, 선택지)를 함께 보관하여, 같은 키를 다른 입력으로 다시 쓰면 처음 응답을 돌려주지 않고 거부합니다.
+ * 실패한 요청은 캐시하지 않습니다.
+ */
+@Component
+@Slf4j
+public class VoteResponseIdempotencyCache {
+
+    public static final String CACHE_NAME = "voteResponseIdempotency";
+
+    private final Cache<String, IdempotentResponse> cache;
+    private final SingleFlight<String, IdempotentResponse> singleFlight;
+
+    public VoteResponseIdempotencyCache(
+            MeterRegistry meterRegistry,
+            @Value("${vote.idempotency.max-size:100000}") long maxSize,
+            @Value("${vote.idempotency.expire-after-write-seconds:86400}") long expireSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .build();
+        this.singleFlight = new SingleFlight<>(CACHE_NAME, meterRegistry);
+    }
+
+    /**
+     * 멱등성 키에 해당하는 응답을 반환하고, 없으면 생성하여 보관합니다.
+     *
+     * @param userId 요청한 사용자 ID
+     * @param idempotencyKey 클라이언트가 보낸 멱등성 키
+     * @param voteId 요청한 투표 ID
+     * @param optionId 요청한 선택지 ID
+     * @param creator 응답을 새로 생성하는 함수
+     * @return 처음 생성된 투표 응답
+     * @throws IllegalArgumentException 같은 키가 다른 투표/선택지 요청에 이미 사용된 경우
+     */
+    public VoteResponsePayload getOrCreate(UUID userId, String idempotencyKey, UUID voteId, UUID optionId,
+                                           Supplier<VoteResponsePayload> creator) {
+        // 키는 사용자별로 구분하여 다른 사용자의 응답이 반환되지 않도록 함
+        String key = userId + ":" + idempotencyKey;
+        String fingerprint = voteId + ":" + optionId;
+        IdempotentResponse cached = cache.getIfPresent(key);
+        if (cached == null) {
+            cached = singleFlight.load(key, () -> {
+                // 앞선 요청이 기다리는 사이 끝났으면 그 결과를 사용
+                IdempotentResponse stored = cache.getIfPresent(key);
+                if (stored != null) {
+                    return stored;
+                }
+                log.debug("멱등성 키 최초 요청 - userId: {}, key: {}", userId, idempotencyKey);
+                IdempotentResponse created = new IdempotentResponse(fingerprint, creator.get());
+                cache.put(key, created);
+                return created;
+            });
+        }
+        if (!cached.fingerprint().equals(fingerprint)) {
+            log.warn("다른 입력으로 재사용된 멱등성 키 거부 - userId: {}, key: {}", userId, idempotencyKey);
+            throw new IllegalArgumentException("이미 다른 투표 응답에 사용된 멱등성 키입니다.");
+        }
+        return cached.payload();
+    }
+
+    /**
+     * 멱등성 키로 처음 생성된 응답과 그 요청의 (투표, 선택지)
+     */
+    private record IdempotentResponse(String fingerprint, VoteResponsePayload payload) {
+    }
+}
@@ -0,0 +1,199 @@
+package pluto.upik.domain.voteResponse.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata;
+import pluto.upik.domain.vote.service.VoteMetadataCache;
+import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmission;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmissionAck;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 투표 응답 비동기 수집 서비스
+ * vote.ingestion.mode=async일 때만 등록됩니다.
+ * 제출된 응답은 캐시된 투표 메타데이터로 검증한 뒤 고정 크기 큐에 넣고 바로 접수 응답을 반환합니다.
+ * 별도 기록 스레드가 큐를 비우며 여러 응답을 모아 {@link VoteResponseBatchWriter}로 일괄 기록합니다.
+ * 큐가 가득 차면 응답을 거절하고 재시도 대기 시간을 알려 부하를 호출자에게 되돌립니다.
+ * 종료가 시작된 뒤의 제출도 같은 방식으로 거절하여, 기록 스레드가 끝난 큐에 남아 유실되지 않게 합니다.
+ */
+@Service
+@ConditionalOnProperty(name = "vote.ingestion.mode", havingValue = "async")
+@Slf4j
+public class VoteResponseIngestionService {
+
+    private final VoteMetadataCache voteMetadataCache;
+    private final VoteResponseBatchWriter voteResponseBatchWriter;
+    private final BlockingQueue<VoteSubmission> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long retryAfterMs;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter writtenCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+    // 종료 시작 여부 (큐 접수와 종료 표시가 겹치지 않도록 잠금으로 보호)
+    private final ReentrantReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+    private boolean stopped;
+
+    public VoteResponseIngestionService(VoteMetadataCache voteMetadataCache,
+                                        VoteResponseBatchWriter voteResponseBatchWriter,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${vote.ingestion.queue-capacity:10000}") int queueCapacity,
+                                        @Value("${vote.ingestion.batch-size:500}") int batchSize,
+                                        @Value("${vote.ingestion.flush-interval-ms:50}") long flushIntervalMs,
+                                        @Value("${vote.ingestion.retry-after-ms:1000}") long retryAfterMs) {
+        this.voteMetadataCache = voteMetadataCache;
+        this.voteResponseBatchWriter = voteResponseBatchWriter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.retryAfterMs = retryAfterMs;
+
+        Gauge.builder("vote.ingestion.queue.size", queue, BlockingQueue::size)
+                .description("기록 대기 중인 투표 응답 수")
+                .register(meterRegistry);
+        this.acceptedCounter = meterRegistry.counter("vote.ingestion.submissions", "result", "accepted");
+        this.rejectedCounter = meterRegistry.counter("vote.ingestion.submissions", "result", "rejected");
+        this.writtenCounter = meterRegistry.counter("vote.ingestion.writes", "result", "written");
+        this.skippedCounter = meterRegistry.counter("vote.ingestion.writes", "result", "skipped");
+        this.failedCounter = meterRegistry.counter("vote.ingestion.writes", "result", "failed");
+    }
+
+    /**
+     * 기록 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "vote-ingestion-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("투표 응답 비동기 수집 시작 - 큐 크기: {}, 배치 크기: {}", queue.remainingCapacity(), batchSize);
+    }
+
+    /**
+     * 새 제출 접수를 멈추고, 남은 응답을 모두 기록한 뒤 기록 스레드를 종료합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // 진행 중인 접수가 끝난 뒤 종료를 표시하여, 기록 스레드가 멈춘 뒤 큐에 들어가는 응답이 없게 함
+        shutdownLock.writeLock().lock();
+        try {
+            stopped = true;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        log.info("투표 응답 비동기 수집 종료 - 미기록 응답: {}건", queue.size());
+    }
+
+    /**
+     * 투표 응답을 검증하고 기록 큐에 넣습니다.
+     * 중복 응답은 여기서 확인하지 않고 기록 시 (user_id, vote_id) 유니크 제약으로 걸러집니다.
+     *
+     * @param input 투표 응답 입력
+     * @param userId 응답한 사용자 ID
+     * @return 접수 결과 (큐가 가득 찼거나 종료 중이면 REJECTED)
+     * @throws IllegalArgumentException 투표가 없거나 옵션이 투표에 속하지 않을 경우
+     * @throws IllegalStateException 투표가 종료되었을 경우
+     */
+    public VoteSubmissionAck submit(CreateVoteResponseInput input, UUID userId) {
+        VoteMetadata vote = voteMetadataCache.get(input.getVoteId())
+                .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다: " + input.getVoteId()));
+        if (!vote.isOpen()) {
+            throw new IllegalStateException("투표가 종료되었습니다.");
+        }
+        if (!vote.hasOption(input.getOptionId())) {
+            throw new IllegalArgumentException("해당 옵션은 이 투표에 속하지 않습니다.");
+        }
+
+        VoteSubmission submission = new VoteSubmission(
+                UUID.randomUUID(), userId, vote.id(), input.getOptionId(), LocalDate.now());
+        shutdownLock.readLock().lock();
+        try {
+            if (stopped) {
+                rejectedCounter.increment();
+                log.warn("투표 응답 수집 종료 중 접수 거절 - voteId: {}", vote.id());
+                return VoteSubmissionAck.rejected(retryAfterMs);
+            }
+            if (!queue.offer(submission)) {
+                rejectedCounter.increment();
+                log.warn("투표 응답 큐가 가득 차 접수 거절 - voteId: {}", vote.id());
+                return VoteSubmissionAck.rejected(retryAfterMs);
+            }
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+        acceptedCounter.increment();
+        return VoteSubmissionAck.accepted(submission.id());
+    }
+
+    /**
+     * 기록 대기 중인 응답 수를 반환합니다.
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<VoteSubmission> batch = new ArrayList<>(batchSize);
+        // 종료 요청 후에도 큐에 남은 응답은 모두 기록
+        while (running || !queue.isEmpty()) {
+            try {
+                VoteSubmission first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 대기 중인 응답을 배치 크기까지 모아 한 번에 기록
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("투표 응답 기록 스레드 중단 - 미기록 응답: {}건", queue.size());
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<VoteSubmission> batch) {
+        List<VoteSubmission> submissions = List.copyOf(batch);
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            try {
+                int written = voteResponseBatchWriter.write(submissions).size();
+                writtenCounter.increment(written);
+                skippedCounter.increment(submissions.size() - written);
+                return;
+            } catch (Exception e) {
+                log.error("투표 응답 일괄 기록 실패 - 시도: {}, 건수: {}", attempt, submissions.size(), e);
+            }
+        }
+        failedCounter.increment(submissions.size());
+    }
+}
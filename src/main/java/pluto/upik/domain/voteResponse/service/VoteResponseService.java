@@ -2,23 +2,26 @@ package pluto.upik.domain.voteResponse.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import pluto.upik.domain.option.data.model.Option;
 import pluto.upik.domain.option.repository.OptionRepository;
-import pluto.upik.domain.user.data.model.User;
 import pluto.upik.domain.user.repository.UserRepository;
-import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata;
 import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.VoteMetadataCache;
 import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
 import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
 import pluto.upik.domain.voteResponse.data.model.VoteResponse;
 import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+import pluto.upik.shared.exception.ResourceNotFoundException;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -27,62 +30,136 @@ import java.util.UUID;
 @Slf4j
 public class VoteResponseService {
 
+    // MariaDB/MySQL: 참조하는 부모 행이 없어 외래 키 제약을 위반함 (ER_NO_REFERENCED_ROW_2)
+    private static final int NO_REFERENCED_ROW_ERROR_CODE = 1452;
+
     private final VoteResponseRepository voteResponseRepository;
     private final VoteRepository voteRepository;
     private final OptionRepository optionRepository;
     private final UserRepository userRepository;
+    private final VoteTallyStore voteTallyStore;
+    private final VoteOptionTallyService voteOptionTallyService;
+    private final VotedVoteCache votedVoteCache;
+    private final VoteMetadataCache voteMetadataCache;
 
     @Transactional(readOnly = true)
     public boolean hasUserVoted(UUID userId, UUID voteId) {
-        return voteResponseRepository.findByUserIdAndVoteId(userId, voteId).isPresent();
+        return votedVoteCache.getVotedVoteIds(userId, List.of(voteId)).contains(voteId);
     }
 
+    /**
+     * 주어진 투표 중 사용자가 참여한 투표 ID를 한 번에 조회합니다.
+     * 이미 확인한 투표는 캐시에서 응답하고, 나머지만 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param voteIds 확인할 투표 ID 목록
+     * @return 참여한 투표 ID 집합
+     */
+    @Transactional(readOnly = true)
+    public Set<UUID> getVotedVoteIds(UUID userId, Collection<UUID> voteIds) {
+        return votedVoteCache.getVotedVoteIds(userId, voteIds);
+    }
 
-    public VoteResponsePayload createVoteResponse(CreateVoteResponseInput input, UUID userId) {
-        // 1. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
-        // 2. 투표 조회
-        Vote vote = voteRepository.findById(input.getVoteId())
+    /**
+     * 투표 응답을 저장합니다.
+     * 투표 상태와 선택지 소속은 캐시된 투표 메타데이터로 확인하고, 사용자/투표/선택지는 참조만 사용하므로
+     * 캐시가 채워진 투표라면 응답 저장은 INSERT 한 번으로 끝납니다.
+     * 중복 참여는 미리 조회하지 않고 (user_id, vote_id) 유니크 제약 위반으로 판단하며,
+     * 사용자 존재 여부도 미리 조회하지 않고 user_id 외래 키 제약 위반으로 판단합니다.
+     *
+     * @param input 투표 응답 입력
+     * @param userId 응답한 사용자 ID
+     * @return 저장된 투표 응답
+     * @throws IllegalArgumentException 투표가 없거나 옵션이 투표에 속하지 않을 경우
+     * @throws IllegalStateException 투표가 종료되었거나 이미 참여한 경우
+     * @throws ResourceNotFoundException 사용자가 존재하지 않을 경우
+     */
+    public VoteResponsePayload createVoteResponse(CreateVoteResponseInput input, UUID userId) {
+        // 1. 투표 조회 (캐시)
+        VoteMetadata vote = voteMetadataCache.get(input.getVoteId())
                 .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다: " + input.getVoteId()));
 
-        // 3. 옵션 조회
-        Option option = optionRepository.findById(input.getOptionId())
-                .orElseThrow(() -> new IllegalArgumentException("옵션을 찾을 수 없습니다: " + input.getOptionId()));
-
-        log.info(user.toString());
-        log.info(vote.toString());
-        log.info(option.toString());
-        // 4. 투표 상태 확인
-        if (vote.getStatus() != Vote.Status.OPEN) {
+        // 2. 투표 상태 확인
+        if (!vote.isOpen()) {
             throw new IllegalStateException("투표가 종료되었습니다.");
         }
 
-        // 5. 옵션이 해당 투표에 속하는지 확인
-        if (!option.getVote().getId().equals(vote.getId())) {
-            throw new IllegalArgumentException("해당 옵션은 이 투표에 속하지 않습니다.");
-        }
-
-        // 6. 중복 투표 확인
-        Optional<VoteResponse> existingResponse = voteResponseRepository
-                .findByUserIdAndVoteId(userId, input.getVoteId());
+        // 3. 옵션이 해당 투표에 속하는지 확인
+        VoteMetadata.OptionMetadata option = vote.findOption(input.getOptionId())
+                .orElseThrow(() -> new IllegalArgumentException("해당 옵션은 이 투표에 속하지 않습니다."));
 
-        if (existingResponse.isPresent()) {
-            throw new IllegalStateException("이미 이 투표에 참여하셨습니다.");
-        }
-        // 7. VoteResponse 생성 및 저장
+        log.debug("투표 응답 생성 - userId: {}, voteId: {}, optionId: {}", userId, vote.id(), option.id());
+        // 4. VoteResponse 생성 및 저장 (중복 투표는 유니크 제약으로 확인)
         VoteResponse voteResponse = VoteResponse.builder()
-                .user(user)
-                .vote(vote)
-                .selectedOption(option)
+                .user(userRepository.getReferenceById(userId))
+                .vote(voteRepository.getReferenceById(vote.id()))
+                .selectedOption(optionRepository.getReferenceById(option.id()))
                 .createdAt(LocalDate.now())
                 .build();
 
-        VoteResponse savedVoteResponse = voteResponseRepository.save(voteResponse);
+        VoteResponse savedVoteResponse;
+        try {
+            savedVoteResponse = voteResponseRepository.saveAndFlush(voteResponse);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateVote(e)) {
+                throw new IllegalStateException("이미 이 투표에 참여하셨습니다.");
+            }
+            if (isMissingReference(e, "user_id")) {
+                throw new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + userId);
+            }
+            throw e;
+        }
+
+        // 같은 트랜잭션에서 집계 테이블을 증가시키고, 커밋 이후 인메모리 집계에 반영
+        voteOptionTallyService.increment(vote.id(), option.id());
+        voteTallyStore.recordResponse(vote.id(), option.id());
+        votedVoteCache.recordVote(userId, vote.id());
+
+        // 5. 응답 반환 (지연 로딩 없이 메타데이터로 구성)
+        return VoteResponsePayload.builder()
+                .id(savedVoteResponse.getId())
+                .userId(userId)
+                .voteId(vote.id())
+                .optionId(option.id())
+                .optionContent(option.content())
+                .voteTitle(vote.question())
+                .createdAt(savedVoteResponse.getCreatedAt())
+                .build();
+    }
 
-        // 8. 응답 반환
-        return VoteResponsePayload.fromEntity(savedVoteResponse);
+    /**
+     * 무결성 위반이 사용자-투표 유니크 제약 때문인지 확인합니다.
+     * 다른 제약(외래 키 등) 위반은 중복 참여로 취급하지 않습니다.
+     */
+    private boolean isDuplicateVote(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().contains(VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().contains(VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 무결성 위반이 주어진 컬럼의 외래 키가 가리키는 행이 없어서 발생했는지 확인합니다.
+     */
+    private boolean isMissingReference(DataIntegrityViolationException e, String column) {
+        String foreignKey = "FOREIGN KEY (`" + column + "`)";
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && sqlException.getErrorCode() == NO_REFERENCED_ROW_ERROR_CODE
+                    && sqlException.getMessage() != null
+                    && sqlException.getMessage().contains(foreignKey)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,268 @@
+package pluto.upik.domain.voteResponse.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 투표 응답 수 인메모리 집계 저장소
+ * 투표/선택지별 응답 수를 LongAdder 카운터로 보관하여 통계 조회 시 COUNT 쿼리를 생략합니다.
+ * 처음 조회되는 투표는 vote_option_tally 테이블에서 한 번 적재하고, 이후에는 커밋된 응답마다 카운터를 증가시킵니다.
+ * 보관하는 투표 수는 최대 개수와 마지막 조회 후 만료 시간으로 제한하며, 밀려난 투표는 다음 조회 시 다시 적재합니다.
+ * 다른 인스턴스에서 커밋된 응답이나 적재와 커밋이 겹쳐 생기는 차이는 주기적인 보정 작업({@link #reconcile})으로 맞춥니다.
+ * 보정은 집계 테이블을 읽는 동안 이 인스턴스에서 진행 중이거나 반영된 응답이 없었던 투표에만 적용하여, 커밋 직후 반영 전의 응답을 두 번 세거나 빠뜨리지 않습니다.
+ */
+@Component
+@Slf4j
+public class VoteTallyStore {
+
+    private final VoteOptionTallyService voteOptionTallyService;
+    private final Cache<UUID, VoteTally> tallies;
+
+    public VoteTallyStore(VoteOptionTallyService voteOptionTallyService,
+                          @Value("${vote.tally.max-votes:50000}") long maxVotes,
+                          @Value("${vote.tally.expire-after-access-minutes:60}") long expireMinutes) {
+        this.voteOptionTallyService = voteOptionTallyService;
+        this.tallies = Caffeine.newBuilder()
+                .maximumSize(maxVotes)
+                .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    /**
+     * 투표별 집계를 조회합니다.
+     * 아직 적재되지 않은 투표는 한 번의 쿼리로 집계 테이블에서 적재합니다.
+     *
+     * @param voteIds 조회할 투표 ID 목록
+     * @return 투표 ID별 집계 (요청한 모든 ID 포함)
+     */
+    public Map<UUID, VoteTally> getTallies(Collection<UUID> voteIds) {
+        List<UUID> missing = voteIds.stream()
+                .filter(voteId -> tallies.getIfPresent(voteId) == null)
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            warm(missing);
+        }
+
+        Map<UUID, VoteTally> result = new HashMap<>();
+        for (UUID voteId : voteIds) {
+            result.put(voteId, tallies.get(voteId, id -> new VoteTally()));
+        }
+        return result;
+    }
+
+    /**
+     * 단일 투표의 집계를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 투표 집계
+     */
+    public VoteTally getTally(UUID voteId) {
+        return getTallies(List.of(voteId)).get(voteId);
+    }
+
+    /**
+     * 투표 응답을 집계에 반영합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에만 반영되고, 롤백되면 반영되지 않습니다.
+     * 트랜잭션이 끝날 때까지는 진행 중인 응답으로 표시되어 그 투표의 보정을 미룹니다.
+     * 아직 적재되지 않은 투표는 다음 조회 시 DB에서 적재되므로 무시합니다.
+     *
+     * @param voteId 투표 ID
+     * @param optionId 선택한 옵션 ID
+     */
+    public void recordResponse(UUID voteId, UUID optionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(voteId, optionId);
+            return;
+        }
+        VoteTally pending = tallies.getIfPresent(voteId);
+        if (pending != null) {
+            pending.inFlight.incrementAndGet();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    increment(voteId, optionId);
+                }
+                if (pending != null) {
+                    pending.inFlight.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    /**
+     * 투표 집계를 제거합니다. 투표가 삭제되었을 때 호출합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void evict(UUID voteId) {
+        tallies.invalidate(voteId);
+    }
+
+    /**
+     * 현재 메모리에 적재된 투표 ID 목록을 반환합니다.
+     */
+    public Set<UUID> loadedVoteIds() {
+        return new HashSet<>(tallies.asMap().keySet());
+    }
+
+    /**
+     * 현재 메모리에 적재된 투표 수(추정치)를 반환합니다.
+     */
+    public long size() {
+        tallies.cleanUp();
+        return tallies.estimatedSize();
+    }
+
+    /**
+     * 적재된 집계를 집계 테이블과 비교하여 차이를 보정합니다.
+     * 집계 테이블을 읽기 전에 진행 중인 응답이 있었거나, 읽는 동안 응답이 반영되거나 시작된 투표는 이번 보정에서 건너뜁니다.
+     *
+     * @param voteIds 보정할 투표 ID 목록
+     * @return 보정 전 메모리와 집계 테이블 사이 차이의 절댓값 합계 (건너뛴 투표 제외)
+     */
+    public long reconcile(Collection<UUID> voteIds) {
+        Map<UUID, VoteTally> targets = new HashMap<>();
+        Map<UUID, Long> versions = new HashMap<>();
+        for (UUID voteId : voteIds) {
+            VoteTally tally = tallies.getIfPresent(voteId);
+            if (tally != null && tally.inFlight.get() == 0) {
+                targets.put(voteId, tally);
+                versions.put(voteId, tally.version.get());
+            }
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Map<UUID, Long>> actual = new HashMap<>();
+        for (VoteOptionTally row : voteOptionTallyService.getTallies(targets.keySet())) {
+            actual.computeIfAbsent(row.getId().getVoteId(), id -> new HashMap<>())
+                    .put(row.getId().getOptionId(), row.getCount());
+        }
+
+        long drift = 0;
+        int skipped = 0;
+        for (Map.Entry<UUID, VoteTally> target : targets.entrySet()) {
+            Map<UUID, Long> optionCounts = actual.getOrDefault(target.getKey(), Collections.emptyMap());
+            long applied = target.getValue().replaceIfUnchanged(versions.get(target.getKey()), optionCounts);
+            if (applied < 0) {
+                skipped++;
+            } else {
+                drift += applied;
+            }
+        }
+        if (skipped > 0) {
+            log.debug("진행 중인 응답이 있어 다음 보정으로 미룬 투표 - {}건", skipped);
+        }
+        return drift;
+    }
+
+    private void warm(List<UUID> voteIds) {
+        Map<UUID, VoteTally> loaded = new HashMap<>();
+        for (UUID voteId : voteIds) {
+            loaded.put(voteId, new VoteTally());
+        }
+        for (VoteOptionTally row : voteOptionTallyService.getTallies(voteIds)) {
+            loaded.get(row.getId().getVoteId()).add(row.getId().getOptionId(), row.getCount());
+        }
+        // 동시에 적재된 경우 먼저 적재된 값을 유지
+        loaded.forEach(tallies.asMap()::putIfAbsent);
+        log.debug("투표 집계 적재 - {}건", voteIds.size());
+    }
+
+    private void increment(UUID voteId, UUID optionId) {
+        VoteTally tally = tallies.getIfPresent(voteId);
+        if (tally != null) {
+            tally.increment(optionId);
+        }
+    }
+
+    /**
+     * 단일 투표의 응답 수 집계
+     * 응답 반영은 읽기 잠금으로 서로 동시에 진행하고, 보정은 쓰기 잠금으로 반영과 겹치지 않게 적용합니다.
+     */
+    public static final class VoteTally {
+
+        private final LongAdder total = new LongAdder();
+        private final ConcurrentHashMap<UUID, LongAdder> options = new ConcurrentHashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        // 반영된 응답마다 증가 (보정 중 반영 여부 확인용)
+        private final AtomicLong version = new AtomicLong();
+        // 커밋을 기다리거나 커밋 후 아직 반영되지 않은 응답 수
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        /**
+         * 전체 응답 수
+         */
+        public long getTotal() {
+            return total.sum();
+        }
+
+        /**
+         * 선택지별 응답 수
+         */
+        public long getOptionCount(UUID optionId) {
+            LongAdder adder = options.get(optionId);
+            return adder == null ? 0 : adder.sum();
+        }
+
+        private void add(UUID optionId, long count) {
+            options.computeIfAbsent(optionId, id -> new LongAdder()).add(count);
+            total.add(count);
+        }
+
+        private void increment(UUID optionId) {
+            lock.readLock().lock();
+            try {
+                add(optionId, 1);
+                version.incrementAndGet();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * 읽기 시작 이후 반영되거나 진행 중인 응답이 없으면 선택지별 응답 수를 집계 테이블 값으로 맞춥니다.
+         *
+         * @return 맞추기 전 차이의 절댓값 합계 (건너뛰면 -1)
+         */
+        private long replaceIfUnchanged(long expectedVersion, Map<UUID, Long> optionCounts) {
+            lock.writeLock().lock();
+            try {
+                if (version.get() != expectedVersion || inFlight.get() != 0) {
+                    return -1;
+                }
+                Set<UUID> optionIds = new HashSet<>(options.keySet());
+                optionIds.addAll(optionCounts.keySet());
+                long drift = 0;
+                for (UUID optionId : optionIds) {
+                    long delta = optionCounts.getOrDefault(optionId, 0L) - getOptionCount(optionId);
+                    if (delta != 0) {
+                        add(optionId, delta);
+                        drift += Math.abs(delta);
+                    }
+                }
+                return drift;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
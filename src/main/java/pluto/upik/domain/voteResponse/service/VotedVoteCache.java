@@ -0,0 +1,121 @@
+package pluto.upik.domain.voteResponse.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 투표 참여 여부 캐시
+ * 사용자마다 확인한 투표 ID와 참여 여부를 보관하여, 이미 확인한 투표는 DB 조회 없이 응답합니다.
+ * 확인하지 않은 투표만 한 번의 IN 쿼리로 조회하며, 새 응답은 커밋 이후 캐시에 반영합니다.
+ * 참여 기록은 {@link CacheInvalidationBus}로 다른 인스턴스에도 전달하여, 다른 인스턴스가 캐시해 둔 "참여 안 함"을 바로 고칩니다.
+ * 사용자별 보관 수를 넘으면 참여 안 함(false)만 비우고 참여(true)는 남겨, 동시에 기록된 참여를 잃지 않습니다.
+ */
+@Component
+@Slf4j
+public class VotedVoteCache {
+
+    static final String CACHE_NAME = "votedVoteCache";
+
+    private final VoteResponseRepository voteResponseRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<UUID, Map<UUID, Boolean>> cache;
+    private final int maxVotesPerUser;
+
+    public VotedVoteCache(VoteResponseRepository voteResponseRepository,
+                          CacheInvalidationBus cacheInvalidationBus,
+                          @Value("${vote.voted-cache.max-users:10000}") long maxUsers,
+                          @Value("${vote.voted-cache.max-votes-per-user:5000}") int maxVotesPerUser,
+                          @Value("${vote.voted-cache.expire-after-write-minutes:10}") long expireMinutes) {
+        this.voteResponseRepository = voteResponseRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.maxVotesPerUser = maxVotesPerUser;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+        cacheInvalidationBus.register(CACHE_NAME, key -> {
+            String[] ids = key.split(":", 2);
+            markVoted(UUID.fromString(ids[0]), UUID.fromString(ids[1]));
+        });
+    }
+
+    /**
+     * 주어진 투표 중 사용자가 참여한 투표 ID를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param voteIds 확인할 투표 ID 목록
+     * @return 참여한 투표 ID 집합
+     */
+    public Set<UUID> getVotedVoteIds(UUID userId, Collection<UUID> voteIds) {
+        if (voteIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Map<UUID, Boolean> known = cache.get(userId, id -> new ConcurrentHashMap<>());
+
+        List<UUID> unknown = voteIds.stream()
+                .filter(voteId -> !known.containsKey(voteId))
+                .distinct()
+                .toList();
+        if (!unknown.isEmpty()) {
+            Set<UUID> voted = new HashSet<>(voteResponseRepository.findVotedVoteIds(userId, unknown));
+            if (known.size() + unknown.size() > maxVotesPerUser) {
+                // 참여(true)는 DB 조회 결과보다 새로울 수 있으므로 남기고 참여 안 함(false)만 비움
+                known.values().removeIf(votedBefore -> !votedBefore);
+            }
+            for (UUID voteId : unknown) {
+                // 동시에 기록된 참여(true)를 덮어쓰지 않도록 putIfAbsent 사용
+                known.putIfAbsent(voteId, voted.contains(voteId));
+            }
+        }
+
+        Set<UUID> result = new HashSet<>();
+        for (UUID voteId : voteIds) {
+            if (Boolean.TRUE.equals(known.get(voteId))) {
+                result.add(voteId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자의 투표 참여를 이 인스턴스와 다른 인스턴스의 캐시에 반영합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에만 반영됩니다.
+     *
+     * @param userId 사용자 ID
+     * @param voteId 투표 ID
+     */
+    public void recordVote(UUID userId, UUID voteId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishVote(userId, voteId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishVote(userId, voteId);
+            }
+        });
+    }
+
+    private void publishVote(UUID userId, UUID voteId) {
+        cacheInvalidationBus.invalidate(CACHE_NAME, userId + ":" + voteId);
+    }
+
+    private void markVoted(UUID userId, UUID voteId) {
+        Map<UUID, Boolean> known = cache.getIfPresent(userId);
+        if (known != null) {
+            known.put(voteId, Boolean.TRUE);
+        }
+    }
+}
@@ -1,18 +1,31 @@
 package pluto.upik.shared.ai.config;
 
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import pluto.upik.shared.ai.service.LlmResponseCache;
 import reactor.core.publisher.Flux;
 
 @Service
 public class ChatAiService {
     private final ChatClient chatClient;
-    public ChatAiService(ChatClient.Builder chatClientBuilder) {
+    private final LlmResponseCache llmResponseCache;
+    private final String model;
+    public ChatAiService(ChatClient.Builder chatClientBuilder,
+                         LlmResponseCache llmResponseCache,
+                         @Value("${spring.ai.ollama.chat.options.model:}") String model) {
         this.chatClient = chatClientBuilder.build();
+        this.llmResponseCache = llmResponseCache;
+        this.model = model;
     }
+    // 같은(정규화 기준) 프롬프트의 응답은 캐시에서 반환
     public String askToDeepSeekAI(String question){
-        return chatClient.prompt(question)
-                .call().content();
+        return askToDeepSeekAI(question, false);
+    }
+    // bypassCache가 true면 캐시를 거치지 않고 항상 새로 생성 (가이드 생성처럼 매번 새 결과가 필요한 경우)
+    public String askToDeepSeekAI(String question, boolean bypassCache){
+        return llmResponseCache.get(model, question, bypassCache,
+                () -> chatClient.prompt(question).call().content());
     }
     public Flux<String> askToDeepSeekAiWithStream(String quest){
         return chatClient.prompt(quest).stream().content();
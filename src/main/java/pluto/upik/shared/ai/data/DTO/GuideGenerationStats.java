@@ -0,0 +1,25 @@
+package pluto.upik.shared.ai.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가이드 생성 작업 진행 현황
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuideGenerationStats {
+    private long queued;
+    private long running;
+    private long done;
+    private long failed;
+    // 이 인스턴스에서 실행 중인 작업 수와 동시 실행 한도
+    private int active;
+    private int concurrency;
+    // 최근 1시간 동안 완료된 작업 수
+    private long donePerHour;
+}
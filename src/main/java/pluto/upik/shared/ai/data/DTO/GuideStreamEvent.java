@@ -0,0 +1,24 @@
+package pluto.upik.shared.ai.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 가이드 생성 이벤트
+ * TOKEN은 모델이 만든 영어 응답 조각, TITLE/CONTENT는 번역된 제목과 본문 문장, COMPLETED는 저장된 가이드를 담습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuideStreamEvent {
+    private Kind kind;
+    private String text;
+    private GuideResponseDTO guide;
+
+    public enum Kind {
+        TOKEN, TITLE, CONTENT, COMPLETED
+    }
+}
@@ -0,0 +1,92 @@
+package pluto.upik.shared.ai.data.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 가이드 생성 작업 엔티티
+ * 종료된 투표마다 하나씩 만들어지며, 재시작 이후에도 대기/실패한 생성 작업을 이어서 처리할 수 있도록 상태를 저장합니다.
+ */
+@Entity
+@Table(name = "guide_generation_job", indexes = {
+        @Index(name = "idx_guide_generation_job_status_next", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class GuideGenerationJob {
+
+    /**
+     * 가이드를 생성할 투표 ID (기본 키)
+     */
+    @Id
+    @Column(name = "vote_id", columnDefinition = "uuid")
+    private UUID voteId;
+
+    /**
+     * 가이드 유형
+     */
+    @Column(name = "guide_type")
+    private String guideType;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    /**
+     * 시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 시도 가능 시각
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 실행 시작 시각
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /**
+     * 작업 생성 시각
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 마지막 상태 변경 시각
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 가이드 생성 작업 상태
+     */
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+}
@@ -0,0 +1,136 @@
+package pluto.upik.shared.ai.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.shared.ai.data.model.GuideGenerationJob;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 가이드 생성 작업 레포지토리
+ */
+@Repository
+public interface GuideGenerationJobRepository extends JpaRepository<GuideGenerationJob, UUID> {
+
+    /**
+     * 주어진 투표 중 이미 작업이 있는 투표 ID를 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 작업이 있는 투표 ID 목록
+     */
+    @Query("SELECT j.voteId FROM GuideGenerationJob j WHERE j.voteId IN :voteIds")
+    List<UUID> findExistingVoteIds(@Param("voteIds") Collection<UUID> voteIds);
+
+    /**
+     * 시도할 때가 된 대기 작업을 오래된 순으로 조회합니다.
+     *
+     * @param now 현재 시각
+     * @param pageable 조회 개수
+     * @return 대기 작업 목록
+     */
+    @Query("SELECT j FROM GuideGenerationJob j WHERE j.status = pluto.upik.shared.ai.data.model.GuideGenerationJob.Status.QUEUED " +
+            "AND j.nextAttemptAt <= :now ORDER BY j.nextAttemptAt")
+    List<GuideGenerationJob> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 실패로 끝난 작업을 시도 횟수를 초기화하여 다시 대기 상태로 돌립니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @param now 현재 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GuideGenerationJob j SET j.status = pluto.upik.shared.ai.data.model.GuideGenerationJob.Status.QUEUED, " +
+            "j.attempts = 0, j.nextAttemptAt = :now, j.updatedAt = :now " +
+            "WHERE j.voteId IN :voteIds AND j.status = pluto.upik.shared.ai.data.model.GuideGenerationJob.Status.FAILED")
+    int requeueFailed(@Param("voteIds") Collection<UUID> voteIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 대기 작업을 실행 상태로 바꿉니다. 다른 인스턴스가 먼저 가져간 작업이면 바뀌지 않습니다.
+     *
+     * @param voteId 투표 ID
+     * @param attempts 조회했을 때의 시도 횟수
+     * @param now 현재 시각
+     * @return 갱신된 행 수 (가져왔으면 1)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GuideGenerationJob j SET j.status = pluto.upik.shared.ai.data.model.GuideGenerationJob.Status.RUNNING, " +
+            "j.attempts = j.attempts + 1, j.startedAt = :now, j.updatedAt = :now " +
+            "WHERE j.voteId = :voteId AND j.status = pluto.upik.shared.ai.data.model.GuideGenerationJob.Status.QUEUED AND j.attempts = :attempts")
+    int claim(@Param("voteId") UUID voteId, @Param("attempts") int attempts, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행이 너무 오래된 작업(인스턴스 재시작이나 장애로 중단되었을 수 있는 작업)을 조회합니다.
+     *
+     * @param startedBefore 기준 시각
+     * @return 실행 중인 작업 목록
+     */
+    @Query("SELECT j FROM GuideGenerationJob j WHERE j.status = pluto.upik.shared.ai.data.model.GuideGenerationJob.Status.RUNNING AND j.startedAt < :startedBefore")
+    List<GuideGenerationJob> findStale(@Param("startedBefore") LocalDateTime startedBefore);
+
+    /**
+     * 실행 중인 작업을 다시 대기 상태로 돌립니다. 그 사이 끝났거나 다시 실행된 작업이면 바뀌지 않습니다.
+     *
+     * @param voteId 투표 ID
+     * @param attempts 실행 중인 시도 번호
+     * @param now 현재 시각
+     * @return 갱신된 행 수 (돌렸으면 1)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GuideGenerationJob j SET j.status = pluto.upik.shared.ai.data.model.GuideGenerationJob.Status.QUEUED, " +
+            "j.nextAttemptAt = :now, j.updatedAt = :now " +
+            "WHERE j.voteId = :voteId AND j.status = pluto.upik.shared.ai.data.model.GuideGenerationJob.Status.RUNNING AND j.attempts = :attempts")
+    int requeue(@Param("voteId") UUID voteId, @Param("attempts") int attempts, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행한 시도의 결과를 기록합니다. 그 시도가 아직 실행 중일 때만 바뀌므로,
+     * 제한 시간이 지나 다시 대기하거나 다른 인스턴스가 다시 실행 중인 작업은 덮어쓰지 않습니다.
+     *
+     * @param voteId 투표 ID
+     * @param attempts 실행한 시도 번호
+     * @param status 결과 상태
+     * @param nextAttemptAt 다음 시도 가능 시각
+     * @param lastError 실패 사유 (성공이면 null)
+     * @param now 현재 시각
+     * @return 갱신된 행 수 (기록했으면 1)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GuideGenerationJob j SET j.status = :status, j.nextAttemptAt = :nextAttemptAt, " +
+            "j.lastError = :lastError, j.updatedAt = :now " +
+            "WHERE j.voteId = :voteId AND j.status = pluto.upik.shared.ai.data.model.GuideGenerationJob.Status.RUNNING AND j.attempts = :attempts")
+    int finish(@Param("voteId") UUID voteId,
+               @Param("attempts") int attempts,
+               @Param("status") GuideGenerationJob.Status status,
+               @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+               @Param("lastError") String lastError,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * 상태별 작업 수를 조회합니다.
+     *
+     * @param status 작업 상태
+     * @return 작업 수
+     */
+    long countByStatus(GuideGenerationJob.Status status);
+
+    /**
+     * 기준 시각 이후 해당 상태로 바뀐 작업 수를 조회합니다.
+     *
+     * @param status 작업 상태
+     * @param after 기준 시각
+     * @return 작업 수
+     */
+    long countByStatusAndUpdatedAtAfter(GuideGenerationJob.Status status, LocalDateTime after);
+}
@@ -5,7 +5,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
-import pluto.upik.shared.ai.service.AIService;
+import pluto.upik.shared.ai.service.GuideGenerationScheduler;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,7 +13,7 @@ import java.util.List;
 @Component
 @RequiredArgsConstructor
 public class AIApplication {
-    private final AIService aiService;
+    private final GuideGenerationScheduler guideGenerationScheduler;
     private final VoteRepository voteRepository;
 
     // 매일 밤 12시에 실행
@@ -22,8 +22,8 @@ public class AIApplication {
         // 오늘 이전에 끝났고 상태가 OPEN인 투표만 조회
         List<Vote> expiredVotes = voteRepository.findFinishedVotesWithoutGuide(LocalDate.now());
 
-        for (Vote vote : expiredVotes) {
-            aiService.generateAndSaveGuide(vote.getId(), vote.getCategory()); // 필요시 타입 지정
-        }
+        // 가이드 생성은 작업 테이블에 쌓아 두고 동시 실행 한도 안에서 병렬로 처리
+        guideGenerationScheduler.enqueue(expiredVotes);
+        guideGenerationScheduler.dispatch();
     }
 }
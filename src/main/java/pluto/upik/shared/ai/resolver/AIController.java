@@ -1,12 +1,15 @@
 package pluto.upik.shared.ai.resolver;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.shared.ai.data.DTO.GuideGenerationStats;
 import pluto.upik.shared.ai.data.DTO.GuideResponseDTO;
 import pluto.upik.shared.ai.service.AIService;
+import pluto.upik.shared.ai.service.GuideGenerationScheduler;
 
 import java.util.UUID;
 
@@ -16,9 +19,16 @@ public class AIController {
 
     private final AIService aiService;
     private final VoteRepository voteRepository;
+    private final GuideGenerationScheduler guideGenerationScheduler;
 
     @PostMapping("/AI")
     public GuideResponseDTO ai(@RequestBody UUID vote_id, String vote_category) {
         return aiService.generateAndSaveGuide(vote_id,vote_category);
     }
+
+    // 가이드 생성 작업 진행 현황 (상태별 작업 수, 실행 중, 최근 1시간 처리량)
+    @GetMapping("/AI/jobs/stats")
+    public GuideGenerationStats jobStats() {
+        return guideGenerationScheduler.stats();
+    }
 }
@@ -0,0 +1,24 @@
+package pluto.upik.shared.ai.resolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import pluto.upik.shared.ai.data.DTO.GuideStreamEvent;
+import pluto.upik.shared.ai.service.GuideStreamService;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Controller
+@RequiredArgsConstructor
+public class AISubscriptionResolver {
+
+    private final GuideStreamService guideStreamService;
+
+    // 가이드 생성 과정을 WebSocket/SSE로 스트리밍 (응답 토큰, 번역된 문장, 저장된 가이드 순)
+    @SubscriptionMapping
+    public Flux<GuideStreamEvent> generateAIGuideStream(@Argument UUID voteId, @Argument String voteCategory) {
+        return guideStreamService.streamGuide(voteId, voteCategory);
+    }
+}
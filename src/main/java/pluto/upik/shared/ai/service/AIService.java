@@ -3,20 +3,22 @@ package pluto.upik.shared.ai.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.guide.data.model.Guide;
 import pluto.upik.domain.guide.repository.GuideRepository;
-import pluto.upik.domain.option.data.model.Option;
-import pluto.upik.domain.option.repository.OptionRepository;
 import pluto.upik.domain.tail.data.model.Tail;
 import pluto.upik.domain.tail.repository.TailRepository;
 import pluto.upik.domain.tail.repository.TailResponseRepository;
 import pluto.upik.domain.user.repository.UserRepository;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata;
 import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosed;
 import pluto.upik.domain.vote.repository.VoteRepository;
-import pluto.upik.domain.voteResponse.data.model.VoteResponse;
-import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+import pluto.upik.domain.vote.service.VoteMetadataCache;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+import pluto.upik.domain.voteResponse.service.VoteOptionTallyService;
 import pluto.upik.shared.ai.config.ChatAiService;
 import pluto.upik.shared.ai.data.DTO.GuideResponseDTO;
 import pluto.upik.shared.exception.BusinessException;
@@ -37,12 +39,13 @@ public class AIService implements DisposableBean {
     private final TranslationService translationService;
     private final UserRepository userRepository;
     private final VoteRepository voteRepository;
-    private final VoteResponseRepository voteResponseRepository;
-    private final OptionRepository optionRepository;
+    private final VoteMetadataCache voteMetadataCache;
     private final TailRepository tailRepository;
     private final TailResponseRepository tailResponseRepository;
     private final ChatAiService chatAiService;
     private final GuideRepository guideRepository;
+    private final VoteOptionTallyService voteOptionTallyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 현재 진행 중인 AI 요청을 추적하기 위한 맵 (요청 ID -> 취소 플래그)
     private final Map<String, AtomicBoolean> activeRequests = new ConcurrentHashMap<>();
@@ -77,18 +80,14 @@ public class AIService implements DisposableBean {
         return chunks;
     }
 
-    private String translateLongText(String text, boolean koreanToEnglish) {
+    String translateLongText(String text, boolean koreanToEnglish) {
         List<String> chunks = splitTextIntoChunks(text);
-        StringBuilder translatedText = new StringBuilder();
+        // 청크를 묶어서 한 번(청크가 많으면 몇 번)의 API 호출로 번역
+        List<String> translatedChunks = koreanToEnglish
+                ? translationService.translateAll(chunks, "ko", "en")
+                : translationService.translateAll(chunks, "en", "ko");
 
-        for (String chunk : chunks) {
-            String translatedChunk = koreanToEnglish
-                    ? translationService.translateKoreanToEnglish(chunk)
-                    : translationService.translateEnglishToKorean(chunk);
-            translatedText.append(translatedChunk).append(" ");
-        }
-
-        return translatedText.toString().trim();
+        return String.join(" ", translatedChunks).trim();
     }
 
     /**
@@ -174,7 +173,7 @@ public class AIService implements DisposableBean {
 
             // AI에게 질문
             log.info("AI 호출 시작: {}", requestKey);
-            String englishResponse = chatAiService.askToDeepSeekAI(translatedQuestion);
+            String englishResponse = chatAiService.askToDeepSeekAI(translatedQuestion, true);
             log.info("AI 호출 완료: {}", requestKey);
 
             // 취소 여부 다시 확인
@@ -205,70 +204,14 @@ public class AIService implements DisposableBean {
             Vote vote = voteRepository.findById(voteId)
                     .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다."));
 
+            // 투표 종료는 커밋 이후 이벤트로 캐시에 반영
             vote.setStatus(Vote.Status.valueOf("CLOSED"));
-
-            String voteTitle = vote.getQuestion();
-            String voteDescription = optionRepository.findTopByVoteOrderByIdAsc(vote)
-                    .map(Option::getContent)
-                    .orElse("No description");
+            eventPublisher.publishEvent(new VoteClosed(voteId));
 
             // 취소 여부 확인
             checkCancellation(requestKey);
 
-            // voteId로 실제 투표 옵션 및 응답을 가져와서 퍼센트 계산
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-            if (options == null || options.isEmpty()) {
-                throw new ResourceNotFoundException("투표 옵션이 존재하지 않습니다.");
-            }
-            List<VoteResponse> voteResponses = voteResponseRepository.findByVoteId(vote.getId());
-
-            Map<UUID, Long> voteCounts = new HashMap<>();
-            long totalVotes = voteResponses.size();
-
-            for (VoteResponse vr : voteResponses) {
-                voteCounts.merge(vr.getSelectedOption().getId(), 1L, Long::sum);
-            }
-
-            StringBuilder optionPercentsBuilder = new StringBuilder();
-            for (Option option : options) {
-                long count = voteCounts.getOrDefault(option.getId(), 0L);
-                double percent = totalVotes > 0 ? (count * 100.0 / totalVotes) : 0.0;
-                optionPercentsBuilder
-                        .append(option.getContent())
-                        .append(" - ")
-                        .append(String.format("%.1f", percent))
-                        .append("%\n");
-            }
-            String optionsWithPercents = optionPercentsBuilder.toString().trim();
-
-            // 취소 여부 확인
-            checkCancellation(requestKey);
-
-            Tail tail = tailRepository.findFirstByVote(vote)
-                    .orElseThrow(() -> new ResourceNotFoundException("Tail 질문이 없습니다."));
-
-            List<String> tailAnswers = tailResponseRepository.findByTail(tail).stream()
-                    .map(tr -> tr.getAnswer())
-                    .toList();
-
-            String tailResponses = String.join("\n", tailAnswers);
-
-            String prompt = String.format(
-                    "Please generate a guide title and guide content for the following vote and responses. For each choice, don't put anything like \\ and just give it as plain text." +
-                            "<content> Don't wrap it up like this"+
-                            "The guide should be clear, informative, and in-depth.\n\n" +
-                            "Vote Title: %s\n" +
-                            "Option with the highest votes : %s\n" +
-                            "Voting Results (percentages):\n%s\n\n" +
-                            "Tail Question: %s\n" +
-                            "Tail Responses:\n%s\n\n" +
-                            "Write it like this :\n%s\n\n" +
-                            "Please return the result in the following format I will keep my word unconditionally:\n" +
-                            "Guide Title:\n<<title>>\n\n" +
-                            "Guide Content:\n<<content>>\n ",
-                    voteTitle, voteDescription, optionsWithPercents,
-                    tail.getQuestion(), tailResponses, type
-            );
+            String prompt = buildGuidePrompt(vote, type);
 
             // 취소 여부 확인
             checkCancellation(requestKey);
@@ -308,31 +251,7 @@ public class AIService implements DisposableBean {
             // 취소 여부 확인
             checkCancellation(requestKey);
 
-            Guide guide = Guide.builder()
-                    .vote(vote)
-                    .title(translatedTitle)
-                    .content(translatedContent)
-                    .createdAt(LocalDate.now())
-                    .category(vote.getCategory())
-                    .guideType(type)
-                    .revoteCount(0L)
-                    .like(0L)
-                    .build();
-
-            guideRepository.save(guide);
-
-            // GuideResponseDTO 형식으로 반환
-            return GuideResponseDTO.builder()
-                    .id(guide.getId())
-                    .voteId(guide.getVote().getId())
-                    .title(guide.getTitle())
-                    .content(guide.getContent())
-                    .createdAt(guide.getCreatedAt())
-                    .category(guide.getCategory())
-                    .guideType(type)
-                    .revoteCount(guide.getRevoteCount())
-                    .like(guide.getLike())
-                    .build();
+            return saveGuide(vote, type, translatedTitle, translatedContent);
         } catch (ResourceNotFoundException | BusinessException e) {
             throw e;
         } catch (Exception e) {
@@ -344,6 +263,141 @@ public class AIService implements DisposableBean {
         }
     }
 
+    /**
+     * 스트리밍 가이드 생성을 위해 투표 결과와 꼬리 질문 응답으로 AI 프롬프트(한국어)를 만듭니다.
+     * 투표 종료와 가이드 저장은 스트림이 끝난 뒤 {@link #saveStreamedGuide}에서 합니다.
+     *
+     * @param voteId 투표 ID
+     * @param type 가이드 유형
+     * @return AI 프롬프트
+     */
+    @Transactional(readOnly = true)
+    public String prepareGuidePrompt(UUID voteId, String type) {
+        Vote vote = voteRepository.findById(voteId)
+                .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다."));
+        return buildGuidePrompt(vote, type);
+    }
+
+    /**
+     * 스트리밍으로 생성하고 번역한 가이드를 저장하고 투표를 종료합니다.
+     * 스트리밍하는 동안 다른 요청이나 야간 작업이 먼저 투표를 종료하거나 가이드를 저장했을 수 있으므로,
+     * 투표 행을 잠근 뒤 아직 진행 중이고 가이드가 없는지 다시 확인합니다.
+     *
+     * @param voteId 투표 ID
+     * @param type 가이드 유형
+     * @param title 번역된 가이드 제목
+     * @param content 번역된 가이드 내용
+     * @return 저장된 가이드
+     * @throws BusinessException 이미 종료되었거나 가이드가 있는 투표인 경우
+     */
+    @Transactional
+    public GuideResponseDTO saveStreamedGuide(UUID voteId, String type, String title, String content) {
+        Vote vote = voteRepository.findByIdForUpdate(voteId)
+                .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다."));
+        if (vote.getStatus() != Vote.Status.OPEN) {
+            throw new BusinessException("이미 종료된 투표입니다.");
+        }
+        if (guideRepository.existsByVoteId(voteId)) {
+            throw new BusinessException("이미 가이드가 생성된 투표입니다.");
+        }
+        vote.setStatus(Vote.Status.valueOf("CLOSED"));
+        eventPublisher.publishEvent(new VoteClosed(voteId));
+        return saveGuide(vote, type, title, content);
+    }
+
+    /**
+     * 투표 선택지별 응답 비율과 꼬리 질문 응답으로 가이드 생성 프롬프트를 만듭니다.
+     */
+    private String buildGuidePrompt(Vote vote, String type) {
+        // 선택지는 메타데이터 캐시에서 읽음 (DB의 ID 순서를 유지하므로 첫 선택지가 설명이 됨)
+        List<VoteMetadata.OptionMetadata> options = voteMetadataCache.get(vote.getId())
+                .map(VoteMetadata::options)
+                .orElse(List.of());
+
+        String voteTitle = vote.getQuestion();
+        String voteDescription = options.stream()
+                .findFirst()
+                .map(VoteMetadata.OptionMetadata::content)
+                .orElse("No description");
+
+        // voteId로 투표 옵션과 선택지별 응답 수 집계를 가져와서 퍼센트 계산
+        if (options.isEmpty()) {
+            throw new ResourceNotFoundException("투표 옵션이 존재하지 않습니다.");
+        }
+        Map<UUID, Long> voteCounts = new HashMap<>();
+        long totalVotes = 0;
+        for (VoteOptionTally tally : voteOptionTallyService.getTallies(List.of(vote.getId()))) {
+            voteCounts.put(tally.getId().getOptionId(), tally.getCount());
+            totalVotes += tally.getCount();
+        }
+
+        StringBuilder optionPercentsBuilder = new StringBuilder();
+        for (VoteMetadata.OptionMetadata option : options) {
+            long count = voteCounts.getOrDefault(option.id(), 0L);
+            double percent = totalVotes > 0 ? (count * 100.0 / totalVotes) : 0.0;
+            optionPercentsBuilder
+                    .append(option.content())
+                    .append(" - ")
+                    .append(String.format("%.1f", percent))
+                    .append("%\n");
+        }
+        String optionsWithPercents = optionPercentsBuilder.toString().trim();
+
+        Tail tail = tailRepository.findFirstByVote(vote)
+                .orElseThrow(() -> new ResourceNotFoundException("Tail 질문이 없습니다."));
+
+        List<String> tailAnswers = tailResponseRepository.findByTail(tail).stream()
+                .map(tr -> tr.getAnswer())
+                .toList();
+
+        String tailResponses = String.join("\n", tailAnswers);
+
+        return String.format(
+                "Please generate a guide title and guide content for the following vote and responses. For each choice, don't put anything like \\ and just give it as plain text." +
+                        "<content> Don't wrap it up like this"+
+                        "The guide should be clear, informative, and in-depth.\n\n" +
+                        "Vote Title: %s\n" +
+                        "Option with the highest votes : %s\n" +
+                        "Voting Results (percentages):\n%s\n\n" +
+                        "Tail Question: %s\n" +
+                        "Tail Responses:\n%s\n\n" +
+                        "Write it like this :\n%s\n\n" +
+                        "Please return the result in the following format I will keep my word unconditionally:\n" +
+                        "Guide Title:\n<<title>>\n\n" +
+                        "Guide Content:\n<<content>>\n ",
+                voteTitle, voteDescription, optionsWithPercents,
+                tail.getQuestion(), tailResponses, type
+        );
+    }
+
+    private GuideResponseDTO saveGuide(Vote vote, String type, String title, String content) {
+        Guide guide = Guide.builder()
+                .vote(vote)
+                .title(title)
+                .content(content)
+                .createdAt(LocalDate.now())
+                .category(vote.getCategory())
+                .guideType(type)
+                .revoteCount(0L)
+                .like(0L)
+                .build();
+
+        guideRepository.save(guide);
+
+        // GuideResponseDTO 형식으로 반환
+        return GuideResponseDTO.builder()
+                .id(guide.getId())
+                .voteId(guide.getVote().getId())
+                .title(guide.getTitle())
+                .content(guide.getContent())
+                .createdAt(guide.getCreatedAt())
+                .category(guide.getCategory())
+                .guideType(type)
+                .revoteCount(guide.getRevoteCount())
+                .like(guide.getLike())
+                .build();
+    }
+
     /**
      * 서버 종료 시 호출되는 메서드
      */
@@ -0,0 +1,284 @@
+package pluto.upik.shared.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.shared.ai.data.DTO.GuideGenerationStats;
+import pluto.upik.shared.ai.data.model.GuideGenerationJob;
+import pluto.upik.shared.ai.repository.GuideGenerationJobRepository;
+import pluto.upik.shared.exception.ResourceNotFoundException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가이드 생성 작업 스케줄러
+ * 종료된 투표마다 guide_generation_job 테이블에 작업을 쌓고, 주기적으로 시도할 때가 된 작업을 가상 스레드에서 실행합니다.
+ * 동시 실행 수는 세마포어로 제한하여 Ollama와 번역 API에 한꺼번에 요청이 몰리지 않도록 합니다.
+ * 실패한 작업은 지수 백오프로 다시 시도하고, 최대 시도 횟수를 넘거나 재시도해도 소용없는 실패(투표/선택지/꼬리 질문 없음)는 FAILED로 남깁니다.
+ * FAILED 작업은 다음 대기열 추가(매일 밤) 때 아직 가이드가 없는 투표이면 시도 횟수를 초기화하여 다시 대기시킵니다.
+ * 작업 상태가 테이블에 있으므로 재시작 후에도 이어서 처리하며, 실행 중에 중단된 작업은 실행 제한 시간이 지나면 다시 대기 상태로 돌아갑니다.
+ * 작업은 조건부 UPDATE로 가져가므로 여러 인스턴스가 같은 작업을 중복 실행하지 않습니다.
+ * 결과 기록과 재대기도 실행 중인 같은 시도(시도 번호)일 때만 적용하여, 제한 시간을 넘겨 끝난 실행이 다시 실행 중인 작업의 상태를 덮어쓰지 않습니다.
+ */
+@Component
+@Slf4j
+public class GuideGenerationScheduler {
+
+    private final GuideGenerationJobRepository guideGenerationJobRepository;
+    private final AIService aiService;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration runningTimeout;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    // 이 인스턴스에서 실행 중인 작업의 투표 ID → 시도 번호 (제한 시간이 지나도 실행 중이면 재대기하지 않음)
+    private final ConcurrentHashMap<UUID, Integer> runningAttempts = new ConcurrentHashMap<>();
+    private final Counter done;
+    private final Counter retried;
+    private final Counter failed;
+    private final Timer duration;
+
+    public GuideGenerationScheduler(GuideGenerationJobRepository guideGenerationJobRepository,
+                                    AIService aiService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${ai.guide-job.concurrency:4}") int concurrency,
+                                    @Value("${ai.guide-job.max-attempts:5}") int maxAttempts,
+                                    @Value("${ai.guide-job.backoff-base-seconds:60}") long backoffBaseSeconds,
+                                    @Value("${ai.guide-job.backoff-max-seconds:3600}") long backoffMaxSeconds,
+                                    @Value("${ai.guide-job.running-timeout-seconds:1800}") long runningTimeoutSeconds) {
+        this.guideGenerationJobRepository = guideGenerationJobRepository;
+        this.aiService = aiService;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofSeconds(backoffBaseSeconds);
+        this.backoffMax = Duration.ofSeconds(backoffMaxSeconds);
+        this.runningTimeout = Duration.ofSeconds(runningTimeoutSeconds);
+        this.permits = new Semaphore(concurrency);
+        this.done = jobCounter(meterRegistry, "done");
+        this.retried = jobCounter(meterRegistry, "retry");
+        this.failed = jobCounter(meterRegistry, "failed");
+        this.duration = Timer.builder("ai.guide.job.duration")
+                .description("가이드 생성 작업 한 번의 실행 시간")
+                .register(meterRegistry);
+        Gauge.builder("ai.guide.job.active", this, GuideGenerationScheduler::active)
+                .description("이 인스턴스에서 실행 중인 가이드 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter jobCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.guide.jobs")
+                .tag("result", result)
+                .description("결과별 가이드 생성 작업 실행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 종료된 투표의 가이드 생성 작업을 대기열에 추가합니다.
+     * 이미 작업이 있는 투표는 건너뛰고, 그중 실패로 끝난 작업은 시도 횟수를 초기화하여 다시 대기시킵니다.
+     *
+     * @param votes 가이드를 생성할 투표 목록
+     * @return 새로 추가된 작업 수 (다시 대기시킨 작업 제외)
+     */
+    public int enqueue(List<Vote> votes) {
+        if (votes.isEmpty()) {
+            return 0;
+        }
+        Set<UUID> existing = new HashSet<>(guideGenerationJobRepository.findExistingVoteIds(
+                votes.stream().map(Vote::getId).toList()));
+        LocalDateTime now = LocalDateTime.now();
+        List<GuideGenerationJob> jobs = votes.stream()
+                .filter(vote -> !existing.contains(vote.getId()))
+                .map(vote -> GuideGenerationJob.builder()
+                        .voteId(vote.getId())
+                        .guideType(vote.getCategory())
+                        .status(GuideGenerationJob.Status.QUEUED)
+                        .attempts(0)
+                        .nextAttemptAt(now)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .toList();
+        guideGenerationJobRepository.saveAll(jobs);
+        int requeued = existing.isEmpty() ? 0 : guideGenerationJobRepository.requeueFailed(existing, now);
+        log.info("가이드 생성 작업 추가 - 대상: {}건, 추가: {}건, 실패 작업 재대기: {}건", votes.size(), jobs.size(), requeued);
+        return jobs.size();
+    }
+
+    /**
+     * 시도할 때가 된 작업을 남은 동시 실행 한도만큼 가져와 실행합니다.
+     *
+     * @return 실행을 시작한 작업 수
+     */
+    @Scheduled(fixedDelayString = "${ai.guide-job.dispatch-interval-ms:5000}")
+    public int dispatch() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            requeueStale(now);
+            int free = permits.availablePermits();
+            if (free == 0) {
+                return 0;
+            }
+            int started = 0;
+            for (GuideGenerationJob job : guideGenerationJobRepository.findDue(now, PageRequest.of(0, free))) {
+                if (!permits.tryAcquire()) {
+                    break;
+                }
+                if (guideGenerationJobRepository.claim(job.getVoteId(), job.getAttempts(), now) == 0) {
+                    permits.release();
+                    continue;
+                }
+                int attempt = job.getAttempts() + 1;
+                runningAttempts.put(job.getVoteId(), attempt);
+                executor.execute(() -> {
+                    try {
+                        run(job.getVoteId(), job.getGuideType(), attempt);
+                    } finally {
+                        runningAttempts.remove(job.getVoteId(), attempt);
+                        permits.release();
+                    }
+                });
+                started++;
+            }
+            return started;
+        } catch (Exception e) {
+            log.error("가이드 생성 작업 배분 중 오류 발생", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 실행 제한 시간이 지난 작업을 다시 대기 상태로 돌립니다.
+     * 이 인스턴스에서 아직 실행 중인 작업은 건너뛰고, 조회한 뒤 끝났거나 다시 실행된 작업은 시도 번호 조건으로 바뀌지 않습니다.
+     */
+    private void requeueStale(LocalDateTime now) {
+        int requeued = 0;
+        for (GuideGenerationJob job : guideGenerationJobRepository.findStale(now.minus(runningTimeout))) {
+            if (Integer.valueOf(job.getAttempts()).equals(runningAttempts.get(job.getVoteId()))) {
+                continue;
+            }
+            requeued += guideGenerationJobRepository.requeue(job.getVoteId(), job.getAttempts(), now);
+        }
+        if (requeued > 0) {
+            log.warn("중단된 가이드 생성 작업 재대기 - {}건", requeued);
+        }
+    }
+
+    /**
+     * 작업의 한 시도를 실행하고 결과를 기록합니다.
+     *
+     * @param attempt 가져올 때 정해진 시도 번호
+     */
+    void run(UUID voteId, String guideType, int attempt) {
+        long start = System.nanoTime();
+        try {
+            aiService.generateAndSaveGuide(voteId, guideType);
+            if (finish(voteId, attempt, GuideGenerationJob.Status.DONE, LocalDateTime.now(), null)) {
+                done.increment();
+                log.info("가이드 생성 작업 완료 - voteId: {}", voteId);
+            }
+        } catch (ResourceNotFoundException e) {
+            if (finish(voteId, attempt, GuideGenerationJob.Status.FAILED, LocalDateTime.now(), e.getMessage())) {
+                failed.increment();
+                log.warn("가이드 생성 작업 실패 (재시도 안 함) - voteId: {}, error: {}", voteId, e.getMessage());
+            }
+        } catch (Exception e) {
+            retryOrFail(voteId, attempt, e);
+        } finally {
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void retryOrFail(UUID voteId, int attempt, Exception e) {
+        if (attempt >= maxAttempts) {
+            if (finish(voteId, attempt, GuideGenerationJob.Status.FAILED, LocalDateTime.now(), e.getMessage())) {
+                failed.increment();
+                log.error("가이드 생성 작업 실패 - voteId: {}, 시도: {}회, error: {}", voteId, attempt, e.getMessage());
+            }
+            return;
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempt));
+        if (!finish(voteId, attempt, GuideGenerationJob.Status.QUEUED, nextAttemptAt, e.getMessage())) {
+            return;
+        }
+        retried.increment();
+        log.warn("가이드 생성 작업 재시도 예정 - voteId: {}, 시도: {}회, 다음 시도: {}, error: {}",
+                voteId, attempt, nextAttemptAt, e.getMessage());
+    }
+
+    /**
+     * 시도 횟수에 따른 재시도 대기 시간 (기본값 x 2^(시도 횟수 - 1), 최대값으로 제한)
+     */
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = backoffBase.multipliedBy(1L << exponent);
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    /**
+     * 시도 결과를 기록합니다. 그 시도가 이미 재대기되었거나 다시 실행 중이면 기록하지 않습니다.
+     *
+     * @return 기록했으면 true
+     */
+    private boolean finish(UUID voteId, int attempt, GuideGenerationJob.Status status, LocalDateTime nextAttemptAt, String error) {
+        String lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        boolean recorded = guideGenerationJobRepository.finish(
+                voteId, attempt, status, nextAttemptAt, lastError, LocalDateTime.now()) == 1;
+        if (!recorded) {
+            log.warn("이미 다시 대기하거나 실행 중인 가이드 생성 작업이라 결과를 기록하지 않음 - voteId: {}, 시도: {}회, 결과: {}",
+                    voteId, attempt, status);
+        }
+        return recorded;
+    }
+
+    /**
+     * 가이드 생성 작업 진행 현황을 반환합니다.
+     */
+    public GuideGenerationStats stats() {
+        return GuideGenerationStats.builder()
+                .queued(guideGenerationJobRepository.countByStatus(GuideGenerationJob.Status.QUEUED))
+                .running(guideGenerationJobRepository.countByStatus(GuideGenerationJob.Status.RUNNING))
+                .done(guideGenerationJobRepository.countByStatus(GuideGenerationJob.Status.DONE))
+                .failed(guideGenerationJobRepository.countByStatus(GuideGenerationJob.Status.FAILED))
+                .active(active())
+                .concurrency(concurrency)
+                .donePerHour(guideGenerationJobRepository.countByStatusAndUpdatedAtAfter(
+                        GuideGenerationJob.Status.DONE, LocalDateTime.now().minusHours(1)))
+                .build();
+    }
+
+    private int active() {
+        return concurrency - permits.availablePermits();
+    }
+
+    /**
+     * 종료 시 새 작업을 받지 않고 실행 중인 작업을 잠시 기다립니다.
+     * 끝나지 않은 작업은 실행 제한 시간이 지나면 다른 인스턴스나 재시작 후 다시 실행됩니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("가이드 생성 작업 종료 대기 시간 초과 - 실행 중: {}건", active());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package pluto.upik.shared.ai.service;
+
+import pluto.upik.shared.exception.BusinessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 스트리밍 AI 응답을 조각 단위로 받아 가이드 제목과 완성된 본문 문장으로 나누는 조립기
+ * &lt;think&gt; 블록은 태그가 토큰 사이에 걸쳐 있어도 제거하고, "Guide Title:" 이전의 텍스트는 버립니다.
+ * 제목은 "Guide Content:"가 나오면 한 번에, 본문은 문장이 끝날 때마다(또는 조각이 너무 길어지면) 내보내므로
+ * 호출하는 쪽은 응답이 끝나기 전에 문장 단위로 번역할 수 있습니다. 한 응답에 하나씩 만들어 순서대로만 호출해야 합니다.
+ */
+final class GuideStreamAssembler {
+
+    static final String TITLE_MARKER = "Guide Title:";
+    static final String CONTENT_MARKER = "Guide Content:";
+
+    private static final String THINK_OPEN = "<think>";
+    private static final String THINK_CLOSE = "</think>";
+    private static final Pattern SENTENCE_END = Pattern.compile("[.!?](?=\\s)|\\n");
+    // 문장이 끝나지 않아도 이 길이를 넘으면 공백 기준으로 잘라 내보냄 (번역 요청 한 번의 크기와 같음)
+    private static final int MAX_SEGMENT_LENGTH = 450;
+
+    private final StringBuilder raw = new StringBuilder();
+    private final StringBuilder visible = new StringBuilder();
+    private boolean inThink;
+    private Section section = Section.PREAMBLE;
+
+    /**
+     * 응답 조각을 받아 처리합니다.
+     *
+     * @param token 응답 조각
+     * @return think 블록을 제외하고 새로 보이게 된 텍스트와, 새로 완성된 제목/본문 조각
+     */
+    Step accept(String token) {
+        raw.append(token);
+        String shown = stripThink(false);
+        return new Step(shown, drain(false));
+    }
+
+    /**
+     * 응답이 끝났을 때 남은 본문을 내보냅니다.
+     *
+     * @return 남은 제목/본문 조각
+     * @throws BusinessException 응답에 제목과 본문 구분이 없을 때
+     */
+    List<Segment> finish() {
+        stripThink(true);
+        List<Segment> segments = drain(true);
+        if (section != Section.CONTENT) {
+            throw new BusinessException("AI 응답 포맷이 예상과 다릅니다.");
+        }
+        return segments;
+    }
+
+    private String stripThink(boolean last) {
+        StringBuilder shown = new StringBuilder();
+        while (raw.length() > 0) {
+            String tag = inThink ? THINK_CLOSE : THINK_OPEN;
+            int idx = raw.indexOf(tag);
+            if (idx >= 0) {
+                if (!inThink) {
+                    shown.append(raw, 0, idx);
+                }
+                raw.delete(0, idx + tag.length());
+                inThink = !inThink;
+                continue;
+            }
+            // 태그 앞부분일 수 있는 끝부분은 다음 조각이 올 때까지 남겨 둠
+            int keep = last ? 0 : partialTagLength(raw, tag);
+            if (!inThink) {
+                shown.append(raw, 0, raw.length() - keep);
+            }
+            raw.delete(0, raw.length() - keep);
+            break;
+        }
+        visible.append(shown);
+        return shown.toString();
+    }
+
+    private static int partialTagLength(StringBuilder text, String tag) {
+        for (int length = Math.min(tag.length() - 1, text.length()); length > 0; length--) {
+            if (tag.startsWith(text.substring(text.length() - length))) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    private List<Segment> drain(boolean last) {
+        List<Segment> segments = new ArrayList<>();
+        if (section == Section.PREAMBLE) {
+            int title = visible.indexOf(TITLE_MARKER);
+            if (title < 0) {
+                // 표식이 조각 사이에 걸칠 수 있으므로 표식 길이만큼만 남기고 버림
+                int keep = Math.min(visible.length(), CONTENT_MARKER.length() - 1);
+                visible.delete(0, visible.length() - keep);
+                return segments;
+            }
+            visible.delete(0, title + TITLE_MARKER.length());
+            section = Section.TITLE;
+        }
+        if (section == Section.TITLE) {
+            int content = visible.indexOf(CONTENT_MARKER);
+            if (content < 0) {
+                return segments;
+            }
+            String title = visible.substring(0, content).trim();
+            visible.delete(0, content + CONTENT_MARKER.length());
+            section = Section.CONTENT;
+            if (!title.isEmpty()) {
+                segments.add(new Segment(Section.TITLE, title, false));
+            }
+        }
+        int end = last ? visible.length() : completedLength();
+        if (end > 0) {
+            String text = visible.substring(0, end);
+            visible.delete(0, end);
+            if (!text.isBlank()) {
+                segments.add(new Segment(Section.CONTENT, text.trim(), text.endsWith("\n")));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * 본문 버퍼에서 완성된 문장까지의 길이 (없으면 0, 너무 길면 마지막 공백까지)
+     */
+    private int completedLength() {
+        int end = 0;
+        Matcher matcher = SENTENCE_END.matcher(visible);
+        while (matcher.find()) {
+            end = matcher.end();
+        }
+        if (end == 0 && visible.length() > MAX_SEGMENT_LENGTH) {
+            int space = visible.lastIndexOf(" ");
+            end = space > 0 ? space + 1 : visible.length();
+        }
+        return end;
+    }
+
+    /**
+     * 응답의 구역
+     */
+    enum Section {
+        PREAMBLE, TITLE, CONTENT
+    }
+
+    /**
+     * 완성된 제목 또는 본문 조각
+     *
+     * @param section 구역 (TITLE 또는 CONTENT)
+     * @param text 앞뒤 공백을 제거한 텍스트
+     * @param lineBreak 조각이 줄바꿈으로 끝났는지 여부 (본문을 다시 이을 때 문단 구분 유지)
+     */
+    record Segment(Section section, String text, boolean lineBreak) {
+    }
+
+    /**
+     * 조각 하나를 처리한 결과
+     *
+     * @param shown think 블록을 제외하고 새로 보이게 된 텍스트
+     * @param segments 새로 완성된 제목/본문 조각
+     */
+    record Step(String shown, List<Segment> segments) {
+    }
+}
@@ -0,0 +1,95 @@
+package pluto.upik.shared.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import pluto.upik.shared.ai.config.ChatAiService;
+import pluto.upik.shared.ai.data.DTO.GuideStreamEvent;
+import pluto.upik.shared.translation.service.TranslationService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * 스트리밍 가이드 생성 서비스
+ * 모델 응답을 토큰 단위로 그대로 내보내면서, 완성된 제목과 본문 문장은 바로 번역하여 이어서 내보냅니다.
+ * 응답이 끝나면 번역된 제목과 본문으로 가이드를 저장하고 투표를 종료한 뒤 COMPLETED 이벤트로 저장된 가이드를 내보냅니다.
+ * 프롬프트 준비, 번역, 저장처럼 블로킹되는 작업은 boundedElastic 스케줄러에서 실행하므로 요청 스레드를 붙잡지 않으며,
+ * 구독이 취소되면 모델 호출도 함께 취소되고 가이드는 저장되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuideStreamService {
+
+    private final AIService aiService;
+    private final ChatAiService chatAiService;
+    private final TranslationService translationService;
+
+    /**
+     * 투표의 가이드를 스트리밍으로 생성합니다.
+     *
+     * @param voteId 투표 ID
+     * @param type 가이드 유형
+     * @return 가이드 생성 이벤트 스트림
+     */
+    public Flux<GuideStreamEvent> streamGuide(UUID voteId, String type) {
+        return blocking(() -> aiService.translateLongText(aiService.prepareGuidePrompt(voteId, type), true))
+                .flatMapMany(prompt -> {
+                    log.info("스트리밍 가이드 생성 시작 - voteId: {}", voteId);
+                    GuideStreamAssembler assembler = new GuideStreamAssembler();
+                    StringBuilder title = new StringBuilder();
+                    StringBuilder content = new StringBuilder();
+                    return chatAiService.askToDeepSeekAiWithStream(prompt)
+                            .concatMap(token -> {
+                                GuideStreamAssembler.Step step = assembler.accept(token);
+                                Flux<GuideStreamEvent> shown = step.shown().isEmpty()
+                                        ? Flux.empty()
+                                        : Flux.just(event(GuideStreamEvent.Kind.TOKEN, step.shown()));
+                                return shown.concatWith(translate(step.segments(), title, content));
+                            })
+                            .concatWith(Flux.defer(() -> translate(assembler.finish(), title, content)))
+                            .concatWith(blocking(() -> aiService.saveStreamedGuide(
+                                    voteId, type, title.toString().trim(), content.toString().trim()))
+                                    .map(guide -> GuideStreamEvent.builder()
+                                            .kind(GuideStreamEvent.Kind.COMPLETED)
+                                            .guide(guide)
+                                            .build()));
+                })
+                .doOnComplete(() -> log.info("스트리밍 가이드 생성 완료 - voteId: {}", voteId))
+                .doOnCancel(() -> log.info("스트리밍 가이드 생성 취소 - voteId: {}", voteId))
+                .doOnError(e -> log.error("스트리밍 가이드 생성 중 오류 - voteId: {}, error: {}", voteId, e.getMessage(), e));
+    }
+
+    /**
+     * 완성된 제목/본문 조각을 순서대로 번역하여 이벤트로 내보내고, 저장할 제목과 본문에 이어 붙입니다.
+     */
+    private Flux<GuideStreamEvent> translate(List<GuideStreamAssembler.Segment> segments,
+                                             StringBuilder title, StringBuilder content) {
+        return Flux.fromIterable(segments)
+                .concatMap(segment -> blocking(() -> translationService.translateEnglishToKorean(segment.text()))
+                        .map(translated -> {
+                            if (segment.section() == GuideStreamAssembler.Section.TITLE) {
+                                title.append(translated);
+                                return event(GuideStreamEvent.Kind.TITLE, translated);
+                            }
+                            content.append(translated).append(segment.lineBreak() ? "\n" : " ");
+                            return event(GuideStreamEvent.Kind.CONTENT, translated);
+                        }));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static GuideStreamEvent event(GuideStreamEvent.Kind kind, String text) {
+        return GuideStreamEvent.builder()
+                .kind(kind)
+                .text(text)
+                .build();
+    }
+}
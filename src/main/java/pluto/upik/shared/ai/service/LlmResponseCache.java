@@ -0,0 +1,178 @@
+package pluto.upik.shared.ai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pluto.upik.shared.cache.service.SingleFlight;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * LLM 응답 캐시
+ * 정규화한 프롬프트와 모델 이름의 SHA-256 해시를 키로 응답을 보관하여, 같거나 표기만 다른 프롬프트는 모델을 다시 호출하지 않습니다.
+ * 정규화는 유니코드 호환 정규화(NFKC), 소문자 변환, 연속 공백과 반복 문장부호 축약으로 대소문자/공백/문장부호 반복만 다른 프롬프트를 같은 키로 봅니다.
+ * 메모리에는 응답 크기 합계로 용량을 제한해 보관하고, 디스크 경로를 설정하면 세그먼트 파일에도 기록하여 재시작 후에도 이어서 사용합니다.
+ * 같은 키를 동시에 요청하면 {@link SingleFlight}로 모델을 한 번만 호출합니다.
+ * 적중/미스 지표는 cache.* 메트릭(cache=llmResponses)으로, 캐시를 거치지 않은 호출 수는 ai.response.cache.bypass로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class LlmResponseCache {
+
+    public static final String CACHE_NAME = "llmResponses";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern REPEATED_PUNCTUATION = Pattern.compile("([?!.,~])\\1+");
+    // 키(SHA-256 16진수)와 객체 헤더 등 응답 외 고정 비용 추정치
+    private static final int ENTRY_OVERHEAD_BYTES = 64 * 2 + 96;
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Cache<String, Entry> cache;
+    private final SingleFlight<String, String> singleFlight;
+    private final LlmResponseSegmentStore diskStore;
+    private final Counter bypassed;
+
+    public LlmResponseCache(MeterRegistry meterRegistry,
+                            @Value("${ai.response-cache.enabled:true}") boolean enabled,
+                            @Value("${ai.response-cache.max-weight-bytes:16777216}") long maxWeightBytes,
+                            @Value("${ai.response-cache.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${ai.response-cache.disk-path:}") String diskPath,
+                            @Value("${ai.response-cache.segment-bytes:8388608}") long segmentBytes,
+                            @Value("${ai.response-cache.max-segments:16}") int maxSegments) {
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, Entry entry) -> ENTRY_OVERHEAD_BYTES + entry.response().length() * 2)
+                .expireAfter(Expiry.creating((String key, Entry entry) ->
+                        ttl.minusMillis(Math.max(0, System.currentTimeMillis() - entry.writtenAt()))))
+                .recordStats()
+                .build();
+        this.singleFlight = new SingleFlight<>(CACHE_NAME, meterRegistry);
+        this.bypassed = Counter.builder("ai.response.cache.bypass")
+                .description("캐시를 거치지 않은 LLM 호출 수")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.diskStore = enabled && !diskPath.isBlank() ? openDiskStore(Path.of(diskPath), segmentBytes, maxSegments) : null;
+    }
+
+    private LlmResponseSegmentStore openDiskStore(Path path, long segmentBytes, int maxSegments) {
+        try {
+            LlmResponseSegmentStore store = new LlmResponseSegmentStore(path, segmentBytes, maxSegments, ttl);
+            int loaded = store.load(System.currentTimeMillis(),
+                    (key, response, writtenAt) -> cache.put(key, new Entry(response, writtenAt)));
+            log.info("LLM 응답 캐시 디스크 저장소 열기 - path: {}, 적재: {}건", path, loaded);
+            return store;
+        } catch (IOException e) {
+            log.error("LLM 응답 캐시 디스크 저장소를 열 수 없어 메모리에만 보관합니다 - path: {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * 응답을 조회합니다. 캐시에 없으면 모델을 호출하여 보관합니다. 비어 있는 응답은 보관하지 않습니다.
+     *
+     * @param model 모델 이름
+     * @param prompt 프롬프트
+     * @param bypass true면 캐시를 거치지 않고 항상 모델을 호출 (매번 새 결과가 필요한 생성)
+     * @param loader 모델 호출 함수
+     * @return 응답
+     */
+    public String get(String model, String prompt, boolean bypass, Supplier<String> loader) {
+        if (!enabled || bypass) {
+            bypassed.increment();
+            return loader.get();
+        }
+        String key = key(model, prompt);
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            return entry.response();
+        }
+        return singleFlight.load(key, () -> {
+            String response = loader.get();
+            if (response != null && !response.isBlank()) {
+                store(key, response);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * 보관 중인 응답 수를 반환합니다.
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (diskStore != null) {
+            try {
+                diskStore.close();
+            } catch (IOException e) {
+                log.warn("LLM 응답 캐시 디스크 저장소 닫기 실패", e);
+            }
+        }
+    }
+
+    private void store(String key, String response) {
+        long now = System.currentTimeMillis();
+        cache.put(key, new Entry(response, now));
+        if (diskStore != null) {
+            try {
+                diskStore.append(key, response, now);
+            } catch (IOException e) {
+                log.warn("LLM 응답 캐시 디스크 기록 실패 - error: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 모델 이름과 정규화한 프롬프트의 SHA-256 해시
+     */
+    static String key(String model, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((model != null ? model : "").getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(prompt).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 키 계산용 프롬프트 정규화 (NFKC, 소문자, 연속 공백과 반복 문장부호 축약)
+     */
+    static String normalize(String prompt) {
+        String normalized = Normalizer.normalize(prompt, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return REPEATED_PUNCTUATION.matcher(normalized).replaceAll("$1");
+    }
+
+    /**
+     * 보관된 응답과 기록 시각 (디스크에서 다시 읽은 응답도 처음 기록한 시각 기준으로 만료)
+     */
+    private record Entry(String response, long writtenAt) {
+    }
+}
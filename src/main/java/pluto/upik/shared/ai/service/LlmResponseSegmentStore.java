@@ -0,0 +1,197 @@
+package pluto.upik.shared.ai.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * LLM 응답 캐시의 디스크 세그먼트 저장소
+ * 응답을 추가 전용 세그먼트 파일(segment-&lt;생성 시각&gt;.log)에 기록하고, 기동 시 만료되지 않은 기록을 다시 읽어 들입니다.
+ * 세그먼트가 최대 크기를 넘으면 새 세그먼트를 열고, 마지막 기록이 만료 시간보다 오래된 세그먼트와
+ * 최대 개수를 넘는 오래된 세그먼트는 삭제합니다. 기록 도중 종료되어 잘린 마지막 기록은 읽지 않습니다.
+ * 기록 형식: [기록 시각(long)][키 길이(int)][키(UTF-8)][응답 길이(int)][응답(UTF-8)]
+ */
+@Slf4j
+class LlmResponseSegmentStore implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int maxSegments;
+    private final Duration ttl;
+    private DataOutputStream out;
+    private Path current;
+    private long currentBytes;
+
+    LlmResponseSegmentStore(Path directory, long segmentBytes, int maxSegments, Duration ttl) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+        this.ttl = ttl;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * 만료되지 않은 기록을 오래된 순서로 읽습니다. 같은 키가 여러 번 나오면 나중 기록이 최신입니다.
+     *
+     * @param now 현재 시각 (epoch ms)
+     * @param consumer 기록 처리 함수
+     * @return 읽은 기록 수
+     */
+    synchronized int load(long now, RecordConsumer consumer) throws IOException {
+        deleteExpired(now);
+        int loaded = 0;
+        for (Path segment : segments()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+                while (true) {
+                    long writtenAt;
+                    String key;
+                    String value;
+                    try {
+                        writtenAt = in.readLong();
+                        key = readString(in);
+                        value = readString(in);
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    if (now - writtenAt < ttl.toMillis()) {
+                        consumer.accept(key, value, writtenAt);
+                        loaded++;
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("LLM 응답 캐시 세그먼트 읽기 실패 - segment: {}, error: {}", segment, e.getMessage());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 기록을 현재 세그먼트 끝에 추가합니다.
+     *
+     * @param key 캐시 키
+     * @param value 응답
+     * @param now 기록 시각 (epoch ms)
+     */
+    synchronized void append(String key, String value, long now) throws IOException {
+        if (out == null || currentBytes >= segmentBytes) {
+            roll(now);
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeLong(now);
+        out.writeInt(keyBytes.length);
+        out.write(keyBytes);
+        out.writeInt(valueBytes.length);
+        out.write(valueBytes);
+        out.flush();
+        currentBytes += Long.BYTES + Integer.BYTES * 2L + keyBytes.length + valueBytes.length;
+    }
+
+    /**
+     * 세그먼트 파일 수를 반환합니다.
+     */
+    synchronized int segmentCount() throws IOException {
+        return segments().size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private void roll(long now) throws IOException {
+        close();
+        Path next = directory.resolve(SEGMENT_PREFIX + now + SEGMENT_SUFFIX);
+        // 같은 밀리초에 다시 열리면 기존 세그먼트에 이어서 기록
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(next,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+        this.current = next;
+        this.currentBytes = Files.size(next);
+        deleteExpired(now);
+    }
+
+    private void deleteExpired(long now) throws IOException {
+        List<Path> segments = segments();
+        int remaining = segments.size();
+        for (Path segment : segments) {
+            if (segment.equals(current)) {
+                continue;
+            }
+            boolean expired = now - Files.getLastModifiedTime(segment).toMillis() >= ttl.toMillis();
+            if (expired || remaining > maxSegments) {
+                Files.deleteIfExists(segment);
+                remaining--;
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 파일 목록 (생성 시각 순)
+     */
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = new ArrayList<>(files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .toList());
+            segments.sort((a, b) -> Long.compare(createdAt(a), createdAt(b)));
+            return segments;
+        }
+    }
+
+    private static long createdAt(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new EOFException("잘린 기록");
+        }
+        return new String(readFully(in, length), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readFully(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("잘린 기록");
+        }
+        return bytes;
+    }
+
+    /**
+     * 읽은 기록 처리 함수
+     */
+    @FunctionalInterface
+    interface RecordConsumer {
+        void accept(String key, String value, long writtenAt);
+    }
+}
@@ -0,0 +1,57 @@
+package pluto.upik.shared.cache.data.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 기록 엔티티
+ * 한 인스턴스에서 무효화한 캐시 키를 기록하여 다른 인스턴스가 폴링으로 가져가 자신의 로컬 캐시에서도 제거하도록 합니다.
+ */
+@Entity
+@Table(name = "cache_invalidation", indexes = {
+        @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CacheInvalidationRecord {
+
+    /**
+     * 기록 ID (증가하는 값으로 폴링 위치를 표시)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 캐시 이름
+     */
+    @Column(name = "cache_name", nullable = false, length = 64)
+    private String cacheName;
+
+    /**
+     * 무효화할 키
+     */
+    @Column(name = "cache_key", nullable = false)
+    private String cacheKey;
+
+    /**
+     * 무효화를 발행한 인스턴스 ID
+     */
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    /**
+     * 기록 시각
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
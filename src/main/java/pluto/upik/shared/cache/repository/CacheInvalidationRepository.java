@@ -0,0 +1,48 @@
+package pluto.upik.shared.cache.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.shared.cache.data.model.CacheInvalidationRecord;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캐시 무효화 기록 레포지토리
+ */
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidationRecord, Long> {
+
+    /**
+     * 마지막으로 읽은 기록 이후의 무효화 기록을 순서대로 조회합니다.
+     *
+     * @param id 마지막으로 읽은 기록 ID
+     * @param pageable 조회 개수
+     * @return 무효화 기록 목록
+     */
+    List<CacheInvalidationRecord> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 가장 최근 기록 ID를 조회합니다.
+     *
+     * @return 가장 최근 기록 ID (기록이 없으면 null)
+     */
+    @Query("SELECT MAX(r.id) FROM CacheInvalidationRecord r")
+    Long findMaxId();
+
+    /**
+     * 보관 기간이 지난 무효화 기록을 삭제합니다.
+     *
+     * @param before 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CacheInvalidationRecord r WHERE r.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
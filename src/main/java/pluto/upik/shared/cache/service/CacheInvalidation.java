@@ -0,0 +1,11 @@
+package pluto.upik.shared.cache.service;
+
+/**
+ * 인스턴스 사이에 전달되는 캐시 무효화 메시지
+ *
+ * @param cacheName 캐시 이름
+ * @param key 무효화할 키
+ * @param origin 무효화를 발행한 인스턴스 ID
+ */
+public record CacheInvalidation(String cacheName, String key, String origin) {
+}
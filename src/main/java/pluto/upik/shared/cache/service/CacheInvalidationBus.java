@@ -0,0 +1,94 @@
+package pluto.upik.shared.cache.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 로컬 캐시(L1)와 인스턴스 간 무효화 채널을 묶는 2단계 캐시 무효화 버스
+ * 각 캐시는 이름별로 로컬 제거 함수를 등록하고, 무효화는 {@link #invalidate}로 로컬에서 바로 제거한 뒤
+ * {@link CacheInvalidationTransport}로 발행합니다. 다른 인스턴스가 발행한 메시지를 받으면 같은 이름의 로컬 제거 함수를 실행합니다.
+ * 조회는 계속 로컬 캐시에서만 이루어지므로 읽기 지연은 그대로이고, 다른 인스턴스의 변경은 전송 계층의 지연만큼 늦게 반영됩니다.
+ * 메시지가 유실되는 경우에 대비해 각 캐시의 만료 시간은 안전장치로 남겨 둡니다.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBus {
+
+    private final CacheInvalidationTransport transport;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<String>> evictors = new ConcurrentHashMap<>();
+    private final Counter published;
+    private final Counter received;
+
+    public CacheInvalidationBus(CacheInvalidationTransport transport, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.published = Counter.builder("cache.invalidation.published")
+                .description("다른 인스턴스로 발행한 캐시 무효화 수")
+                .register(meterRegistry);
+        this.received = Counter.builder("cache.invalidation.received")
+                .description("다른 인스턴스에서 받아 처리한 캐시 무효화 수")
+                .register(meterRegistry);
+        transport.subscribe(this::onReceived);
+    }
+
+    /**
+     * 캐시의 로컬 제거 함수를 등록합니다.
+     *
+     * @param cacheName 캐시 이름 (인스턴스 사이에서 같은 이름을 사용해야 함)
+     * @param evictor 키를 받아 로컬 캐시에서 제거하는 함수
+     */
+    public void register(String cacheName, Consumer<String> evictor) {
+        if (evictors.putIfAbsent(cacheName, evictor) != null) {
+            throw new IllegalStateException("이미 등록된 캐시입니다: " + cacheName);
+        }
+    }
+
+    /**
+     * 로컬 캐시에서 키를 제거하고 다른 인스턴스에 무효화를 발행합니다.
+     * 발행에 실패해도 로컬 제거는 유지되며, 다른 인스턴스는 만료 시간 안에 반영됩니다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key 무효화할 키
+     */
+    public void invalidate(String cacheName, String key) {
+        Consumer<String> evictor = evictors.get(cacheName);
+        if (evictor == null) {
+            throw new IllegalArgumentException("등록되지 않은 캐시입니다: " + cacheName);
+        }
+        evictor.accept(key);
+        try {
+            transport.publish(new CacheInvalidation(cacheName, key, nodeId));
+            published.increment();
+        } catch (Exception e) {
+            log.error("캐시 무효화 발행 실패 - cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 이 인스턴스의 ID를 반환합니다.
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    private void onReceived(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        Consumer<String> evictor = evictors.get(invalidation.cacheName());
+        if (evictor == null) {
+            log.debug("등록되지 않은 캐시의 무효화 무시 - cache: {}", invalidation.cacheName());
+            return;
+        }
+        evictor.accept(invalidation.key());
+        received.increment();
+        log.debug("다른 인스턴스의 캐시 무효화 반영 - cache: {}, key: {}", invalidation.cacheName(), invalidation.key());
+    }
+}
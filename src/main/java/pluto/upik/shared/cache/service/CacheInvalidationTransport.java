@@ -0,0 +1,25 @@
+package pluto.upik.shared.cache.service;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지를 다른 인스턴스에 전달하는 전송 계층
+ * 구현체는 cache.invalidation.transport 설정으로 고릅니다 (jdbc: cache_invalidation 테이블 폴링, memory: 단일 JVM 안에서만 전달).
+ * 발행한 인스턴스에도 메시지가 돌아올 수 있으며, 걸러내는 것은 {@link CacheInvalidationBus}가 맡습니다.
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * 무효화 메시지를 발행합니다.
+     *
+     * @param invalidation 무효화 메시지
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * 수신한 무효화 메시지를 처리할 리스너를 등록합니다.
+     *
+     * @param listener 메시지 리스너
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,31 @@
+package pluto.upik.shared.cache.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * JVM 안에서만 무효화 메시지를 전달하는 전송 계층
+ * 인스턴스가 하나뿐인 환경과, 여러 인스턴스의 캐시를 한 JVM에서 흉내 내는 테스트에서 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "memory", matchIfMissing = true)
+public class InMemoryCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
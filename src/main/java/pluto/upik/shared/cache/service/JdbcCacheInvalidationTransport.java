@@ -0,0 +1,177 @@
+package pluto.upik.shared.cache.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.shared.cache.data.model.CacheInvalidationRecord;
+import pluto.upik.shared.cache.repository.CacheInvalidationRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * cache_invalidation 테이블을 통해 무효화 메시지를 전달하는 전송 계층
+ * 발행은 테이블에 한 행을 추가하고, 각 인스턴스는 마지막으로 읽은 ID 이후의 행을 주기적으로 가져가 리스너에 전달합니다.
+ * 발행은 커밋 이후 콜백에서도 호출되므로 항상 별도 트랜잭션에서 바로 커밋합니다 (이미 끝난 트랜잭션에 참여하면 기록이 커밋되지 않음).
+ * ID는 INSERT 시점에 정해지고 커밋 순서는 다를 수 있으므로, 읽는 도중 건너뛴 ID는 일정 시간 동안 따로 다시 확인하여
+ * 늦게 커밋된 기록도 전달합니다 (무효화는 여러 번 적용해도 같으므로 순서가 바뀌어도 무방).
+ * MariaDB 외의 인프라 없이 동작하며, 다른 인스턴스에 반영되기까지 폴링 주기만큼 늦어질 수 있습니다.
+ * 기동 이전의 기록은 읽지 않고(로컬 캐시가 비어 있으므로), 보관 기간이 지난 기록은 주기적으로 삭제합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "jdbc")
+@Slf4j
+public class JdbcCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    // 한 번에 건너뛴 ID가 이보다 많으면 늦은 커밋이 아니라 ID 증가 간격 설정 등으로 보고 추적하지 않음
+    private static final int MAX_TRACKED_GAP = 1000;
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final int batchSize;
+    private final long retentionSeconds;
+    private final long gapTimeoutNanos;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Long lastSeenId;
+    // 마지막으로 읽은 ID보다 작지만 아직 보지 못한 ID → 처음 건너뛴 시각 (poll 안에서만 사용)
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+
+    public JdbcCacheInvalidationTransport(CacheInvalidationRepository cacheInvalidationRepository,
+                                          @Value("${cache.invalidation.batch-size:500}") int batchSize,
+                                          @Value("${cache.invalidation.retention-seconds:3600}") long retentionSeconds,
+                                          @Value("${cache.invalidation.gap-timeout-ms:10000}") long gapTimeoutMs) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.batchSize = batchSize;
+        this.retentionSeconds = retentionSeconds;
+        this.gapTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(gapTimeoutMs);
+    }
+
+    /**
+     * 무효화 기록을 별도 트랜잭션으로 저장하고 바로 커밋합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void publish(CacheInvalidation invalidation) {
+        cacheInvalidationRepository.save(CacheInvalidationRecord.builder()
+                .cacheName(invalidation.cacheName())
+                .cacheKey(invalidation.key())
+                .origin(invalidation.origin())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 건너뛰었던 ID 중 그 사이 커밋된 기록과, 마지막으로 읽은 기록 이후의 무효화 기록을 가져가 리스너에 전달합니다.
+     *
+     * @return 전달한 기록 수
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+    public synchronized int poll() {
+        try {
+            if (lastSeenId == null) {
+                Long maxId = cacheInvalidationRepository.findMaxId();
+                lastSeenId = maxId != null ? maxId : 0L;
+                return 0;
+            }
+            int delivered = pollGaps();
+            List<CacheInvalidationRecord> records;
+            do {
+                records = cacheInvalidationRepository.findByIdGreaterThanOrderByIdAsc(lastSeenId, PageRequest.of(0, batchSize));
+                for (CacheInvalidationRecord record : records) {
+                    trackGaps(lastSeenId, record.getId());
+                    deliver(record);
+                    lastSeenId = record.getId();
+                    delivered++;
+                }
+            } while (records.size() == batchSize);
+            return delivered;
+        } catch (Exception e) {
+            log.error("캐시 무효화 기록 조회 중 오류 발생", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 무효화 기록을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        try {
+            int deleted = cacheInvalidationRepository.deleteCreatedBefore(LocalDateTime.now().minusSeconds(retentionSeconds));
+            if (deleted > 0) {
+                log.debug("캐시 무효화 기록 정리 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("캐시 무효화 기록 정리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 건너뛴 ID 중 그 사이 커밋된 기록을 전달하고, 제한 시간이 지난 ID는 롤백 등으로 보고 추적을 멈춥니다.
+     */
+    private int pollGaps() {
+        if (gaps.isEmpty()) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        gaps.values().removeIf(skippedAt -> now - skippedAt >= gapTimeoutNanos);
+        if (gaps.isEmpty()) {
+            return 0;
+        }
+        List<CacheInvalidationRecord> lateRecords = cacheInvalidationRepository.findAllById(gaps.keySet()).stream()
+                .sorted(Comparator.comparing(CacheInvalidationRecord::getId))
+                .toList();
+        for (CacheInvalidationRecord record : lateRecords) {
+            gaps.remove(record.getId());
+            deliver(record);
+        }
+        if (!lateRecords.isEmpty()) {
+            log.debug("늦게 커밋된 캐시 무효화 기록 전달 - {}건", lateRecords.size());
+        }
+        return lateRecords.size();
+    }
+
+    private void trackGaps(long previousId, long nextId) {
+        long skipped = nextId - previousId - 1;
+        if (skipped <= 0) {
+            return;
+        }
+        if (skipped > MAX_TRACKED_GAP) {
+            log.warn("건너뛴 캐시 무효화 기록 ID가 너무 많아 추적하지 않음 - {} ~ {}", previousId + 1, nextId - 1);
+            return;
+        }
+        long now = System.nanoTime();
+        for (long id = previousId + 1; id < nextId; id++) {
+            gaps.putIfAbsent(id, now);
+        }
+    }
+
+    private void deliver(CacheInvalidationRecord record) {
+        deliver(new CacheInvalidation(record.getCacheName(), record.getCacheKey(), record.getOrigin()));
+    }
+
+    private void deliver(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (Exception e) {
+                log.error("캐시 무효화 처리 실패 - cache: {}, key: {}", invalidation.cacheName(), invalidation.key(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package pluto.upik.shared.cache.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 키별 단일 실행 로더
+ * 같은 키를 동시에 적재하려는 요청 중 하나만 로더를 실행하고, 나머지는 그 결과를 기다려 함께 받습니다.
+ * 캐시 항목이 만료되는 순간 동시 요청이 모두 같은 쿼리를 실행하는 것을 막기 위한 것이며,
+ * 캐시의 버킷 잠금 밖에서 적재하므로 적재 중에도 같은 버킷의 다른 키 조회를 막지 않습니다.
+ * 실행/합류 횟수는 cache.loads 메트릭(cache, result=executed|coalesced)으로 노출됩니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(String cacheName, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("cache.loads")
+                .tag("cache", cacheName)
+                .tag("result", "executed")
+                .description("로더를 직접 실행한 적재 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("cache.loads")
+                .tag("cache", cacheName)
+                .tag("result", "coalesced")
+                .description("진행 중인 적재에 합류하여 결과를 받은 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키를 적재합니다. 같은 키의 적재가 진행 중이면 로더를 실행하지 않고 그 결과를 기다립니다.
+     * 로더가 실패하면 기다리던 요청도 같은 예외를 받습니다.
+     *
+     * @param key 키
+     * @param loader 적재 함수
+     * @return 적재된 값
+     */
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+        executed.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 키의 적재가 진행 중인지 반환합니다.
+     *
+     * @param key 키
+     */
+    public boolean isLoading(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
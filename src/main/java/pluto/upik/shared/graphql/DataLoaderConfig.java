@@ -0,0 +1,28 @@
+package pluto.upik.shared.graphql;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+
+import java.util.List;
+
+/**
+ * GraphQL DataLoader 설정
+ * 모든 {@link DataLoaderRegistrar} 빈의 배치 로더를 BatchLoaderRegistry에 등록합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class DataLoaderConfig {
+
+    private final BatchLoaderRegistry batchLoaderRegistry;
+    private final List<DataLoaderRegistrar> registrars;
+
+    @PostConstruct
+    public void registerDataLoaders() {
+        registrars.forEach(registrar -> registrar.registerLoaders(batchLoaderRegistry));
+        log.info("GraphQL DataLoader 등록 완료 - 등록기 {}개", registrars.size());
+    }
+}
@@ -0,0 +1,18 @@
+package pluto.upik.shared.graphql;
+
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+
+/**
+ * GraphQL DataLoader 등록 인터페이스
+ * 도메인별로 구현 빈을 두면 {@link DataLoaderConfig}가 기동 시 모두 등록합니다.
+ * 등록된 로더는 요청마다 새로 만들어지며, 같은 요청 안의 load 호출을 모아 한 번에 조회합니다.
+ */
+public interface DataLoaderRegistrar {
+
+    /**
+     * 배치 로더를 등록합니다.
+     *
+     * @param registry 배치 로더 레지스트리
+     */
+    void registerLoaders(BatchLoaderRegistry registry);
+}
@@ -0,0 +1,102 @@
+package pluto.upik.shared.graphql;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * GraphQL 요청에서 클라이언트가 선택한 필드 목록
+ * 하위 필드는 "options/content"처럼 '/'로 구분한 경로로 표현합니다.
+ * {@link #all()}은 모든 필드를 선택한 것으로 취급하므로 GraphQL 밖에서 호출할 때 사용합니다.
+ */
+public final class FieldSelection {
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> fields; // null이면 모든 필드 선택
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * 모든 필드를 선택한 것으로 취급하는 인스턴스를 반환합니다.
+     */
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * GraphQL 선택 집합에서 선택된 필드 경로를 추출합니다.
+     *
+     * @param selectionSet 현재 필드의 선택 집합 (null이면 모든 필드)
+     * @return 선택된 필드 목록
+     */
+    public static FieldSelection of(DataFetchingFieldSelectionSet selectionSet) {
+        if (selectionSet == null) {
+            return ALL;
+        }
+        Set<String> fields = new HashSet<>();
+        for (SelectedField field : selectionSet.getFields()) {
+            fields.add(field.getQualifiedName());
+        }
+        return new FieldSelection(Collections.unmodifiableSet(fields));
+    }
+
+    /**
+     * 지정한 필드만 선택한 인스턴스를 만듭니다.
+     *
+     * @param fields 선택할 필드 경로
+     * @return 선택된 필드 목록
+     */
+    public static FieldSelection of(String... fields) {
+        return new FieldSelection(Set.copyOf(Arrays.asList(fields)));
+    }
+
+    /**
+     * 필드가 선택되었는지 확인합니다.
+     *
+     * @param field 필드 경로 (예: "title", "options/content")
+     * @return 선택 여부
+     */
+    public boolean contains(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * 하위 경로 기준의 선택 목록을 반환합니다.
+     * 커넥션의 "edges/node"처럼 실제 데이터가 중첩된 경우에 사용합니다.
+     *
+     * @param path 기준 경로
+     * @return 기준 경로 아래의 선택 목록
+     */
+    public FieldSelection under(String path) {
+        if (fields == null) {
+            return ALL;
+        }
+        String prefix = path + "/";
+        Set<String> nested = new HashSet<>();
+        for (String field : fields) {
+            if (field.startsWith(prefix)) {
+                nested.add(field.substring(prefix.length()));
+            }
+        }
+        return new FieldSelection(Collections.unmodifiableSet(nested));
+    }
+
+    /**
+     * 모든 필드를 선택한 인스턴스인지 확인합니다.
+     */
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    @Override
+    public String toString() {
+        return fields == null ? "FieldSelection{*}" : "FieldSelection" + fields;
+    }
+}
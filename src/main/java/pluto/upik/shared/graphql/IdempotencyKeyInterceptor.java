@@ -0,0 +1,32 @@
+package pluto.upik.shared.graphql;
+
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 멱등성 키 인터셉터
+ * 요청 헤더의 Idempotency-Key 값을 GraphQL 컨텍스트에 넣어 리졸버가
+ * {@code @ContextValue(name = IDEMPOTENCY_KEY, required = false)}로 받을 수 있도록 합니다.
+ */
+@Component
+public class IdempotencyKeyInterceptor implements WebGraphQlInterceptor {
+
+    public static final String HEADER_NAME = "Idempotency-Key";
+    public static final String IDEMPOTENCY_KEY = "idempotencyKey";
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        String key = request.getHeaders().getFirst(HEADER_NAME);
+        if (StringUtils.hasText(key)) {
+            request.configureExecutionInput((executionInput, builder) ->
+                    builder.graphQLContext(Map.of(IDEMPOTENCY_KEY, key.trim())).build());
+        }
+        return chain.next(request);
+    }
+}
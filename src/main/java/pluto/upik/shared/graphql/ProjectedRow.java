@@ -0,0 +1,50 @@
+package pluto.upik.shared.graphql;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link SelectionProjector}가 조회한 한 행
+ * 선택되지 않아 조회하지 않은 필드는 null로 읽힙니다.
+ */
+public final class ProjectedRow {
+
+    private final Map<String, Object> values;
+
+    private ProjectedRow(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * 필드 이름과 값으로 행을 만듭니다.
+     *
+     * @param values 필드 이름별 값 (null 값 허용)
+     */
+    public static ProjectedRow of(Map<String, ?> values) {
+        return new ProjectedRow(Collections.unmodifiableMap(new HashMap<>(values)));
+    }
+
+    /**
+     * 필드를 조회했는지 확인합니다.
+     */
+    public boolean has(String field) {
+        return values.containsKey(field);
+    }
+
+    /**
+     * 필드 값을 반환합니다.
+     *
+     * @param field 필드 이름
+     * @param type 값 타입
+     * @return 필드 값 (조회하지 않았거나 값이 없으면 null)
+     */
+    public <T> T get(String field, Class<T> type) {
+        return type.cast(values.get(field));
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectedRow" + values;
+    }
+}
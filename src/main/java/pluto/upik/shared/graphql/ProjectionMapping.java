@@ -0,0 +1,128 @@
+package pluto.upik.shared.graphql;
+
+import java.util.*;
+
+/**
+ * GraphQL 필드와 엔티티 속성 경로의 매핑
+ * {@link SelectionProjector}가 선택된 필드에 해당하는 컬럼만 조회할 때 사용합니다.
+ * 속성 경로는 "vote.user.name"처럼 '.'로 연관 엔티티를 따라가며, 중간 연관은 LEFT JOIN으로 조회합니다.
+ *
+ * @param <E> 조회 대상 엔티티 타입
+ */
+public final class ProjectionMapping<E> {
+
+    private final Class<E> entityType;
+    private final Map<String, String> attributes;
+    private final Set<String> requiredFields;
+
+    private ProjectionMapping(Class<E> entityType, Map<String, String> attributes, Set<String> requiredFields) {
+        this.entityType = entityType;
+        this.attributes = attributes;
+        this.requiredFields = requiredFields;
+    }
+
+    /**
+     * 매핑 빌더를 생성합니다.
+     *
+     * @param entityType 조회 대상 엔티티 타입
+     */
+    public static <E> Builder<E> builder(Class<E> entityType) {
+        return new Builder<>(entityType);
+    }
+
+    public Class<E> getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * 필드에 매핑된 엔티티 속성 경로를 반환합니다.
+     */
+    public String attributeOf(String field) {
+        return attributes.get(field);
+    }
+
+    /**
+     * 선택 목록에 따라 실제로 조회할 필드를 반환합니다.
+     * 필수 필드는 선택 여부와 관계없이 항상 포함됩니다.
+     *
+     * @param selection 선택된 필드 목록
+     * @return 조회할 필드 목록 (매핑 선언 순서)
+     */
+    public List<String> resolve(FieldSelection selection) {
+        List<String> fields = new ArrayList<>();
+        for (String field : attributes.keySet()) {
+            if (requiredFields.contains(field) || selection.contains(field)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 필수 필드를 추가한 매핑을 반환합니다.
+     * 커서 생성처럼 응답에는 없지만 내부적으로 필요한 컬럼이 있을 때 사용합니다.
+     *
+     * @param fields 추가할 필수 필드
+     * @return 새 매핑
+     */
+    public ProjectionMapping<E> withRequired(String... fields) {
+        Set<String> required = new HashSet<>(requiredFields);
+        for (String field : fields) {
+            if (!attributes.containsKey(field)) {
+                throw new IllegalArgumentException("매핑되지 않은 필드입니다: " + field);
+            }
+            required.add(field);
+        }
+        return new ProjectionMapping<>(entityType, attributes, Set.copyOf(required));
+    }
+
+    /**
+     * ProjectionMapping 빌더
+     */
+    public static final class Builder<E> {
+
+        private final Class<E> entityType;
+        private final Map<String, String> attributes = new LinkedHashMap<>();
+        private final Set<String> requiredFields = new HashSet<>();
+
+        private Builder(Class<E> entityType) {
+            this.entityType = entityType;
+        }
+
+        /**
+         * 필드 이름과 같은 이름의 엔티티 속성을 매핑합니다.
+         */
+        public Builder<E> field(String field) {
+            return field(field, field);
+        }
+
+        /**
+         * 필드를 엔티티 속성 경로에 매핑합니다.
+         *
+         * @param field GraphQL 필드 이름
+         * @param attributePath 엔티티 속성 경로
+         */
+        public Builder<E> field(String field, String attributePath) {
+            attributes.put(field, attributePath);
+            return this;
+        }
+
+        /**
+         * 선택 여부와 관계없이 항상 조회할 필드를 지정합니다.
+         */
+        public Builder<E> required(String... fields) {
+            requiredFields.addAll(Arrays.asList(fields));
+            return this;
+        }
+
+        public ProjectionMapping<E> build() {
+            for (String field : requiredFields) {
+                if (!attributes.containsKey(field)) {
+                    throw new IllegalArgumentException("매핑되지 않은 필드입니다: " + field);
+                }
+            }
+            return new ProjectionMapping<>(entityType, Collections.unmodifiableMap(new LinkedHashMap<>(attributes)),
+                    Set.copyOf(requiredFields));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package pluto.upik.shared.graphql;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * GraphQL 선택 필드 기반 프로젝션 조회 컴포넌트
+ * 엔티티 전체를 읽는 대신 선택된 필드에 매핑된 컬럼만 Criteria 튜플 쿼리로 조회합니다.
+ * 본문처럼 큰 TEXT 컬럼은 클라이언트가 선택했을 때만 읽히고, 조회 결과는 영속성 컨텍스트에 올라가지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SelectionProjector {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 조건에 맞는 행을 선택된 필드만 조회합니다.
+     *
+     * @param mapping 필드-속성 매핑
+     * @param selection 선택된 필드 목록
+     * @param specification 조회 조건 (null이면 전체)
+     * @return 조회된 행 목록
+     */
+    @Transactional(readOnly = true)
+    public <E> List<ProjectedRow> select(ProjectionMapping<E> mapping, FieldSelection selection,
+                                         Specification<E> specification) {
+        return select(mapping, selection, specification, Sort.unsorted(), 0);
+    }
+
+    /**
+     * 조건에 맞는 행을 선택된 필드만 정렬/개수 제한하여 조회합니다.
+     *
+     * @param mapping 필드-속성 매핑
+     * @param selection 선택된 필드 목록
+     * @param specification 조회 조건 (null이면 전체)
+     * @param sort 정렬 (엔티티 속성 기준)
+     * @param limit 최대 조회 개수 (0 이하이면 제한 없음)
+     * @return 조회된 행 목록
+     */
+    @Transactional(readOnly = true)
+    public <E> List<ProjectedRow> select(ProjectionMapping<E> mapping, FieldSelection selection,
+                                         Specification<E> specification, Sort sort, int limit) {
+        List<String> fields = mapping.resolve(selection);
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("조회할 필드가 없습니다: " + mapping.getEntityType().getSimpleName());
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(mapping.getEntityType());
+
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(path(root, joins, mapping.attributeOf(field)).alias(field));
+        }
+        query.multiselect(selections);
+
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+
+        List<Tuple> tuples = typedQuery.getResultList();
+        log.debug("프로젝션 조회 - entity: {}, fields: {}, rows: {}",
+                mapping.getEntityType().getSimpleName(), fields, tuples.size());
+
+        List<ProjectedRow> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> values = new HashMap<>();
+            for (String field : fields) {
+                values.put(field, tuple.get(field));
+            }
+            rows.add(ProjectedRow.of(values));
+        }
+        return rows;
+    }
+
+    /**
+     * 조건에 맞는 한 행을 선택된 필드만 조회합니다.
+     *
+     * @return 조회된 행 (없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public <E> Optional<ProjectedRow> selectOne(ProjectionMapping<E> mapping, FieldSelection selection,
+                                                Specification<E> specification) {
+        return select(mapping, selection, specification, Sort.unsorted(), 1).stream().findFirst();
+    }
+
+    private Path<?> path(Root<?> root, Map<String, From<?, ?>> joins, String attributePath) {
+        String[] segments = attributePath.split("\\.");
+        From<?, ?> from = root;
+        StringBuilder joinPath = new StringBuilder();
+        for (int i = 0; i < segments.length - 1; i++) {
+            if (!joinPath.isEmpty()) {
+                joinPath.append('.');
+            }
+            joinPath.append(segments[i]);
+            From<?, ?> parent = from;
+            String segment = segments[i];
+            // 연관 엔티티가 없는 행도 조회되도록 LEFT JOIN, 같은 경로는 한 번만 조인
+            from = joins.computeIfAbsent(joinPath.toString(), key -> parent.join(segment, JoinType.LEFT));
+        }
+        return from.get(segments[segments.length - 1]);
+    }
+}
@@ -0,0 +1,18 @@
+package pluto.upik.shared.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Relay 스타일 커넥션의 페이지 정보
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageInfo {
+    private boolean hasNextPage; // 다음 페이지 존재 여부
+    private String endCursor; // 현재 페이지 마지막 항목의 커서 (비어 있으면 null)
+}
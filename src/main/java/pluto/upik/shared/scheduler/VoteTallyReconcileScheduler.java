@@ -0,0 +1,61 @@
+package pluto.upik.shared.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.voteResponse.service.VoteTallyStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 투표 집계 보정 스케줄러
+ * 인메모리 투표 집계를 주기적으로 vote_option_tally 테이블과 비교하여 차이를 보정하고, 그 크기를 메트릭으로 노출합니다.
+ */
+@Component
+@Slf4j
+public class VoteTallyReconcileScheduler {
+
+    // 한 번의 쿼리로 보정할 투표 수
+    private static final int BATCH_SIZE = 500;
+
+    private final VoteTallyStore voteTallyStore;
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    public VoteTallyReconcileScheduler(VoteTallyStore voteTallyStore, MeterRegistry meterRegistry) {
+        this.voteTallyStore = voteTallyStore;
+        Gauge.builder("vote.tally.drift", lastDrift, AtomicLong::get)
+                .description("마지막 보정 시 인메모리 집계와 집계 테이블 사이 응답 수 차이의 합계")
+                .register(meterRegistry);
+        Gauge.builder("vote.tally.loaded", voteTallyStore, VoteTallyStore::size)
+                .description("메모리에 적재된 투표 집계 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 적재된 투표 집계를 집계 테이블과 비교하여 보정합니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.tally.reconcile-interval-ms:10000}")
+    public void reconcile() {
+        try {
+            List<UUID> voteIds = new ArrayList<>(voteTallyStore.loadedVoteIds());
+            long drift = 0;
+            for (int i = 0; i < voteIds.size(); i += BATCH_SIZE) {
+                drift += voteTallyStore.reconcile(voteIds.subList(i, Math.min(i + BATCH_SIZE, voteIds.size())));
+            }
+            lastDrift.set(drift);
+
+            if (drift > 0) {
+                log.warn("투표 집계 보정 완료 - 대상: {}건, 차이: {}", voteIds.size(), drift);
+            } else {
+                log.debug("투표 집계 보정 완료 - 대상: {}건, 차이 없음", voteIds.size());
+            }
+        } catch (Exception e) {
+            log.error("투표 집계 보정 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package pluto.upik.shared.translation.data.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 번역 메모리 엔티티
+ * 번역 API로 번역한 결과를 (원본 언어, 대상 언어, 원문 해시)별로 보관하여 재시작 후나 다른 인스턴스에서도 다시 호출하지 않도록 합니다.
+ */
+@Entity
+@Table(name = "translation_memory")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TranslationMemoryEntry {
+
+    /**
+     * 번역 메모리 키 (원본 언어:대상 언어:원문 SHA-256)
+     */
+    @Id
+    @Column(length = 80)
+    private String id;
+
+    /**
+     * 원본 언어 코드
+     */
+    @Column(name = "source_lang", nullable = false, length = 8)
+    private String sourceLang;
+
+    /**
+     * 대상 언어 코드
+     */
+    @Column(name = "target_lang", nullable = false, length = 8)
+    private String targetLang;
+
+    /**
+     * 원문
+     */
+    @Column(name = "source_text", nullable = false, columnDefinition = "TEXT")
+    private String sourceText;
+
+    /**
+     * 번역문
+     */
+    @Column(name = "translated_text", nullable = false, columnDefinition = "TEXT")
+    private String translatedText;
+
+    /**
+     * 기록 시각
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,54 @@
+package pluto.upik.shared.translation.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.shared.translation.data.model.TranslationMemoryEntry;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * translation_memory 기록용 JDBC 저장소
+ * 번역은 가이드 생성 트랜잭션 안에서도 일어나므로, 호출한 트랜잭션과 분리된 별도 트랜잭션에서 바로 커밋합니다.
+ * 다른 인스턴스가 같은 번역을 먼저 저장했거나 저장에 실패해도 호출한 트랜잭션은 영향을 받지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TranslationMemoryJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO translation_memory (id, source_lang, target_lang, source_text, translated_text, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    // 같은 키가 이미 있으면 먼저 저장된 번역을 그대로 두고, 다른 오류는 그대로 남김
+    private static final String ON_DUPLICATE_SKIP = " ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 번역을 하나의 다중 행 INSERT로 별도 트랜잭션에서 기록합니다. 이미 있는 키는 오류 없이 건너뜁니다.
+     *
+     * @param entries 기록할 번역 목록
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insertSkippingDuplicates(List<TranslationMemoryEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(entries.size(), ROW_PLACEHOLDER))
+                + ON_DUPLICATE_SKIP;
+        Object[] args = new Object[entries.size() * 6];
+        int i = 0;
+        for (TranslationMemoryEntry entry : entries) {
+            args[i++] = entry.getId();
+            args[i++] = entry.getSourceLang();
+            args[i++] = entry.getTargetLang();
+            args[i++] = entry.getSourceText();
+            args[i++] = entry.getTranslatedText();
+            args[i++] = entry.getCreatedAt();
+        }
+        jdbcTemplate.update(sql, args);
+    }
+}
@@ -0,0 +1,12 @@
+package pluto.upik.shared.translation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import pluto.upik.shared.translation.data.model.TranslationMemoryEntry;
+
+/**
+ * 번역 메모리 레포지토리
+ */
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemoryEntry, String> {
+}
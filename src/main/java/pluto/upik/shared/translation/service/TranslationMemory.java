@@ -0,0 +1,269 @@
+package pluto.upik.shared.translation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import pluto.upik.shared.translation.data.model.TranslationMemoryEntry;
+import pluto.upik.shared.translation.repository.TranslationMemoryJdbcRepository;
+import pluto.upik.shared.translation.repository.TranslationMemoryRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 번역 메모리
+ * 번역 결과를 (원본 언어, 대상 언어, 원문 SHA-256) 키로 두 단계에 보관합니다.
+ * 1단계는 번역문 크기 합계로 용량을 제한한 힙 캐시이고, 2단계는 translation_memory 테이블입니다.
+ * 힙에 없으면 테이블을 조회하고, 테이블에서 찾은 번역은 힙에 다시 올립니다. 테이블 조회/저장에 실패하면 힙만 사용합니다.
+ * 테이블 저장은 호출한 트랜잭션과 분리하여 이미 있는 키를 건너뛰므로, 저장 실패나 중복이 가이드 저장 등 호출한 쪽의 트랜잭션을 실패시키지 않습니다.
+ * 단계별 조회 결과는 translation.memory.lookups(result=heap|store|miss), 아낀 번역 API 호출 수는
+ * translation.memory.saved.calls, 적중률은 translation.memory.hit.ratio 메트릭으로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class TranslationMemory {
+
+    public static final String CACHE_NAME = "translationMemory";
+
+    // 키(언어 코드와 SHA-256 16진수)와 객체 헤더 등 번역문 외 고정 비용 추정치
+    private static final int ENTRY_OVERHEAD_BYTES = 72 * 2 + 96;
+
+    private final TranslationMemoryRepository translationMemoryRepository;
+    private final TranslationMemoryJdbcRepository translationMemoryJdbcRepository;
+    private final boolean storeEnabled;
+    private final Cache<String, String> cache;
+    private final Counter heapHits;
+    private final Counter storeHits;
+    private final Counter misses;
+    private final Counter savedCalls;
+
+    public TranslationMemory(TranslationMemoryRepository translationMemoryRepository,
+                             TranslationMemoryJdbcRepository translationMemoryJdbcRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${translation.memory.max-weight-bytes:8388608}") long maxWeightBytes,
+                             @Value("${translation.memory.store-enabled:true}") boolean storeEnabled) {
+        this.translationMemoryRepository = translationMemoryRepository;
+        this.translationMemoryJdbcRepository = translationMemoryJdbcRepository;
+        this.storeEnabled = storeEnabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, String translated) -> ENTRY_OVERHEAD_BYTES + translated.length() * 2)
+                .recordStats()
+                .build();
+        this.heapHits = lookups(meterRegistry, "heap");
+        this.storeHits = lookups(meterRegistry, "store");
+        this.misses = lookups(meterRegistry, "miss");
+        this.savedCalls = Counter.builder("translation.memory.saved.calls")
+                .description("번역 메모리에서 찾아 생략한 번역 API 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("translation.memory.hit.ratio", this, TranslationMemory::hitRatio)
+                .description("번역 메모리 적중률 (힙 + 테이블)")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("translation.memory.lookups")
+                .tag("result", result)
+                .description("번역 메모리 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보관된 번역을 조회합니다.
+     *
+     * @param sourceLang 원본 언어 코드
+     * @param targetLang 대상 언어 코드
+     * @param text 원문
+     * @return 번역문 (없으면 빈 값)
+     */
+    public Optional<String> find(String sourceLang, String targetLang, String text) {
+        String key = key(sourceLang, targetLang, text);
+        String translated = cache.getIfPresent(key);
+        if (translated != null) {
+            heapHits.increment();
+            savedCalls.increment();
+            return Optional.of(translated);
+        }
+        Optional<String> stored = findStored(key, text);
+        if (stored.isPresent()) {
+            cache.put(key, stored.get());
+            storeHits.increment();
+            savedCalls.increment();
+        } else {
+            misses.increment();
+        }
+        return stored;
+    }
+
+    /**
+     * 여러 원문의 보관된 번역을 한 번에 조회합니다. 힙에 없는 원문은 테이블을 한 번의 쿼리로 조회합니다.
+     *
+     * @param sourceLang 원본 언어 코드
+     * @param targetLang 대상 언어 코드
+     * @param texts 원문 목록 (중복 없음)
+     * @return 원문별 번역문 (보관되지 않은 원문은 포함하지 않음)
+     */
+    public Map<String, String> findAll(String sourceLang, String targetLang, Collection<String> texts) {
+        Map<String, String> found = new HashMap<>();
+        Map<String, String> storeKeys = new HashMap<>();
+        for (String text : texts) {
+            String key = key(sourceLang, targetLang, text);
+            String translated = cache.getIfPresent(key);
+            if (translated != null) {
+                found.put(text, translated);
+                heapHits.increment();
+            } else {
+                storeKeys.put(key, text);
+            }
+        }
+        if (!storeKeys.isEmpty()) {
+            for (TranslationMemoryEntry entry : findAllStored(storeKeys.keySet())) {
+                String text = storeKeys.get(entry.getId());
+                // 해시 충돌에 대비해 원문이 같은지 확인
+                if (text != null && entry.getSourceText().equals(text)) {
+                    cache.put(entry.getId(), entry.getTranslatedText());
+                    found.put(text, entry.getTranslatedText());
+                    storeHits.increment();
+                }
+            }
+            misses.increment(texts.size() - found.size());
+        }
+        savedCalls.increment(found.size());
+        return found;
+    }
+
+    /**
+     * 번역을 보관합니다. 번역에 실패하여 원문을 그대로 받은 경우에는 호출하지 않아야 합니다.
+     *
+     * @param sourceLang 원본 언어 코드
+     * @param targetLang 대상 언어 코드
+     * @param text 원문
+     * @param translated 번역문
+     */
+    public void put(String sourceLang, String targetLang, String text, String translated) {
+        String key = key(sourceLang, targetLang, text);
+        cache.put(key, translated);
+        if (!storeEnabled) {
+            return;
+        }
+        try {
+            translationMemoryJdbcRepository.insertSkippingDuplicates(List.of(TranslationMemoryEntry.builder()
+                    .id(key)
+                    .sourceLang(sourceLang)
+                    .targetLang(targetLang)
+                    .sourceText(text)
+                    .translatedText(translated)
+                    .createdAt(LocalDateTime.now())
+                    .build()));
+        } catch (DataAccessException e) {
+            // 힙에는 보관되었으므로 무시
+            log.warn("번역 메모리 저장 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 번역을 한 번에 보관합니다. 번역에 실패하여 원문을 그대로 받은 번역은 포함하지 않아야 합니다.
+     *
+     * @param sourceLang 원본 언어 코드
+     * @param targetLang 대상 언어 코드
+     * @param translations 원문별 번역문
+     */
+    public void putAll(String sourceLang, String targetLang, Map<String, String> translations) {
+        if (translations.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<TranslationMemoryEntry> entries = translations.entrySet().stream()
+                .map(translation -> TranslationMemoryEntry.builder()
+                        .id(key(sourceLang, targetLang, translation.getKey()))
+                        .sourceLang(sourceLang)
+                        .targetLang(targetLang)
+                        .sourceText(translation.getKey())
+                        .translatedText(translation.getValue())
+                        .createdAt(now)
+                        .build())
+                .toList();
+        entries.forEach(entry -> cache.put(entry.getId(), entry.getTranslatedText()));
+        if (!storeEnabled) {
+            return;
+        }
+        try {
+            translationMemoryJdbcRepository.insertSkippingDuplicates(entries);
+        } catch (DataAccessException e) {
+            log.warn("번역 메모리 일괄 저장 실패 - {}건, error: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 조회 중 힙 또는 테이블에서 찾은 비율을 반환합니다.
+     */
+    public double hitRatio() {
+        double hits = heapHits.count() + storeHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    /**
+     * 힙에 보관 중인 번역 수를 반환합니다.
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private Optional<String> findStored(String key, String text) {
+        if (!storeEnabled) {
+            return Optional.empty();
+        }
+        try {
+            // 해시 충돌에 대비해 원문이 같은지 확인
+            return translationMemoryRepository.findById(key)
+                    .filter(entry -> entry.getSourceText().equals(text))
+                    .map(TranslationMemoryEntry::getTranslatedText);
+        } catch (DataAccessException e) {
+            log.warn("번역 메모리 조회 실패 - key: {}, error: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private List<TranslationMemoryEntry> findAllStored(Collection<String> keys) {
+        if (!storeEnabled) {
+            return List.of();
+        }
+        try {
+            return translationMemoryRepository.findAllById(keys);
+        } catch (DataAccessException e) {
+            log.warn("번역 메모리 일괄 조회 실패 - {}건, error: {}", keys.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 번역 메모리 키 (원본 언어:대상 언어:원문 SHA-256)
+     */
+    static String key(String sourceLang, String targetLang, String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String hash = HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+            return sourceLang + ":" + targetLang + ":" + hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -3,32 +3,70 @@ package pluto.upik.shared.translation.service;
 import com.google.cloud.translate.Translate;
 import com.google.cloud.translate.TranslateOptions;
 import com.google.cloud.translate.Translation;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
 /**
  * 번역 서비스
  * 한국어와 영어 간의 번역 기능을 제공합니다.
  * Google Cloud Translation API를 사용합니다.
+ * 번역 결과는 {@link TranslationMemory}에 보관하여, 같은 원문(선택지, 카테고리 이름 등)은 API를 다시 호출하지 않습니다.
+ * 여러 텍스트는 {@link #translateAll}로 API 한도(요청당 텍스트 수와 글자 수) 안에서 묶어 번역하고, 묶음이 여러 개면 동시에 요청합니다.
  */
 @Service
 @Slf4j
 public class TranslationService {
 
     private final Translate translate;
+    private final TranslationMemory translationMemory;
+    private final int batchMaxSegments;
+    private final int batchMaxChars;
+    private final Semaphore batchPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired
+    public TranslationService(@Value("${google.cloud.translation.api-key:}") String apiKey,
+                              TranslationMemory translationMemory,
+                              @Value("${translation.batch.max-segments:128}") int batchMaxSegments,
+                              @Value("${translation.batch.max-chars:30000}") int batchMaxChars,
+                              @Value("${translation.batch.concurrency:4}") int batchConcurrency) {
+        this(createClient(apiKey), translationMemory, batchMaxSegments, batchMaxChars, batchConcurrency);
+    }
 
-    public TranslationService(@Value("${google.cloud.translation.api-key:}") String apiKey) {
+    TranslationService(Translate translate, TranslationMemory translationMemory,
+                       int batchMaxSegments, int batchMaxChars, int batchConcurrency) {
+        this.translate = translate;
+        this.translationMemory = translationMemory;
+        this.batchMaxSegments = batchMaxSegments;
+        this.batchMaxChars = batchMaxChars;
+        this.batchPermits = new Semaphore(batchConcurrency);
+    }
+
+    private static Translate createClient(String apiKey) {
         // API 키가 제공된 경우 사용, 그렇지 않으면 기본 인증 사용
         if (apiKey != null && !apiKey.isEmpty()) {
-            this.translate = TranslateOptions.newBuilder()
+            return TranslateOptions.newBuilder()
                     .setApiKey(apiKey)
                     .build()
                     .getService();
-        } else {
-            // 기본 인증 사용 (환경 변수 GOOGLE_APPLICATION_CREDENTIALS에 지정된 서비스 계정 키 파일 사용)
-            this.translate = TranslateOptions.getDefaultInstance().getService();
         }
+        // 기본 인증 사용 (환경 변수 GOOGLE_APPLICATION_CREDENTIALS에 지정된 서비스 계정 키 파일 사용)
+        return TranslateOptions.getDefaultInstance().getService();
     }
 
     /**
@@ -67,6 +105,7 @@ public class TranslationService {
 
     /**
      * 텍스트를 지정된 언어로 번역합니다.
+     * 번역 메모리에 있으면 API를 호출하지 않으며, 번역에 성공한 결과만 번역 메모리에 보관합니다.
      *
      * @param text 번역할 텍스트
      * @param sourceLang 원본 언어 코드
@@ -74,6 +113,14 @@ public class TranslationService {
      * @return 번역된 텍스트
      */
     private String translate(String text, String sourceLang, String targetLang) {
+        if (text == null || text.isBlank()) {
+            return text;
+        }
+        Optional<String> remembered = translationMemory.find(sourceLang, targetLang, text);
+        if (remembered.isPresent()) {
+            log.debug("번역 메모리 적중: {}", remembered.get());
+            return remembered.get();
+        }
         try {
             Translation translation = translate.translate(
                     text,
@@ -82,6 +129,7 @@ public class TranslationService {
             );
 
             String translatedText = translation.getTranslatedText();
+            translationMemory.put(sourceLang, targetLang, text, translatedText);
             log.debug("번역 완료: {}", translatedText);
             return translatedText;
         } catch (Exception e) {
@@ -89,4 +137,107 @@ public class TranslationService {
             return text; // 번역 실패 시 원본 텍스트 반환
         }
     }
+
+    /**
+     * 여러 텍스트를 한 번에 번역합니다.
+     * 번역 메모리에 없는 텍스트만 중복을 제거하여 API 한도 안에서 묶고, 묶음마다 한 번씩(여러 묶음은 동시에) API를 호출합니다.
+     * 번역에 실패한 묶음의 텍스트와 빈 텍스트는 원문을 그대로 반환합니다.
+     *
+     * @param texts 번역할 텍스트 목록
+     * @param sourceLang 원본 언어 코드
+     * @param targetLang 대상 언어 코드
+     * @return 입력과 같은 순서의 번역된 텍스트 목록
+     */
+    public List<String> translateAll(List<String> texts, String sourceLang, String targetLang) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text != null && !text.isBlank()) {
+                distinct.add(text);
+            }
+        }
+        Map<String, String> translated = new HashMap<>(translationMemory.findAll(sourceLang, targetLang, distinct));
+        List<String> pending = distinct.stream()
+                .filter(text -> !translated.containsKey(text))
+                .toList();
+        List<List<String>> batches = batches(pending, batchMaxSegments, batchMaxChars);
+        if (batches.size() == 1) {
+            translated.putAll(translateBatch(batches.get(0), sourceLang, targetLang));
+        } else if (batches.size() > 1) {
+            List<CompletableFuture<Map<String, String>>> futures = batches.stream()
+                    .map(batch -> CompletableFuture.supplyAsync(
+                            () -> translateBatchWithPermit(batch, sourceLang, targetLang), executor))
+                    .toList();
+            futures.forEach(future -> translated.putAll(future.join()));
+        }
+        log.debug("일괄 번역 완료 - 요청: {}건, 번역 메모리: {}건, API 호출: {}회",
+                texts.size(), distinct.size() - pending.size(), batches.size());
+        return texts.stream()
+                .map(text -> translated.getOrDefault(text, text))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 텍스트를 순서대로 요청당 텍스트 수와 글자 수 한도 안에서 묶습니다. 한도보다 긴 텍스트는 혼자 한 묶음이 됩니다.
+     */
+    static List<List<String>> batches(List<String> texts, int maxSegments, int maxChars) {
+        List<List<String>> batches = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int chars = 0;
+        for (String text : texts) {
+            if (!current.isEmpty() && (current.size() >= maxSegments || chars + text.length() > maxChars)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                chars = 0;
+            }
+            current.add(text);
+            chars += text.length();
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private Map<String, String> translateBatchWithPermit(List<String> batch, String sourceLang, String targetLang) {
+        try {
+            batchPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Map.of();
+        }
+        try {
+            return translateBatch(batch, sourceLang, targetLang);
+        } finally {
+            batchPermits.release();
+        }
+    }
+
+    /**
+     * 묶음을 한 번의 API 호출로 번역하고 번역 메모리에 보관합니다.
+     *
+     * @return 원문별 번역문 (실패하면 빈 맵)
+     */
+    private Map<String, String> translateBatch(List<String> batch, String sourceLang, String targetLang) {
+        try {
+            List<Translation> translations = translate.translate(
+                    batch,
+                    Translate.TranslateOption.sourceLanguage(sourceLang),
+                    Translate.TranslateOption.targetLanguage(targetLang)
+            );
+            Map<String, String> result = new HashMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                result.put(batch.get(i), translations.get(i).getTranslatedText());
+            }
+            translationMemory.putAll(sourceLang, targetLang, result);
+            return result;
+        } catch (Exception e) {
+            log.error("일괄 번역 API 호출 중 오류 발생 - {}건", batch.size(), e);
+            return Map.of();
+        }
+    }
 }
@@ -0,0 +1,19 @@
+-- 기존 테이블(vote, vote_response, guide 등)에 대한 변경 (기동 시 schema.sql 다음에 spring.sql.init으로 실행)
+-- 모든 문장은 여러 번 실행해도 결과가 같도록 작성합니다 (IF NOT EXISTS, 아직 처리되지 않은 행만 갱신).
+-- vote_response (user_id, vote_id) 유니크 인덱스는 기존 중복 응답 정리가 필요하므로 VoteResponseUniqueKeyMigration에서 만듭니다.
+
+-- 투표 생성 일시 (커서 기반 페이지네이션의 정렬 기준)
+-- 기존 투표는 가장 이른 응답 날짜로 채우고, 응답이 없으면 처음 추가된 시각으로 채웁니다.
+-- 새 투표는 애플리케이션이 항상 값을 넣지만, 매 기동마다 테이블을 다시 만들지 않도록 열은 NULL 허용으로 둡니다.
+ALTER TABLE vote ADD COLUMN IF NOT EXISTS created_at DATETIME(6) NULL;
+UPDATE vote v
+SET v.created_at = COALESCE((SELECT MIN(r.created_at) FROM vote_response r WHERE r.vote_id = v.id), CURRENT_TIMESTAMP(6))
+WHERE v.created_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_vote_created_at_id ON vote (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_vote_category_created_at_id ON vote (category, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_vote_status_created_at_id ON vote (status, created_at, id);
+
+-- 카테고리별 가이드 목록의 커서 기반 페이지네이션 (정렬 기준별 인덱스, id는 같은 값 사이의 순서)
+CREATE INDEX IF NOT EXISTS idx_guide_category_created_at_id ON guide (category, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_guide_category_like_id ON guide (category, `like`, id);
+CREATE INDEX IF NOT EXISTS idx_guide_category_revote_count_id ON guide (category, revote_count, id);
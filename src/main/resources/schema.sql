@@ -0,0 +1,47 @@
+-- 애플리케이션이 추가한 테이블 (기동 시 spring.sql.init으로 실행, 이미 있으면 건너뜀)
+-- 기존 테이블(vote, option, vote_response 등)은 이 스크립트에서 관리하지 않으며, 기존 테이블 변경은 migration.sql에 둡니다.
+
+-- 투표 선택지별 응답 수 집계 (vote_response와 같은 트랜잭션에서 증가)
+CREATE TABLE IF NOT EXISTS vote_option_tally (
+    vote_id   UUID       NOT NULL,
+    option_id BINARY(16) NOT NULL,
+    `count`   BIGINT     NOT NULL DEFAULT 0,
+    PRIMARY KEY (vote_id, option_id)
+);
+
+-- 인스턴스 간 캐시 무효화 기록 (cache.invalidation.transport=jdbc, 보관 기간이 지나면 삭제)
+CREATE TABLE IF NOT EXISTS cache_invalidation (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    cache_name VARCHAR(64)  NOT NULL,
+    cache_key  VARCHAR(255) NOT NULL,
+    origin     VARCHAR(36)  NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_created_at ON cache_invalidation (created_at);
+
+-- 가이드 생성 작업 (종료된 투표마다 하나, 재시작 후에도 대기/실패 작업을 이어서 처리)
+CREATE TABLE IF NOT EXISTS guide_generation_job (
+    vote_id         UUID          NOT NULL,
+    guide_type      VARCHAR(255),
+    status          VARCHAR(16)   NOT NULL,
+    attempts        INT           NOT NULL,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    started_at      DATETIME(6),
+    last_error      VARCHAR(1000),
+    created_at      DATETIME(6)   NOT NULL,
+    updated_at      DATETIME(6)   NOT NULL,
+    PRIMARY KEY (vote_id)
+);
+CREATE INDEX IF NOT EXISTS idx_guide_generation_job_status_next ON guide_generation_job (status, next_attempt_at);
+
+-- 번역 메모리 (원본 언어:대상 언어:원문 SHA-256 키별 번역 결과)
+CREATE TABLE IF NOT EXISTS translation_memory (
+    id              VARCHAR(80) NOT NULL,
+    source_lang     VARCHAR(8)  NOT NULL,
+    target_lang     VARCHAR(8)  NOT NULL,
+    source_text     TEXT        NOT NULL,
+    translated_text TEXT        NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
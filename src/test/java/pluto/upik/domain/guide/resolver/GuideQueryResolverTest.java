@@ -12,6 +12,7 @@ import pluto.upik.domain.guide.data.DTO.GuideResponse;
 import pluto.upik.domain.guide.service.GuideQueryServiceInterface;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.graphql.FieldSelection;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -96,10 +97,10 @@ class GuideQueryResolverTest {
     void guideById_Success() {
         // given
         String guideIdString = guideId.toString();
-        when(guideQueryService.findGuideById(guideId)).thenReturn(guideDetailResponse);
+        when(guideQueryService.findGuideById(guideId, FieldSelection.all())).thenReturn(guideDetailResponse);
         
         // when
-        GuideDetailResponse result = guideQueryResolver.guideById(parent, guideIdString);
+        GuideDetailResponse result = guideQueryResolver.guideById(parent, guideIdString, null);
         
         // then
         assertNotNull(result);
@@ -111,7 +112,7 @@ class GuideQueryResolverTest {
         assertEquals(10L, result.getLikeCount());
         assertEquals(5L, result.getRevoteCount());
         assertEquals(voteId, result.getVoteId());
-        verify(guideQueryService).findGuideById(guideId);
+        verify(guideQueryService).findGuideById(guideId, FieldSelection.all());
     }
     
     @Test
@@ -122,7 +123,7 @@ class GuideQueryResolverTest {
         
         // when & then
         assertThrows(IllegalArgumentException.class, () -> 
-            guideQueryResolver.guideById(parent, invalidId));
+            guideQueryResolver.guideById(parent, invalidId, null));
     }
     
     @Test
@@ -130,15 +131,15 @@ class GuideQueryResolverTest {
     void guideById_ResourceNotFound() {
         // given
         String guideIdString = guideId.toString();
-        when(guideQueryService.findGuideById(guideId))
+        when(guideQueryService.findGuideById(guideId, FieldSelection.all()))
             .thenThrow(new ResourceNotFoundException("해당 ID의 가이드를 찾을 수 없습니다: " + guideId));
         
         // when & then
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> 
-            guideQueryResolver.guideById(parent, guideIdString));
+            guideQueryResolver.guideById(parent, guideIdString, null));
             
         assertEquals("해당 ID의 가이드를 찾을 수 없습니다: " + guideId, exception.getMessage());
-        verify(guideQueryService).findGuideById(guideId);
+        verify(guideQueryService).findGuideById(guideId, FieldSelection.all());
     }
     
     @Test
@@ -146,14 +147,14 @@ class GuideQueryResolverTest {
     void guideById_BusinessException() {
         // given
         String guideIdString = guideId.toString();
-        when(guideQueryService.findGuideById(guideId))
+        when(guideQueryService.findGuideById(guideId, FieldSelection.all()))
             .thenThrow(new BusinessException("가이드 상세 조회 중 오류가 발생했습니다."));
         
         // when & then
         BusinessException exception = assertThrows(BusinessException.class, () -> 
-            guideQueryResolver.guideById(parent, guideIdString));
+            guideQueryResolver.guideById(parent, guideIdString, null));
             
         assertEquals("가이드 상세 조회 중 오류가 발생했습니다.", exception.getMessage());
-        verify(guideQueryService).findGuideById(guideId);
+        verify(guideQueryService).findGuideById(guideId, FieldSelection.all());
     }
 }
\ No newline at end of file
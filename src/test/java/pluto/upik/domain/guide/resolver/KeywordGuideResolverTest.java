@@ -11,6 +11,7 @@ import pluto.upik.domain.guide.data.DTO.KeywordGuideResponse;
 import pluto.upik.domain.guide.service.KeywordGuideServiceInterface;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.graphql.FieldSelection;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -56,10 +57,10 @@ class KeywordGuideResolverTest {
     void searchByKeyword_Success() {
         // given
         Object parent = new Object();
-        when(keywordGuideService.searchGuidesByKeyword(keyword)).thenReturn(keywordGuideResponseList);
+        when(keywordGuideService.searchGuidesByKeyword(keyword, 0, 20, FieldSelection.all())).thenReturn(keywordGuideResponseList);
 
         // when
-        List<KeywordGuideResponse> result = keywordGuideResolver.searchByKeyword(parent, keyword);
+        List<KeywordGuideResponse> result = keywordGuideResolver.searchByKeyword(parent, keyword, null, null, null);
 
         // then
         assertNotNull(result);
@@ -68,7 +69,7 @@ class KeywordGuideResolverTest {
         assertEquals("테스트 가이드 제목", result.get(0).getTitle());
         assertEquals(keyword, result.get(0).getKeyword());
         assertEquals("테스트 가이드 내용", result.get(0).getContent());
-        verify(keywordGuideService).searchGuidesByKeyword(keyword);
+        verify(keywordGuideService).searchGuidesByKeyword(keyword, 0, 20, FieldSelection.all());
     }
     
     @Test
@@ -76,15 +77,15 @@ class KeywordGuideResolverTest {
     void searchByKeyword_ResourceNotFound() {
         // given
         Object parent = new Object();
-        when(keywordGuideService.searchGuidesByKeyword(keyword))
+        when(keywordGuideService.searchGuidesByKeyword(keyword, 0, 20, FieldSelection.all()))
             .thenThrow(new ResourceNotFoundException("해당 키워드로 검색된 가이드가 없습니다: " + keyword));
 
         // when & then
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, 
-            () -> keywordGuideResolver.searchByKeyword(parent, keyword));
+            () -> keywordGuideResolver.searchByKeyword(parent, keyword, null, null, null));
             
         assertEquals("해당 키워드로 검색된 가이드가 없습니다: " + keyword, exception.getMessage());
-        verify(keywordGuideService).searchGuidesByKeyword(keyword);
+        verify(keywordGuideService).searchGuidesByKeyword(keyword, 0, 20, FieldSelection.all());
     }
     
     @Test
@@ -92,14 +93,14 @@ class KeywordGuideResolverTest {
     void searchByKeyword_BusinessException() {
         // given
         Object parent = new Object();
-        when(keywordGuideService.searchGuidesByKeyword(keyword))
+        when(keywordGuideService.searchGuidesByKeyword(keyword, 0, 20, FieldSelection.all()))
             .thenThrow(new BusinessException("가이드 키워드 검색 중 오류가 발생했습니다."));
 
         // when & then
         BusinessException exception = assertThrows(BusinessException.class, 
-            () -> keywordGuideResolver.searchByKeyword(parent, keyword));
+            () -> keywordGuideResolver.searchByKeyword(parent, keyword, null, null, null));
             
         assertEquals("가이드 키워드 검색 중 오류가 발생했습니다.", exception.getMessage());
-        verify(keywordGuideService).searchGuidesByKeyword(keyword);
+        verify(keywordGuideService).searchGuidesByKeyword(keyword, 0, 20, FieldSelection.all());
     }
 }
\ No newline at end of file
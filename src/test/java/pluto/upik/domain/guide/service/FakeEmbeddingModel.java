@@ -0,0 +1,75 @@
+package pluto.upik.domain.guide.service;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 결정적 임베딩 모델
+ * 공백을 뺀 글자 2-gram을 해시하여 고정 차원 벡터에 더하므로, 같은 글자열을 많이 공유할수록 코사인 유사도가 높습니다.
+ * Ollama 없이 임베딩 색인을 검증할 때 사용합니다.
+ */
+class FakeEmbeddingModel implements EmbeddingModel {
+
+    static final int DIMENSIONS = 64;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile long delayMs;
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        calls.incrementAndGet();
+        if (delayMs > 0) {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Embedding> embeddings = new ArrayList<>();
+        List<String> texts = request.getInstructions();
+        for (int i = 0; i < texts.size(); i++) {
+            embeddings.add(new Embedding(vectorOf(texts.get(i)), i));
+        }
+        return new EmbeddingResponse(embeddings);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return vectorOf(document.getText());
+    }
+
+    @Override
+    public int dimensions() {
+        return DIMENSIONS;
+    }
+
+    /**
+     * 모델 호출 횟수
+     */
+    int calls() {
+        return calls.get();
+    }
+
+    /**
+     * 모델 호출마다 지연 시간을 둡니다 (느린 모델 흉내).
+     */
+    void delay(long delayMs) {
+        this.delayMs = delayMs;
+    }
+
+    static float[] vectorOf(String text) {
+        float[] vector = new float[DIMENSIONS];
+        String compact = text.replaceAll("\\s+", "");
+        for (int i = 0; i + 2 <= compact.length(); i++) {
+            vector[Math.floorMod(compact.substring(i, i + 2).hashCode(), DIMENSIONS)] += 1f;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,80 @@
+package pluto.upik.domain.guide.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.guide.event.GuideLiked;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * GuideCacheInvalidationListener 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GuideCacheInvalidationListenerTest {
+
+    @Mock
+    private GuidePageCache guidePageCache;
+
+    @Mock
+    private GuideLikeFilter guideLikeFilter;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private GuideCacheInvalidationListener listener;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID guideId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        listener = new GuideCacheInvalidationListener(guidePageCache, guideLikeFilter, cacheInvalidationBus);
+    }
+
+    @Test
+    @DisplayName("좋아요 추가는 페이지 무효화와 함께 좋아요 필터 추가를 발행하는지 테스트")
+    void onGuideLiked_Added_PublishesFilterPut() {
+        // when
+        listener.on(new GuideLiked(guideId, userId, true));
+
+        // then
+        verify(cacheInvalidationBus).invalidate(GuideCacheInvalidationListener.GUIDE_PAGES_BY_GUIDE, guideId.toString());
+        verify(cacheInvalidationBus).invalidate(GuideCacheInvalidationListener.GUIDE_LIKE_FILTER, userId + ":" + guideId);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 좋아요 필터 추가를 발행하지 않는지 테스트")
+    void onGuideLiked_Cancelled_DoesNotPublishFilterPut() {
+        // when
+        listener.on(new GuideLiked(guideId, userId, false));
+
+        // then
+        verify(cacheInvalidationBus, never()).invalidate(eq(GuideCacheInvalidationListener.GUIDE_LIKE_FILTER), any());
+    }
+
+    @Test
+    @DisplayName("전달받은 좋아요 필터 추가를 이 인스턴스의 필터에 반영하는지 테스트")
+    void registeredFilterHandler_PutsIntoLocalFilter() {
+        // given
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(cacheInvalidationBus).register(eq(GuideCacheInvalidationListener.GUIDE_LIKE_FILTER), handler.capture());
+
+        // when
+        handler.getValue().accept(userId + ":" + guideId);
+
+        // then
+        verify(guideLikeFilter).put(userId, guideId);
+    }
+}
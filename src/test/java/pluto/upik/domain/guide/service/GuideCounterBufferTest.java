@@ -0,0 +1,121 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * GuideCounterBuffer 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GuideCounterBufferTest {
+
+    @Mock
+    private GuideRepository guideRepository;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private GuideCounterBuffer guideCounterBuffer;
+
+    private UUID guideId;
+
+    @BeforeEach
+    void setUp() {
+        guideCounterBuffer = new GuideCounterBuffer(guideRepository, cacheInvalidationBus, new SimpleMeterRegistry());
+        guideId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("여러 증감을 가이드별 한 번의 UPDATE로 합쳐서 반영하는지 테스트")
+    void flush_CoalescesDeltas() {
+        // given
+        guideCounterBuffer.addLike(guideId, 1);
+        guideCounterBuffer.addLike(guideId, 1);
+        guideCounterBuffer.addLike(guideId, 1);
+        guideCounterBuffer.addLike(guideId, -1);
+        guideCounterBuffer.addRevote(guideId, 1);
+
+        // when
+        int flushed = guideCounterBuffer.flush();
+
+        // then
+        assertEquals(1, flushed);
+        verify(guideRepository, times(1)).addCounts(guideId, 2, 1);
+        assertEquals(0, guideCounterBuffer.pendingLike(guideId));
+        assertEquals(0, guideCounterBuffer.pendingRevote(guideId));
+        verify(cacheInvalidationBus).invalidate(GuideCacheInvalidationListener.GUIDE_PAGES_BY_GUIDE, guideId.toString());
+    }
+
+    @Test
+    @DisplayName("반영 중에도 떼어 낸 증감과 새 증감을 함께 조회하고, 반영 후에는 새 증감만 남는지 테스트")
+    void flush_DuringWrite_CountsDetachedAndNewDeltasOnce() {
+        // given
+        guideCounterBuffer.addLike(guideId, 1);
+        long[] pendingDuringWrite = new long[1];
+        when(guideRepository.addCounts(guideId, 1, 0)).thenAnswer(invocation -> {
+            guideCounterBuffer.addLike(guideId, 1);
+            pendingDuringWrite[0] = guideCounterBuffer.pendingLike(guideId);
+            return 1;
+        });
+
+        // when
+        guideCounterBuffer.flush();
+
+        // then
+        assertEquals(2, pendingDuringWrite[0]);
+        assertEquals(1, guideCounterBuffer.pendingLike(guideId));
+    }
+
+    @Test
+    @DisplayName("서로 상쇄된 증감은 반영하지 않는지 테스트")
+    void flush_CancelledDeltas_NoUpdate() {
+        // given
+        guideCounterBuffer.addLike(guideId, 1);
+        guideCounterBuffer.addLike(guideId, -1);
+
+        // when
+        int flushed = guideCounterBuffer.flush();
+
+        // then
+        assertEquals(0, flushed);
+        verifyNoInteractions(guideRepository);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감은 남아서 다음 반영에서 다시 시도되는지 테스트")
+    void flush_Failure_KeepsDeltas() {
+        // given
+        guideCounterBuffer.addLike(guideId, 1);
+        when(guideRepository.addCounts(eq(guideId), anyLong(), anyLong()))
+                .thenThrow(new RuntimeException("DB 오류"))
+                .thenReturn(1);
+
+        // when
+        int firstFlush = guideCounterBuffer.flush();
+        long pendingAfterFailure = guideCounterBuffer.pendingLike(guideId);
+        int secondFlush = guideCounterBuffer.flush();
+
+        // then
+        assertEquals(0, firstFlush);
+        assertEquals(1, pendingAfterFailure);
+        assertEquals(1, secondFlush);
+        assertEquals(0, guideCounterBuffer.pendingLike(guideId));
+        verify(guideRepository, times(2)).addCounts(guideId, 1, 0);
+        verify(cacheInvalidationBus, times(1)).invalidate(any(), any());
+    }
+}
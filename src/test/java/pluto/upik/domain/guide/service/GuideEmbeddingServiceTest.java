@@ -0,0 +1,175 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import pluto.upik.domain.guide.data.DTO.GuideSimilarityHit;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+import pluto.upik.shared.cache.service.InMemoryCacheInvalidationTransport;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * GuideEmbeddingService 클래스에 대한 단위 테스트
+ * Ollama 대신 {@link FakeEmbeddingModel}을 사용합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class GuideEmbeddingServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private GuideRepository guideRepository;
+
+    private FakeEmbeddingModel embeddingModel;
+    private InMemoryCacheInvalidationTransport transport;
+    private GuideVectorIndex vectorIndex;
+    private GuideEmbeddingService guideEmbeddingService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        embeddingModel = new FakeEmbeddingModel();
+        transport = new InMemoryCacheInvalidationTransport();
+        vectorIndex = new GuideVectorIndex(tempDir.resolve("guide-vectors.bin").toString(), 4, 2);
+        guideEmbeddingService = newService(vectorIndex);
+    }
+
+    private GuideEmbeddingService newService(GuideVectorIndex index) {
+        CacheInvalidationBus bus = new CacheInvalidationBus(transport, new SimpleMeterRegistry());
+        return new GuideEmbeddingService(embeddingModel, index, guideRepository, bus, 0.5, 200, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        guideEmbeddingService.shutdown();
+        vectorIndex.close();
+    }
+
+    @Test
+    @DisplayName("의미가 비슷한 가이드만 최소 유사도 이상으로 찾는지 테스트")
+    void findSimilar_ReturnsOnlyCloseGuides() {
+        // given
+        UUID kimchi = UUID.randomUUID();
+        UUID travel = UUID.randomUUID();
+        guideEmbeddingService.index(kimchi, "김치찌개 끓이는 법", "김치찌개를 맛있게 끓이는 방법을 소개합니다.");
+        guideEmbeddingService.index(travel, "제주도 여행 준비물", "캐리어와 여권을 챙기세요.");
+
+        // when
+        List<GuideSimilarityHit> hits = guideEmbeddingService.findSimilar("김치찌개 맛있게 끓이는 방법", 5);
+
+        // then
+        assertEquals(List.of(kimchi), hits.stream().map(GuideSimilarityHit::guideId).toList());
+    }
+
+    @Test
+    @DisplayName("색인이 비어 있으면 임베딩 모델을 호출하지 않는지 테스트")
+    void findSimilar_EmptyIndex_SkipsModel() {
+        // when
+        List<GuideSimilarityHit> hits = guideEmbeddingService.findSimilar("김치찌개", 5);
+
+        // then
+        assertTrue(hits.isEmpty());
+        assertEquals(0, embeddingModel.calls());
+    }
+
+    @Test
+    @DisplayName("같은 질의는 캐시된 임베딩을 사용하여 모델을 다시 호출하지 않는지 테스트")
+    void findSimilar_SameQuery_UsesCachedEmbedding() {
+        // given
+        guideEmbeddingService.index(UUID.randomUUID(), "김치찌개 끓이는 법", "김치찌개를 맛있게 끓이는 방법");
+        guideEmbeddingService.findSimilar("김치찌개", 5);
+        int callsAfterFirst = embeddingModel.calls();
+
+        // when
+        guideEmbeddingService.findSimilar("김치찌개 ", 5);
+
+        // then
+        assertEquals(callsAfterFirst, embeddingModel.calls());
+    }
+
+    @Test
+    @DisplayName("질의 임베딩이 제한 시간을 넘기면 기다리지 않고 빈 결과를 반환하는지 테스트")
+    void findSimilar_SlowModel_ReturnsEmptyWithinTimeout() {
+        // given
+        guideEmbeddingService.index(UUID.randomUUID(), "김치찌개 끓이는 법", "김치찌개를 맛있게 끓이는 방법");
+        embeddingModel.delay(2000);
+
+        // when
+        long startedAt = System.nanoTime();
+        List<GuideSimilarityHit> hits = guideEmbeddingService.findSimilar("김치찌개 맛있게 끓이는 방법", 5);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertTrue(hits.isEmpty());
+        assertTrue(elapsedMs < 1500, "제한 시간보다 오래 기다림: " + elapsedMs + "ms");
+    }
+
+    @Test
+    @DisplayName("색인에 없는 가이드만 한 번의 모델 호출로 채워 넣는지 테스트")
+    void backfill_EmbedsOnlyMissingGuidesInOneCall() {
+        // given
+        Guide indexed = Guide.builder().id(UUID.randomUUID()).title("자취 요리").content("간단한 요리법").build();
+        Guide missing1 = Guide.builder().id(UUID.randomUUID()).title("면접 준비").content("예상 질문 정리").build();
+        Guide missing2 = Guide.builder().id(UUID.randomUUID()).title("캠핑 장비").content("텐트 고르는 법").build();
+        guideEmbeddingService.index(indexed.getId(), indexed.getTitle(), indexed.getContent());
+        when(guideRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(indexed, missing1, missing2)));
+
+        // when
+        int added = guideEmbeddingService.backfill();
+
+        // then
+        assertEquals(2, added);
+        assertEquals(3, vectorIndex.size());
+        assertEquals(2, embeddingModel.calls());
+    }
+
+    @Test
+    @DisplayName("가이드 변경을 발행하면 다른 인스턴스도 임베딩을 계산하고 삭제된 가이드는 제거하는지 테스트")
+    void publishChange_AppliesOnOtherInstances() throws Exception {
+        // given
+        GuideVectorIndex otherIndex = new GuideVectorIndex(tempDir.resolve("other-vectors.bin").toString(), 4, 2);
+        GuideEmbeddingService otherNode = newService(otherIndex);
+        Guide saved = Guide.builder().id(UUID.randomUUID()).title("자취 요리").content("간단한 요리법").build();
+        UUID deleted = UUID.randomUUID();
+        otherNode.index(deleted, "면접 준비", "예상 질문 정리");
+        when(guideRepository.findById(saved.getId())).thenReturn(Optional.of(saved));
+        when(guideRepository.findById(deleted)).thenReturn(Optional.empty());
+
+        try {
+            // when
+            guideEmbeddingService.publishChange(saved.getId());
+            guideEmbeddingService.publishChange(deleted);
+            // 대기 중인 임베딩 작업이 끝날 때까지 기다림
+            guideEmbeddingService.shutdown();
+            otherNode.shutdown();
+
+            // then
+            assertTrue(vectorIndex.contains(saved.getId()));
+            assertTrue(otherIndex.contains(saved.getId()));
+            assertFalse(otherIndex.contains(deleted));
+        } finally {
+            otherIndex.close();
+        }
+    }
+}
@@ -7,9 +7,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import pluto.upik.domain.guide.data.model.GuideAndUser;
 import pluto.upik.domain.guide.data.model.GuideAndUserId;
+import pluto.upik.domain.guide.event.GuideLiked;
+import pluto.upik.domain.guide.event.GuideRevoteReported;
 import pluto.upik.domain.guide.repository.GuideAndUserRepository;
 import pluto.upik.domain.guide.repository.GuideRepository;
 import pluto.upik.domain.report.data.model.Report;
@@ -18,10 +21,13 @@ import pluto.upik.domain.user.repository.UserRepository;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
@@ -42,6 +48,15 @@ class GuideInteractionServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private GuideCounterBuffer guideCounterBuffer;
+
+    @Mock
+    private GuideLikeFilter guideLikeFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private GuideInteractionService guideInteractionService;
 
@@ -62,9 +77,9 @@ class GuideInteractionServiceTest {
         // given
         when(userRepository.existsById(userId)).thenReturn(true);
         when(guideRepository.existsById(guideId)).thenReturn(true);
+        when(guideLikeFilter.mightContain(userId, guideId)).thenReturn(true);
         when(guideAndUserRepository.existsById(guideAndUserId)).thenReturn(false);
         when(guideAndUserRepository.save(any(GuideAndUser.class))).thenReturn(new GuideAndUser());
-        when(guideRepository.incrementLikeCount(guideId)).thenReturn(1);
 
         // when
         boolean result = guideInteractionService.toggleLikeGuide(userId, guideId);
@@ -75,7 +90,8 @@ class GuideInteractionServiceTest {
         verify(guideRepository).existsById(guideId);
         verify(guideAndUserRepository).existsById(guideAndUserId);
         verify(guideAndUserRepository).save(any(GuideAndUser.class));
-        verify(guideRepository).incrementLikeCount(guideId);
+        verify(guideCounterBuffer).addLike(guideId, 1);
+        verify(eventPublisher).publishEvent(new GuideLiked(guideId, userId, true));
     }
 
     @Test
@@ -84,9 +100,9 @@ class GuideInteractionServiceTest {
         // given
         when(userRepository.existsById(userId)).thenReturn(true);
         when(guideRepository.existsById(guideId)).thenReturn(true);
+        when(guideLikeFilter.mightContain(userId, guideId)).thenReturn(true);
         when(guideAndUserRepository.existsById(guideAndUserId)).thenReturn(true);
         doNothing().when(guideAndUserRepository).deleteById(guideAndUserId);
-        when(guideRepository.decrementLikeCount(guideId)).thenReturn(1);
 
         // when
         boolean result = guideInteractionService.toggleLikeGuide(userId, guideId);
@@ -97,7 +113,8 @@ class GuideInteractionServiceTest {
         verify(guideRepository).existsById(guideId);
         verify(guideAndUserRepository).existsById(guideAndUserId);
         verify(guideAndUserRepository).deleteById(guideAndUserId);
-        verify(guideRepository).decrementLikeCount(guideId);
+        verify(guideCounterBuffer).addLike(guideId, -1);
+        verify(eventPublisher).publishEvent(new GuideLiked(guideId, userId, false));
     }
 
     @Test
@@ -137,6 +154,7 @@ class GuideInteractionServiceTest {
         // given
         when(userRepository.existsById(userId)).thenReturn(true);
         when(guideRepository.existsById(guideId)).thenReturn(true);
+        when(guideLikeFilter.mightContain(userId, guideId)).thenReturn(true);
         when(guideAndUserRepository.existsById(guideAndUserId)).thenReturn(false);
         when(guideAndUserRepository.save(any(GuideAndUser.class))).thenThrow(new DataIntegrityViolationException("데이터 무결성 위반"));
 
@@ -151,6 +169,97 @@ class GuideInteractionServiceTest {
         verify(guideAndUserRepository).save(any(GuideAndUser.class));
     }
 
+    @Test
+    @DisplayName("좋아요 토글 - 필터에 없으면 존재 확인 없이 추가하는지 테스트")
+    void toggleLikeGuide_FilterNegative_InsertsWithoutLookup() {
+        // given
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(guideRepository.existsById(guideId)).thenReturn(true);
+        when(guideLikeFilter.mightContain(userId, guideId)).thenReturn(false);
+        when(guideAndUserRepository.insertIgnore(userId, guideId)).thenReturn(1);
+
+        // when
+        boolean result = guideInteractionService.toggleLikeGuide(userId, guideId);
+
+        // then
+        assertTrue(result);
+        verify(guideAndUserRepository, never()).existsById(any());
+        verify(guideCounterBuffer).addLike(guideId, 1);
+        verify(eventPublisher).publishEvent(new GuideLiked(guideId, userId, true));
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 - 필터에 없지만 다른 노드에서 이미 추가된 좋아요는 취소하는지 테스트")
+    void toggleLikeGuide_FilterNegativeButExists_CancelsLike() {
+        // given
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(guideRepository.existsById(guideId)).thenReturn(true);
+        when(guideLikeFilter.mightContain(userId, guideId)).thenReturn(false);
+        when(guideAndUserRepository.insertIgnore(userId, guideId)).thenReturn(0);
+        when(guideAndUserRepository.existsById(guideAndUserId)).thenReturn(true);
+
+        // when
+        boolean result = guideInteractionService.toggleLikeGuide(userId, guideId);
+
+        // then
+        assertFalse(result);
+        verify(guideAndUserRepository).deleteById(guideAndUserId);
+        verify(guideCounterBuffer).addLike(guideId, -1);
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 - 확인 이후 가이드가 삭제되어 추가되지 않으면 취소하지 않고 예외가 발생하는지 테스트")
+    void toggleLikeGuide_GuideDeletedBeforeInsert_ThrowsNotFound() {
+        // given
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(guideRepository.existsById(guideId)).thenReturn(true);
+        when(guideLikeFilter.mightContain(userId, guideId)).thenReturn(false);
+        when(guideAndUserRepository.insertIgnore(userId, guideId)).thenReturn(0);
+        when(guideAndUserRepository.existsById(guideAndUserId)).thenReturn(false);
+
+        // when & then
+        assertThrows(ResourceNotFoundException.class,
+                () -> guideInteractionService.toggleLikeGuide(userId, guideId));
+        verify(guideAndUserRepository, never()).deleteById(any());
+        verify(guideCounterBuffer, never()).addLike(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 일괄 조회 - 필터에 있을 수도 있는 가이드만 DB에서 확인하는지 테스트")
+    void getLikedGuideIds_QueriesOnlyPossiblePositives() {
+        // given
+        UUID likedId = UUID.randomUUID();
+        UUID falsePositiveId = UUID.randomUUID();
+        UUID negativeId = UUID.randomUUID();
+        when(guideLikeFilter.mightContain(userId, likedId)).thenReturn(true);
+        when(guideLikeFilter.mightContain(userId, falsePositiveId)).thenReturn(true);
+        when(guideLikeFilter.mightContain(userId, negativeId)).thenReturn(false);
+        when(guideAndUserRepository.findLikedGuideIds(userId, List.of(likedId, falsePositiveId)))
+                .thenReturn(List.of(likedId));
+
+        // when
+        Set<UUID> result = guideInteractionService.getLikedGuideIds(userId, List.of(likedId, falsePositiveId, negativeId));
+
+        // then
+        assertEquals(Set.of(likedId), result);
+        verify(guideLikeFilter, times(1)).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 일괄 조회 - 모두 필터에 없으면 DB를 조회하지 않는지 테스트")
+    void getLikedGuideIds_AllNegative_SkipsDatabase() {
+        // given
+        UUID guide = UUID.randomUUID();
+        when(guideLikeFilter.mightContain(userId, guide)).thenReturn(false);
+
+        // when
+        Set<UUID> result = guideInteractionService.getLikedGuideIds(userId, List.of(guide));
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(guideAndUserRepository);
+    }
+
     @Test
     @DisplayName("재투표 신고 토글 - 신고 추가 테스트")
     void toggleReportAndRevote_AddReport() {
@@ -160,7 +269,6 @@ class GuideInteractionServiceTest {
         when(guideRepository.existsById(guideId)).thenReturn(true);
         when(reportRepository.existsByUserIdAndTargetId(userId, guideId)).thenReturn(false);
         when(reportRepository.save(any(Report.class))).thenReturn(new Report());
-        when(guideRepository.incrementRevoteCount(guideId)).thenReturn(1);
 
         // when
         boolean result = guideInteractionService.toggleReportAndRevote(guideId, userId, reason);
@@ -171,7 +279,8 @@ class GuideInteractionServiceTest {
         verify(guideRepository).existsById(guideId);
         verify(reportRepository).existsByUserIdAndTargetId(userId, guideId);
         verify(reportRepository).save(any(Report.class));
-        verify(guideRepository).incrementRevoteCount(guideId);
+        verify(guideCounterBuffer).addRevote(guideId, 1);
+        verify(eventPublisher).publishEvent(new GuideRevoteReported(guideId, userId, true));
     }
 
     @Test
@@ -183,7 +292,6 @@ class GuideInteractionServiceTest {
         when(guideRepository.existsById(guideId)).thenReturn(true);
         when(reportRepository.existsByUserIdAndTargetId(userId, guideId)).thenReturn(true);
         doNothing().when(reportRepository).deleteByUserIdAndTargetId(userId, guideId);
-        when(guideRepository.decrementRevoteCount(guideId)).thenReturn(1);
 
         // when
         boolean result = guideInteractionService.toggleReportAndRevote(guideId, userId, reason);
@@ -194,7 +302,8 @@ class GuideInteractionServiceTest {
         verify(guideRepository).existsById(guideId);
         verify(reportRepository).existsByUserIdAndTargetId(userId, guideId);
         verify(reportRepository).deleteByUserIdAndTargetId(userId, guideId);
-        verify(guideRepository).decrementRevoteCount(guideId);
+        verify(guideCounterBuffer).addRevote(guideId, -1);
+        verify(eventPublisher).publishEvent(new GuideRevoteReported(guideId, userId, false));
     }
 
     @Test
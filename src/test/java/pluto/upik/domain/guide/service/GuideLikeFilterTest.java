@@ -0,0 +1,118 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import pluto.upik.domain.guide.data.model.GuideAndUserId;
+import pluto.upik.domain.guide.repository.GuideAndUserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * GuideLikeFilter 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GuideLikeFilterTest {
+
+    @Mock
+    private GuideAndUserRepository guideAndUserRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GuideLikeFilter guideLikeFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guideLikeFilter = new GuideLikeFilter(guideAndUserRepository, meterRegistry, 1000, 0.01);
+    }
+
+    private void rebuildWith(List<GuideAndUserId> ids) {
+        when(guideAndUserRepository.count()).thenReturn((long) ids.size());
+        when(guideAndUserRepository.findAllIds(any(Pageable.class))).thenReturn(new SliceImpl<>(ids));
+        guideLikeFilter.rebuild();
+    }
+
+    @Test
+    @DisplayName("필터를 만들기 전에는 모든 쌍을 있을 수도 있다고 답하는지 테스트")
+    void mightContain_BeforeRebuild_AlwaysTrue() {
+        assertTrue(guideLikeFilter.mightContain(UUID.randomUUID(), UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("테이블에서 적재한 좋아요와 새로 추가한 좋아요를 놓치지 않는지 테스트")
+    void mightContain_LoadedAndPutPairs_NoFalseNegatives() {
+        // given
+        List<GuideAndUserId> ids = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ids.add(new GuideAndUserId(UUID.randomUUID(), UUID.randomUUID()));
+        }
+        rebuildWith(ids);
+        UUID userId = UUID.randomUUID();
+        UUID guideId = UUID.randomUUID();
+
+        // when
+        guideLikeFilter.put(userId, guideId);
+
+        // then
+        for (GuideAndUserId id : ids) {
+            assertTrue(guideLikeFilter.mightContain(id.getUserId(), id.getGuideId()));
+        }
+        assertTrue(guideLikeFilter.mightContain(userId, guideId));
+        assertEquals(501, guideLikeFilter.size());
+    }
+
+    @Test
+    @DisplayName("용량을 넘어 커져도 오탐률이 설정값 근처로 유지되는지 테스트")
+    void put_BeyondCapacity_KeepsFalsePositiveRateBounded() {
+        // given
+        rebuildWith(List.of());
+        long initialBytes = guideLikeFilter.bytes();
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            guideLikeFilter.put(UUID.randomUUID(), UUID.randomUUID());
+        }
+        int falsePositives = 0;
+        int probes = 50_000;
+        for (int i = 0; i < probes; i++) {
+            if (guideLikeFilter.mightContain(UUID.randomUUID(), UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(guideLikeFilter.bytes() > initialBytes);
+        assertTrue((double) falsePositives / probes < 0.02, "오탐률: " + (double) falsePositives / probes);
+        assertTrue(meterRegistry.get("guide.like.filter.expected-false-positive-rate").gauge().value() < 0.02);
+    }
+
+    @Test
+    @DisplayName("관측된 오탐률을 확인 결과로 계산하는지 테스트")
+    void observedFalsePositiveRate_FromChecks() {
+        // given
+        rebuildWith(List.of());
+        for (int i = 0; i < 9; i++) {
+            guideLikeFilter.mightContain(UUID.randomUUID(), UUID.randomUUID());
+        }
+
+        // when
+        guideLikeFilter.recordFalsePositive();
+
+        // then
+        assertEquals(0.1, guideLikeFilter.observedFalsePositiveRate(), 1e-9);
+        assertEquals(0.1, meterRegistry.get("guide.like.filter.false-positive-rate").gauge().value(), 1e-9);
+        assertTrue(meterRegistry.get("guide.like.filter.memory").gauge().value() > 0);
+    }
+}
@@ -0,0 +1,174 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pluto.upik.domain.guide.data.DTO.GuideConnection;
+import pluto.upik.domain.guide.data.DTO.GuideEdge;
+import pluto.upik.domain.guide.data.DTO.GuideResponse;
+import pluto.upik.domain.guide.data.DTO.GuideSort;
+import pluto.upik.shared.pagination.PageInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GuidePageCache 클래스에 대한 단위 테스트
+ */
+class GuidePageCacheTest {
+
+    private static GuideConnection page(int edges, int contentLength) {
+        List<GuideEdge> list = new ArrayList<>();
+        for (int i = 0; i < edges; i++) {
+            list.add(new GuideEdge("cursor-" + i, GuideResponse.builder()
+                    .id(UUID.randomUUID())
+                    .title("가이드 " + i)
+                    .content("가".repeat(contentLength))
+                    .build()));
+        }
+        return new GuideConnection(list, PageInfo.builder().hasNextPage(false).build());
+    }
+
+    private static GuidePageCache.Key key(String category, String after) {
+        return new GuidePageCache.Key(category, GuideSort.CREATED_AT, after, 20, List.of("id", "title"));
+    }
+
+    @Test
+    @DisplayName("본문이 긴 페이지일수록 무게가 크게 계산되는지 테스트")
+    void weigh_LongerContent_Heavier() {
+        // when
+        int small = GuidePageCache.weigh(page(20, 10));
+        int large = GuidePageCache.weigh(page(20, 1000));
+
+        // then
+        assertTrue(large > small);
+        assertTrue(large > 20 * 1000 * 2);
+    }
+
+    @Test
+    @DisplayName("보관된 페이지 무게 합계가 최대 무게를 넘지 않도록 제거되는지 테스트")
+    void get_OverMaxWeight_EvictsPages() {
+        // given
+        GuideConnection heavy = page(20, 1000);
+        int weight = GuidePageCache.weigh(heavy);
+        GuidePageCache cache = new GuidePageCache(new SimpleMeterRegistry(), weight * 3L, 60, 1.0);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            cache.get(key("일반", "cursor-" + i), () -> heavy);
+        }
+
+        // then
+        assertTrue(cache.size() <= 3);
+    }
+
+    @Test
+    @DisplayName("카테고리 무효화 시 해당 카테고리의 페이지만 제거되는지 테스트")
+    void invalidateCategory_RemovesOnlyThatCategory() {
+        // given
+        GuidePageCache cache = new GuidePageCache(new SimpleMeterRegistry(), 1 << 20, 60, 1.0);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(key("일반", null), () -> { loads.incrementAndGet(); return page(1, 10); });
+        cache.get(key("일반", "cursor-0"), () -> { loads.incrementAndGet(); return page(1, 10); });
+        cache.get(key("학교", null), () -> { loads.incrementAndGet(); return page(1, 10); });
+
+        // when
+        cache.invalidateCategory("일반");
+        cache.get(key("학교", null), () -> { loads.incrementAndGet(); return page(1, 10); });
+        cache.get(key("일반", null), () -> { loads.incrementAndGet(); return page(1, 10); });
+
+        // then
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("가이드 무효화 시 그 가이드가 담긴 페이지만 제거되는지 테스트")
+    void invalidateGuide_RemovesPagesContainingGuide() {
+        // given
+        GuidePageCache cache = new GuidePageCache(new SimpleMeterRegistry(), 1 << 20, 60, 1.0);
+        GuideConnection first = page(2, 10);
+        UUID guideId = first.getEdges().get(1).getNode().getId();
+        cache.get(key("일반", null), () -> first);
+        cache.get(key("일반", "cursor-1"), () -> page(2, 10));
+
+        // when
+        cache.invalidateGuide(guideId);
+
+        // then
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("카테고리 무효화 후 다시 보관된 페이지도 가이드 무효화로 제거되는지 테스트")
+    void invalidateGuide_AfterReload_RemovesReloadedPage() {
+        // given
+        GuidePageCache cache = new GuidePageCache(new SimpleMeterRegistry(), 1 << 20, 60, 1.0);
+        GuideConnection first = page(2, 10);
+        UUID guideId = first.getEdges().get(0).getNode().getId();
+        cache.get(key("일반", null), () -> first);
+        cache.invalidateCategory("일반");
+        cache.get(key("일반", null), () -> first);
+        cache.get(key("공부", null), () -> page(2, 10));
+
+        // when
+        cache.invalidateGuide(guideId);
+
+        // then
+        assertEquals(1, cache.size());
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(key("일반", null), () -> { loads.incrementAndGet(); return first; });
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 페이지는 미리 다시 조회하고, 여유가 있으면 보관된 페이지를 반환하는지 테스트")
+    void get_NearExpiry_RefreshesEarly() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GuidePageCache eager = new GuidePageCache(meterRegistry, 1 << 20, 1, 1.0, () -> Double.MIN_VALUE);
+        GuidePageCache lazy = new GuidePageCache(new SimpleMeterRegistry(), 1 << 20, 1, 0, () -> Double.MIN_VALUE);
+        AtomicInteger eagerLoads = new AtomicInteger();
+        AtomicInteger lazyLoads = new AtomicInteger();
+        Supplier<GuideConnection> slowLoader = () -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return page(1, 10);
+        };
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            eager.get(key("일반", null), () -> { eagerLoads.incrementAndGet(); return slowLoader.get(); });
+            lazy.get(key("일반", null), () -> { lazyLoads.incrementAndGet(); return slowLoader.get(); });
+        }
+
+        // then
+        assertEquals(2, eagerLoads.get());
+        assertEquals(1, lazyLoads.get());
+        assertEquals(1, meterRegistry.get("cache.early.refreshes").counter().count());
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화되면 이전 조회 결과가 보관되지 않는지 테스트")
+    void get_InvalidatedWhileLoading_DoesNotStore() {
+        // given
+        GuidePageCache cache = new GuidePageCache(new SimpleMeterRegistry(), 1 << 20, 60, 1.0);
+
+        // when
+        cache.get(key("일반", null), () -> {
+            cache.invalidateCategory("일반");
+            return page(1, 10);
+        });
+
+        // then
+        assertEquals(0, cache.size());
+    }
+}
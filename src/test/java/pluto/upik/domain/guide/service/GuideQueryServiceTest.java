@@ -1,28 +1,41 @@
 package pluto.upik.domain.guide.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import pluto.upik.domain.guide.data.DTO.GuideConnection;
+import pluto.upik.domain.guide.data.DTO.GuideCursor;
 import pluto.upik.domain.guide.data.DTO.GuideDetailResponse;
 import pluto.upik.domain.guide.data.DTO.GuideResponse;
+import pluto.upik.domain.guide.data.DTO.GuideSort;
 import pluto.upik.domain.guide.data.model.Guide;
 import pluto.upik.domain.guide.repository.GuideRepository;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.graphql.FieldSelection;
+import pluto.upik.shared.graphql.ProjectedRow;
+import pluto.upik.shared.graphql.SelectionProjector;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,6 +47,15 @@ class GuideQueryServiceTest {
     @Mock
     private GuideRepository guideRepository;
 
+    @Mock
+    private SelectionProjector selectionProjector;
+
+    @Mock
+    private GuideCounterBuffer guideCounterBuffer;
+
+    @Spy
+    private GuidePageCache guidePageCache = new GuidePageCache(new SimpleMeterRegistry(), 1 << 20, 60, 1.0);
+
     @InjectMocks
     private GuideQueryService guideQueryService;
 
@@ -133,6 +155,22 @@ class GuideQueryServiceTest {
         verify(guideRepository).findById(guideId);
     }
     
+    @Test
+    @DisplayName("가이드 상세 조회 시 반영되지 않은 좋아요/재투표 증감을 더하는지 테스트")
+    void findGuideById_MergesPendingCounts() {
+        // given
+        when(guideRepository.findById(guideId)).thenReturn(Optional.of(testGuide));
+        when(guideCounterBuffer.pendingLike(guideId)).thenReturn(2L);
+        when(guideCounterBuffer.pendingRevote(guideId)).thenReturn(-1L);
+
+        // when
+        GuideDetailResponse result = guideQueryService.findGuideById(guideId);
+
+        // then
+        assertEquals(12L, result.getLikeCount());
+        assertEquals(4L, result.getRevoteCount());
+    }
+
     @Test
     @DisplayName("가이드 ID로 상세 조회 - 결과 없음 테스트")
     void findGuideById_NotFound() {
@@ -160,4 +198,86 @@ class GuideQueryServiceTest {
         assertEquals("가이드 상세 조회 중 오류가 발생했습니다.", exception.getMessage());
         verify(guideRepository).findById(guideId);
     }
-}
\ No newline at end of file
+
+    private ProjectedRow row(UUID id, long like) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("title", "가이드 " + like);
+        values.put("content", "내용");
+        values.put("createdAt", LocalDate.of(2025, 1, 1));
+        values.put("like", like);
+        values.put("revoteCount", 0L);
+        return ProjectedRow.of(values);
+    }
+
+    @Test
+    @DisplayName("카테고리별 가이드 첫 페이지 조회 시 다음 페이지 여부와 커서를 반환하는지 테스트")
+    void findByCategoryConnection_FirstPage_HasNextPage() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(selectionProjector.select(any(), any(), any(), any(Sort.class), eq(3)))
+                .thenReturn(List.of(row(first, 30), row(second, 20), row(UUID.randomUUID(), 10)));
+
+        // when
+        GuideConnection connection = guideQueryService.findByCategoryConnection(
+                category, 2, null, GuideSort.LIKE, FieldSelection.all());
+
+        // then
+        assertEquals(2, connection.getEdges().size());
+        assertTrue(connection.getPageInfo().isHasNextPage());
+        assertEquals(first, connection.getEdges().get(0).getNode().getId());
+        assertEquals(new GuideCursor(GuideSort.LIKE, "20", second).encode(), connection.getPageInfo().getEndCursor());
+    }
+
+    @Test
+    @DisplayName("같은 페이지를 다시 조회하면 캐시에서 반환하는지 테스트")
+    void findByCategoryConnection_SamePage_UsesCache() {
+        // given
+        when(selectionProjector.select(any(), any(), any(), any(Sort.class), eq(21)))
+                .thenReturn(List.of(row(guideId, 10)));
+
+        // when
+        GuideConnection firstCall = guideQueryService.findByCategoryConnection(
+                category, null, null, null, FieldSelection.of("id", "title"));
+        GuideConnection secondCall = guideQueryService.findByCategoryConnection(
+                category, null, null, null, FieldSelection.of("id", "title"));
+
+        // then
+        assertSame(firstCall, secondCall);
+        assertFalse(firstCall.getPageInfo().isHasNextPage());
+        verify(selectionProjector, times(1)).select(any(), any(), any(), any(Sort.class), eq(21));
+    }
+
+    @Test
+    @DisplayName("가이드 저장으로 카테고리가 무효화되면 페이지를 다시 조회하는지 테스트")
+    void findByCategoryConnection_AfterInvalidate_Reloads() {
+        // given
+        when(selectionProjector.select(any(), any(), any(), any(Sort.class), eq(21)))
+                .thenReturn(List.of(row(guideId, 10)));
+        guideQueryService.findByCategoryConnection(category, null, null, null, FieldSelection.all());
+
+        // when
+        guidePageCache.invalidateCategory(category);
+        guideQueryService.findByCategoryConnection(category, null, null, null, FieldSelection.all());
+
+        // then
+        verify(selectionProjector, times(2)).select(any(), any(), any(), any(Sort.class), eq(21));
+    }
+
+    @Test
+    @DisplayName("잘못된 페이지 크기나 다른 정렬 기준의 커서에 대해 예외가 발생하는지 테스트")
+    void findByCategoryConnection_InvalidArguments_ThrowsException() {
+        String likeCursor = new GuideCursor(GuideSort.LIKE, "10", guideId).encode();
+
+        assertThrows(BusinessException.class, () -> guideQueryService.findByCategoryConnection(
+                category, 0, null, null, FieldSelection.all()));
+        assertThrows(BusinessException.class, () -> guideQueryService.findByCategoryConnection(
+                category, 101, null, null, FieldSelection.all()));
+        assertThrows(BusinessException.class, () -> guideQueryService.findByCategoryConnection(
+                category, 10, "not-a-cursor", null, FieldSelection.all()));
+        assertThrows(BusinessException.class, () -> guideQueryService.findByCategoryConnection(
+                category, 10, likeCursor, GuideSort.CREATED_AT, FieldSelection.all()));
+        verifyNoInteractions(selectionProjector);
+    }
+}
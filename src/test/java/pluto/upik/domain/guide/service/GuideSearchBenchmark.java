@@ -0,0 +1,120 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+import pluto.upik.shared.cache.service.InMemoryCacheInvalidationTransport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 가이드 검색 색인과 메모리 부분 문자열 스캔의 검색 시간 비교 벤치마크
+ * 가이드 10만 건을 만들어 같은 키워드 목록으로 검색합니다. 비교 대상은 DB의 LIKE '%keyword%' 쿼리가 아니라
+ * 메모리의 제목/본문 목록을 String.contains로 훑는 스캔이며, 디스크/네트워크/파싱 비용이 빠져 있으므로
+ * 실제 LIKE 쿼리보다 빠른 하한으로만 봐야 합니다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+class GuideSearchBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(GuideSearchBenchmark.class);
+
+    private static final int GUIDES = 100_000;
+    private static final int ROUNDS = 5;
+    private static final String[] WORDS = {
+            "김치찌개", "자취", "요리", "여행", "준비물", "환전", "공부", "방법", "운동", "루틴", "취업", "면접",
+            "노트북", "추천", "다이어트", "식단", "캠핑", "장비", "반려견", "산책", "독서", "습관", "저축", "재테크"
+    };
+    private static final List<String> KEYWORDS = List.of("김치", "면접 준비", "재테크", "캠핑 장비", "반려견 산책");
+
+    @Test
+    @DisplayName("검색 색인이 메모리 부분 문자열 스캔보다 빠른지 측정")
+    void compareSearchLatency() throws Exception {
+        Random random = new Random(42);
+        List<UUID> ids = new ArrayList<>(GUIDES);
+        List<String> titles = new ArrayList<>(GUIDES);
+        List<String> contents = new ArrayList<>(GUIDES);
+        for (int i = 0; i < GUIDES; i++) {
+            ids.add(UUID.randomUUID());
+            titles.add(sentence(random, 4));
+            contents.add(sentence(random, 40));
+        }
+
+        try (GuideSearchIndexHolder holder = new GuideSearchIndexHolder()) {
+            long indexStart = System.nanoTime();
+            for (int i = 0; i < GUIDES; i++) {
+                holder.index.index(ids.get(i), titles.get(i), contents.get(i));
+            }
+            holder.index.commit();
+            log.info("색인 생성: {}건, {} ms", GUIDES, (System.nanoTime() - indexStart) / 1_000_000);
+
+            long scanNanos = 0;
+            long indexNanos = 0;
+            long scanHits = 0;
+            long indexHits = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                for (String keyword : KEYWORDS) {
+                    long start = System.nanoTime();
+                    for (int i = 0; i < GUIDES; i++) {
+                        if (titles.get(i).contains(keyword) || contents.get(i).contains(keyword)) {
+                            scanHits++;
+                        }
+                    }
+                    scanNanos += System.nanoTime() - start;
+
+                    start = System.nanoTime();
+                    indexHits += holder.index.search(keyword, 0, 20).totalHits();
+                    indexNanos += System.nanoTime() - start;
+                }
+            }
+
+            int queries = ROUNDS * KEYWORDS.size();
+            double scanMs = scanNanos / 1e6 / queries;
+            double indexMs = indexNanos / 1e6 / queries;
+            log.info("메모리 부분 문자열 스캔 (LIKE 쿼리 아님): {} ms/query ({}건), 검색 색인: {} ms/query ({}건), {}x",
+                    String.format("%.2f", scanMs), scanHits, String.format("%.2f", indexMs), indexHits,
+                    String.format("%.1f", scanMs / indexMs));
+            assertEquals(GUIDES, holder.index.size());
+            assertTrue(indexMs < scanMs);
+        }
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static final class GuideSearchIndexHolder implements AutoCloseable {
+
+        private final GuideSearchIndex index;
+
+        private GuideSearchIndexHolder() throws Exception {
+            CacheInvalidationBus bus = new CacheInvalidationBus(new InMemoryCacheInvalidationTransport(), new SimpleMeterRegistry());
+            this.index = new GuideSearchIndex(mock(GuideRepository.class), bus, new ByteBuffersDirectory());
+        }
+
+        @Override
+        public void close() throws Exception {
+            index.close();
+        }
+    }
+}
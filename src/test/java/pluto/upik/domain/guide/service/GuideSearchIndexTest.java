@@ -0,0 +1,173 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import pluto.upik.domain.guide.data.DTO.GuideSearchResult;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+import pluto.upik.shared.cache.service.InMemoryCacheInvalidationTransport;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * GuideSearchIndex 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GuideSearchIndexTest {
+
+    @Mock
+    private GuideRepository guideRepository;
+
+    private InMemoryCacheInvalidationTransport transport;
+    private GuideSearchIndex guideSearchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        transport = new InMemoryCacheInvalidationTransport();
+        guideSearchIndex = newIndex();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        guideSearchIndex.close();
+    }
+
+    private GuideSearchIndex newIndex() throws IOException {
+        CacheInvalidationBus bus = new CacheInvalidationBus(transport, new SimpleMeterRegistry());
+        return new GuideSearchIndex(guideRepository, bus, new ByteBuffersDirectory());
+    }
+
+    @Test
+    @DisplayName("어절 중간의 한국어 부분 문자열로도 검색되는지 테스트")
+    void search_KoreanSubstring_Matches() {
+        // given
+        UUID guideId = UUID.randomUUID();
+        guideSearchIndex.index(guideId, "맛있는 김치찌개 끓이는 법", "돼지고기와 묵은지를 준비합니다.");
+
+        // when & then
+        assertEquals(List.of(guideId), guideSearchIndex.search("김치", 0, 10).guideIds());
+        assertEquals(List.of(guideId), guideSearchIndex.search("찌개", 0, 10).guideIds());
+        assertEquals(List.of(guideId), guideSearchIndex.search("묵은지 준비", 0, 10).guideIds());
+        assertTrue(guideSearchIndex.search("된장찌개", 0, 10).hits().isEmpty());
+    }
+
+    @Test
+    @DisplayName("제목에서 일치한 가이드가 본문에서만 일치한 가이드보다 앞서는지 테스트")
+    void search_TitleMatch_RanksFirst() {
+        // given
+        UUID inContent = UUID.randomUUID();
+        UUID inTitle = UUID.randomUUID();
+        guideSearchIndex.index(inContent, "여행 준비물", "여권과 환전을 미리 준비하세요.");
+        guideSearchIndex.index(inTitle, "환전 잘하는 법", "공항보다 시내 은행이 유리합니다.");
+
+        // when
+        GuideSearchResult result = guideSearchIndex.search("환전", 0, 10);
+
+        // then
+        assertEquals(List.of(inTitle, inContent), result.guideIds());
+        assertEquals(2, result.totalHits());
+    }
+
+    @Test
+    @DisplayName("페이지 단위로 나누어 반환하고 수정/삭제를 바로 반영하는지 테스트")
+    void search_PaginationAndUpdates() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            guideSearchIndex.index(UUID.randomUUID(), "공부 방법 " + i, "집중");
+        }
+        UUID edited = UUID.randomUUID();
+        guideSearchIndex.index(edited, "공부 방법", "집중");
+
+        // when
+        guideSearchIndex.index(edited, "운동 방법", "근력");
+        GuideSearchResult lastPage = guideSearchIndex.search("공부", 2, 2);
+
+        // then
+        assertEquals(1, lastPage.hits().size());
+        assertEquals(5, lastPage.totalHits());
+        assertEquals(List.of(edited), guideSearchIndex.search("운동", 0, 10).guideIds());
+
+        guideSearchIndex.delete(edited);
+        assertTrue(guideSearchIndex.search("운동", 0, 10).hits().isEmpty());
+    }
+
+    @Test
+    @DisplayName("가이드 테이블 전체로 색인을 다시 만드는지 테스트")
+    void rebuild_IndexesAllGuides() {
+        // given
+        Guide guide = Guide.builder().id(UUID.randomUUID()).title("자취 요리").content("간단한 레시피").build();
+        guideSearchIndex.index(UUID.randomUUID(), "지워질 가이드", "내용");
+        when(guideRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(guide), PageRequest.of(0, 500), 1));
+
+        // when
+        int indexed = guideSearchIndex.rebuild();
+
+        // then
+        assertEquals(1, indexed);
+        assertEquals(1, guideSearchIndex.size());
+        assertEquals(List.of(guide.getId()), guideSearchIndex.search("레시피", 0, 10).guideIds());
+    }
+
+    @Test
+    @DisplayName("테이블에 없는 문서는 지우고 남은 가이드는 최신 내용으로 다시 색인하는지 테스트")
+    void rebuild_ReconcilesWithTable() {
+        // given
+        Guide guide = Guide.builder().id(UUID.randomUUID()).title("자취 요리").content("간단한 레시피").build();
+        UUID deleted = UUID.randomUUID();
+        guideSearchIndex.index(guide.getId(), "예전 제목", "예전 내용");
+        guideSearchIndex.index(deleted, "자취 청소", "삭제된 가이드");
+        when(guideRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(guide), PageRequest.of(0, 500), 1));
+
+        // when
+        guideSearchIndex.rebuild();
+
+        // then
+        assertEquals(1, guideSearchIndex.size());
+        assertEquals(List.of(guide.getId()), guideSearchIndex.search("자취", 0, 10).guideIds());
+        assertTrue(guideSearchIndex.search("예전", 0, 10).hits().isEmpty());
+    }
+
+    @Test
+    @DisplayName("가이드 변경을 발행하면 다른 인스턴스의 색인에도 반영되는지 테스트")
+    void publishChange_AppliesOnOtherInstances() throws IOException {
+        // given
+        Guide guide = Guide.builder().id(UUID.randomUUID()).title("캠핑 준비물").content("텐트와 침낭").build();
+        GuideSearchIndex otherNode = newIndex();
+        try {
+            when(guideRepository.findById(guide.getId())).thenReturn(Optional.of(guide));
+
+            // when
+            guideSearchIndex.publishChange(guide.getId());
+
+            // then
+            assertEquals(List.of(guide.getId()), guideSearchIndex.search("캠핑", 0, 10).guideIds());
+            assertEquals(List.of(guide.getId()), otherNode.search("캠핑", 0, 10).guideIds());
+
+            when(guideRepository.findById(guide.getId())).thenReturn(Optional.empty());
+            guideSearchIndex.publishChange(guide.getId());
+            assertTrue(otherNode.search("캠핑", 0, 10).hits().isEmpty());
+        } finally {
+            otherNode.close();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+import pluto.upik.shared.cache.service.InMemoryCacheInvalidationTransport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 가이드 제목 유사도 색인의 검색 시간 벤치마크
+ * 무작위 음절로 만든 단어 2,000개를 조합한 제목 10만 건을 색인하고, 색인된 제목의 일부를 바꾼 제목으로 검색합니다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+class GuideTitleSimilarityBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(GuideTitleSimilarityBenchmark.class);
+
+    private static final int GUIDES = 100_000;
+    private static final int VOCABULARY = 2_000;
+    private static final int QUERIES = 2_000;
+    private static final int WARMUP_QUERIES = 2_000;
+
+    @Test
+    @DisplayName("가이드 10만 건에서 유사 제목 검색이 1ms 안에 끝나는지 측정")
+    void measureLookupLatency() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>(VOCABULARY);
+        for (int i = 0; i < VOCABULARY; i++) {
+            words.add(syllables(random, 2 + random.nextInt(3)));
+        }
+        List<String> titles = new ArrayList<>(GUIDES);
+        for (int i = 0; i < GUIDES; i++) {
+            titles.add(title(random, words, 3 + random.nextInt(3)));
+        }
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CacheInvalidationBus bus = new CacheInvalidationBus(new InMemoryCacheInvalidationTransport(), meterRegistry);
+        GuideTitleSimilarityIndex index =
+                new GuideTitleSimilarityIndex(mock(GuideRepository.class), bus, meterRegistry, GUIDES, 0.2);
+        long indexStart = System.nanoTime();
+        for (String title : titles) {
+            index.put(UUID.randomUUID(), title);
+        }
+        log.info("색인 생성: {}건, {} ms, 추정 메모리: {} MB",
+                index.size(), (System.nanoTime() - indexStart) / 1_000_000,
+                String.format("%.1f", index.estimatedBytes() / 1024.0 / 1024.0));
+
+        List<String> queries = new ArrayList<>(QUERIES);
+        for (int i = 0; i < WARMUP_QUERIES + QUERIES; i++) {
+            // 입력 중인 제목처럼 마지막 단어를 다른 단어로 바꿈
+            String title = titles.get(random.nextInt(GUIDES));
+            queries.add(title.substring(0, title.lastIndexOf(' ') + 1) + words.get(random.nextInt(VOCABULARY)));
+        }
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            index.findSimilar(queries.get(i), 10);
+        }
+
+        long found = 0;
+        long start = System.nanoTime();
+        for (int i = WARMUP_QUERIES; i < queries.size(); i++) {
+            if (!index.findSimilar(queries.get(i), 10).isEmpty()) {
+                found++;
+            }
+        }
+        double averageMs = (System.nanoTime() - start) / 1e6 / QUERIES;
+        log.info("유사 제목 검색: {} ms/query, 결과가 있는 검색: {}/{}", String.format("%.3f", averageMs), found, QUERIES);
+
+        assertEquals(GUIDES, index.size());
+        assertTrue(averageMs < 1.0);
+    }
+
+    private static String title(Random random, List<String> words, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(words.get(random.nextInt(words.size())));
+        }
+        return builder.toString();
+    }
+
+    private static String syllables(Random random, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append((char) ('가' + random.nextInt(11_172)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,170 @@
+package pluto.upik.domain.guide.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.SliceImpl;
+import pluto.upik.domain.guide.data.DTO.GuideSimilarityHit;
+import pluto.upik.domain.guide.data.DTO.GuideTitle;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+import pluto.upik.shared.cache.service.InMemoryCacheInvalidationTransport;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * GuideTitleSimilarityIndex 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GuideTitleSimilarityIndexTest {
+
+    @Mock
+    private GuideRepository guideRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryCacheInvalidationTransport transport;
+    private GuideTitleSimilarityIndex similarityIndex;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transport = new InMemoryCacheInvalidationTransport();
+        similarityIndex = newIndex(100);
+    }
+
+    private GuideTitleSimilarityIndex newIndex(int maxEntries) {
+        CacheInvalidationBus bus = new CacheInvalidationBus(transport, new SimpleMeterRegistry());
+        return new GuideTitleSimilarityIndex(guideRepository, bus, meterRegistry, maxEntries, 0.2);
+    }
+
+    @Test
+    @DisplayName("비슷한 제목의 가이드를 유사도 순으로 찾고 관련 없는 가이드는 제외하는지 테스트")
+    void findSimilar_NearDuplicate_RankedFirst() {
+        // given
+        UUID kimchi = UUID.randomUUID();
+        UUID jeju = UUID.randomUUID();
+        similarityIndex.put(kimchi, "김치찌개 맛있게 끓이는 법");
+        similarityIndex.put(UUID.randomUUID(), "된장찌개 끓이는 법");
+        similarityIndex.put(jeju, "제주도 여행 준비물");
+
+        // when
+        List<GuideSimilarityHit> hits = similarityIndex.findSimilar("김치찌개 맛있게 끓이는 방법", 5);
+
+        // then
+        assertFalse(hits.isEmpty());
+        assertEquals(kimchi, hits.get(0).guideId());
+        assertTrue(hits.get(0).score() > 0.5);
+        assertTrue(hits.stream().noneMatch(hit -> hit.guideId().equals(jeju)));
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백/문장부호 차이를 무시하는지 테스트")
+    void findSimilar_IgnoresCaseAndPunctuation() {
+        // given
+        UUID guideId = UUID.randomUUID();
+        similarityIndex.put(guideId, "Spring Boot 입문!");
+
+        // when
+        List<GuideSimilarityHit> hits = similarityIndex.findSimilar("spring-boot 입문", 5);
+
+        // then
+        assertEquals(1, hits.size());
+        assertEquals(1.0, hits.get(0).score());
+    }
+
+    @Test
+    @DisplayName("제목 변경과 삭제가 색인에 반영되는지 테스트")
+    void put_UpdateAndRemove_ReplacesEntry() {
+        // given
+        UUID guideId = UUID.randomUUID();
+        similarityIndex.put(guideId, "겨울 캠핑 장비 추천");
+
+        // when
+        similarityIndex.put(guideId, "여름 휴가 여행지 추천");
+
+        // then
+        assertEquals(1, similarityIndex.size());
+        assertTrue(similarityIndex.findSimilar("겨울 캠핑 장비", 5).isEmpty());
+        assertEquals(guideId, similarityIndex.findSimilar("여름 휴가 여행지", 5).get(0).guideId());
+
+        // when
+        similarityIndex.remove(guideId);
+
+        // then
+        assertEquals(0, similarityIndex.size());
+        assertTrue(similarityIndex.findSimilar("여름 휴가 여행지 추천", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래된 가이드부터 제외하는지 테스트")
+    void put_OverCapacity_EvictsEldest() {
+        // given
+        GuideTitleSimilarityIndex smallIndex = newIndex(2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        // when
+        smallIndex.put(first, "첫 번째 가이드 제목");
+        smallIndex.put(second, "두 번째 가이드 제목");
+        smallIndex.put(third, "세 번째 가이드 제목");
+
+        // then
+        assertEquals(2, smallIndex.size());
+        assertTrue(smallIndex.findSimilar("첫 번째 가이드 제목", 5).stream()
+                .noneMatch(hit -> hit.guideId().equals(first)));
+        assertEquals(third, smallIndex.findSimilar("세 번째 가이드 제목", 5).get(0).guideId());
+    }
+
+    @Test
+    @DisplayName("재생성 시 가이드 제목 전체로 색인을 만들고 지표를 기록하는지 테스트")
+    void rebuild_IndexesAllTitlesAndRecordsMetrics() {
+        // given
+        similarityIndex.put(UUID.randomUUID(), "이전에 색인된 가이드");
+        UUID guideId = UUID.randomUUID();
+        when(guideRepository.findAllTitles(any())).thenReturn(new SliceImpl<>(List.of(
+                new GuideTitle(guideId, "자취생 한 달 식비 절약"),
+                new GuideTitle(UUID.randomUUID(), "면접 예상 질문 정리"))));
+
+        // when
+        int indexed = similarityIndex.rebuild();
+
+        // then
+        assertEquals(2, indexed);
+        assertEquals(guideId, similarityIndex.findSimilar("자취생 한 달 식비", 5).get(0).guideId());
+        assertEquals(2.0, meterRegistry.get("guide.similarity.index.size").gauge().value());
+        assertTrue(meterRegistry.get("guide.similarity.index.memory").gauge().value() > 0);
+        assertEquals(1, meterRegistry.get("guide.similarity.index.rebuild").timer().count());
+    }
+
+    @Test
+    @DisplayName("가이드 변경을 발행하면 다른 인스턴스의 색인에도 반영되는지 테스트")
+    void publishChange_AppliesOnOtherInstances() {
+        // given
+        GuideTitleSimilarityIndex otherNode = newIndex(100);
+        Guide guide = Guide.builder().id(UUID.randomUUID()).title("자취생 한 달 식비 줄이기").build();
+        when(guideRepository.findById(guide.getId())).thenReturn(Optional.of(guide));
+
+        // when
+        similarityIndex.publishChange(guide.getId());
+
+        // then
+        assertEquals(guide.getId(), similarityIndex.findSimilar("자취생 한 달 식비", 5).get(0).guideId());
+        assertEquals(guide.getId(), otherNode.findSimilar("자취생 한 달 식비", 5).get(0).guideId());
+
+        when(guideRepository.findById(guide.getId())).thenReturn(Optional.empty());
+        similarityIndex.publishChange(guide.getId());
+        assertEquals(0, otherNode.size());
+    }
+}
@@ -0,0 +1,147 @@
+package pluto.upik.domain.guide.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pluto.upik.domain.guide.data.DTO.GuideSimilarityHit;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GuideVectorIndex 클래스에 대한 단위 테스트
+ */
+class GuideVectorIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String indexPath;
+    private GuideVectorIndex vectorIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        indexPath = tempDir.resolve("guide-vectors.bin").toString();
+        vectorIndex = new GuideVectorIndex(indexPath, 4, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        vectorIndex.close();
+    }
+
+    @Test
+    @DisplayName("코사인 유사도가 높은 순서로 가이드를 찾는지 테스트")
+    void search_ReturnsNearestByCosine() {
+        // given
+        UUID near = UUID.randomUUID();
+        UUID far = UUID.randomUUID();
+        vectorIndex.put(near, new float[]{1f, 0.1f, 0f});
+        vectorIndex.put(far, new float[]{0f, 0f, 1f});
+
+        // when
+        List<GuideSimilarityHit> hits = vectorIndex.search(new float[]{2f, 0f, 0f}, 2);
+
+        // then
+        assertEquals(List.of(near, far), hits.stream().map(GuideSimilarityHit::guideId).toList());
+        assertTrue(hits.get(0).score() > 0.99);
+        assertFalse(vectorIndex.isTrained());
+    }
+
+    @Test
+    @DisplayName("파일을 다시 열어도 갱신과 삭제가 유지되는지 테스트")
+    void reopen_KeepsUpdatesAndDeletes() throws IOException {
+        // given
+        UUID kept = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        vectorIndex.put(kept, new float[]{1f, 0f});
+        vectorIndex.put(deleted, new float[]{0f, 1f});
+        vectorIndex.put(kept, new float[]{0f, 1f});
+        vectorIndex.delete(deleted);
+        vectorIndex.close();
+
+        // when
+        vectorIndex = new GuideVectorIndex(indexPath, 4, 2);
+
+        // then
+        assertEquals(1, vectorIndex.size());
+        assertTrue(vectorIndex.contains(kept));
+        assertFalse(vectorIndex.contains(deleted));
+        assertEquals(kept, vectorIndex.search(new float[]{0f, 1f}, 1).get(0).guideId());
+    }
+
+    @Test
+    @DisplayName("색인과 차원이 다른 벡터를 추가하면 예외가 발생하는지 테스트")
+    void put_DimensionMismatch_ThrowsException() {
+        // given
+        vectorIndex.put(UUID.randomUUID(), new float[]{1f, 0f});
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> vectorIndex.put(UUID.randomUUID(), new float[]{1f, 0f, 0f}));
+        assertTrue(vectorIndex.search(new float[]{1f, 0f, 0f}, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("벡터가 충분히 쌓이면 중심점을 학습하고 목록 단위로 검색하는지 테스트")
+    void trainIfGrown_EnoughVectors_SearchesInvertedLists() {
+        // given - 네 방향으로 모인 벡터 40개
+        Random random = new Random(7);
+        List<UUID> ids = new ArrayList<>();
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            float[] vector = new float[4];
+            vector[i % 4] = 1f;
+            for (int d = 0; d < 4; d++) {
+                vector[d] += (float) (random.nextGaussian() * 0.05);
+            }
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            vectors.add(vector);
+            vectorIndex.put(id, vector);
+        }
+
+        // when
+        vectorIndex.trainIfGrown();
+        UUID added = UUID.randomUUID();
+        vectorIndex.put(added, new float[]{0f, 0f, 0.2f, 1f});
+
+        // then
+        assertTrue(vectorIndex.isTrained());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(ids.get(i), vectorIndex.search(vectors.get(i), 1).get(0).guideId());
+        }
+        assertEquals(added, vectorIndex.search(new float[]{0f, 0f, 0.2f, 1f}, 1).get(0).guideId());
+    }
+
+    @Test
+    @DisplayName("색인을 열 때는 학습하지 않고 train 호출 시 학습하는지 테스트")
+    void open_DoesNotTrainUntilRequested() throws IOException {
+        // given
+        Random random = new Random(11);
+        for (int i = 0; i < 40; i++) {
+            float[] vector = new float[4];
+            vector[i % 4] = 1f;
+            vector[(i + 1) % 4] += (float) Math.abs(random.nextGaussian() * 0.05);
+            vectorIndex.put(UUID.randomUUID(), vector);
+        }
+        vectorIndex.close();
+
+        // when
+        vectorIndex = new GuideVectorIndex(indexPath, 4, 2);
+        boolean trainedOnOpen = vectorIndex.isTrained();
+        vectorIndex.train();
+
+        // then
+        assertFalse(trainedOnOpen);
+        assertTrue(vectorIndex.isTrained());
+        assertEquals(40, vectorIndex.size());
+    }
+}
@@ -7,19 +7,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.guide.data.DTO.GuideSearchResult;
 import pluto.upik.domain.guide.data.DTO.KeywordGuideResponse;
 import pluto.upik.domain.guide.data.model.Guide;
 import pluto.upik.domain.guide.repository.GuideRepository;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.graphql.FieldSelection;
+import pluto.upik.shared.graphql.ProjectedRow;
+import pluto.upik.shared.graphql.SelectionProjector;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,6 +38,12 @@ class KeywordGuideServiceTest {
     @Mock
     private GuideRepository guideRepository;
 
+    @Mock
+    private SelectionProjector selectionProjector;
+
+    @Mock
+    private GuideSearchIndex guideSearchIndex;
+
     @InjectMocks
     private KeywordGuideService keywordGuideService;
 
@@ -42,20 +55,26 @@ class KeywordGuideServiceTest {
     void setUp() {
         guideId = UUID.randomUUID();
         keyword = "테스트";
-        testGuide = new Guide();
-        testGuide.setId(guideId);
-        testGuide.setTitle("테스트 가이드 제목");
-        testGuide.setContent("테스트 가이드 내용");
-        testGuide.setCreatedAt(LocalDate.now());
-        testGuide.setCategory("테스트 카테고리");
+        testGuide = Guide.builder()
+                .id(guideId)
+                .title("테스트 가이드 제목")
+                .content("테스트 가이드 내용")
+                .createdAt(LocalDate.now())
+                .category("테스트 카테고리")
+                .build();
+    }
+
+    private GuideSearchResult hits(UUID... ids) {
+        return new GuideSearchResult(Arrays.stream(ids).map(id -> new GuideSearchResult.Hit(id, 1.0f)).toList(),
+                ids.length);
     }
 
     @Test
     @DisplayName("키워드로 가이드 검색 성공 테스트")
     void searchGuidesByKeyword_Success() {
         // given
-        List<Guide> guideList = Arrays.asList(testGuide);
-        when(guideRepository.findGuidesByTitleContaining(keyword)).thenReturn(guideList);
+        when(guideSearchIndex.search(keyword, 0, KeywordGuideService.MAX_PAGE_SIZE)).thenReturn(hits(guideId));
+        when(guideRepository.findAllById(List.of(guideId))).thenReturn(List.of(testGuide));
 
         // when
         List<KeywordGuideResponse> result = keywordGuideService.searchGuidesByKeyword(keyword);
@@ -67,43 +86,44 @@ class KeywordGuideServiceTest {
         assertEquals("테스트 가이드 제목", result.get(0).getTitle());
         assertEquals(keyword, result.get(0).getKeyword());
         assertEquals("테스트 가이드 내용", result.get(0).getContent());
-        verify(guideRepository).findGuidesByTitleContaining(keyword);
+        verify(guideSearchIndex).search(keyword, 0, KeywordGuideService.MAX_PAGE_SIZE);
     }
 
     @Test
     @DisplayName("키워드로 가이드 검색 - 결과 없음 테스트")
     void searchGuidesByKeyword_NoResults() {
         // given
-        when(guideRepository.findGuidesByTitleContaining(keyword)).thenReturn(Collections.emptyList());
+        when(guideSearchIndex.search(keyword, 0, KeywordGuideService.MAX_PAGE_SIZE))
+                .thenReturn(GuideSearchResult.empty());
+        when(guideRepository.findAllById(Collections.emptyList())).thenReturn(Collections.emptyList());
 
         // when & then
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, 
             () -> keywordGuideService.searchGuidesByKeyword(keyword));
             
         assertEquals("해당 키워드로 검색된 가이드가 없습니다: " + keyword, exception.getMessage());
-        verify(guideRepository).findGuidesByTitleContaining(keyword);
     }
 
     @Test
     @DisplayName("키워드로 가이드 검색 - 예외 발생 테스트")
     void searchGuidesByKeyword_Exception() {
         // given
-        when(guideRepository.findGuidesByTitleContaining(keyword)).thenThrow(new RuntimeException("DB 오류"));
+        when(guideSearchIndex.search(keyword, 0, KeywordGuideService.MAX_PAGE_SIZE))
+                .thenThrow(new IllegalStateException("색인 오류"));
 
         // when & then
         BusinessException exception = assertThrows(BusinessException.class, 
             () -> keywordGuideService.searchGuidesByKeyword(keyword));
             
         assertEquals("가이드 키워드 검색 중 오류가 발생했습니다.", exception.getMessage());
-        verify(guideRepository).findGuidesByTitleContaining(keyword);
     }
     
     @Test
     @DisplayName("KeywordGuideResponse의 추가 기능 테스트")
     void keywordGuideResponseFunctions_Test() {
         // given
-        List<Guide> guideList = Arrays.asList(testGuide);
-        when(guideRepository.findGuidesByTitleContaining(keyword)).thenReturn(guideList);
+        when(guideSearchIndex.search(keyword, 0, KeywordGuideService.MAX_PAGE_SIZE)).thenReturn(hits(guideId));
+        when(guideRepository.findAllById(List.of(guideId))).thenReturn(List.of(testGuide));
         
         // when
         List<KeywordGuideResponse> result = keywordGuideService.searchGuidesByKeyword(keyword);
@@ -115,4 +135,42 @@ class KeywordGuideServiceTest {
         assertEquals("테스트 가이드 제목", response.getTitle());
         assertEquals("<strong>테스트</strong> 가이드 제목", response.getHighlightedTitle());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조회 순서와 무관하게 검색 색인의 관련도 순으로 반환하는지 테스트")
+    void searchGuidesByKeyword_Paged_KeepsRankOrder() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(guideSearchIndex.search(keyword, 1, 2)).thenReturn(hits(first, second));
+        when(selectionProjector.select(any(), any(), any())).thenReturn(List.of(
+                ProjectedRow.of(Map.of("id", second, "title", "두 번째")),
+                ProjectedRow.of(Map.of("id", first, "title", "첫 번째"))));
+
+        // when
+        List<KeywordGuideResponse> result = keywordGuideService.searchGuidesByKeyword(
+                keyword, 1, 2, FieldSelection.of("title"));
+
+        // then
+        assertEquals(List.of(first, second), result.stream().map(KeywordGuideResponse::getId).toList());
+        assertEquals("첫 번째", result.get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 검색하지 않는지 테스트")
+    void searchGuidesByKeyword_InvalidPageSize_ThrowsException() {
+        assertThrows(BusinessException.class, () -> keywordGuideService.searchGuidesByKeyword(
+                keyword, 0, KeywordGuideService.MAX_PAGE_SIZE + 1, FieldSelection.all()));
+        verify(guideSearchIndex, never()).search(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("조회 범위를 넘는 깊은 페이지는 검색하지 않는지 테스트")
+    void searchGuidesByKeyword_PageBeyondWindow_ThrowsException() {
+        assertThrows(BusinessException.class, () -> keywordGuideService.searchGuidesByKeyword(
+                keyword, Integer.MAX_VALUE, KeywordGuideService.MAX_PAGE_SIZE, FieldSelection.all()));
+        assertThrows(BusinessException.class, () -> keywordGuideService.searchGuidesByKeyword(
+                keyword, KeywordGuideService.MAX_RESULT_WINDOW / 20, 20, FieldSelection.all()));
+        verify(guideSearchIndex, never()).search(any(), anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,90 @@
+package pluto.upik.domain.vote.resolver;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import org.dataloader.DataLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteStats;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteFieldResolver 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteFieldResolverTest {
+
+    @Mock
+    private DataFetchingEnvironment env;
+
+    @Mock
+    private DataLoader<UUID, VoteStats> statsLoader;
+
+    @Mock
+    private DataFetchingFieldSelectionSet selectionSet;
+
+    private final VoteFieldResolver voteFieldResolver = new VoteFieldResolver();
+
+    @Test
+    @DisplayName("서비스에서 채운 옵션은 DataLoader 없이 반환하는지 테스트")
+    void options_AlreadyLoaded_SkipsDataLoader() {
+        // given
+        List<OptionWithStatsPayload> options = List.of(new OptionWithStatsPayload(UUID.randomUUID(), "A", 1, 100f));
+        VotePayload vote = VotePayload.builder().id(UUID.randomUUID()).options(options).build();
+
+        // when
+        List<OptionWithStatsPayload> result = voteFieldResolver.options(vote, env).join();
+
+        // then
+        assertSame(options, result);
+        verifyNoInteractions(env);
+    }
+
+    @Test
+    @DisplayName("채워지지 않은 통계는 투표 ID로 DataLoader에 위임하는지 테스트")
+    void totalResponses_NotLoaded_UsesDataLoader() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        VotePayload vote = VotePayload.builder().id(voteId).build();
+        doReturn(statsLoader).when(env).getDataLoader(VoteDataLoaderRegistrar.VOTE_STATS);
+        when(statsLoader.load(voteId)).thenReturn(CompletableFuture.completedFuture(new VoteStats(7, List.of())));
+
+        // when
+        Integer result = voteFieldResolver.totalResponses(vote, env).join();
+
+        // then
+        assertEquals(7, result.intValue());
+        verify(statsLoader).load(voteId);
+    }
+
+    @Test
+    @DisplayName("선택지 content를 선택하지 않으면 내용 없는 통계 로더를 사용하는지 테스트")
+    void options_ContentNotSelected_UsesStatsLoaderWithoutContent() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        VotePayload vote = VotePayload.builder().id(voteId).build();
+        List<OptionWithStatsPayload> options = List.of(new OptionWithStatsPayload(UUID.randomUUID(), null, 2, 100f));
+        when(env.getSelectionSet()).thenReturn(selectionSet);
+        when(selectionSet.contains("content")).thenReturn(false);
+        doReturn(statsLoader).when(env).getDataLoader(VoteDataLoaderRegistrar.VOTE_STATS);
+        when(statsLoader.load(voteId)).thenReturn(CompletableFuture.completedFuture(new VoteStats(2, options)));
+
+        // when
+        List<OptionWithStatsPayload> result = voteFieldResolver.options(vote, env).join();
+
+        // then
+        assertSame(options, result);
+        verify(env, never()).getDataLoader(VoteDataLoaderRegistrar.VOTE_STATS_WITH_CONTENT);
+    }
+}
@@ -0,0 +1,83 @@
+package pluto.upik.domain.vote.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.report.event.ReportAccepted;
+import pluto.upik.domain.vote.event.VoteClosed;
+import pluto.upik.domain.voteResponse.service.VoteTallyStore;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+import pluto.upik.shared.cache.service.InMemoryCacheInvalidationTransport;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteCacheInvalidationListener 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteCacheInvalidationListenerTest {
+
+    @Mock
+    private VoteMetadataCache voteMetadataCache;
+
+    @Mock
+    private VoteTallyStore voteTallyStore;
+
+    private VoteCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationBus bus = new CacheInvalidationBus(new InMemoryCacheInvalidationTransport(), new SimpleMeterRegistry());
+        listener = new VoteCacheInvalidationListener(voteMetadataCache, voteTallyStore, bus);
+    }
+
+    @Test
+    @DisplayName("투표 종료 이벤트 시 해당 투표의 메타데이터만 제거되는지 테스트")
+    void onVoteClosed_InvalidatesMetadata() {
+        // given
+        UUID voteId = UUID.randomUUID();
+
+        // when
+        listener.on(new VoteClosed(voteId));
+
+        // then
+        verify(voteMetadataCache).invalidate(voteId);
+        verifyNoInteractions(voteTallyStore);
+    }
+
+    @Test
+    @DisplayName("가이드 신고 수락 이벤트 시 투표 집계는 유지되는지 테스트")
+    void onReportAccepted_VoteKept_KeepsTally() {
+        // given
+        UUID guideId = UUID.randomUUID();
+        UUID voteId = UUID.randomUUID();
+
+        // when
+        listener.on(new ReportAccepted(guideId, voteId, false));
+
+        // then
+        verify(voteMetadataCache).invalidate(voteId);
+        verify(voteTallyStore, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("질문 신고 수락으로 투표가 삭제되면 집계도 제거되는지 테스트")
+    void onReportAccepted_VoteDeleted_EvictsTally() {
+        // given
+        UUID voteId = UUID.randomUUID();
+
+        // when
+        listener.on(new ReportAccepted(voteId, voteId, true));
+
+        // then
+        verify(voteMetadataCache).invalidate(voteId);
+        verify(voteTallyStore).evict(voteId);
+    }
+}
@@ -0,0 +1,253 @@
+package pluto.upik.domain.vote.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.user.repository.UserRepository;
+import pluto.upik.domain.vote.data.DTO.VoteConnection;
+import pluto.upik.domain.vote.data.DTO.VoteCursor;
+import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
+import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteStats;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+import pluto.upik.domain.voteResponse.service.VoteResponseService;
+import pluto.upik.shared.exception.BusinessException;
+import pluto.upik.shared.graphql.FieldSelection;
+import pluto.upik.shared.graphql.ProjectedRow;
+import pluto.upik.shared.graphql.SelectionProjector;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteServiceUpdated 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteServiceUpdatedTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private OptionRepository optionRepository;
+
+    @Mock
+    private VoteResponseRepository voteResponseRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private VoteResponseService voteResponseService;
+
+    @Mock
+    private VoteStatsAssembler voteStatsAssembler;
+
+    @Mock
+    private SelectionProjector selectionProjector;
+
+    @InjectMocks
+    private VoteServiceUpdated voteService;
+
+    private Vote vote(int minutesAgo) {
+        return Vote.builder()
+                .id(UUID.randomUUID())
+                .question("질문")
+                .category("일반")
+                .status(Vote.Status.OPEN)
+                .finishedAt(LocalDate.now().plusDays(1))
+                .createdAt(LocalDateTime.now().minusMinutes(minutesAgo))
+                .build();
+    }
+
+    private ProjectedRow row(Vote vote) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", vote.getId());
+        values.put("title", vote.getQuestion());
+        values.put("category", vote.getCategory());
+        values.put("finishedAt", vote.getFinishedAt());
+        values.put("status", vote.getStatus());
+        values.put("createdAt", vote.getCreatedAt());
+        return ProjectedRow.of(values);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 조회 시 한 건 더 조회하여 다음 페이지 여부를 판단하는지 테스트")
+    void getVotesConnection_FirstPage_HasNextPage() {
+        // given
+        List<Vote> votes = List.of(vote(1), vote(2), vote(3));
+        when(selectionProjector.select(any(), any(), any(), any(Sort.class), eq(3)))
+                .thenReturn(votes.stream().map(this::row).toList());
+
+        // when
+        VoteConnection connection = voteService.getVotesConnection(2, null, null, "open");
+
+        // then
+        assertEquals(2, connection.getEdges().size());
+        assertTrue(connection.getPageInfo().isHasNextPage());
+        assertEquals(VoteCursor.of(votes.get(1)).encode(), connection.getPageInfo().getEndCursor());
+        assertEquals(votes.get(0).getId(), connection.getEdges().get(0).getNode().getId());
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지를 키셋 조건으로 조회하는지 테스트")
+    void getVotesConnection_AfterCursor_UsesKeyset() {
+        // given
+        Vote last = vote(10);
+        VoteCursor cursor = VoteCursor.of(last);
+        List<Vote> votes = List.of(vote(11));
+        when(selectionProjector.select(any(), any(), any(), any(Sort.class), eq(21)))
+                .thenReturn(votes.stream().map(this::row).toList());
+
+        // when
+        VoteConnection connection = voteService.getVotesConnection(null, cursor.encode(), "일반", null);
+
+        // then
+        assertEquals(1, connection.getEdges().size());
+        assertFalse(connection.getPageInfo().isHasNextPage());
+        assertEquals(VoteCursor.of(votes.get(0)).encode(), connection.getPageInfo().getEndCursor());
+        verifyNoInteractions(voteRepository, voteStatsAssembler);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 페이지 크기에 대해 예외가 발생하는지 테스트")
+    void getVotesConnection_InvalidArguments_ThrowsException() {
+        assertThrows(BusinessException.class,
+                () -> voteService.getVotesConnection(0, null, null, null));
+        assertThrows(BusinessException.class,
+                () -> voteService.getVotesConnection(10, "not-a-cursor", null, null));
+        assertThrows(BusinessException.class,
+                () -> voteService.getVotesConnection(10, null, null, "UNKNOWN"));
+    }
+
+    @Test
+    @DisplayName("인기 투표 조회 시 상위 K개만 DB에서 가져오는지 테스트")
+    void getMostPopularOpenVote_UsesTopKQuery() {
+        // given
+        List<Vote> votes = List.of(vote(1), vote(2));
+        when(voteRepository.findMostPopularOpenVotes("일반", PageRequest.of(0, 2))).thenReturn(votes);
+
+        // when
+        List<VotePayload> result = voteService.getMostPopularOpenVote(2, "일반");
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(votes.get(0).getId(), result.get(0).getId());
+        assertFalse(result.get(0).getHasVoted());
+        assertNull(result.get(0).getOptions());
+        verify(voteRepository, never()).findByStatus(any());
+        assertThrows(BusinessException.class, () -> voteService.getMostPopularOpenVote(0, null));
+    }
+
+    @Test
+    @DisplayName("OPEN 투표가 없으면 가장 인기 없는 투표로 null을 반환하는지 테스트")
+    void getLeastPopularOpenVote_NoVotes_ReturnsNull() {
+        // given
+        when(voteRepository.findLeastPopularOpenVotes(null, PageRequest.of(0, 1))).thenReturn(List.of());
+
+        // when & then
+        assertNull(voteService.getLeastPopularOpenVote(null));
+    }
+
+    @Test
+    @DisplayName("선택된 필드만 조회하고 선택되지 않은 통계와 참여 여부는 조회하지 않는지 테스트")
+    void getVoteById_OnlySelectedFields_SkipsStats() {
+        // given
+        Vote vote = vote(1);
+        FieldSelection selection = FieldSelection.of("id", "category");
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", vote.getId());
+        values.put("category", vote.getCategory());
+        when(selectionProjector.selectOne(any(), eq(selection), any()))
+                .thenReturn(Optional.of(ProjectedRow.of(values)));
+
+        // when
+        VoteDetailPayload result = voteService.getVoteById(vote.getId(), UUID.randomUUID(), selection);
+
+        // then
+        assertEquals(vote.getId(), result.getId());
+        assertEquals("일반", result.getCategory());
+        assertNull(result.getTitle());
+        assertNull(result.getOptions());
+        verifyNoInteractions(voteStatsAssembler, voteResponseService, voteRepository);
+    }
+
+    @Test
+    @DisplayName("선택지 content가 선택되지 않으면 내용 없이 통계를 조회하는지 테스트")
+    void getVoteById_OptionsWithoutContent_LoadsStatsWithoutContent() {
+        // given
+        Vote vote = vote(1);
+        FieldSelection selection = FieldSelection.of("id", "options", "options/id", "options/responseCount");
+        when(selectionProjector.selectOne(any(), eq(selection), any()))
+                .thenReturn(Optional.of(row(vote)));
+        when(voteStatsAssembler.loadStats(anyCollection(), eq(false)))
+                .thenReturn(Map.of(vote.getId(), new VoteStats(4, List.of())));
+
+        // when
+        VoteDetailPayload result = voteService.getVoteById(vote.getId(), UUID.randomUUID(), selection);
+
+        // then
+        assertEquals(4, result.getTotalResponses());
+        verify(voteStatsAssembler).loadStats(anyCollection(), eq(false));
+        verifyNoInteractions(voteResponseService);
+    }
+
+    @Test
+    @DisplayName("GraphQL 외 호출용 목록 조회는 통계와 참여 여부를 채워 반환하는지 테스트")
+    void getAllVotes_WithUserId_PopulatesStats() {
+        // given
+        UUID userId = UUID.randomUUID();
+        List<Vote> votes = List.of(vote(1), vote(2));
+        VotePayload populated = VotePayload.builder()
+                .id(votes.get(0).getId())
+                .totalResponses(3)
+                .options(List.of())
+                .hasVoted(true)
+                .build();
+        when(voteRepository.findAll()).thenReturn(votes);
+        when(voteStatsAssembler.toPayloads(votes, userId)).thenReturn(List.of(populated));
+
+        // when
+        List<VotePayload> result = voteService.getAllVotes(userId);
+
+        // then
+        assertEquals(List.of(populated), result);
+        verifyNoInteractions(selectionProjector);
+    }
+
+    @Test
+    @DisplayName("사용자가 생성한 투표 조회는 그 사용자 기준으로 통계와 참여 여부를 채우는지 테스트")
+    void getVotesByUserId_PopulatesStatsForUser() {
+        // given
+        UUID userId = UUID.randomUUID();
+        List<Vote> votes = List.of(vote(1));
+        when(voteRepository.findByUserId(userId)).thenReturn(votes);
+        when(voteStatsAssembler.toPayloads(votes, userId)).thenReturn(List.of());
+
+        // when
+        voteService.getVotesByUserId(userId);
+
+        // then
+        verify(voteStatsAssembler).toPayloads(votes, userId);
+        verifyNoInteractions(selectionProjector);
+    }
+}
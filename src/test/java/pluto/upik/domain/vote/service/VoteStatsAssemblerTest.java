@@ -0,0 +1,240 @@
+package pluto.upik.domain.vote.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.option.data.model.Option;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteStats;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTallyId;
+import pluto.upik.domain.voteResponse.service.VoteOptionTallyService;
+import pluto.upik.domain.voteResponse.service.VoteResponseService;
+import pluto.upik.domain.voteResponse.service.VoteTallyStore;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteStatsAssembler 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteStatsAssemblerTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private OptionRepository optionRepository;
+
+    @Mock
+    private VoteResponseService voteResponseService;
+
+    @Mock
+    private VoteOptionTallyService voteOptionTallyService;
+
+    private VoteStatsAssembler voteStatsAssembler;
+
+    @BeforeEach
+    void setUp() {
+        VoteTallyStore voteTallyStore = new VoteTallyStore(voteOptionTallyService, 1000, 60);
+        VoteMetadataCache voteMetadataCache = new VoteMetadataCache(voteRepository, optionRepository,
+                new SimpleMeterRegistry(), 100, 60);
+        voteStatsAssembler = new VoteStatsAssembler(voteMetadataCache, voteResponseService, voteTallyStore);
+    }
+
+    private void givenVotes(Vote... votes) {
+        when(voteRepository.findAllById(anyIterable())).thenReturn(List.of(votes));
+    }
+
+    private VoteOptionTally tally(UUID voteId, UUID optionId, long count) {
+        return new VoteOptionTally(new VoteOptionTallyId(voteId, optionId), count);
+    }
+
+    private Vote vote() {
+        return Vote.builder()
+                .id(UUID.randomUUID())
+                .question("질문")
+                .category("일반")
+                .status(Vote.Status.OPEN)
+                .finishedAt(LocalDate.now().plusDays(1))
+                .build();
+    }
+
+    private Option option(Vote vote, String content) {
+        return Option.builder()
+                .id(UUID.randomUUID())
+                .vote(vote)
+                .content(content)
+                .build();
+    }
+
+    @Test
+    @DisplayName("선택지별 응답 수와 비율, 참여 여부 매핑 테스트")
+    void toPayloads_MapsCountsAndPercentages() {
+        // given
+        UUID userId = UUID.randomUUID();
+        Vote vote = vote();
+        Option optionA = option(vote, "A");
+        Option optionB = option(vote, "B");
+
+        givenVotes(vote);
+        when(optionRepository.findByVoteIdIn(anyCollection())).thenReturn(List.of(optionA, optionB));
+        when(voteOptionTallyService.getTallies(anyCollection()))
+                .thenReturn(List.of(tally(vote.getId(), optionA.getId(), 3L)));
+        when(voteResponseService.getVotedVoteIds(eq(userId), anyCollection()))
+                .thenReturn(Set.of(vote.getId()));
+
+        // when
+        List<VotePayload> result = voteStatsAssembler.toPayloads(List.of(vote), userId);
+
+        // then
+        assertEquals(1, result.size());
+        VotePayload payload = result.get(0);
+        assertEquals(3, payload.getTotalResponses().intValue());
+        assertTrue(payload.getHasVoted());
+
+        OptionWithStatsPayload statsA = payload.getOptions().get(0);
+        OptionWithStatsPayload statsB = payload.getOptions().get(1);
+        assertEquals(3, statsA.getResponseCount());
+        assertEquals(100f, statsA.getPercentage());
+        assertEquals(0, statsB.getResponseCount());
+        assertEquals(0f, statsB.getPercentage());
+    }
+
+    @Test
+    @DisplayName("투표 수가 늘어나도 조회 쿼리 수가 일정한지 테스트")
+    void toPayloads_QueryCountIndependentOfVoteCount() {
+        // given
+        UUID userId = UUID.randomUUID();
+        List<Vote> votes = new ArrayList<>();
+        List<Option> options = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Vote vote = vote();
+            votes.add(vote);
+            options.add(option(vote, "A"));
+            options.add(option(vote, "B"));
+        }
+
+        givenVotes(votes.toArray(Vote[]::new));
+        when(optionRepository.findByVoteIdIn(anyCollection())).thenReturn(options);
+        when(voteOptionTallyService.getTallies(anyCollection())).thenReturn(List.of());
+        when(voteResponseService.getVotedVoteIds(eq(userId), anyCollection())).thenReturn(Set.of());
+
+        // when
+        List<VotePayload> result = voteStatsAssembler.toPayloads(votes, userId);
+
+        // then
+        assertEquals(50, result.size());
+        assertEquals(votes.get(49).getId(), result.get(49).getId());
+        verify(optionRepository, times(1)).findByVoteIdIn(anyCollection());
+        verify(voteOptionTallyService, times(1)).getTallies(anyCollection());
+        verify(voteResponseService, times(1)).getVotedVoteIds(eq(userId), anyCollection());
+        verify(voteRepository, times(1)).findAllById(anyIterable());
+        verifyNoMoreInteractions(voteRepository, optionRepository, voteResponseService, voteOptionTallyService);
+    }
+
+    @Test
+    @DisplayName("적재된 투표는 다시 조회할 때 응답 수 집계 쿼리를 생략하는지 테스트")
+    void toPayloads_SecondCall_ReadsCountsFromMemory() {
+        // given
+        Vote vote = vote();
+        Option optionA = option(vote, "A");
+        givenVotes(vote);
+        when(optionRepository.findByVoteIdIn(anyCollection())).thenReturn(List.of(optionA));
+        when(voteOptionTallyService.getTallies(anyCollection()))
+                .thenReturn(List.of(tally(vote.getId(), optionA.getId(), 2L)));
+
+        // when
+        voteStatsAssembler.toPayload(vote, null);
+        VotePayload payload = voteStatsAssembler.toPayload(vote, null);
+
+        // then
+        assertEquals(2, payload.getTotalResponses().intValue());
+        verify(voteOptionTallyService, times(1)).getTallies(anyCollection());
+        verify(optionRepository, times(1)).findByVoteIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("사용자 ID가 없으면 참여 여부 조회를 생략하는지 테스트")
+    void toPayloads_WithoutUser_SkipsVotedLookup() {
+        // given
+        Vote vote = vote();
+        givenVotes(vote);
+        when(optionRepository.findByVoteIdIn(anyCollection())).thenReturn(List.of(option(vote, "A")));
+        when(voteOptionTallyService.getTallies(anyCollection())).thenReturn(List.of());
+
+        // when
+        VotePayload payload = voteStatsAssembler.toPayload(vote, null);
+
+        // then
+        assertFalse(payload.getHasVoted());
+        assertEquals(0, payload.getTotalResponses().intValue());
+        verify(voteResponseService, never()).getVotedVoteIds(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("선택지 내용 없이 통계를 조회하면 content를 비워 두는지 테스트")
+    void loadStats_WithoutContent_OmitsContent() {
+        // given
+        Vote vote = vote();
+        Option option = option(vote, "A");
+        givenVotes(vote);
+        when(optionRepository.findByVoteIdIn(anyCollection())).thenReturn(List.of(option));
+        when(voteOptionTallyService.getTallies(anyCollection()))
+                .thenReturn(List.of(tally(vote.getId(), option.getId(), 4L)));
+
+        // when
+        Map<UUID, VoteStats> result = voteStatsAssembler.loadStats(List.of(vote.getId()), false);
+
+        // then
+        VoteStats stats = result.get(vote.getId());
+        assertEquals(4, stats.getTotalResponses());
+        assertEquals(option.getId(), stats.getOptions().get(0).getId());
+        assertNull(stats.getOptions().get(0).getContent());
+    }
+
+    @Test
+    @DisplayName("캐시된 투표와 새 투표를 함께 조회하면 새 투표만 적재하는지 테스트")
+    void loadStats_PartiallyCached_LoadsOnlyMissingVotes() {
+        // given
+        Vote cached = vote();
+        Vote fresh = vote();
+        when(voteRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(cached))
+                .thenReturn(List.of(fresh));
+        when(optionRepository.findByVoteIdIn(anyCollection()))
+                .thenReturn(List.of(option(cached, "A")))
+                .thenReturn(List.of(option(fresh, "B")));
+        when(voteOptionTallyService.getTallies(anyCollection())).thenReturn(List.of());
+        voteStatsAssembler.loadStats(List.of(cached.getId()));
+
+        // when
+        Map<UUID, VoteStats> result = voteStatsAssembler.loadStats(List.of(cached.getId(), fresh.getId()));
+
+        // then
+        assertEquals("A", result.get(cached.getId()).getOptions().get(0).getContent());
+        assertEquals("B", result.get(fresh.getId()).getOptions().get(0).getContent());
+        verify(optionRepository, times(2)).findByVoteIdIn(anyCollection());
+        verify(optionRepository).findByVoteIdIn(List.of(fresh.getId()));
+    }
+}
@@ -0,0 +1,192 @@
+package pluto.upik.domain.voteResponse.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pluto.upik.domain.option.data.model.Option;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.user.data.model.User;
+import pluto.upik.domain.user.repository.UserRepository;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.VoteMetadataCache;
+import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmission;
+import pluto.upik.domain.voteResponse.data.model.VoteResponse;
+import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 투표 응답 동기 기록과 비동기 일괄 기록의 처리량 비교 벤치마크
+ * 저장소 호출마다 DB 왕복 지연을 흉내 내고, 커넥션 풀 크기만큼만 동시에 DB를 사용할 수 있도록 제한합니다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+class VoteIngestionThroughputBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(VoteIngestionThroughputBenchmark.class);
+
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final int CONNECTION_POOL_SIZE = 10;
+    private static final int CLIENT_THREADS = 32;
+    private static final int SUBMISSIONS = 4_000;
+
+    private final Semaphore connections = new Semaphore(CONNECTION_POOL_SIZE);
+    private final CountDownLatch written = new CountDownLatch(SUBMISSIONS);
+
+    private final User user = User.builder().id(UUID.randomUUID()).build();
+    private final Vote vote = Vote.builder()
+            .id(UUID.randomUUID())
+            .question("질문")
+            .category("일반")
+            .status(Vote.Status.OPEN)
+            .build();
+    private final Option option = Option.builder().id(UUID.randomUUID()).vote(vote).content("A").build();
+
+    @Test
+    @DisplayName("비동기 일괄 기록이 동기 기록보다 처리량이 높은지 측정")
+    void compareThroughput() throws Exception {
+        double syncOps = measure(syncSubmitter(), () -> { });
+
+        VoteResponseIngestionService ingestionService = asyncIngestionService();
+        ingestionService.start();
+        double asyncOps;
+        try {
+            // 접수가 아니라 모든 응답이 기록될 때까지의 시간을 측정
+            asyncOps = measure(input -> ingestionService.submit(input, UUID.randomUUID()), written::await);
+        } finally {
+            ingestionService.stop();
+        }
+        assertEquals(0, ingestionService.pendingCount());
+
+        log.info("동기 기록: {} ops/s, 비동기 일괄 기록: {} ops/s ({}x)",
+                String.format("%.0f", syncOps), String.format("%.0f", asyncOps), String.format("%.1f", asyncOps / syncOps));
+        assertTrue(asyncOps > syncOps);
+    }
+
+    private double measure(Submitter submitter, Completion completion) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_THREADS);
+        AtomicInteger remaining = new AtomicInteger(SUBMISSIONS);
+        CreateVoteResponseInput input = new CreateVoteResponseInput();
+        input.setVoteId(vote.getId());
+        input.setOptionId(option.getId());
+
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CLIENT_THREADS; i++) {
+            futures.add(clients.submit(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    submitter.submit(input);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        completion.await();
+        long elapsed = System.nanoTime() - start;
+        clients.shutdown();
+        return SUBMISSIONS / (elapsed / 1e9);
+    }
+
+    /**
+     * 동기 경로: 요청마다 한 트랜잭션에서 응답 INSERT와 집계 갱신을 수행합니다. 투표 메타데이터는 캐시되어 있다고 가정합니다.
+     */
+    private Submitter syncSubmitter() {
+        UserRepository userRepository = stubOnly(UserRepository.class);
+        VoteRepository voteRepository = stubOnly(VoteRepository.class);
+        OptionRepository optionRepository = stubOnly(OptionRepository.class);
+        VoteResponseRepository voteResponseRepository = stubOnly(VoteResponseRepository.class);
+        VoteOptionTallyService voteOptionTallyService = stubOnly(VoteOptionTallyService.class);
+        VoteMetadataCache voteMetadataCache = stubOnly(VoteMetadataCache.class);
+
+        when(voteMetadataCache.get(any())).thenReturn(Optional.of(VoteMetadata.of(vote, List.of(option))));
+        when(userRepository.getReferenceById(any())).thenReturn(user);
+        when(voteRepository.getReferenceById(any())).thenReturn(vote);
+        when(optionRepository.getReferenceById(any())).thenReturn(option);
+        when(voteResponseRepository.saveAndFlush(any(VoteResponse.class)))
+                .thenAnswer(invocation -> {
+                    LockSupport.parkNanos(ROUND_TRIP_NANOS);
+                    return invocation.getArgument(0);
+                });
+        doAnswer(roundTrip(null)).when(voteOptionTallyService).increment(any(), any());
+
+        VoteResponseService voteResponseService = new VoteResponseService(
+                voteResponseRepository, voteRepository, optionRepository, userRepository,
+                stubOnly(VoteTallyStore.class), voteOptionTallyService, stubOnly(VotedVoteCache.class),
+                voteMetadataCache);
+
+        return input -> {
+            // 트랜잭션 동안 커넥션 하나를 점유
+            connections.acquireUninterruptibly();
+            try {
+                voteResponseService.createVoteResponse(input, user.getId());
+            } finally {
+                connections.release();
+            }
+        };
+    }
+
+    /**
+     * 비동기 경로: 메타데이터 캐시로 검증하고, 배치마다 다중 행 INSERT와 집계 갱신 두 번의 왕복만 사용합니다.
+     */
+    private VoteResponseIngestionService asyncIngestionService() {
+        VoteMetadataCache voteMetadataCache = stubOnly(VoteMetadataCache.class);
+        VoteResponseBatchWriter voteResponseBatchWriter = stubOnly(VoteResponseBatchWriter.class);
+
+        when(voteMetadataCache.get(any())).thenReturn(Optional.of(VoteMetadata.of(vote, List.of(option))));
+        when(voteResponseBatchWriter.write(any())).thenAnswer(invocation -> {
+            List<VoteSubmission> batch = invocation.getArgument(0);
+            connections.acquireUninterruptibly();
+            try {
+                LockSupport.parkNanos(2 * ROUND_TRIP_NANOS);
+            } finally {
+                connections.release();
+            }
+            batch.forEach(submission -> written.countDown());
+            return batch;
+        });
+
+        return new VoteResponseIngestionService(voteMetadataCache, voteResponseBatchWriter,
+                new SimpleMeterRegistry(), SUBMISSIONS, 500, 5, 1000);
+    }
+
+    private static <T> T stubOnly(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    private static Answer<Object> roundTrip(Object result) {
+        return invocation -> {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+            return result;
+        };
+    }
+
+    @FunctionalInterface
+    private interface Submitter {
+        void submit(CreateVoteResponseInput input) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Completion {
+        void await() throws InterruptedException;
+    }
+}
@@ -0,0 +1,60 @@
+package pluto.upik.domain.voteResponse.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.voteResponse.repository.VoteOptionTallyRepository;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteOptionTallyService 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteOptionTallyServiceTest {
+
+    @Mock
+    private VoteOptionTallyRepository voteOptionTallyRepository;
+
+    @InjectMocks
+    private VoteOptionTallyService voteOptionTallyService;
+
+    @Test
+    @DisplayName("응답 수 증가를 한 번의 upsert로 처리하고 별도 INSERT를 하지 않는지 테스트")
+    void increment_UsesSingleUpsert() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+
+        // when
+        voteOptionTallyService.increment(voteId, optionId);
+
+        // then
+        verify(voteOptionTallyRepository).incrementBy(voteId, optionId, 1);
+        verify(voteOptionTallyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("집계 테이블이 비어 있을 때만 vote_response로 다시 계산하는지 테스트")
+    void backfillIfEmpty_OnlyWhenTableEmpty() {
+        // given
+        when(voteOptionTallyRepository.existsAnyRow()).thenReturn(0, 1);
+        when(voteOptionTallyRepository.backfillFromResponses()).thenReturn(3);
+
+        // when
+        int first = voteOptionTallyService.backfillIfEmpty();
+        int second = voteOptionTallyService.backfillIfEmpty();
+
+        // then
+        assertEquals(3, first);
+        assertEquals(0, second);
+        verify(voteOptionTallyRepository, times(1)).backfillFromResponses();
+    }
+}
@@ -0,0 +1,115 @@
+package pluto.upik.domain.voteResponse.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmission;
+import pluto.upik.domain.voteResponse.repository.VoteResponseJdbcRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteResponseBatchWriter 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteResponseBatchWriterTest {
+
+    @Mock
+    private VoteResponseJdbcRepository voteResponseJdbcRepository;
+
+    @Mock
+    private VoteOptionTallyService voteOptionTallyService;
+
+    @Mock
+    private VoteTallyStore voteTallyStore;
+
+    @Mock
+    private VotedVoteCache votedVoteCache;
+
+    @InjectMocks
+    private VoteResponseBatchWriter voteResponseBatchWriter;
+
+    private VoteSubmission submission(UUID voteId, UUID optionId) {
+        return new VoteSubmission(UUID.randomUUID(), UUID.randomUUID(), voteId, optionId, LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("모두 기록되면 선택지별로 합산하여 집계를 갱신하는지 테스트")
+    void write_AllInserted_IncrementsTallyPerOption() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionA = UUID.randomUUID();
+        UUID optionB = UUID.randomUUID();
+        List<VoteSubmission> submissions = List.of(
+                submission(voteId, optionA), submission(voteId, optionA), submission(voteId, optionB));
+        when(voteResponseJdbcRepository.findExistingIds(anyCollection()))
+                .thenReturn(Set.of(submissions.get(0).id(), submissions.get(1).id(), submissions.get(2).id()));
+
+        // when
+        List<VoteSubmission> written = voteResponseBatchWriter.write(submissions);
+
+        // then
+        assertEquals(3, written.size());
+        verify(voteResponseJdbcRepository).insertSkippingDuplicates(submissions);
+        verify(voteOptionTallyService).incrementBy(voteId, optionA, 2L);
+        verify(voteOptionTallyService).incrementBy(voteId, optionB, 1L);
+        verify(voteTallyStore, times(3)).recordResponse(any(), any());
+    }
+
+    @Test
+    @DisplayName("중복으로 건너뛴 응답은 집계와 캐시에 반영하지 않는지 테스트")
+    void write_DuplicateSkipped_RecordsOnlyWritten() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+        VoteSubmission kept = submission(voteId, optionId);
+        VoteSubmission duplicate = submission(voteId, optionId);
+        List<VoteSubmission> submissions = List.of(kept, duplicate);
+        when(voteResponseJdbcRepository.findExistingIds(anyCollection())).thenReturn(Set.of(kept.id()));
+
+        // when
+        List<VoteSubmission> written = voteResponseBatchWriter.write(submissions);
+
+        // then
+        assertEquals(List.of(kept), written);
+        verify(voteOptionTallyService).incrementBy(voteId, optionId, 1L);
+        verify(votedVoteCache).recordVote(kept.userId(), voteId);
+        verify(votedVoteCache, never()).recordVote(duplicate.userId(), voteId);
+    }
+
+    @Test
+    @DisplayName("중복 외의 제약을 위반한 응답만 제외하고 나머지는 기록하는지 테스트")
+    void write_ConstraintViolation_ExcludesOnlyViolatingRow() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+        VoteSubmission valid = submission(voteId, optionId);
+        VoteSubmission orphan = submission(voteId, optionId);
+        List<VoteSubmission> submissions = List.of(valid, orphan);
+        DataIntegrityViolationException fkViolation = new DataIntegrityViolationException("fk");
+        doThrow(fkViolation).when(voteResponseJdbcRepository).insertSkippingDuplicates(submissions);
+        doThrow(fkViolation).when(voteResponseJdbcRepository).insertSkippingDuplicates(List.of(orphan));
+        when(voteResponseJdbcRepository.findExistingIds(List.of(valid.id()))).thenReturn(Set.of(valid.id()));
+
+        // when
+        List<VoteSubmission> written = voteResponseBatchWriter.write(submissions);
+
+        // then
+        assertEquals(List.of(valid), written);
+        verify(voteResponseJdbcRepository).insertSkippingDuplicates(List.of(valid));
+        verify(voteOptionTallyService).incrementBy(voteId, optionId, 1L);
+        verify(votedVoteCache, never()).recordVote(orphan.userId(), voteId);
+    }
+}
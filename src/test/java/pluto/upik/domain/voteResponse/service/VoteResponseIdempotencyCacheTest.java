@@ -0,0 +1,122 @@
+package pluto.upik.domain.voteResponse.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VoteResponseIdempotencyCache 클래스에 대한 단위 테스트
+ */
+class VoteResponseIdempotencyCacheTest {
+
+    private final VoteResponseIdempotencyCache cache = new VoteResponseIdempotencyCache(new SimpleMeterRegistry(), 100, 60);
+
+    private final UUID voteId = UUID.randomUUID();
+    private final UUID optionId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("같은 키로 재요청하면 처음 생성된 응답을 반환하는지 테스트")
+    void getOrCreate_SameKey_ReturnsOriginal() {
+        // given
+        UUID userId = UUID.randomUUID();
+        AtomicInteger created = new AtomicInteger();
+
+        // when
+        VoteResponsePayload first = cache.getOrCreate(userId, "key-1", voteId, optionId, () -> payload(created));
+        VoteResponsePayload retry = cache.getOrCreate(userId, "key-1", voteId, optionId, () -> payload(created));
+        VoteResponsePayload otherUser = cache.getOrCreate(UUID.randomUUID(), "key-1", voteId, optionId, () -> payload(created));
+
+        // then
+        assertSame(first, retry);
+        assertNotSame(first, otherUser);
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    @DisplayName("생성에 실패한 요청은 캐시하지 않는지 테스트")
+    void getOrCreate_Failure_NotCached() {
+        // given
+        UUID userId = UUID.randomUUID();
+        AtomicInteger created = new AtomicInteger();
+
+        // when
+        assertThrows(IllegalStateException.class, () -> cache.getOrCreate(userId, "key-1", voteId, optionId, () -> {
+            throw new IllegalStateException("투표가 종료되었습니다.");
+        }));
+        VoteResponsePayload retry = cache.getOrCreate(userId, "key-1", voteId, optionId, () -> payload(created));
+
+        // then
+        assertNotNull(retry);
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 선택지로 다시 쓰면 거부하는지 테스트")
+    void getOrCreate_SameKeyDifferentInput_Rejected() {
+        // given
+        UUID userId = UUID.randomUUID();
+        AtomicInteger created = new AtomicInteger();
+        cache.getOrCreate(userId, "key-1", voteId, optionId, () -> payload(created));
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> cache.getOrCreate(userId, "key-1", voteId, UUID.randomUUID(), () -> payload(created)));
+        assertEquals("이미 다른 투표 응답에 사용된 멱등성 키입니다.", exception.getMessage());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 생성하고 같은 응답을 받는지 테스트")
+    void getOrCreate_ConcurrentSameKey_CreatesOnce() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<VoteResponsePayload> first = executor.submit(() -> cache.getOrCreate(userId, "key-1", voteId, optionId, () -> {
+                started.countDown();
+                await(release);
+                return payload(created);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<VoteResponsePayload> second = executor.submit(() ->
+                    cache.getOrCreate(userId, "key-1", voteId, optionId, () -> payload(created)));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, created.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private VoteResponsePayload payload(AtomicInteger created) {
+        created.incrementAndGet();
+        return VoteResponsePayload.builder().id(UUID.randomUUID()).build();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
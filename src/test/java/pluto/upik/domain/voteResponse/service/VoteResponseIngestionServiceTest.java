@@ -0,0 +1,137 @@
+package pluto.upik.domain.voteResponse.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata.OptionMetadata;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.service.VoteMetadataCache;
+import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmission;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmissionAck;
+import pluto.upik.domain.voteResponse.data.DTO.VoteSubmissionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteResponseIngestionService 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteResponseIngestionServiceTest {
+
+    @Mock
+    private VoteMetadataCache voteMetadataCache;
+
+    @Mock
+    private VoteResponseBatchWriter voteResponseBatchWriter;
+
+    private final UUID voteId = UUID.randomUUID();
+    private final UUID optionId = UUID.randomUUID();
+
+    private VoteResponseIngestionService service(int queueCapacity) {
+        return new VoteResponseIngestionService(voteMetadataCache, voteResponseBatchWriter,
+                new SimpleMeterRegistry(), queueCapacity, 100, 10, 500);
+    }
+
+    private VoteMetadata metadata(Vote.Status status) {
+        return new VoteMetadata(voteId, "질문", "일반", status, LocalDate.now().plusDays(1),
+                List.of(new OptionMetadata(optionId, "A")));
+    }
+
+    private CreateVoteResponseInput input(UUID optionId) {
+        CreateVoteResponseInput input = new CreateVoteResponseInput();
+        input.setVoteId(voteId);
+        input.setOptionId(optionId);
+        return input;
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 재시도 대기 시간과 함께 거절하는지 테스트")
+    void submit_QueueFull_Rejects() {
+        // given
+        VoteResponseIngestionService ingestionService = service(1);
+        when(voteMetadataCache.get(voteId)).thenReturn(Optional.of(metadata(Vote.Status.OPEN)));
+
+        // when
+        VoteSubmissionAck first = ingestionService.submit(input(optionId), UUID.randomUUID());
+        VoteSubmissionAck second = ingestionService.submit(input(optionId), UUID.randomUUID());
+
+        // then
+        assertEquals(VoteSubmissionStatus.ACCEPTED, first.getStatus());
+        assertNotNull(first.getSubmissionId());
+        assertEquals(VoteSubmissionStatus.REJECTED, second.getStatus());
+        assertEquals(500L, second.getRetryAfterMs());
+        assertEquals(1, ingestionService.pendingCount());
+    }
+
+    @Test
+    @DisplayName("종료된 투표나 투표에 속하지 않은 옵션은 큐에 넣지 않는지 테스트")
+    void submit_InvalidInput_ThrowsWithoutEnqueue() {
+        // given
+        VoteResponseIngestionService ingestionService = service(10);
+        when(voteMetadataCache.get(voteId))
+                .thenReturn(Optional.of(metadata(Vote.Status.CLOSED)))
+                .thenReturn(Optional.of(metadata(Vote.Status.OPEN)));
+
+        // when & then
+        assertThrows(IllegalStateException.class,
+                () -> ingestionService.submit(input(optionId), UUID.randomUUID()));
+        assertThrows(IllegalArgumentException.class,
+                () -> ingestionService.submit(input(UUID.randomUUID()), UUID.randomUUID()));
+        assertEquals(0, ingestionService.pendingCount());
+    }
+
+    @Test
+    @DisplayName("기록 스레드가 대기 중인 응답을 모아 일괄 기록하는지 테스트")
+    void start_DrainsQueueInBatches() throws InterruptedException {
+        // given
+        VoteResponseIngestionService ingestionService = service(100);
+        when(voteMetadataCache.get(voteId)).thenReturn(Optional.of(metadata(Vote.Status.OPEN)));
+        when(voteResponseBatchWriter.write(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        for (int i = 0; i < 20; i++) {
+            ingestionService.submit(input(optionId), UUID.randomUUID());
+        }
+
+        // when
+        ingestionService.start();
+        ingestionService.stop();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<VoteSubmission>> captor = ArgumentCaptor.forClass(List.class);
+        verify(voteResponseBatchWriter, atLeastOnce()).write(captor.capture());
+        assertEquals(20, captor.getAllValues().stream().mapToInt(List::size).sum());
+        assertTrue(captor.getAllValues().size() < 20);
+        assertEquals(0, ingestionService.pendingCount());
+    }
+
+    @Test
+    @DisplayName("종료가 시작된 뒤의 제출은 큐에 넣지 않고 거절하는지 테스트")
+    void submit_AfterStop_Rejects() throws InterruptedException {
+        // given
+        VoteResponseIngestionService ingestionService = service(10);
+        when(voteMetadataCache.get(voteId)).thenReturn(Optional.of(metadata(Vote.Status.OPEN)));
+        ingestionService.start();
+        ingestionService.stop();
+
+        // when
+        VoteSubmissionAck ack = ingestionService.submit(input(optionId), UUID.randomUUID());
+
+        // then
+        assertEquals(VoteSubmissionStatus.REJECTED, ack.getStatus());
+        assertEquals(0, ingestionService.pendingCount());
+        verify(voteResponseBatchWriter, never()).write(anyList());
+    }
+}
@@ -0,0 +1,165 @@
+package pluto.upik.domain.voteResponse.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.user.repository.UserRepository;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata;
+import pluto.upik.domain.vote.data.DTO.VoteMetadata.OptionMetadata;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.VoteMetadataCache;
+import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+import pluto.upik.domain.voteResponse.data.model.VoteResponse;
+import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+import pluto.upik.shared.exception.ResourceNotFoundException;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteResponseService 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteResponseServiceTest {
+
+    @Mock
+    private VoteResponseRepository voteResponseRepository;
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private OptionRepository optionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private VoteTallyStore voteTallyStore;
+
+    @Mock
+    private VoteOptionTallyService voteOptionTallyService;
+
+    @Mock
+    private VotedVoteCache votedVoteCache;
+
+    @Mock
+    private VoteMetadataCache voteMetadataCache;
+
+    @InjectMocks
+    private VoteResponseService voteResponseService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID voteId = UUID.randomUUID();
+    private final UUID optionId = UUID.randomUUID();
+    private CreateVoteResponseInput input;
+
+    @BeforeEach
+    void setUp() {
+        input = new CreateVoteResponseInput();
+        input.setVoteId(voteId);
+        input.setOptionId(optionId);
+        when(voteMetadataCache.get(voteId)).thenReturn(Optional.of(new VoteMetadata(
+                voteId, "질문", "일반", Vote.Status.OPEN, LocalDate.now().plusDays(1),
+                List.of(new OptionMetadata(optionId, "A")))));
+    }
+
+    @Test
+    @DisplayName("중복 확인 조회 없이 INSERT 한 번으로 응답을 저장하는지 테스트")
+    void createVoteResponse_SavesWithoutDuplicateRead() {
+        // given
+        UUID responseId = UUID.randomUUID();
+        when(voteResponseRepository.saveAndFlush(any(VoteResponse.class)))
+                .thenReturn(VoteResponse.builder().id(responseId).createdAt(LocalDate.now()).build());
+
+        // when
+        VoteResponsePayload result = voteResponseService.createVoteResponse(input, userId);
+
+        // then
+        assertEquals(responseId, result.getId());
+        assertEquals("A", result.getOptionContent());
+        assertEquals("질문", result.getVoteTitle());
+        verify(voteResponseRepository, never()).existsByUserIdAndVoteId(any(), any());
+        verify(voteResponseRepository, never()).findByUserIdAndVoteId(any(), any());
+        verify(voteOptionTallyService).increment(voteId, optionId);
+        verify(votedVoteCache).recordVote(userId, voteId);
+    }
+
+    @Test
+    @DisplayName("유니크 제약 위반을 중복 참여 오류로 변환하는지 테스트")
+    void createVoteResponse_UniqueViolation_ThrowsAlreadyVoted() {
+        // given
+        when(voteResponseRepository.saveAndFlush(any(VoteResponse.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate", new ConstraintViolationException(
+                        "Duplicate entry", new SQLException(), VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT)));
+
+        // when & then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> voteResponseService.createVoteResponse(input, userId));
+        assertEquals("이미 이 투표에 참여하셨습니다.", exception.getMessage());
+        verify(voteOptionTallyService, never()).increment(any(), any());
+        verify(voteTallyStore, never()).recordResponse(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 제약 위반은 중복 참여로 변환하지 않는지 테스트")
+    void createVoteResponse_OtherViolation_Rethrows() {
+        // given
+        when(voteResponseRepository.saveAndFlush(any(VoteResponse.class)))
+                .thenThrow(new DataIntegrityViolationException("fk", new ConstraintViolationException(
+                        "Cannot add or update a child row", foreignKeyViolation("option_id"), "fk_vote_response_option")));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> voteResponseService.createVoteResponse(input, userId));
+    }
+
+    @Test
+    @DisplayName("사용자 외래 키 위반을 사용자 없음 오류로 변환하는지 테스트")
+    void createVoteResponse_MissingUser_ThrowsResourceNotFound() {
+        // given
+        when(voteResponseRepository.saveAndFlush(any(VoteResponse.class)))
+                .thenThrow(new DataIntegrityViolationException("fk", new ConstraintViolationException(
+                        "Cannot add or update a child row", foreignKeyViolation("user_id"), "fk_vote_response_user")));
+
+        // when & then
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> voteResponseService.createVoteResponse(input, userId));
+        assertEquals("사용자를 찾을 수 없습니다: " + userId, exception.getMessage());
+        verify(voteOptionTallyService, never()).increment(any(), any());
+    }
+
+    private SQLException foreignKeyViolation(String column) {
+        return new SQLException("Cannot add or update a child row: a foreign key constraint fails "
+                + "(`upik`.`vote_response`, CONSTRAINT `fk` FOREIGN KEY (`" + column + "`) REFERENCES `x` (`id`))",
+                "23000", 1452);
+    }
+
+    @Test
+    @DisplayName("투표에 속하지 않은 옵션이면 저장하지 않는지 테스트")
+    void createVoteResponse_ForeignOption_ThrowsException() {
+        // given
+        input.setOptionId(UUID.randomUUID());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> voteResponseService.createVoteResponse(input, userId));
+        verify(voteResponseRepository, never()).saveAndFlush(any());
+    }
+}
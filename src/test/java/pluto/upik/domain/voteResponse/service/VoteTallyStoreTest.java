@@ -0,0 +1,166 @@
+package pluto.upik.domain.voteResponse.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTallyId;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteTallyStore 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteTallyStoreTest {
+
+    @Mock
+    private VoteOptionTallyService voteOptionTallyService;
+
+    private VoteTallyStore voteTallyStore;
+
+    @BeforeEach
+    void setUp() {
+        voteTallyStore = new VoteTallyStore(voteOptionTallyService, 2, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private VoteOptionTally tally(UUID voteId, UUID optionId, long count) {
+        return new VoteOptionTally(new VoteOptionTallyId(voteId, optionId), count);
+    }
+
+    @Test
+    @DisplayName("집계 테이블에서 적재한 뒤 응답 기록 시 카운터가 증가하는지 테스트")
+    void recordResponse_AfterWarm_IncrementsCounters() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+        when(voteOptionTallyService.getTallies(anyCollection()))
+                .thenReturn(List.of(tally(voteId, optionId, 4L)));
+        voteTallyStore.getTally(voteId);
+
+        // when
+        voteTallyStore.recordResponse(voteId, optionId);
+        VoteTallyStore.VoteTally tally = voteTallyStore.getTally(voteId);
+
+        // then
+        assertEquals(5, tally.getTotal());
+        assertEquals(5, tally.getOptionCount(optionId));
+        verify(voteOptionTallyService, times(1)).getTallies(anyCollection());
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 투표의 응답 기록은 무시되는지 테스트")
+    void recordResponse_NotLoaded_Ignored() {
+        // given
+        UUID voteId = UUID.randomUUID();
+
+        // when
+        voteTallyStore.recordResponse(voteId, UUID.randomUUID());
+
+        // then
+        assertTrue(voteTallyStore.loadedVoteIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("보정 시 집계 테이블과의 차이를 반환하고 카운터를 맞추는지 테스트")
+    void reconcile_FixesDrift() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionA = UUID.randomUUID();
+        UUID optionB = UUID.randomUUID();
+        when(voteOptionTallyService.getTallies(anyCollection()))
+                .thenReturn(List.of(tally(voteId, optionA, 3L)))
+                .thenReturn(List.of(tally(voteId, optionA, 2L), tally(voteId, optionB, 1L)));
+        voteTallyStore.getTally(voteId);
+
+        // when
+        long drift = voteTallyStore.reconcile(List.of(voteId));
+
+        // then
+        VoteTallyStore.VoteTally tally = voteTallyStore.getTally(voteId);
+        assertEquals(2, drift);
+        assertEquals(3, tally.getTotal());
+        assertEquals(2, tally.getOptionCount(optionA));
+        assertEquals(1, tally.getOptionCount(optionB));
+    }
+
+    @Test
+    @DisplayName("커밋을 기다리는 응답이 있는 투표는 보정을 미루고, 커밋 후 반영되는지 테스트")
+    void reconcile_InFlightResponse_Deferred() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+        when(voteOptionTallyService.getTallies(anyCollection()))
+                .thenReturn(List.of(tally(voteId, optionId, 3L)))
+                .thenReturn(List.of(tally(voteId, optionId, 4L)));
+        voteTallyStore.getTally(voteId);
+        TransactionSynchronizationManager.initSynchronization();
+        voteTallyStore.recordResponse(voteId, optionId);
+
+        // when
+        long deferred = voteTallyStore.reconcile(List.of(voteId));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        long reconciled = voteTallyStore.reconcile(List.of(voteId));
+
+        // then
+        assertEquals(0, deferred);
+        assertEquals(0, reconciled);
+        assertEquals(4, voteTallyStore.getTally(voteId).getTotal());
+        verify(voteOptionTallyService, times(2)).getTallies(anyCollection());
+    }
+
+    @Test
+    @DisplayName("롤백된 응답은 반영되지 않는지 테스트")
+    void recordResponse_RolledBack_NotCounted() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+        when(voteOptionTallyService.getTallies(anyCollection())).thenReturn(List.of(tally(voteId, optionId, 3L)));
+        voteTallyStore.getTally(voteId);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        voteTallyStore.recordResponse(voteId, optionId);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        // then
+        assertEquals(3, voteTallyStore.getTally(voteId).getTotal());
+    }
+
+    @Test
+    @DisplayName("보관하는 투표 수가 최대 개수를 넘지 않는지 테스트")
+    void getTallies_BeyondMaxVotes_Bounded() {
+        // given
+        when(voteOptionTallyService.getTallies(anyCollection())).thenReturn(List.of());
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            voteTallyStore.getTally(UUID.randomUUID());
+        }
+
+        // then
+        assertTrue(voteTallyStore.size() <= 2, "적재된 투표 수: " + voteTallyStore.size());
+    }
+}
@@ -0,0 +1,121 @@
+package pluto.upik.domain.voteResponse.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+import pluto.upik.shared.cache.service.CacheInvalidationBus;
+import pluto.upik.shared.cache.service.InMemoryCacheInvalidationTransport;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * VotedVoteCache 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VotedVoteCacheTest {
+
+    @Mock
+    private VoteResponseRepository voteResponseRepository;
+
+    private InMemoryCacheInvalidationTransport transport;
+    private VotedVoteCache votedVoteCache;
+
+    private UUID userId;
+    private UUID votedId;
+    private UUID notVotedId;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InMemoryCacheInvalidationTransport();
+        votedVoteCache = newCache(1000);
+        userId = UUID.randomUUID();
+        votedId = UUID.randomUUID();
+        notVotedId = UUID.randomUUID();
+    }
+
+    private VotedVoteCache newCache(int maxVotesPerUser) {
+        CacheInvalidationBus bus = new CacheInvalidationBus(transport, new SimpleMeterRegistry());
+        return new VotedVoteCache(voteResponseRepository, bus, 100, maxVotesPerUser, 10);
+    }
+
+    @Test
+    @DisplayName("확인한 투표는 다시 조회할 때 DB를 조회하지 않는지 테스트")
+    void getVotedVoteIds_SecondCall_ServedFromCache() {
+        // given
+        when(voteResponseRepository.findVotedVoteIds(eq(userId), anyCollection())).thenReturn(List.of(votedId));
+
+        // when
+        Set<UUID> first = votedVoteCache.getVotedVoteIds(userId, List.of(votedId, notVotedId));
+        Set<UUID> second = votedVoteCache.getVotedVoteIds(userId, List.of(votedId, notVotedId));
+
+        // then
+        assertEquals(Set.of(votedId), first);
+        assertEquals(Set.of(votedId), second);
+        verify(voteResponseRepository, times(1)).findVotedVoteIds(eq(userId), anyCollection());
+    }
+
+    @Test
+    @DisplayName("새 참여 기록이 캐시에 반영되는지 테스트")
+    void recordVote_UpdatesCachedSet() {
+        // given
+        when(voteResponseRepository.findVotedVoteIds(eq(userId), anyCollection())).thenReturn(List.of());
+        votedVoteCache.getVotedVoteIds(userId, List.of(notVotedId));
+
+        // when
+        votedVoteCache.recordVote(userId, notVotedId);
+        Set<UUID> result = votedVoteCache.getVotedVoteIds(userId, List.of(notVotedId));
+
+        // then
+        assertEquals(Set.of(notVotedId), result);
+        verify(voteResponseRepository, times(1)).findVotedVoteIds(eq(userId), anyCollection());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 기록된 참여가 이 인스턴스의 캐시에도 반영되는지 테스트")
+    void recordVote_OnOtherNode_UpdatesCachedSet() {
+        // given
+        VotedVoteCache otherNode = newCache(1000);
+        when(voteResponseRepository.findVotedVoteIds(eq(userId), anyCollection())).thenReturn(List.of());
+        votedVoteCache.getVotedVoteIds(userId, List.of(notVotedId));
+
+        // when
+        otherNode.recordVote(userId, notVotedId);
+        Set<UUID> result = votedVoteCache.getVotedVoteIds(userId, List.of(notVotedId));
+
+        // then
+        assertEquals(Set.of(notVotedId), result);
+        verify(voteResponseRepository, times(1)).findVotedVoteIds(eq(userId), anyCollection());
+    }
+
+    @Test
+    @DisplayName("사용자별 보관 수를 넘어도 기록된 참여는 남기는지 테스트")
+    void getVotedVoteIds_Overflow_KeepsVotedEntries() {
+        // given
+        VotedVoteCache small = newCache(2);
+        UUID other = UUID.randomUUID();
+        when(voteResponseRepository.findVotedVoteIds(eq(userId), anyCollection())).thenReturn(List.of());
+        small.getVotedVoteIds(userId, List.of(notVotedId));
+        small.recordVote(userId, votedId);
+        small.getVotedVoteIds(userId, List.of(votedId));
+
+        // when
+        Set<UUID> result = small.getVotedVoteIds(userId, List.of(other, UUID.randomUUID()));
+        Set<UUID> voted = small.getVotedVoteIds(userId, List.of(votedId));
+
+        // then
+        assertTrue(result.isEmpty());
+        assertEquals(Set.of(votedId), voted);
+    }
+}
@@ -0,0 +1,99 @@
+package pluto.upik.shared.ai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosed;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.shared.ai.data.DTO.GuideResponseDTO;
+import pluto.upik.shared.exception.BusinessException;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * AIService 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class AIServiceTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private GuideRepository guideRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AIService aiService;
+
+    private final UUID voteId = UUID.randomUUID();
+
+    private Vote vote(Vote.Status status) {
+        return Vote.builder().id(voteId).category("일반").status(status).build();
+    }
+
+    @Test
+    @DisplayName("진행 중이고 가이드가 없는 투표는 잠근 뒤 종료하고 가이드를 저장하는지 테스트")
+    void saveStreamedGuide_OpenVote_SavesGuide() {
+        // given
+        Vote vote = vote(Vote.Status.OPEN);
+        when(voteRepository.findByIdForUpdate(voteId)).thenReturn(Optional.of(vote));
+        when(guideRepository.existsByVoteId(voteId)).thenReturn(false);
+
+        // when
+        GuideResponseDTO result = aiService.saveStreamedGuide(voteId, "일반", "제목", "내용");
+
+        // then
+        assertEquals(voteId, result.getVoteId());
+        assertEquals("제목", result.getTitle());
+        assertEquals(Vote.Status.CLOSED, vote.getStatus());
+        verify(guideRepository).save(any(Guide.class));
+        verify(eventPublisher).publishEvent(new VoteClosed(voteId));
+        verify(voteRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("스트리밍하는 동안 이미 종료된 투표에는 가이드를 저장하지 않는지 테스트")
+    void saveStreamedGuide_ClosedVote_ThrowsException() {
+        // given
+        when(voteRepository.findByIdForUpdate(voteId)).thenReturn(Optional.of(vote(Vote.Status.CLOSED)));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> aiService.saveStreamedGuide(voteId, "일반", "제목", "내용"));
+        assertEquals("이미 종료된 투표입니다.", exception.getMessage());
+        verify(guideRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("이미 가이드가 있는 투표에는 가이드를 다시 저장하지 않는지 테스트")
+    void saveStreamedGuide_GuideExists_ThrowsException() {
+        // given
+        Vote vote = vote(Vote.Status.OPEN);
+        when(voteRepository.findByIdForUpdate(voteId)).thenReturn(Optional.of(vote));
+        when(guideRepository.existsByVoteId(voteId)).thenReturn(true);
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> aiService.saveStreamedGuide(voteId, "일반", "제목", "내용"));
+        assertEquals("이미 가이드가 생성된 투표입니다.", exception.getMessage());
+        assertEquals(Vote.Status.OPEN, vote.getStatus());
+        verify(guideRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,251 @@
+package pluto.upik.shared.ai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.shared.ai.data.model.GuideGenerationJob;
+import pluto.upik.shared.ai.repository.GuideGenerationJobRepository;
+import pluto.upik.shared.exception.BusinessException;
+import pluto.upik.shared.exception.ResourceNotFoundException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * GuideGenerationScheduler 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GuideGenerationSchedulerTest {
+
+    @Mock
+    private GuideGenerationJobRepository guideGenerationJobRepository;
+
+    @Mock
+    private AIService aiService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GuideGenerationScheduler scheduler;
+    private UUID voteId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new GuideGenerationScheduler(guideGenerationJobRepository, aiService, meterRegistry,
+                2, 3, 60, 600, 1800);
+        voteId = UUID.randomUUID();
+    }
+
+    private GuideGenerationJob queuedJob(int attempts) {
+        GuideGenerationJob job = runningJob(attempts);
+        job.setStatus(GuideGenerationJob.Status.QUEUED);
+        return job;
+    }
+
+    private GuideGenerationJob runningJob(int attempts) {
+        return GuideGenerationJob.builder()
+                .voteId(voteId)
+                .guideType("일반")
+                .status(GuideGenerationJob.Status.RUNNING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("이미 작업이 있는 투표는 건너뛰고 새 투표만 대기열에 추가하는지 테스트")
+    @SuppressWarnings("unchecked")
+    void enqueue_SkipsExistingJobs() {
+        // given
+        Vote existing = Vote.builder().id(UUID.randomUUID()).category("일반").build();
+        Vote fresh = Vote.builder().id(voteId).category("학교").build();
+        when(guideGenerationJobRepository.findExistingVoteIds(anyList())).thenReturn(List.of(existing.getId()));
+
+        // when
+        int added = scheduler.enqueue(List.of(existing, fresh));
+
+        // then
+        assertEquals(1, added);
+        ArgumentCaptor<List<GuideGenerationJob>> captor = ArgumentCaptor.forClass(List.class);
+        verify(guideGenerationJobRepository).saveAll(captor.capture());
+        GuideGenerationJob job = captor.getValue().get(0);
+        assertEquals(voteId, job.getVoteId());
+        assertEquals("학교", job.getGuideType());
+        assertEquals(GuideGenerationJob.Status.QUEUED, job.getStatus());
+    }
+
+    @Test
+    @DisplayName("이미 작업이 있는 투표 중 실패로 끝난 작업은 다시 대기시키는지 테스트")
+    void enqueue_RequeuesFailedJobs() {
+        // given
+        Vote failedBefore = Vote.builder().id(voteId).category("일반").build();
+        when(guideGenerationJobRepository.findExistingVoteIds(anyList())).thenReturn(List.of(voteId));
+        when(guideGenerationJobRepository.requeueFailed(eq(Set.of(voteId)), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        int added = scheduler.enqueue(List.of(failedBefore));
+
+        // then
+        assertEquals(0, added);
+        verify(guideGenerationJobRepository).requeueFailed(eq(Set.of(voteId)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("가이드 생성에 성공하면 작업이 DONE으로 기록되는지 테스트")
+    void run_Success_MarksDone() {
+        // given
+        when(guideGenerationJobRepository.finish(eq(voteId), eq(1), eq(GuideGenerationJob.Status.DONE),
+                any(LocalDateTime.class), isNull(), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        scheduler.run(voteId, "일반", 1);
+
+        // then
+        verify(aiService).generateAndSaveGuide(voteId, "일반");
+        assertEquals(1, meterRegistry.get("ai.guide.jobs").tag("result", "done").counter().count());
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 백오프 후 다시 시도하도록 대기 상태로 돌리는지 테스트")
+    void run_TransientFailure_RequeuesWithBackoff() {
+        // given
+        when(aiService.generateAndSaveGuide(voteId, "일반")).thenThrow(new BusinessException("AI 서비스 호출 중 오류가 발생했습니다."));
+        when(guideGenerationJobRepository.finish(eq(voteId), eq(2), eq(GuideGenerationJob.Status.QUEUED),
+                any(LocalDateTime.class), any(), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        scheduler.run(voteId, "일반", 2);
+
+        // then
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(guideGenerationJobRepository).finish(eq(voteId), eq(2), eq(GuideGenerationJob.Status.QUEUED),
+                nextAttemptAt.capture(), eq("AI 서비스 호출 중 오류가 발생했습니다."), any(LocalDateTime.class));
+        assertTrue(nextAttemptAt.getValue().isAfter(LocalDateTime.now().plusSeconds(110)));
+        assertEquals(1, meterRegistry.get("ai.guide.jobs").tag("result", "retry").counter().count());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘거나 재시도해도 소용없는 실패는 FAILED로 기록되는지 테스트")
+    void run_ExhaustedOrPermanentFailure_MarksFailed() {
+        // given
+        when(aiService.generateAndSaveGuide(voteId, "일반"))
+                .thenThrow(new BusinessException("AI 서비스 호출 중 오류가 발생했습니다."))
+                .thenThrow(new ResourceNotFoundException("Tail 질문이 없습니다."));
+        when(guideGenerationJobRepository.finish(eq(voteId), anyInt(), eq(GuideGenerationJob.Status.FAILED),
+                any(LocalDateTime.class), any(), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        scheduler.run(voteId, "일반", 3);
+        scheduler.run(voteId, "일반", 1);
+
+        // then
+        verify(guideGenerationJobRepository).finish(eq(voteId), eq(3), eq(GuideGenerationJob.Status.FAILED),
+                any(LocalDateTime.class), eq("AI 서비스 호출 중 오류가 발생했습니다."), any(LocalDateTime.class));
+        verify(guideGenerationJobRepository).finish(eq(voteId), eq(1), eq(GuideGenerationJob.Status.FAILED),
+                any(LocalDateTime.class), eq("Tail 질문이 없습니다."), any(LocalDateTime.class));
+        assertEquals(2, meterRegistry.get("ai.guide.jobs").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("이미 재대기되거나 다시 실행 중인 작업에는 결과를 기록하지 않는지 테스트")
+    void run_AttemptSuperseded_DoesNotCount() {
+        // given
+        when(guideGenerationJobRepository.finish(eq(voteId), eq(1), eq(GuideGenerationJob.Status.DONE),
+                any(LocalDateTime.class), isNull(), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        scheduler.run(voteId, "일반", 1);
+
+        // then
+        assertEquals(0, meterRegistry.get("ai.guide.jobs").tag("result", "done").counter().count());
+        verify(guideGenerationJobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간이 지수적으로 늘어나고 최대값으로 제한되는지 테스트")
+    void backoff_GrowsExponentiallyAndCaps() {
+        assertEquals(Duration.ofSeconds(60), scheduler.backoff(1));
+        assertEquals(Duration.ofSeconds(120), scheduler.backoff(2));
+        assertEquals(Duration.ofSeconds(480), scheduler.backoff(4));
+        assertEquals(Duration.ofSeconds(600), scheduler.backoff(10));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 가져간 작업은 실행하지 않는지 테스트")
+    void dispatch_ClaimLost_DoesNotRun() {
+        // given
+        when(guideGenerationJobRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(runningJob(0)));
+        when(guideGenerationJobRepository.claim(eq(voteId), eq(0), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        int started = scheduler.dispatch();
+
+        // then
+        assertEquals(0, started);
+        assertEquals(2, scheduler.stats().getConcurrency() - scheduler.stats().getActive());
+        verifyNoInteractions(aiService);
+    }
+
+    @Test
+    @DisplayName("실행 제한 시간이 지난 작업을 실행 중이던 시도 번호 조건으로 다시 대기시키는지 테스트")
+    void dispatch_RequeuesStaleJobsWithAttemptGuard() {
+        // given
+        when(guideGenerationJobRepository.findStale(any(LocalDateTime.class))).thenReturn(List.of(runningJob(2)));
+
+        // when
+        scheduler.dispatch();
+
+        // then
+        verify(guideGenerationJobRepository).requeue(eq(voteId), eq(2), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("이 인스턴스에서 아직 실행 중인 작업은 제한 시간이 지나도 다시 대기시키지 않는지 테스트")
+    void dispatch_StillRunningLocally_DoesNotRequeue() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(guideGenerationJobRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(queuedJob(0)))
+                .thenReturn(List.of());
+        when(guideGenerationJobRepository.claim(eq(voteId), eq(0), any(LocalDateTime.class))).thenReturn(1);
+        when(aiService.generateAndSaveGuide(voteId, "일반")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        scheduler.dispatch();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        when(guideGenerationJobRepository.findStale(any(LocalDateTime.class))).thenReturn(List.of(runningJob(1)));
+
+        // when
+        scheduler.dispatch();
+
+        // then
+        verify(guideGenerationJobRepository, never()).requeue(any(), anyInt(), any());
+        release.countDown();
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,81 @@
+package pluto.upik.shared.ai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pluto.upik.shared.exception.BusinessException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GuideStreamAssembler 클래스에 대한 단위 테스트
+ */
+class GuideStreamAssemblerTest {
+
+    private static final String RESPONSE = "<think>Guide Title: 초안</think>Sure!\nGuide Title:\nHow to pick.\n\n"
+            + "Guide Content:\nFirst, think. Second, act!\nThird line";
+
+    private static List<GuideStreamAssembler.Segment> feed(String response, int tokenSize, StringBuilder shown) {
+        GuideStreamAssembler assembler = new GuideStreamAssembler();
+        List<GuideStreamAssembler.Segment> segments = new ArrayList<>();
+        for (int i = 0; i < response.length(); i += tokenSize) {
+            GuideStreamAssembler.Step step = assembler.accept(response.substring(i, Math.min(response.length(), i + tokenSize)));
+            shown.append(step.shown());
+            segments.addAll(step.segments());
+        }
+        segments.addAll(assembler.finish());
+        return segments;
+    }
+
+    @Test
+    @DisplayName("태그와 표식이 조각 사이에 걸쳐도 제목과 완성된 문장으로 나누는지 테스트")
+    void accept_SplitTokens_SegmentsTitleAndSentences() {
+        for (int tokenSize : new int[]{1, 3, 7, RESPONSE.length()}) {
+            // given
+            StringBuilder shown = new StringBuilder();
+
+            // when
+            List<GuideStreamAssembler.Segment> segments = feed(RESPONSE, tokenSize, shown);
+
+            // then
+            assertEquals(List.of(
+                    new GuideStreamAssembler.Segment(GuideStreamAssembler.Section.TITLE, "How to pick.", false),
+                    new GuideStreamAssembler.Segment(GuideStreamAssembler.Section.CONTENT, "First, think.", false),
+                    new GuideStreamAssembler.Segment(GuideStreamAssembler.Section.CONTENT, "Second, act!", true),
+                    new GuideStreamAssembler.Segment(GuideStreamAssembler.Section.CONTENT, "Third line", false)
+            ), segments, "조각 크기: " + tokenSize);
+            assertFalse(shown.toString().contains("초안"));
+            assertTrue(shown.toString().startsWith("Sure!"));
+        }
+    }
+
+    @Test
+    @DisplayName("문장이 끝나기 전에는 본문을 내보내지 않는지 테스트")
+    void accept_IncompleteSentence_HoldsContent() {
+        // given
+        GuideStreamAssembler assembler = new GuideStreamAssembler();
+
+        // when
+        List<GuideStreamAssembler.Segment> first = assembler.accept("Guide Title: A\nGuide Content: Half a sent").segments();
+        List<GuideStreamAssembler.Segment> second = assembler.accept("ence. Next").segments();
+
+        // then
+        assertEquals(1, first.size());
+        assertEquals(GuideStreamAssembler.Section.TITLE, first.get(0).section());
+        assertEquals("Half a sentence.", second.get(0).text());
+        assertEquals("Next", assembler.finish().get(0).text());
+    }
+
+    @Test
+    @DisplayName("제목/본문 구분이 없는 응답은 예외가 발생하는지 테스트")
+    void finish_WithoutMarkers_ThrowsException() {
+        // given
+        GuideStreamAssembler assembler = new GuideStreamAssembler();
+        assembler.accept("Just some text.");
+
+        // when & then
+        assertThrows(BusinessException.class, assembler::finish);
+    }
+}
@@ -0,0 +1,89 @@
+package pluto.upik.shared.ai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.shared.ai.config.ChatAiService;
+import pluto.upik.shared.ai.data.DTO.GuideResponseDTO;
+import pluto.upik.shared.ai.data.DTO.GuideStreamEvent;
+import pluto.upik.shared.exception.BusinessException;
+import pluto.upik.shared.translation.service.TranslationService;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * GuideStreamService 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GuideStreamServiceTest {
+
+    @Mock
+    private AIService aiService;
+
+    @Mock
+    private ChatAiService chatAiService;
+
+    @Mock
+    private TranslationService translationService;
+
+    @InjectMocks
+    private GuideStreamService guideStreamService;
+
+    private final UUID voteId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("토큰, 번역된 제목/본문, 저장된 가이드 순으로 이벤트를 내보내는지 테스트")
+    void streamGuide_EmitsTokensTranslationsAndSavedGuide() {
+        // given
+        when(aiService.prepareGuidePrompt(voteId, "일반")).thenReturn("프롬프트");
+        when(aiService.translateLongText("프롬프트", true)).thenReturn("prompt");
+        when(chatAiService.askToDeepSeekAiWithStream("prompt"))
+                .thenReturn(Flux.just("Guide Title: Pick", "\nGuide Content: One. ", "Two."));
+        when(translationService.translateEnglishToKorean(anyString())).thenAnswer(inv -> "번역:" + inv.getArgument(0));
+        GuideResponseDTO saved = GuideResponseDTO.builder().id(UUID.randomUUID()).voteId(voteId).build();
+        when(aiService.saveStreamedGuide(voteId, "일반", "번역:Pick", "번역:One. 번역:Two.")).thenReturn(saved);
+
+        // when
+        List<GuideStreamEvent> events = guideStreamService.streamGuide(voteId, "일반").collectList().block();
+
+        // then
+        assertNotNull(events);
+        assertEquals(GuideStreamEvent.Kind.TOKEN, events.get(0).getKind());
+        assertEquals(List.of("번역:Pick"), texts(events, GuideStreamEvent.Kind.TITLE));
+        assertEquals(List.of("번역:One.", "번역:Two."), texts(events, GuideStreamEvent.Kind.CONTENT));
+        GuideStreamEvent last = events.get(events.size() - 1);
+        assertEquals(GuideStreamEvent.Kind.COMPLETED, last.getKind());
+        assertSame(saved, last.getGuide());
+    }
+
+    @Test
+    @DisplayName("응답 형식이 잘못되면 가이드를 저장하지 않고 오류로 끝나는지 테스트")
+    void streamGuide_InvalidFormat_DoesNotSave() {
+        // given
+        when(aiService.prepareGuidePrompt(voteId, "일반")).thenReturn("프롬프트");
+        when(aiService.translateLongText("프롬프트", true)).thenReturn("prompt");
+        when(chatAiService.askToDeepSeekAiWithStream("prompt")).thenReturn(Flux.just("No markers here."));
+
+        // when & then
+        Flux<GuideStreamEvent> stream = guideStreamService.streamGuide(voteId, "일반");
+        assertThrows(BusinessException.class, stream::blockLast);
+        verify(aiService, never()).saveStreamedGuide(eq(voteId), anyString(), anyString(), anyString());
+    }
+
+    private static List<String> texts(List<GuideStreamEvent> events, GuideStreamEvent.Kind kind) {
+        return events.stream()
+                .filter(event -> event.getKind() == kind)
+                .map(GuideStreamEvent::getText)
+                .toList();
+    }
+}
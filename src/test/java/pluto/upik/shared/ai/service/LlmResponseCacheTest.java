@@ -0,0 +1,92 @@
+package pluto.upik.shared.ai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LlmResponseCache 클래스에 대한 단위 테스트
+ */
+class LlmResponseCacheTest {
+
+    private static final String MODEL = "deepseek-r1";
+
+    private static LlmResponseCache cache(SimpleMeterRegistry meterRegistry, String diskPath) {
+        return new LlmResponseCache(meterRegistry, true, 1 << 20, 3600, diskPath, 1 << 20, 4);
+    }
+
+    @Test
+    @DisplayName("대소문자, 공백, 반복 문장부호만 다른 프롬프트는 같은 키가 되는지 테스트")
+    void key_NormalizedPromptsShareKey() {
+        // when
+        String key = LlmResponseCache.key(MODEL, "Generate options for \"Best  Pizza??\"");
+        String variant = LlmResponseCache.key(MODEL, "  generate OPTIONS for\n\"best pizza?\" ");
+
+        // then
+        assertEquals(key, variant);
+        assertNotEquals(key, LlmResponseCache.key("llama3", "Generate options for \"Best Pizza?\""));
+        assertNotEquals(key, LlmResponseCache.key(MODEL, "Generate options for \"Best Pasta?\""));
+    }
+
+    @Test
+    @DisplayName("같은 프롬프트는 모델을 한 번만 호출하고, 우회 요청은 항상 호출하는지 테스트")
+    void get_CachesAndBypasses() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LlmResponseCache cache = cache(meterRegistry, "");
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String first = cache.get(MODEL, "prompt", false, () -> "answer-" + calls.incrementAndGet());
+        String second = cache.get(MODEL, "PROMPT ", false, () -> "answer-" + calls.incrementAndGet());
+        String bypassed = cache.get(MODEL, "prompt", true, () -> "answer-" + calls.incrementAndGet());
+
+        // then
+        assertEquals("answer-1", first);
+        assertEquals("answer-1", second);
+        assertEquals("answer-2", bypassed);
+        assertEquals(1, meterRegistry.get("ai.response.cache.bypass").counter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", LlmResponseCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("비어 있는 응답은 보관하지 않는지 테스트")
+    void get_BlankResponse_NotCached() {
+        // given
+        LlmResponseCache cache = cache(new SimpleMeterRegistry(), "");
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        cache.get(MODEL, "prompt", false, () -> calls.incrementAndGet() == 1 ? " " : "answer");
+        String response = cache.get(MODEL, "prompt", false, () -> calls.incrementAndGet() == 1 ? " " : "answer");
+
+        // then
+        assertEquals("answer", response);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("디스크 저장소를 쓰면 다시 만든 캐시에서도 응답을 재사용하는지 테스트")
+    void get_DiskStore_SurvivesRestart(@TempDir Path directory) {
+        // given
+        LlmResponseCache before = cache(new SimpleMeterRegistry(), directory.toString());
+        before.get(MODEL, "prompt", false, () -> "1. 피자\n2. 치킨");
+        before.close();
+
+        // when
+        LlmResponseCache after = cache(new SimpleMeterRegistry(), directory.toString());
+        String response = after.get(MODEL, "prompt", false, () -> fail("모델을 다시 호출하면 안 됩니다."));
+
+        // then
+        assertEquals("1. 피자\n2. 치킨", response);
+        assertEquals(1, after.size());
+        after.close();
+    }
+}
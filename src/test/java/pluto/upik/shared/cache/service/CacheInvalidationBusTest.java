@@ -0,0 +1,84 @@
+package pluto.upik.shared.cache.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CacheInvalidationBus 클래스에 대한 단위 테스트
+ * 같은 전송 계층을 공유하는 두 버스로 두 인스턴스를 흉내 냅니다.
+ */
+class CacheInvalidationBusTest {
+
+    private SimpleMeterRegistry meterRegistryA;
+    private SimpleMeterRegistry meterRegistryB;
+    private CacheInvalidationBus nodeA;
+    private CacheInvalidationBus nodeB;
+    private List<String> evictedA;
+    private List<String> evictedB;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryCacheInvalidationTransport transport = new InMemoryCacheInvalidationTransport();
+        meterRegistryA = new SimpleMeterRegistry();
+        meterRegistryB = new SimpleMeterRegistry();
+        nodeA = new CacheInvalidationBus(transport, meterRegistryA);
+        nodeB = new CacheInvalidationBus(transport, meterRegistryB);
+        evictedA = new ArrayList<>();
+        evictedB = new ArrayList<>();
+        nodeA.register("guidePages", evictedA::add);
+        nodeB.register("guidePages", evictedB::add);
+    }
+
+    @Test
+    @DisplayName("한 인스턴스의 무효화가 로컬과 다른 인스턴스 캐시에 모두 반영되는지 테스트")
+    void invalidate_EvictsLocallyAndOnOtherNode() {
+        // when
+        nodeA.invalidate("guidePages", "일반");
+
+        // then
+        assertEquals(List.of("일반"), evictedA);
+        assertEquals(List.of("일반"), evictedB);
+        assertEquals(1, meterRegistryA.get("cache.invalidation.published").counter().count());
+        assertEquals(0, meterRegistryA.get("cache.invalidation.received").counter().count());
+        assertEquals(1, meterRegistryB.get("cache.invalidation.received").counter().count());
+    }
+
+    @Test
+    @DisplayName("발행에 실패해도 로컬 캐시는 제거되는지 테스트")
+    void invalidate_TransportFails_StillEvictsLocally() {
+        // given
+        CacheInvalidationTransport failing = new CacheInvalidationTransport() {
+            @Override
+            public void publish(CacheInvalidation invalidation) {
+                throw new IllegalStateException("전송 실패");
+            }
+
+            @Override
+            public void subscribe(java.util.function.Consumer<CacheInvalidation> listener) {
+            }
+        };
+        CacheInvalidationBus bus = new CacheInvalidationBus(failing, new SimpleMeterRegistry());
+        List<String> evicted = new ArrayList<>();
+        bus.register("voteMetadata", evicted::add);
+
+        // when
+        bus.invalidate("voteMetadata", "key");
+
+        // then
+        assertEquals(List.of("key"), evicted);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 캐시 무효화와 중복 등록 시 예외가 발생하는지 테스트")
+    void invalidate_UnknownCache_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> nodeA.invalidate("unknown", "key"));
+        assertThrows(IllegalStateException.class, () -> nodeA.register("guidePages", key -> { }));
+    }
+}
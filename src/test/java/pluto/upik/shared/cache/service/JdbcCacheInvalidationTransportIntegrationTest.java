@@ -0,0 +1,135 @@
+package pluto.upik.shared.cache.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pluto.upik.shared.cache.data.model.CacheInvalidationRecord;
+import pluto.upik.shared.cache.repository.CacheInvalidationRepository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JdbcCacheInvalidationTransport 클래스에 대한 통합 테스트
+ * schema.sql로 만든 H2(MariaDB 모드) 테이블에 실제로 기록하고 폴링합니다.
+ */
+@SpringJUnitConfig(JdbcCacheInvalidationTransportIntegrationTest.Config.class)
+class JdbcCacheInvalidationTransportIntegrationTest {
+
+    private static final String INSERT_RECORD =
+            "INSERT INTO cache_invalidation (id, cache_name, cache_key, origin, created_at) VALUES (?, 'voteMetadata', ?, 'node-b', CURRENT_TIMESTAMP)";
+
+    @Autowired
+    private JdbcCacheInvalidationTransport transport;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM cache_invalidation");
+    }
+
+    @Test
+    @DisplayName("커밋 이후 콜백에서 발행한 기록이 커밋되는지 테스트")
+    void publish_AfterCommit_CommitsRecord() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        transport.publish(new CacheInvalidation("voteMetadata", "key", "node-a"));
+                    }
+                }));
+
+        // then
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cache_invalidation WHERE cache_key = 'key'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("더 큰 ID보다 늦게 커밋된 기록도 전달하는지 테스트")
+    void poll_DeliversRecordCommittedOutOfOrder() {
+        // given
+        List<String> received = new ArrayList<>();
+        transport.subscribe(invalidation -> received.add(invalidation.key()));
+        jdbcTemplate.update(INSERT_RECORD, 100L, "before-startup");
+        transport.poll();
+
+        // when
+        jdbcTemplate.update(INSERT_RECORD, 102L, "first-committed");
+        int first = transport.poll();
+        jdbcTemplate.update(INSERT_RECORD, 101L, "late-committed");
+        int second = transport.poll();
+
+        // then
+        assertEquals(1, first);
+        assertEquals(1, second);
+        assertEquals(List.of("first-committed", "late-committed"), received);
+    }
+
+    @Configuration
+    @EnableTransactionManagement(proxyTargetClass = true)
+    @EnableJpaRepositories(basePackageClasses = CacheInvalidationRepository.class)
+    static class Config {
+
+        @Bean
+        DataSource dataSource() {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:cache_invalidation;MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(CacheInvalidationRecord.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        JdbcCacheInvalidationTransport jdbcCacheInvalidationTransport(CacheInvalidationRepository cacheInvalidationRepository) {
+            return new JdbcCacheInvalidationTransport(cacheInvalidationRepository, 500, 3600, 10000);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package pluto.upik.shared.cache.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import pluto.upik.shared.cache.data.model.CacheInvalidationRecord;
+import pluto.upik.shared.cache.repository.CacheInvalidationRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * JdbcCacheInvalidationTransport 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class JdbcCacheInvalidationTransportTest {
+
+    @Mock
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    private JdbcCacheInvalidationTransport transport;
+    private List<CacheInvalidation> received;
+
+    @BeforeEach
+    void setUp() {
+        transport = new JdbcCacheInvalidationTransport(cacheInvalidationRepository, 2, 3600, 10000);
+        received = new ArrayList<>();
+        transport.subscribe(received::add);
+    }
+
+    private static CacheInvalidationRecord record(long id, String key) {
+        return CacheInvalidationRecord.builder()
+                .id(id)
+                .cacheName("voteMetadata")
+                .cacheKey(key)
+                .origin("node-a")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("발행 시 무효화 기록이 저장되는지 테스트")
+    void publish_SavesRecord() {
+        // when
+        transport.publish(new CacheInvalidation("voteMetadata", "key", "node-a"));
+
+        // then
+        ArgumentCaptor<CacheInvalidationRecord> captor = ArgumentCaptor.forClass(CacheInvalidationRecord.class);
+        verify(cacheInvalidationRepository).save(captor.capture());
+        assertEquals("voteMetadata", captor.getValue().getCacheName());
+        assertEquals("key", captor.getValue().getCacheKey());
+        assertEquals("node-a", captor.getValue().getOrigin());
+    }
+
+    @Test
+    @DisplayName("기동 이전 기록은 건너뛰고 이후 기록만 순서대로 전달하는지 테스트")
+    void poll_DeliversRecordsAfterStartup() {
+        // given
+        when(cacheInvalidationRepository.findMaxId()).thenReturn(10L);
+        when(cacheInvalidationRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(record(11, "a"), record(12, "b")));
+        when(cacheInvalidationRepository.findByIdGreaterThanOrderByIdAsc(eq(12L), any(Pageable.class)))
+                .thenReturn(List.of(record(13, "c")));
+
+        // when
+        int initial = transport.poll();
+        int delivered = transport.poll();
+
+        // then
+        assertEquals(0, initial);
+        assertEquals(3, delivered);
+        assertEquals(List.of("a", "b", "c"), received.stream().map(CacheInvalidation::key).toList());
+        assertEquals(0, transport.poll());
+    }
+
+    @Test
+    @DisplayName("건너뛴 ID의 기록이 늦게 커밋되면 다음 폴링에서 전달하는지 테스트")
+    void poll_DeliversLateCommittedRecords() {
+        // given
+        when(cacheInvalidationRepository.findMaxId()).thenReturn(10L);
+        when(cacheInvalidationRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(record(11, "a"), record(13, "c")));
+        when(cacheInvalidationRepository.findAllById(Set.of(12L)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(record(12, "b")));
+
+        // when
+        transport.poll();
+        int first = transport.poll();
+        int second = transport.poll();
+        int third = transport.poll();
+
+        // then
+        assertEquals(2, first);
+        assertEquals(0, second);
+        assertEquals(1, third);
+        assertEquals(List.of("a", "c", "b"), received.stream().map(CacheInvalidation::key).toList());
+        // 전달한 뒤에는 더 이상 확인하지 않음
+        assertEquals(0, transport.poll());
+        verify(cacheInvalidationRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지난 건너뛴 ID는 더 이상 확인하지 않는지 테스트")
+    void poll_StopsTrackingExpiredGaps() {
+        // given
+        transport = new JdbcCacheInvalidationTransport(cacheInvalidationRepository, 2, 3600, 0);
+        when(cacheInvalidationRepository.findMaxId()).thenReturn(10L);
+        when(cacheInvalidationRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(record(12, "b")));
+
+        // when
+        transport.poll();
+        transport.poll();
+        transport.poll();
+
+        // then
+        verify(cacheInvalidationRepository, never()).findAllById(any());
+    }
+}
@@ -0,0 +1,99 @@
+package pluto.upik.shared.cache.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SingleFlight 클래스에 대한 단위 테스트
+ */
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+    }
+
+    private double loads(String result) {
+        return meterRegistry.get("cache.loads").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 적재하면 로더가 한 번만 실행되는지 테스트")
+    void load_ConcurrentSameKey_RunsLoaderOnce() throws Exception {
+        // given
+        int callers = 8;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.load("key", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            awaitQuietly(release);
+            return "value";
+        })));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < callers; i++) {
+            results.add(executor.submit(() -> singleFlight.load("key", () -> {
+                executions.incrementAndGet();
+                return "other";
+            })));
+        }
+        while (loads("coalesced") < callers - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, executions.get());
+        assertEquals(1, loads("executed"));
+        assertEquals(callers - 1, loads("coalesced"));
+        assertFalse(singleFlight.isLoading("key"));
+    }
+
+    @Test
+    @DisplayName("로더가 실패하면 예외를 전달하고 다음 적재는 다시 실행되는지 테스트")
+    void load_LoaderFails_PropagatesAndRetries() {
+        // when
+        assertThrows(IllegalStateException.class, () -> singleFlight.load("key", () -> {
+            throw new IllegalStateException("조회 실패");
+        }));
+        String value = singleFlight.load("key", () -> "value");
+
+        // then
+        assertEquals("value", value);
+        assertEquals(2, loads("executed"));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
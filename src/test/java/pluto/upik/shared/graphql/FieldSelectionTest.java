@@ -0,0 +1,94 @@
+package pluto.upik.shared.graphql;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.guide.data.model.Guide;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FieldSelection, ProjectionMapping 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class FieldSelectionTest {
+
+    @Mock
+    private DataFetchingFieldSelectionSet selectionSet;
+
+    private static final ProjectionMapping<Guide> MAPPING = ProjectionMapping.builder(Guide.class)
+            .field("id")
+            .field("title")
+            .field("content")
+            .field("voteId", "vote.id")
+            .required("id")
+            .build();
+
+    private SelectedField selected(String qualifiedName) {
+        SelectedField field = mock(SelectedField.class);
+        when(field.getQualifiedName()).thenReturn(qualifiedName);
+        return field;
+    }
+
+    @Test
+    @DisplayName("선택 집합의 필드 경로를 추출하고 하위 경로로 좁히는지 테스트")
+    void of_SelectionSet_ExtractsQualifiedNames() {
+        // given
+        List<SelectedField> fields = List.of(
+                selected("edges"),
+                selected("edges/node"),
+                selected("edges/node/title"),
+                selected("pageInfo/endCursor"));
+        when(selectionSet.getFields()).thenReturn(fields);
+
+        // when
+        FieldSelection selection = FieldSelection.of(selectionSet);
+        FieldSelection node = selection.under("edges/node");
+
+        // then
+        assertTrue(selection.contains("edges/node/title"));
+        assertFalse(selection.contains("title"));
+        assertTrue(node.contains("title"));
+        assertFalse(node.contains("content"));
+        assertFalse(node.isAll());
+    }
+
+    @Test
+    @DisplayName("선택 집합이 없으면 모든 필드를 선택한 것으로 취급하는지 테스트")
+    void of_Null_SelectsAll() {
+        // when
+        FieldSelection selection = FieldSelection.of((DataFetchingFieldSelectionSet) null);
+
+        // then
+        assertSame(FieldSelection.all(), selection);
+        assertTrue(selection.contains("content"));
+        assertSame(FieldSelection.all(), selection.under("edges/node"));
+    }
+
+    @Test
+    @DisplayName("선택된 필드와 필수 필드만 조회 대상으로 결정하는지 테스트")
+    void resolve_SelectedAndRequiredFieldsOnly() {
+        // when
+        List<String> fields = MAPPING.resolve(FieldSelection.of("title"));
+        List<String> all = MAPPING.resolve(FieldSelection.all());
+
+        // then
+        assertEquals(List.of("id", "title"), fields);
+        assertEquals(List.of("id", "title", "content", "voteId"), all);
+        assertEquals("vote.id", MAPPING.attributeOf("voteId"));
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 필드를 필수 필드로 지정하면 예외가 발생하는지 테스트")
+    void withRequired_UnknownField_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> MAPPING.withRequired("unknown"));
+        assertEquals(List.of("id", "voteId"), MAPPING.withRequired("voteId").resolve(FieldSelection.of()));
+    }
+}
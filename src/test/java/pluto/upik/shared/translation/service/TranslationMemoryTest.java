@@ -0,0 +1,143 @@
+package pluto.upik.shared.translation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import pluto.upik.shared.translation.data.model.TranslationMemoryEntry;
+import pluto.upik.shared.translation.repository.TranslationMemoryJdbcRepository;
+import pluto.upik.shared.translation.repository.TranslationMemoryRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * TranslationMemory 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class TranslationMemoryTest {
+
+    @Mock
+    private TranslationMemoryRepository translationMemoryRepository;
+
+    @Mock
+    private TranslationMemoryJdbcRepository translationMemoryJdbcRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TranslationMemory translationMemory;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        translationMemory = new TranslationMemory(translationMemoryRepository, translationMemoryJdbcRepository, meterRegistry, 1 << 20, true);
+    }
+
+    private static TranslationMemoryEntry entry(String text, String translated) {
+        return TranslationMemoryEntry.builder()
+                .id(TranslationMemory.key("en", "ko", text))
+                .sourceLang("en")
+                .targetLang("ko")
+                .sourceText(text)
+                .translatedText(translated)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("테이블에서 찾은 번역은 힙에 올려 다음 조회에서 테이블을 조회하지 않는지 테스트")
+    void find_StoreHit_PromotedToHeap() {
+        // given
+        String key = TranslationMemory.key("en", "ko", "Pizza");
+        when(translationMemoryRepository.findById(key)).thenReturn(Optional.of(entry("Pizza", "피자")));
+
+        // when
+        Optional<String> first = translationMemory.find("en", "ko", "Pizza");
+        Optional<String> second = translationMemory.find("en", "ko", "Pizza");
+
+        // then
+        assertEquals(Optional.of("피자"), first);
+        assertEquals(Optional.of("피자"), second);
+        verify(translationMemoryRepository, times(1)).findById(key);
+        assertEquals(1, meterRegistry.get("translation.memory.lookups").tag("result", "store").counter().count());
+        assertEquals(1, meterRegistry.get("translation.memory.lookups").tag("result", "heap").counter().count());
+        assertEquals(2, meterRegistry.get("translation.memory.saved.calls").counter().count());
+    }
+
+    @Test
+    @DisplayName("해시가 같아도 원문이 다르면 적중으로 보지 않는지 테스트")
+    void find_DifferentSourceText_Miss() {
+        // given
+        when(translationMemoryRepository.findById(any())).thenReturn(Optional.of(entry("Pasta", "파스타")));
+
+        // when
+        Optional<String> result = translationMemory.find("en", "ko", "Pizza");
+
+        // then
+        assertTrue(result.isEmpty());
+        assertEquals(1, meterRegistry.get("translation.memory.lookups").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("테이블 조회/저장에 실패해도 힙 캐시로 동작하는지 테스트")
+    void putAndFind_StoreFailure_FallsBackToHeap() {
+        // given
+        doThrow(new DataIntegrityViolationException("too long")).when(translationMemoryJdbcRepository).insertSkippingDuplicates(any());
+        when(translationMemoryRepository.findById(any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        Optional<String> missing = translationMemory.find("en", "ko", "Chicken");
+        translationMemory.put("en", "ko", "Pizza", "피자");
+        Optional<String> stored = translationMemory.find("en", "ko", "Pizza");
+
+        // then
+        assertTrue(missing.isEmpty());
+        assertEquals(Optional.of("피자"), stored);
+        assertEquals(1, translationMemory.size());
+    }
+
+    @Test
+    @DisplayName("일괄 조회 시 힙에 없는 원문만 테이블에서 한 번에 조회하는지 테스트")
+    void findAll_HeapThenSingleStoreQuery() {
+        // given
+        translationMemory.put("en", "ko", "Pizza", "피자");
+        when(translationMemoryRepository.findAllById(any())).thenReturn(List.of(entry("Chicken", "치킨")));
+
+        // when
+        Map<String, String> found = translationMemory.findAll("en", "ko", List.of("Pizza", "Chicken", "Pasta"));
+
+        // then
+        assertEquals(Map.of("Pizza", "피자", "Chicken", "치킨"), found);
+        verify(translationMemoryRepository, times(1)).findAllById(any());
+        assertEquals(1, meterRegistry.get("translation.memory.lookups").tag("result", "miss").counter().count());
+        assertEquals(2, meterRegistry.get("translation.memory.saved.calls").counter().count());
+    }
+
+    @Test
+    @DisplayName("일괄 보관 시 번역을 한 번의 기록 호출로 테이블에 저장하는지 테스트")
+    @SuppressWarnings("unchecked")
+    void putAll_WritesAllEntriesInOneCall() {
+        // when
+        translationMemory.putAll("en", "ko", Map.of("Pizza", "피자", "Chicken", "치킨"));
+
+        // then
+        ArgumentCaptor<List<TranslationMemoryEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(translationMemoryJdbcRepository).insertSkippingDuplicates(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertTrue(captor.getValue().stream()
+                .anyMatch(entry -> entry.getId().equals(TranslationMemory.key("en", "ko", "Pizza"))
+                        && entry.getTranslatedText().equals("피자")));
+        assertEquals(2, translationMemory.size());
+    }
+}
@@ -0,0 +1,181 @@
+package pluto.upik.shared.translation.service;
+
+import com.google.cloud.translate.Translate;
+import com.google.cloud.translate.Translation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.shared.translation.repository.TranslationMemoryJdbcRepository;
+import pluto.upik.shared.translation.repository.TranslationMemoryRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * TranslationService 클래스에 대한 단위 테스트
+ * 번역 API는 원문 앞에 "번역:"을 붙여 돌려주는 스텁으로 대신하여 네트워크를 사용하지 않습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TranslationServiceTest {
+
+    @Mock
+    private TranslationMemoryRepository translationMemoryRepository;
+
+    @Mock
+    private TranslationMemoryJdbcRepository translationMemoryJdbcRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger apiCalls;
+    private Translate translate;
+    private TranslationService translationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        apiCalls = new AtomicInteger();
+        translate = stubTranslate(apiCalls);
+        translationService = new TranslationService(translate,
+                new TranslationMemory(translationMemoryRepository, translationMemoryJdbcRepository, meterRegistry, 1 << 20, true), 2, 30000, 4);
+    }
+
+    /**
+     * 호출 수를 세고 원문 앞에 "번역:"을 붙여 돌려주는 번역 API 스텁
+     */
+    private static Translate stubTranslate(AtomicInteger apiCalls) {
+        Translate translate = mock(Translate.class);
+        lenient().when(translate.translate(anyString(), any(Translate.TranslateOption[].class))).thenAnswer(invocation -> {
+            apiCalls.incrementAndGet();
+            return translation("번역:" + invocation.getArgument(0));
+        });
+        lenient().when(translate.translate(anyList(), any(Translate.TranslateOption[].class))).thenAnswer(invocation -> {
+            apiCalls.incrementAndGet();
+            List<String> texts = invocation.getArgument(0);
+            return texts.stream().map(text -> translation("번역:" + text)).toList();
+        });
+        return translate;
+    }
+
+    private static Translation translation(String text) {
+        Translation translation = mock(Translation.class);
+        when(translation.getTranslatedText()).thenReturn(text);
+        return translation;
+    }
+
+    @Test
+    @DisplayName("같은 원문은 번역 API를 한 번만 호출하는지 테스트")
+    void translate_SameText_CallsApiOnce() {
+        // when
+        String first = translationService.translateEnglishToKorean("Pizza");
+        String second = translationService.translateEnglishToKorean("Pizza");
+
+        // then
+        assertEquals("번역:Pizza", first);
+        assertEquals("번역:Pizza", second);
+        assertEquals(1, apiCalls.get());
+        assertEquals(1, meterRegistry.get("translation.memory.saved.calls").counter().count());
+        assertEquals(0.5, meterRegistry.get("translation.memory.hit.ratio").gauge().value(), 1e-9);
+        verify(translationMemoryJdbcRepository).insertSkippingDuplicates(any());
+    }
+
+    @Test
+    @DisplayName("번역 방향이 다르면 따로 보관하는지 테스트")
+    void translate_DifferentDirection_SeparateEntries() {
+        // when
+        translationService.translateEnglishToKorean("Pizza");
+        translationService.translateKoreanToEnglish("Pizza");
+
+        // then
+        assertEquals(2, apiCalls.get());
+    }
+
+    @Test
+    @DisplayName("번역에 실패하면 원문을 반환하고 번역 메모리에 보관하지 않는지 테스트")
+    void translate_ApiFailure_ReturnsOriginalWithoutStoring() {
+        // given
+        doThrow(new RuntimeException("quota exceeded"))
+                .when(translate).translate(anyString(), any(Translate.TranslateOption[].class));
+
+        // when
+        String result = translationService.translateKoreanToEnglish("피자");
+
+        // then
+        assertEquals("피자", result);
+        verify(translationMemoryJdbcRepository, never()).insertSkippingDuplicates(any());
+    }
+
+    @Test
+    @DisplayName("빈 문자열은 번역 API를 호출하지 않는지 테스트")
+    void translate_BlankText_SkipsApi() {
+        // when
+        String result = translationService.translateKoreanToEnglish(" ");
+
+        // then
+        assertEquals(" ", result);
+        assertEquals(0, apiCalls.get());
+    }
+
+    @Test
+    @DisplayName("일괄 번역 시 중복을 제거하고 묶음마다 한 번씩만 API를 호출하며 순서를 유지하는지 테스트")
+    void translateAll_BatchesDistinctTextsInOrder() {
+        // when
+        List<String> result = translationService.translateAll(
+                Arrays.asList("Pizza", "Chicken", "Pizza", "", "Pasta", "Sushi", "Tacos"), "en", "ko");
+
+        // then
+        assertEquals(Arrays.asList("번역:Pizza", "번역:Chicken", "번역:Pizza", "", "번역:Pasta", "번역:Sushi", "번역:Tacos"), result);
+        assertEquals(3, apiCalls.get());
+    }
+
+    @Test
+    @DisplayName("일괄 번역 시 번역 메모리에 있는 텍스트는 API로 보내지 않는지 테스트")
+    void translateAll_SkipsRememberedTexts() {
+        // given
+        translationService.translateEnglishToKorean("Pizza");
+        translationService.translateEnglishToKorean("Chicken");
+
+        // when
+        List<String> result = translationService.translateAll(List.of("Pizza", "Chicken", "Pasta"), "en", "ko");
+
+        // then
+        assertEquals(List.of("번역:Pizza", "번역:Chicken", "번역:Pasta"), result);
+        assertEquals(3, apiCalls.get());
+    }
+
+    @Test
+    @DisplayName("일괄 번역에 실패한 묶음은 원문을 반환하는지 테스트")
+    void translateAll_ApiFailure_ReturnsOriginals() {
+        // given
+        doThrow(new RuntimeException("quota exceeded"))
+                .when(translate).translate(anyList(), any(Translate.TranslateOption[].class));
+
+        // when
+        List<String> result = translationService.translateAll(List.of("Pizza", "Chicken"), "en", "ko");
+
+        // then
+        assertEquals(List.of("Pizza", "Chicken"), result);
+        verify(translationMemoryJdbcRepository, never()).insertSkippingDuplicates(any());
+    }
+
+    @Test
+    @DisplayName("텍스트 수와 글자 수 한도 안에서 묶는지 테스트")
+    void batches_RespectsSegmentAndCharLimits() {
+        // when
+        List<List<String>> bySegments = TranslationService.batches(List.of("a", "b", "c", "d", "e"), 2, 100);
+        List<List<String>> byChars = TranslationService.batches(List.of("aaaa", "bbbb", "cccccccccc", "d"), 10, 8);
+
+        // then
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), bySegments);
+        assertEquals(List.of(List.of("aaaa", "bbbb"), List.of("cccccccccc"), List.of("d")), byChars);
+    }
+}